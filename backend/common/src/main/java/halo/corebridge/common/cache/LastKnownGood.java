@@ -0,0 +1,151 @@
+package halo.corebridge.common.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.LongSupplier;
+
+/**
+ * 마지막 정상 응답 보관소 (stale-while-revalidate)
+ *
+ * 원격 조회가 성공할 때마다 응답을 보관하고, Circuit Breaker fallback에서
+ * 빈 값 대신 조금 오래된(stale) 응답과 그 경과 시간을 돌려줍니다.
+ * - maxStaleness보다 오래된 응답은 사용하지 않습니다. (너무 오래된 데이터로 응답하지 않도록)
+ * - fallback에서 꺼낸 키는 재검증 대상으로 기록합니다. (Circuit이 HALF_OPEN이 되면 다시 조회)
+ * - maxEntries에 도달하면 가장 오래전에 보관한 항목을 밀어냅니다. (보관 순서 LinkedHashMap, O(1))
+ */
+public class LastKnownGood<K, V> {
+
+    private final int maxEntries;
+    private final long maxStalenessNanos;
+    private final LongSupplier nanoClock;
+
+    // 보관 순서 (다시 보관하면 맨 뒤로, 맨 앞이 가장 오래된 응답)
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Set<K> staleKeys = ConcurrentHashMap.newKeySet();
+
+    public LastKnownGood(int maxEntries, Duration maxStaleness) {
+        this(maxEntries, maxStaleness, System::nanoTime);
+    }
+
+    LastKnownGood(int maxEntries, Duration maxStaleness, LongSupplier nanoClock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 0보다 커야 합니다: " + maxEntries);
+        }
+        if (maxStaleness.isNegative() || maxStaleness.isZero()) {
+            throw new IllegalArgumentException("maxStaleness는 0보다 커야 합니다: " + maxStaleness);
+        }
+        this.maxEntries = maxEntries;
+        this.maxStalenessNanos = maxStaleness.toNanos();
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>() {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() <= LastKnownGood.this.maxEntries) {
+                    return false;
+                }
+                staleKeys.remove(eldest.getKey());
+                return true;
+            }
+        };
+    }
+
+    /**
+     * 정상 응답 보관 (재검증 대상에서도 제외)
+     */
+    public void put(K key, V value) {
+        if (key == null || value == null) {
+            return;
+        }
+        staleKeys.remove(key);
+        lock.lock();
+        try {
+            entries.remove(key);
+            entries.put(key, new Entry<>(value, nanoClock.getAsLong()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * fallback용 마지막 정상 응답
+     * @return 응답과 경과 시간 (없거나 maxStaleness보다 오래되면 null)
+     */
+    public Stale<V> get(K key) {
+        if (key == null) {
+            return null;
+        }
+        Entry<V> entry;
+        long age;
+        lock.lock();
+        try {
+            entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            age = nanoClock.getAsLong() - entry.storedAtNanos();
+            if (age > maxStalenessNanos) {
+                entries.remove(key);
+                return null;
+            }
+        } finally {
+            lock.unlock();
+        }
+        staleKeys.add(key);
+        return new Stale<>(entry.value(), Duration.ofNanos(age));
+    }
+
+    /**
+     * 더 이상 유효하지 않은 응답 제거 (삭제 이벤트 등)
+     */
+    public void remove(K key) {
+        if (key == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            entries.remove(key);
+        } finally {
+            lock.unlock();
+        }
+        staleKeys.remove(key);
+    }
+
+    /**
+     * 재검증 대상 키 꺼내기 (꺼낸 키는 목록에서 제거)
+     */
+    public List<K> drainStaleKeys(int limit) {
+        List<K> drained = new ArrayList<>();
+        Iterator<K> iterator = staleKeys.iterator();
+        while (drained.size() < limit && iterator.hasNext()) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 오래된 응답과 경과 시간
+     */
+    public record Stale<V>(V value, Duration age) {
+    }
+
+    private record Entry<V>(V value, long storedAtNanos) {
+    }
+}
@@ -0,0 +1,209 @@
+package halo.corebridge.common.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+import java.util.function.LongSupplier;
+
+/**
+ * 사용자 프로필(닉네임) 로컬 캐시
+ *
+ * 닉네임은 거의 바뀌지 않으므로 TTL 동안 보관하고, USER_UPDATED 이벤트로 즉시 갱신합니다.
+ * (TTL은 이벤트 유실에 대비한 상한)
+ * 캐시에 없는 사용자는 일괄 조회 함수(bulkLoader)로 조회합니다. (User 서비스 한도인 100명씩 나눠 호출)
+ * - 조회 실패/존재하지 않는 사용자는 결과와 캐시에서 빠집니다. (기본 닉네임은 호출자가 적용)
+ * - 조회 도중 갱신/무효화가 일어나면 그 조회 결과는 보관하지 않습니다. (변경 전 닉네임이 남지 않도록)
+ * - max-entries에 도달하면 가장 오래 쓰지 않은 항목을 밀어냅니다. (접근 순서 LinkedHashMap, O(1))
+ *
+ * 서비스마다 User 서비스 클라이언트를 연결하여 Bean으로 등록합니다.
+ */
+public class UserProfileCache {
+
+    // User 서비스 일괄 조회 최대 ID 수
+    static final int MAX_BULK_LOAD_SIZE = 100;
+
+    private final Function<Collection<Long>, Map<Long, String>> bulkLoader;
+    private final long ttlNanos;
+    private final int maxEntries;
+    private final LongSupplier nanoClock;
+
+    // 접근 순서 LRU (조회도 순서를 바꾸므로 모든 접근은 lock 안에서)
+    private final LinkedHashMap<Long, Entry> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 갱신/무효화마다 증가 (조회 시작 이후 변경이 있었는지 판단, lock 안에서 변경)
+    private final AtomicLong generation = new AtomicLong();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    public UserProfileCache(Duration ttl, int maxEntries, Function<Collection<Long>, Map<Long, String>> bulkLoader) {
+        this(ttl, maxEntries, bulkLoader, System::nanoTime);
+    }
+
+    UserProfileCache(Duration ttl, int maxEntries,
+                     Function<Collection<Long>, Map<Long, String>> bulkLoader, LongSupplier nanoClock) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("ttl은 0보다 커야 합니다: " + ttl);
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 0보다 커야 합니다: " + maxEntries);
+        }
+        this.bulkLoader = bulkLoader;
+        this.ttlNanos = ttl.toNanos();
+        this.maxEntries = maxEntries;
+        this.nanoClock = nanoClock;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Long, Entry> eldest) {
+                return size() > UserProfileCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * 닉네임 조회
+     * @return 닉네임 (조회 실패/없는 사용자는 null)
+     */
+    public String getNickname(Long userId) {
+        if (userId == null) {
+            return null;
+        }
+        return getNicknames(List.of(userId)).get(userId);
+    }
+
+    /**
+     * 여러 사용자의 닉네임 조회 (캐시에 없는 사용자만 모아 MAX_BULK_LOAD_SIZE명씩 일괄 조회)
+     */
+    public Map<Long, String> getNicknames(Collection<Long> userIds) {
+        Map<Long, String> nicknames = new HashMap<>();
+        Set<Long> missingIds = new LinkedHashSet<>();
+        long now = nanoClock.getAsLong();
+
+        lock.lock();
+        try {
+            for (Long userId : userIds) {
+                if (userId == null || nicknames.containsKey(userId)) {
+                    continue;
+                }
+                Entry entry = entries.get(userId);
+                if (entry != null && entry.isFresh(now)) {
+                    hits.increment();
+                    nicknames.put(userId, entry.nickname());
+                } else if (missingIds.add(userId)) {
+                    misses.increment();
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        List<Long> missing = List.copyOf(missingIds);
+        for (int from = 0; from < missing.size(); from += MAX_BULK_LOAD_SIZE) {
+            List<Long> batch = missing.subList(from, Math.min(from + MAX_BULK_LOAD_SIZE, missing.size()));
+            long loadGeneration = generation.get();
+            Map<Long, String> loaded = bulkLoader.apply(batch);
+            if (loaded != null) {
+                loaded.forEach((userId, nickname) -> {
+                    if (nickname != null && missingIds.contains(userId)) {
+                        nicknames.put(userId, nickname);
+                        store(userId, nickname, loadGeneration);
+                    }
+                });
+            }
+        }
+        return nicknames;
+    }
+
+    /**
+     * 변경된 닉네임 반영 (USER_UPDATED)
+     * 닉네임이 없으면 무효화만 하고 다음 조회에서 다시 가져옵니다.
+     */
+    public void update(Long userId, String nickname) {
+        if (userId == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            if (nickname == null) {
+                entries.remove(userId);
+                return;
+            }
+            entries.put(userId, new Entry(nickname, nanoClock.getAsLong() + ttlNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidate(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.remove(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        lock.lock();
+        try {
+            generation.incrementAndGet();
+            entries.clear();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getHitCount() {
+        return hits.sum();
+    }
+
+    public long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 조회 결과 보관 (조회 시작 이후 세대가 바뀌었으면 보관하지 않음, 가득 차면 LRU 항목을 밀어냄)
+     */
+    private void store(Long userId, String nickname, long loadGeneration) {
+        lock.lock();
+        try {
+            if (generation.get() != loadGeneration) {
+                return;
+            }
+            entries.put(userId, new Entry(nickname, nanoClock.getAsLong() + ttlNanos));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private record Entry(String nickname, long expiresAtNanos) {
+
+        boolean isFresh(long now) {
+            return now - expiresAtNanos < 0;
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package halo.corebridge.common.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.core.task.TaskRejectedException;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 동시 실행 수가 제한된 Virtual Thread 실행자
+ *
+ * Virtual Thread는 생성 비용이 작아 풀링하지 않지만,
+ * 하위 서비스(admin-audit, Kafka, AI API 등)를 보호하기 위해 ThreadPoolTaskExecutor와 같은 한도를 적용합니다.
+ * - 동시 실행: 최대 maxConcurrency (풀의 maxPoolSize)
+ * - 대기: 최대 queueCapacity개까지 virtual thread가 실행 허가를 기다림 (풀의 큐에 해당)
+ * - 둘을 합친 허용량을 넘으면 대기하지 않고 즉시 거절/폐기
+ */
+@Slf4j
+public class BoundedVirtualThreadExecutor implements Executor, DisposableBean {
+
+    private final ExecutorService delegate;
+    private final Semaphore admissions;
+    private final Semaphore running;
+    private final boolean discardWhenFull;
+    private final String name;
+
+    public BoundedVirtualThreadExecutor(String threadNamePrefix, int maxConcurrency, int queueCapacity,
+                                        boolean discardWhenFull) {
+        if (maxConcurrency <= 0 || queueCapacity < 0) {
+            throw new IllegalArgumentException(
+                    "maxConcurrency는 0보다 크고 queueCapacity는 0 이상이어야 합니다: "
+                            + maxConcurrency + ", " + queueCapacity);
+        }
+        this.delegate = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(threadNamePrefix, 0).factory()
+        );
+        this.admissions = new Semaphore(maxConcurrency + queueCapacity);
+        this.running = new Semaphore(maxConcurrency);
+        this.discardWhenFull = discardWhenFull;
+        this.name = threadNamePrefix;
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (!admissions.tryAcquire()) {
+            if (discardWhenFull) {
+                log.debug("[BoundedVirtualThreadExecutor] 허용량 초과로 작업 폐기: name={}", name);
+                return;
+            }
+            throw new TaskRejectedException("Executor [" + name + "] 허용량 초과");
+        }
+
+        try {
+            delegate.execute(() -> {
+                try {
+                    running.acquire();
+                } catch (InterruptedException e) {
+                    admissions.release();
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                try {
+                    task.run();
+                } finally {
+                    running.release();
+                    admissions.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            admissions.release();
+            throw new TaskRejectedException("Executor [" + name + "] 작업 제출 실패", e);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        delegate.shutdown();
+        if (!delegate.awaitTermination(10, TimeUnit.SECONDS)) {
+            delegate.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package halo.corebridge.common.concurrent;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 키 단위 요청 병합 (single-flight)
+ *
+ * 같은 키에 대한 호출이 동시에 들어오면 먼저 들어온 호출(leader)만 loader를 실행하고,
+ * 나머지는 그 결과(또는 예외)를 함께 받습니다.
+ * 캐시 미스가 한꺼번에 몰릴 때 원격 서비스로 같은 요청이 N번 나가는 것을 막습니다.
+ *
+ * 결과를 보관하지 않습니다. 호출이 끝나면 다음 호출은 다시 loader를 실행합니다.
+ * (결과 보관은 호출자의 캐시 책임)
+ *
+ * @param <K> 병합 키 (equals/hashCode 기준)
+ * @param <V> 결과 타입
+ */
+public final class SingleFlight<K, V> {
+
+    private final ConcurrentHashMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+
+    /**
+     * 같은 키의 진행 중인 호출이 있으면 그 결과를 기다리고, 없으면 loader 실행
+     * loader의 RuntimeException은 기다리던 모든 호출에 그대로 전파됩니다.
+     */
+    public V execute(K key, Supplier<V> loader) {
+        CompletableFuture<V> call = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, call);
+        if (existing != null) {
+            coalesced.increment();
+            return await(existing);
+        }
+
+        try {
+            V value = loader.get();
+            call.complete(value);
+            return value;
+        } catch (RuntimeException | Error e) {
+            call.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, call);
+        }
+    }
+
+    /**
+     * 다른 호출의 결과를 받아 loader 실행을 생략한 횟수
+     */
+    public long getCoalescedCount() {
+        return coalesced.sum();
+    }
+
+    /**
+     * 현재 진행 중인 키 수
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private static <V> V await(CompletableFuture<V> call) {
+        try {
+            return call.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
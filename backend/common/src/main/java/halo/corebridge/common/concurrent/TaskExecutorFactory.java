@@ -0,0 +1,68 @@
+package halo.corebridge.common.concurrent;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 공통 비동기 실행자 생성기
+ *
+ * spring.threads.virtual.enabled 값에 따라 실행자 종류를 결정합니다.
+ * - false: 기존과 동일한 ThreadPoolTaskExecutor (core/max/queue)
+ * - true:  작업마다 Virtual Thread 생성, 동시 실행 수는 max로 제한하고 queue만큼 대기 허용
+ *
+ * 두 모드 모두 동시 실행은 maxPoolSize를 넘지 않고, 수용량(max + queue)을 넘으면 거절(또는 폐기)하여
+ * 기존 스레드 풀과 같은 배압(backpressure) 특성을 유지합니다.
+ */
+@Slf4j
+@Component
+public class TaskExecutorFactory {
+
+    private final boolean virtualThreads;
+
+    public TaskExecutorFactory(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public boolean isVirtualThreads() {
+        return virtualThreads;
+    }
+
+    /**
+     * 수용량 초과 시 TaskRejectedException 발생
+     */
+    public Executor create(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        return create(threadNamePrefix, corePoolSize, maxPoolSize, queueCapacity, false);
+    }
+
+    /**
+     * 수용량 초과 시 작업을 조용히 폐기 (감사 로그처럼 실패가 비즈니스 로직에 영향을 주면 안 되는 경우)
+     */
+    public Executor createDiscarding(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity) {
+        return create(threadNamePrefix, corePoolSize, maxPoolSize, queueCapacity, true);
+    }
+
+    private Executor create(String threadNamePrefix, int corePoolSize, int maxPoolSize, int queueCapacity,
+                            boolean discardWhenFull) {
+        if (virtualThreads) {
+            log.info("[TaskExecutorFactory] virtual thread executor: prefix={}, maxConcurrency={}, queueCapacity={}",
+                    threadNamePrefix, maxPoolSize, queueCapacity);
+            return new BoundedVirtualThreadExecutor(threadNamePrefix, maxPoolSize, queueCapacity, discardWhenFull);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(corePoolSize);
+        executor.setMaxPoolSize(maxPoolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        if (discardWhenFull) {
+            executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+        }
+        executor.initialize();
+        return executor;
+    }
+}
@@ -22,6 +22,9 @@ public enum EventType {
     // View 이벤트
     JOBPOSTING_VIEWED("corebridge-view", JobpostingViewedEventPayload.class),
 
+    // User 이벤트
+    USER_UPDATED("corebridge-user", UserUpdatedEventPayload.class),
+
     // Notification 이벤트
     NOTIFICATION_CREATED("corebridge-notification", NotificationCreatedEventPayload.class),
     ;
@@ -0,0 +1,18 @@
+package halo.corebridge.common.event;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserUpdatedEventPayload implements EventPayload {
+    private Long userId;
+    private String nickname;
+    private LocalDateTime updatedAt;
+}
@@ -53,4 +53,16 @@ public class IdempotencyChecker {
             }
         });
     }
+
+    /**
+     * Consumer 그룹의 처리 기록을 모두 삭제합니다.
+     * 처음부터 다시 소비해 상태를 재구성할 때, 멱등성 체크를 끄지 않고도 이벤트가 다시 처리되도록 합니다.
+     * @param consumerGroup Consumer 그룹명
+     * @return 삭제한 기록 수 (Repository가 없으면 0)
+     */
+    public int clear(String consumerGroup) {
+        return processedEventRepository
+                .map(repo -> repo.deleteByConsumerGroup(consumerGroup))
+                .orElse(0);
+    }
 }
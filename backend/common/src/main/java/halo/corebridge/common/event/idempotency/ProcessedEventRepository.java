@@ -1,7 +1,17 @@
 package halo.corebridge.common.event.idempotency;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 public interface ProcessedEventRepository extends JpaRepository<ProcessedEvent, Long> {
     boolean existsByEventIdAndConsumerGroup(String eventId, String consumerGroup);
+
+    // 소비 상태 초기화 (읽기 모델 재구성 등)
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ProcessedEvent p WHERE p.consumerGroup = :consumerGroup")
+    int deleteByConsumerGroup(@Param("consumerGroup") String consumerGroup);
 }
@@ -0,0 +1,176 @@
+package halo.corebridge.common.joblock;
+
+import halo.corebridge.common.outboxmessagerelay.AssignedShard;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 기반 작업 잠금 (클러스터 전체에서 한 인스턴스만 실행)
+ *
+ * 같은 cron에 모든 인스턴스가 깨어나도 SET NX로 잠금을 잡은 인스턴스만 작업을 실행하고 나머지는 건너뜁니다.
+ * - 잠금(lease)은 heartbeat 실패 허용 시간만큼 유효하고, 실행 중에는 heartbeat가 계속 연장합니다. (인스턴스가 죽으면 lease 후 풀림)
+ * - 작업이 minHold보다 빨리 끝나면 잠금을 minHold까지 남겨 둡니다. (시계가 조금 늦은 인스턴스가 같은 주기에 다시 실행하지 않도록)
+ * - 인스턴스 목록은 MessageRelayCoordinator처럼 heartbeat ZSET으로 관리하고, assignShards로 큰 작업을 나눌 수 있습니다.
+ *
+ * heartbeat는 @Scheduled 스레드가 긴 작업에 묶여도 멈추지 않도록 전용 스레드에서 돕니다.
+ * job-lock.enabled=true인 서비스에서만 활성화됩니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "job-lock.enabled", havingValue = "true", matchIfMissing = false)
+public class JobLock {
+
+    private static final int PING_INTERVAL_SECONDS = 3;
+    private static final int PING_FAILURE_THRESHOLD = 3;
+    private static final long LEASE_MILLIS = TimeUnit.SECONDS.toMillis(PING_INTERVAL_SECONDS * PING_FAILURE_THRESHOLD);
+
+    // 내 잠금일 때만 연장
+    private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return 0
+            """, Long.class);
+
+    // 내 잠금일 때만 해제 (ARGV[2] > 0이면 그 시간만큼 남겨 둠)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) ~= ARGV[1] then
+              return 0
+            end
+            if tonumber(ARGV[2]) > 0 then
+              return redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            end
+            return redis.call('DEL', KEYS[1])
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final String applicationName;
+    private final String appId = UUID.randomUUID().toString();
+    private final Set<String> heldKeys = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService heartbeat = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("job-lock-heartbeat").daemon().factory());
+
+    public JobLock(StringRedisTemplate redisTemplate,
+                   @Value("${spring.application.name}") String applicationName) {
+        this.redisTemplate = redisTemplate;
+        this.applicationName = applicationName;
+    }
+
+    @PostConstruct
+    public void start() {
+        heartbeat.scheduleWithFixedDelay(this::ping, 0, PING_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 잠금을 잡으면 job 실행, 다른 인스턴스가 잡고 있으면 건너뜀
+     * job의 예외는 잠금을 푼 뒤 그대로 전파됩니다.
+     * @param minHold 작업이 일찍 끝나도 잠금을 유지할 최소 시간 (같은 주기 중복 실행 방지, 0이면 바로 해제)
+     * @return 실행했으면 true
+     */
+    public boolean runExclusively(String jobName, Duration minHold, Runnable job) {
+        String key = lockKey(jobName);
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(key, appId, Duration.ofMillis(LEASE_MILLIS));
+        if (!Boolean.TRUE.equals(acquired)) {
+            log.info("[JobLock] 다른 인스턴스가 실행 중이거나 이미 실행함, 건너뜀: job={}", jobName);
+            return false;
+        }
+
+        heldKeys.add(key);
+        long startMillis = System.currentTimeMillis();
+        try {
+            job.run();
+            return true;
+        } finally {
+            heldKeys.remove(key);
+            long holdMillis = minHold.toMillis() - (System.currentTimeMillis() - startMillis);
+            release(key, Math.max(holdMillis, 0));
+        }
+    }
+
+    /**
+     * 현재 살아 있는 인스턴스끼리 0 ~ shardCount-1을 나눈 내 몫 (AssignedShard)
+     * 인스턴스 목록은 heartbeat 주기만큼 늦게 반영되므로, 빠짐/중복 없이 나누려면 shard마다 runExclusively로 실행합니다.
+     */
+    public List<Long> assignShards(long shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount는 0보다 커야 합니다: " + shardCount);
+        }
+        return AssignedShard.of(appId, findAppIds(), shardCount).getShards();
+    }
+
+    void ping() {
+        try {
+            redisTemplate.executePipelined((RedisCallback<?>) action -> {
+                StringRedisConnection conn = (StringRedisConnection) action;
+                String key = appListKey();
+                conn.zAdd(key, Instant.now().toEpochMilli(), appId);
+                conn.zRemRangeByScore(
+                        key,
+                        Double.NEGATIVE_INFINITY,
+                        Instant.now().minusSeconds(PING_INTERVAL_SECONDS * PING_FAILURE_THRESHOLD).toEpochMilli()
+                );
+                return null;
+            });
+            for (String key : heldKeys) {
+                Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(key), appId, String.valueOf(LEASE_MILLIS));
+                if (renewed == null || renewed == 0) {
+                    log.warn("[JobLock] 실행 중 잠금을 잃음 (lease 만료): key={}", key);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[JobLock] heartbeat 실패: {}", e.getMessage());
+        }
+    }
+
+    @PreDestroy
+    public void leave() {
+        heartbeat.shutdownNow();
+        try {
+            redisTemplate.opsForZSet().remove(appListKey(), appId);
+        } catch (Exception e) {
+            log.warn("[JobLock] 인스턴스 목록 제거 실패: {}", e.getMessage());
+        }
+    }
+
+    private void release(String key, long holdMillis) {
+        try {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(key), appId, String.valueOf(holdMillis));
+        } catch (Exception e) {
+            // 해제하지 못해도 lease가 지나면 풀림
+            log.warn("[JobLock] 잠금 해제 실패: key={}, error={}", key, e.getMessage());
+        }
+    }
+
+    private List<String> findAppIds() {
+        return redisTemplate.opsForZSet().reverseRange(appListKey(), 0, -1).stream()
+                .sorted()
+                .toList();
+    }
+
+    private String lockKey(String jobName) {
+        return "job-lock::lock::%s::%s".formatted(applicationName, jobName);
+    }
+
+    private String appListKey() {
+        return "job-lock::app-list::%s".formatted(applicationName);
+    }
+}
@@ -1,5 +1,6 @@
 package halo.corebridge.common.outboxmessagerelay;
 
+import halo.corebridge.common.concurrent.TaskExecutorFactory;
 import org.apache.kafka.clients.producer.ProducerConfig;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,7 +12,6 @@ import org.springframework.kafka.core.DefaultKafkaProducerFactory;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.annotation.EnableScheduling;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -43,13 +43,8 @@ public class MessageRelayConfig {
     }
 
     @Bean
-    public Executor messageRelayPublishEventExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(20);
-        executor.setMaxPoolSize(50);
-        executor.setQueueCapacity(100);
-        executor.setThreadNamePrefix("mr-pub-event-");
-        return executor;
+    public Executor messageRelayPublishEventExecutor(TaskExecutorFactory taskExecutorFactory) {
+        return taskExecutorFactory.create("mr-pub-event-", 20, 50, 100);
     }
 
     @Bean
@@ -1,5 +1,6 @@
 package halo.corebridge.common.security;
 
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
@@ -14,6 +15,9 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
  */
 public abstract class BaseSecurityConfig {
 
+    @Autowired
+    private GatewayIdentityVerifier gatewayIdentityVerifier;
+
     /**
      * 기본 Security 설정 (하위 클래스에서 커스터마이징 가능)
      */
@@ -34,6 +38,6 @@ public abstract class BaseSecurityConfig {
 
     @Bean
     public GatewayAuthenticationFilter gatewayAuthenticationFilter() {
-        return new GatewayAuthenticationFilter();
+        return new GatewayAuthenticationFilter(gatewayIdentityVerifier);
     }
 }
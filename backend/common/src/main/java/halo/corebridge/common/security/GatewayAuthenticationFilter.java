@@ -1,24 +1,29 @@
 package halo.corebridge.common.security;
 
+import halo.corebridge.common.security.GatewayIdentityVerifier.GatewayIdentity;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Gateway에서 전달받은 헤더로 인증 정보 설정
- * - X-User-Id: 사용자 ID
- * - X-User-Email: 사용자 이메일
- * - X-User-Role: 사용자 역할
+ * - X-User-Identity: Gateway가 서명한 userId|role|email (서명 키가 설정된 경우 이 헤더만 신뢰)
+ * - X-User-Id: 사용자 ID (서명 키 미설정 시)
+ * - X-User-Email: 사용자 이메일 (서명 키 미설정 시)
+ * - X-User-Role: 사용자 역할 (서명 키 미설정 시)
  */
 @Slf4j
 public class GatewayAuthenticationFilter extends OncePerRequestFilter {
@@ -27,28 +32,85 @@ public class GatewayAuthenticationFilter extends OncePerRequestFilter {
     private static final String HEADER_USER_EMAIL = "X-User-Email";
     private static final String HEADER_USER_ROLE = "X-User-Role";
 
+    // 역할 종류는 몇 개뿐이므로 권한 목록을 역할별로 한 번만 생성하여 재사용
+    private static final int MAX_INTERNED_ROLES = 32;
+    private static final Map<String, List<GrantedAuthority>> ROLE_AUTHORITIES = new ConcurrentHashMap<>();
+
+    private final GatewayIdentityVerifier identityVerifier;
+
+    /**
+     * 서명 검증 없이 X-User-* 헤더를 그대로 신뢰 (로컬/테스트용)
+     */
+    public GatewayAuthenticationFilter() {
+        this(null);
+    }
+
+    public GatewayAuthenticationFilter(GatewayIdentityVerifier identityVerifier) {
+        this.identityVerifier = identityVerifier;
+    }
+
     @Override
     protected void doFilterInternal(HttpServletRequest request,
                                     HttpServletResponse response,
                                     FilterChain filterChain) throws ServletException, IOException {
 
+        if (identityVerifier != null && identityVerifier.isEnabled()) {
+            authenticateWithSignedIdentity(request);
+        } else {
+            authenticateWithHeaders(request);
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private void authenticateWithSignedIdentity(HttpServletRequest request) {
+        String identityHeader = request.getHeader(GatewayIdentityVerifier.HEADER_IDENTITY);
+        if (!StringUtils.hasText(identityHeader)) {
+            return;
+        }
+
+        GatewayIdentity identity = identityVerifier.verify(identityHeader);
+        if (identity == null) {
+            log.warn("서명 검증 실패한 identity 헤더 무시: uri={}", request.getRequestURI());
+            return;
+        }
+
+        setAuthentication(identity.userId(), identity.email(), identity.role());
+    }
+
+    private void authenticateWithHeaders(HttpServletRequest request) {
         String userId = request.getHeader(HEADER_USER_ID);
         String email = request.getHeader(HEADER_USER_EMAIL);
         String role = request.getHeader(HEADER_USER_ROLE);
 
         if (StringUtils.hasText(userId)) {
-            UsernamePasswordAuthenticationToken authentication =
-                    new UsernamePasswordAuthenticationToken(
-                            Long.parseLong(userId),
-                            email,
-                            Collections.singletonList(new SimpleGrantedAuthority(role))
-                    );
+            setAuthentication(Long.parseLong(userId), email, role);
+        }
+    }
+
+    private void setAuthentication(Long userId, String email, String role) {
+        UsernamePasswordAuthenticationToken authentication =
+                new UsernamePasswordAuthenticationToken(userId, email, authoritiesOf(role));
 
-            SecurityContextHolder.getContext().setAuthentication(authentication);
+        SecurityContextHolder.getContext().setAuthentication(authentication);
 
-            log.debug("Gateway 인증 정보 설정: userId={}, email={}, role={}", userId, email, role);
+        log.debug("Gateway 인증 정보 설정: userId={}, email={}, role={}", userId, email, role);
+    }
+
+    private static List<GrantedAuthority> authoritiesOf(String role) {
+        if (!StringUtils.hasText(role)) {
+            throw new IllegalArgumentException("사용자 역할(role)이 없습니다");
         }
 
-        filterChain.doFilter(request, response);
+        List<GrantedAuthority> authorities = ROLE_AUTHORITIES.get(role);
+        if (authorities != null) {
+            return authorities;
+        }
+
+        authorities = List.of(new SimpleGrantedAuthority(role));
+        if (ROLE_AUTHORITIES.size() < MAX_INTERNED_ROLES) {
+            ROLE_AUTHORITIES.putIfAbsent(role, authorities);
+        }
+        return authorities;
     }
 }
@@ -0,0 +1,131 @@
+package halo.corebridge.common.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.util.Base64;
+
+/**
+ * Gateway 서명 identity 헤더 검증기
+ *
+ * 헤더 형식: base64url(userId|role|issuedAt|email) + "." + base64url(HMAC-SHA256)
+ * - Gateway JwtAuthenticationFilter가 토큰 검증 후 생성하여 캐싱 (서명 시각이 오래되면 재서명)
+ * - 서명 키: jwt.identity-secret (미설정 시 jwt.secret)
+ * - issuedAt(epoch 초)이 jwt.identity-max-age-seconds보다 오래되었거나 미래이면 거부 (헤더 재전송 방지)
+ * - 키가 없으면 비활성화되어 기존 X-User-* 헤더 방식으로 동작
+ */
+@Slf4j
+@Component
+public class GatewayIdentityVerifier {
+
+    public static final String HEADER_IDENTITY = "X-User-Identity";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototype;
+    private final long maxAgeMillis;
+
+    public GatewayIdentityVerifier(@Value("${jwt.identity-secret:${jwt.secret:}}") String secret,
+                                   @Value("${jwt.identity-max-age-seconds:30}") long maxAgeSeconds) {
+        if (maxAgeSeconds <= 0) {
+            throw new IllegalArgumentException("jwt.identity-max-age-seconds는 0보다 커야 합니다: " + maxAgeSeconds);
+        }
+        this.prototype = StringUtils.hasText(secret) ? createMac(secret) : null;
+        this.maxAgeMillis = maxAgeSeconds * 1000;
+        if (prototype == null) {
+            log.warn("[GatewayIdentity] 서명 키 미설정 - X-User-* 헤더를 그대로 신뢰합니다");
+        }
+    }
+
+    public boolean isEnabled() {
+        return prototype != null;
+    }
+
+    /**
+     * 서명을 검증하고 identity를 반환합니다.
+     *
+     * @return 형식이 잘못되었거나 서명이 일치하지 않거나 허용 시간을 벗어나면 null
+     */
+    public GatewayIdentity verify(String headerValue) {
+        if (prototype == null || !StringUtils.hasText(headerValue)) {
+            return null;
+        }
+
+        int dot = headerValue.indexOf('.');
+        if (dot <= 0 || dot == headerValue.length() - 1) {
+            return null;
+        }
+
+        try {
+            byte[] payload = DECODER.decode(headerValue.substring(0, dot));
+            byte[] signature = DECODER.decode(headerValue.substring(dot + 1));
+
+            if (!MessageDigest.isEqual(sign(payload), signature)) {
+                return null;
+            }
+            SignedIdentity signed = SignedIdentity.parse(new String(payload, StandardCharsets.UTF_8));
+            long ageMillis = System.currentTimeMillis() - signed.issuedAtSeconds() * 1000;
+            if (ageMillis > maxAgeMillis || ageMillis < -maxAgeMillis) {
+                log.warn("[GatewayIdentity] 허용 시간을 벗어난 identity 헤더: userId={}, ageMillis={}",
+                        signed.identity().userId(), ageMillis);
+                return null;
+            }
+            return signed.identity();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return mac.doFinal(payload);
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("Mac 복제 실패", e);
+        }
+    }
+
+    private static Mac createMac(String secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("identity 서명 키 초기화 실패", e);
+        }
+    }
+
+    /**
+     * Gateway가 전달한 사용자 식별 정보
+     */
+    public record GatewayIdentity(Long userId, String role, String email) {
+    }
+
+    /**
+     * 서명된 payload (identity + 서명 시각)
+     */
+    private record SignedIdentity(GatewayIdentity identity, long issuedAtSeconds) {
+
+        /**
+         * "userId|role|issuedAt|email" 형식 파싱 (email은 '|'를 포함할 수 있으므로 마지막에 위치)
+         */
+        static SignedIdentity parse(String payload) {
+            String[] parts = payload.split("\\|", 4);
+            if (parts.length != 4) {
+                throw new IllegalArgumentException("identity 형식 오류");
+            }
+            String email = parts[3].isEmpty() ? null : parts[3];
+            return new SignedIdentity(
+                    new GatewayIdentity(Long.parseLong(parts[0]), parts[1], email),
+                    Long.parseLong(parts[2]));
+        }
+    }
+}
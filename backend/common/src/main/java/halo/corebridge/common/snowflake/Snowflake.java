@@ -1,11 +1,14 @@
 package halo.corebridge.common.snowflake;
 
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.random.RandomGenerator;
 
 /**
  * Twitter Snowflake 알고리즘 기반 분산 ID 생성기
  *
  * 64bit: | 1 unused | 41 timestamp | 10 node | 12 sequence |
+ *
+ * synchronized 대신 ReentrantLock 사용: 경합 시 Virtual Thread가 carrier 스레드를 점유(pinning)하지 않음
  */
 public class Snowflake {
 
@@ -21,6 +24,7 @@ public class Snowflake {
     private final long nodeId;
     private long lastTimeMillis = EPOCH;
     private long sequence = 0L;
+    private final ReentrantLock lock = new ReentrantLock();
 
     public Snowflake() {
         this.nodeId = RandomGenerator.getDefault().nextLong(MAX_NODE_ID + 1);
@@ -33,27 +37,39 @@ public class Snowflake {
         this.nodeId = nodeId;
     }
 
-    public synchronized long nextId() {
-        long currentTimeMillis = System.currentTimeMillis();
+    public long nextId() {
+        lock.lock();
+        try {
+            long currentTimeMillis = System.currentTimeMillis();
 
-        if (currentTimeMillis < lastTimeMillis) {
-            throw new IllegalStateException("Clock moved backwards");
-        }
+            if (currentTimeMillis < lastTimeMillis) {
+                throw new IllegalStateException("Clock moved backwards");
+            }
 
-        if (currentTimeMillis == lastTimeMillis) {
-            sequence = (sequence + 1) & MAX_SEQUENCE;
-            if (sequence == 0) {
-                currentTimeMillis = waitNextMillis(currentTimeMillis);
+            if (currentTimeMillis == lastTimeMillis) {
+                sequence = (sequence + 1) & MAX_SEQUENCE;
+                if (sequence == 0) {
+                    currentTimeMillis = waitNextMillis(currentTimeMillis);
+                }
+            } else {
+                sequence = 0;
             }
-        } else {
-            sequence = 0;
-        }
 
-        lastTimeMillis = currentTimeMillis;
+            lastTimeMillis = currentTimeMillis;
+
+            return ((currentTimeMillis - EPOCH) << (NODE_ID_BITS + SEQUENCE_BITS))
+                    | (nodeId << SEQUENCE_BITS)
+                    | sequence;
+        } finally {
+            lock.unlock();
+        }
+    }
 
-        return ((currentTimeMillis - EPOCH) << (NODE_ID_BITS + SEQUENCE_BITS))
-                | (nodeId << SEQUENCE_BITS)
-                | sequence;
+    /**
+     * epochMillis 시각 이후에 생성된 ID의 하한 (ID 범위를 생성 시각으로 나눌 때)
+     */
+    public static long firstIdAt(long epochMillis) {
+        return Math.max(epochMillis - EPOCH, 0L) << (NODE_ID_BITS + SEQUENCE_BITS);
     }
 
     private long waitNextMillis(long currentTimestamp) {
@@ -0,0 +1,184 @@
+package halo.corebridge.common.warmup;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * 시작 직후 캐시 예열(warm-up)
+ *
+ * 애플리케이션 준비(ApplicationReadyEvent) 후 별도 Virtual Thread에서 실행하여 컨텍스트 시작을 막지 않습니다.
+ * 1) prepare: 순차 단계 (저장소 적재 등, 이후 작업 목록을 결정)
+ * 2) tasks:   병렬 단계 (페이지/인기 공고 조회 등), 동시 실행 수는 maxConcurrency로 제한
+ *
+ * 작업 실패는 건너뛰고(캐시 미스로 남음), timeout이 지나면 남은 작업을 취소합니다.
+ * timeout은 prepare부터 적용되며, prepare가 넘기면 중단(interrupt)하고 병렬 단계 없이 끝냅니다.
+ * 어느 경우든 끝나면 WARM이 되어 readiness에 반영됩니다. (영원히 트래픽을 받지 못하는 상황 방지)
+ *
+ * 서비스마다 예열 작업을 구성하고, HealthIndicator로 상태를 노출합니다.
+ */
+@Slf4j
+public class WarmUp {
+
+    public enum State {
+        PENDING, RUNNING, WARM
+    }
+
+    private final String name;
+    private final int maxConcurrency;
+    private final Duration timeout;
+
+    private volatile State state = State.PENDING;
+    private volatile boolean timedOut;
+    private volatile long elapsedMillis;
+    private final AtomicInteger total = new AtomicInteger();
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    public WarmUp(String name, int maxConcurrency, Duration timeout) {
+        if (maxConcurrency <= 0) {
+            throw new IllegalArgumentException("maxConcurrency는 0보다 커야 합니다: " + maxConcurrency);
+        }
+        if (timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("timeout은 0보다 커야 합니다: " + timeout);
+        }
+        this.name = name;
+        this.maxConcurrency = maxConcurrency;
+        this.timeout = timeout;
+    }
+
+    /**
+     * 예열 시작 (한 번만 실행)
+     * @param prepare 순차 단계
+     * @param tasks   prepare 이후 만들 병렬 작업 목록
+     */
+    public synchronized CompletableFuture<Void> start(Runnable prepare, Supplier<List<Runnable>> tasks) {
+        if (state != State.PENDING) {
+            throw new IllegalStateException("이미 시작된 예열입니다: " + name);
+        }
+        state = State.RUNNING;
+
+        CompletableFuture<Void> done = new CompletableFuture<>();
+        Thread.ofVirtual().name(name).start(() -> {
+            try {
+                run(prepare, tasks);
+            } finally {
+                state = State.WARM;
+                done.complete(null);
+            }
+        });
+        return done;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isWarm() {
+        return state == State.WARM;
+    }
+
+    public boolean isTimedOut() {
+        return timedOut;
+    }
+
+    public int getTotal() {
+        return total.get();
+    }
+
+    public int getCompleted() {
+        return completed.get();
+    }
+
+    public int getFailed() {
+        return failed.get();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    private void run(Runnable prepare, Supplier<List<Runnable>> tasks) {
+        long startNanos = System.nanoTime();
+        long deadlineNanos = startNanos + timeout.toNanos();
+        try {
+            if (!runPrepare(prepare, deadlineNanos)) {
+                timedOut = true;
+                return;
+            }
+            List<Runnable> parallel = tasks.get();
+            total.set(parallel.size());
+            runParallel(parallel, deadlineNanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.warn("[WarmUp] 예열 실패: name={}, {}", name, e.getMessage());
+        } finally {
+            elapsedMillis = Duration.ofNanos(System.nanoTime() - startNanos).toMillis();
+            log.info("[WarmUp] 예열 종료: name={}, 완료={}/{}, 실패={}, 시간초과={}, {}ms",
+                    name, completed.get(), total.get(), failed.get(), timedOut, elapsedMillis);
+        }
+    }
+
+    /**
+     * prepare를 별도 Virtual Thread에서 실행하고 deadline까지 대기
+     * @return deadline 안에 끝났으면 true (넘기면 interrupt 후 false)
+     */
+    private boolean runPrepare(Runnable prepare, long deadlineNanos) throws InterruptedException {
+        FutureTask<Void> step = new FutureTask<>(prepare, null);
+        Thread.ofVirtual().name(name + "-prepare").start(step);
+        try {
+            step.get(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            step.cancel(true);
+            log.warn("[WarmUp] prepare 시간 초과, 중단합니다: name={}", name);
+            return false;
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(e.getCause());
+        }
+    }
+
+    private void runParallel(List<Runnable> tasks, long deadlineNanos) throws InterruptedException {
+        Semaphore permits = new Semaphore(maxConcurrency);
+        ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(name + "-", 0).factory());
+        try {
+            for (Runnable task : tasks) {
+                // 허용량이 날 때까지 대기 (작업 스레드도 동시 실행 수만큼만 생성)
+                if (!permits.tryAcquire(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                    timedOut = true;
+                    break;
+                }
+                executor.execute(() -> {
+                    try {
+                        task.run();
+                        completed.incrementAndGet();
+                    } catch (Exception e) {
+                        failed.incrementAndGet();
+                        log.debug("[WarmUp] 작업 실패: name={}, {}", name, e.getMessage());
+                    } finally {
+                        permits.release();
+                    }
+                });
+            }
+            executor.shutdown();
+            if (!executor.awaitTermination(Math.max(deadlineNanos - System.nanoTime(), 0), TimeUnit.NANOSECONDS)) {
+                timedOut = true;
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package halo.corebridge.common.warmup;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+
+/**
+ * 예열 상태 (/actuator/health, readiness 그룹에 포함)
+ * 예열이 끝나기 전에는 OUT_OF_SERVICE로 트래픽을 받지 않습니다.
+ *
+ * 예열을 쓰는 서비스가 warmUpHealthIndicator 빈으로 등록합니다. (health 항목 이름: warmUp)
+ */
+@RequiredArgsConstructor
+public class WarmUpHealthIndicator implements HealthIndicator {
+
+    private final WarmUp warmUp;
+
+    @Override
+    public Health health() {
+        Health.Builder builder = warmUp.isWarm() ? Health.up() : Health.outOfService();
+        return builder
+                .withDetail("state", warmUp.getState())
+                .withDetail("total", warmUp.getTotal())
+                .withDetail("completed", warmUp.getCompleted())
+                .withDetail("failed", warmUp.getFailed())
+                .withDetail("timedOut", warmUp.isTimedOut())
+                .withDetail("elapsedMs", warmUp.getElapsedMillis())
+                .build();
+    }
+}
@@ -0,0 +1,117 @@
+package halo.corebridge.common.web;
+
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 리소스별 버전 스탬프 (HTTP 조건부 GET용)
+ *
+ * 리소스가 바뀔 때(이벤트 반영 후) touch로 버전을 올리고, 조회 시 버전으로 ETag/Last-Modified를 만듭니다.
+ * If-None-Match/If-Modified-Since가 현재 버전과 같으면 DB나 다른 서비스를 거치지 않고 304로 응답합니다.
+ *
+ * - 버전은 JVM 전체가 공유하는 단조 증가 시계 (밀리초 시각 기준, 같은 밀리초면 +1)
+ *   → 서로 다른 리소스 버전의 최댓값도 변경이 있을 때마다 증가하므로 묶음(목록) 버전으로 쓸 수 있습니다.
+ * - 변경(touch) 기록이 없는 리소스는 공통 기준 버전을 씁니다. (조회만으로는 항목을 만들지 않음)
+ *   기준 버전은 생성/삭제(remove)/초기화(clear) 시점에 새로 발급되므로, 삭제된 리소스가 이전 ETag로 되돌아가지 않습니다.
+ *   (재시작 전 ETag와는 일치하지 않음)
+ * - ETag에는 인스턴스 식별자가 들어가므로 다른 인스턴스가 발급한 ETag는 일치하지 않습니다.
+ *   (Last-Modified는 초 단위라 1초 안의 연속 변경은 구분하지 못함, ETag가 우선)
+ *
+ * 쓰는 쪽은 값을 반영한 뒤 touch하고, 읽는 쪽은 버전을 먼저 읽은 뒤 응답을 만들어야 합니다.
+ * (그래야 경합 시 ETag가 응답보다 오래된 쪽으로만 어긋나 잘못된 304가 나가지 않습니다)
+ */
+public final class VersionStamps {
+
+    private static final AtomicLong CLOCK = new AtomicLong();
+    private static final String NODE = Long.toString(ThreadLocalRandom.current().nextLong() >>> 24, 36);
+
+    private final ConcurrentHashMap<Long, Long> versions = new ConcurrentHashMap<>();
+    // touch 기록이 없는 리소스의 버전 (단조 증가)
+    private final AtomicLong baseline = new AtomicLong(next());
+
+    /**
+     * 현재 버전 (touch 기록이 없으면 기준 버전)
+     */
+    public long get(Long key) {
+        Long version = versions.get(key);
+        return version != null ? version : baseline.get();
+    }
+
+    /**
+     * 현재 버전 (maxAgeMillis보다 오래된 버전은 새로 발급)
+     * 다른 인스턴스가 반영한 변경을 이벤트로 받지 못하는 경우에도 ETag 재사용 기간이 maxAge로 제한됩니다.
+     * touch 기록이 없는 리소스는 항목을 만들지 않고 기준 버전을 새로 발급합니다.
+     */
+    public long get(Long key, long maxAgeMillis) {
+        long now = System.currentTimeMillis();
+        Long version = versions.get(key);
+        if (version == null) {
+            long base = baseline.get();
+            if (now - base <= maxAgeMillis) {
+                return base;
+            }
+            long renewed = next();
+            return baseline.compareAndSet(base, renewed) ? renewed : baseline.get();
+        }
+        if (now - version <= maxAgeMillis) {
+            return version;
+        }
+        Long renewed = versions.computeIfPresent(key, (k, current) ->
+                current.longValue() != version.longValue() ? current : next());
+        // 그 사이 삭제되었으면 remove가 새로 발급한 기준 버전
+        return renewed != null ? renewed : baseline.get();
+    }
+
+    /**
+     * 변경 반영 후 버전 올림
+     */
+    public long touch(Long key) {
+        long version = next();
+        versions.put(key, version);
+        return version;
+    }
+
+    /**
+     * 삭제된 리소스 (다음 조회는 새 버전)
+     * 항목을 지우고 기준 버전을 올리므로, touch 기록이 없는 다른 리소스의 ETag도 한 번 바뀝니다.
+     */
+    public void remove(Long key) {
+        versions.remove(key);
+        renewBaseline();
+    }
+
+    /**
+     * 전체 초기화 (변경 이벤트를 놓쳤을 수 있을 때, 다음 조회부터 모두 새 버전)
+     */
+    public void clear() {
+        versions.clear();
+        renewBaseline();
+    }
+
+    public int size() {
+        return versions.size();
+    }
+
+    /**
+     * ETag/Last-Modified 설정 후 304 여부 판단
+     * @return true면 응답 본문 없이 반환 (304 Not Modified)
+     */
+    public static boolean checkNotModified(WebRequest request, long version) {
+        return request.checkNotModified(etag(version), version);
+    }
+
+    public static String etag(long version) {
+        return "\"" + NODE + "-" + Long.toString(version, 36) + "\"";
+    }
+
+    private void renewBaseline() {
+        baseline.accumulateAndGet(next(), Math::max);
+    }
+
+    private static long next() {
+        return CLOCK.updateAndGet(previous -> Math.max(previous + 1, System.currentTimeMillis()));
+    }
+}
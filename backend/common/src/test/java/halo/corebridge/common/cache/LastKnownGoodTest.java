@@ -0,0 +1,89 @@
+package halo.corebridge.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("LastKnownGood 테스트")
+class LastKnownGoodTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final LastKnownGood<Long, String> store = new LastKnownGood<>(2, Duration.ofSeconds(60), clock::get);
+
+    @Test
+    @DisplayName("성공: 마지막 정상 응답을 경과 시간과 함께 돌려주고, 꺼낸 키는 재검증 대상이 된다")
+    void get_returnsStaleValueAndMarksForRevalidation() {
+        // given
+        store.put(1L, "v1");
+        clock.addAndGet(Duration.ofSeconds(30).toNanos());
+
+        // when
+        LastKnownGood.Stale<String> stale = store.get(1L);
+
+        // then
+        assertThat(stale.value()).isEqualTo("v1");
+        assertThat(stale.age()).isEqualTo(Duration.ofSeconds(30));
+        assertThat(store.drainStaleKeys(10)).containsExactly(1L);
+        assertThat(store.drainStaleKeys(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: maxStaleness보다 오래되었거나 제거된 응답은 사용하지 않는다")
+    void get_expiredOrRemoved() {
+        // given
+        store.put(1L, "v1");
+        store.put(2L, "v2");
+        store.remove(2L);
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+
+        // then
+        assertThat(store.get(1L)).isNull();
+        assertThat(store.get(2L)).isNull();
+        assertThat(store.drainStaleKeys(10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 가득 차면 오래된 항목을 정리한 뒤 보관하고, 재검증 성공(put)은 재검증 대상에서 뺀다")
+    void put_evictsExpiredWhenFull() {
+        // given
+        store.put(1L, "v1");
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+        store.put(2L, "v2");
+        store.get(2L);
+
+        // when
+        store.put(3L, "v3");
+        store.put(2L, "v2-new");
+
+        // then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.get(3L).value()).isEqualTo("v3");
+        assertThat(store.drainStaleKeys(10)).containsExactly(3L);
+    }
+
+    @Test
+    @DisplayName("성공: 모두 유효한 상태로 가득 차도 새 응답을 보관하고, 가장 오래전에 보관한 항목을 밀어낸다")
+    void put_fullOfFresh_evictsOldest() {
+        // given
+        store.put(1L, "v1");
+        store.put(2L, "v2");
+        store.put(1L, "v1-new");
+        store.get(2L);
+
+        // when
+        store.put(3L, "v3");
+
+        // then
+        assertThat(store.size()).isEqualTo(2);
+        assertThat(store.get(2L)).isNull();
+        assertThat(store.get(1L).value()).isEqualTo("v1-new");
+        assertThat(store.get(3L).value()).isEqualTo("v3");
+        assertThat(store.drainStaleKeys(10)).containsExactlyInAnyOrder(1L, 3L);
+    }
+}
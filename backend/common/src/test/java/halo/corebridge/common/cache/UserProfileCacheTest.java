@@ -0,0 +1,132 @@
+package halo.corebridge.common.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("UserProfileCache 테스트")
+class UserProfileCacheTest {
+
+    private final AtomicLong clock = new AtomicLong();
+    private final List<Collection<Long>> loadedBatches = new ArrayList<>();
+    private final UserProfileCache cache = new UserProfileCache(Duration.ofSeconds(60), 100, userIds -> {
+        loadedBatches.add(userIds);
+        return userIds.stream()
+                .filter(userId -> userId != 404L)
+                .collect(Collectors.toMap(userId -> userId, userId -> "user" + userId));
+    }, clock::get);
+
+    @Test
+    @DisplayName("성공: 캐시에 없는 사용자만 모아 한 번에 조회하고, 다음 조회는 캐시에서 응답한다")
+    void getNicknames_loadsMissingInOneBatch() {
+        // given
+        cache.getNickname(1L);
+        loadedBatches.clear();
+
+        // when
+        Map<Long, String> nicknames = cache.getNicknames(List.of(1L, 2L, 3L, 2L));
+        Map<Long, String> again = cache.getNicknames(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(nicknames).containsOnly(Map.entry(1L, "user1"), Map.entry(2L, "user2"), Map.entry(3L, "user3"));
+        assertThat(again).isEqualTo(nicknames);
+        assertThat(loadedBatches).containsExactly(List.of(2L, 3L));
+    }
+
+    @Test
+    @DisplayName("성공: 없는 사용자는 결과와 캐시에서 빠지고, TTL이 지나면 다시 조회한다")
+    void getNicknames_missingUserAndExpiry() {
+        // given
+        cache.getNicknames(List.of(1L, 404L));
+
+        // when
+        clock.addAndGet(Duration.ofSeconds(61).toNanos());
+        String nickname = cache.getNickname(1L);
+
+        // then
+        assertThat(cache.getNickname(404L)).isNull();
+        assertThat(nickname).isEqualTo("user1");
+        assertThat(loadedBatches).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("성공: 변경 이벤트는 조회 없이 새 닉네임으로 갱신하고, 무효화는 다음 조회에서 다시 가져온다")
+    void updateAndInvalidate() {
+        // given
+        cache.getNicknames(List.of(1L, 2L));
+
+        // when
+        cache.update(1L, "새닉네임");
+        cache.invalidate(2L);
+
+        // then
+        assertThat(cache.getNickname(1L)).isEqualTo("새닉네임");
+        assertThat(cache.getNickname(2L)).isEqualTo("user2");
+        assertThat(loadedBatches).containsExactly(List.of(1L, 2L), List.of(2L));
+    }
+
+    @Test
+    @DisplayName("성공: 조회 도중 닉네임이 바뀌면 조회 결과(변경 전 값)는 보관하지 않는다")
+    void update_duringLoad_discardsStaleResult() {
+        // given
+        UserProfileCache[] holder = new UserProfileCache[1];
+        holder[0] = new UserProfileCache(Duration.ofSeconds(60), 100, userIds -> {
+            holder[0].update(1L, "새닉네임");
+            return Map.of(1L, "이전닉네임");
+        }, clock::get);
+
+        // when
+        String loaded = holder[0].getNickname(1L);
+
+        // then
+        assertThat(loaded).isEqualTo("이전닉네임");
+        assertThat(holder[0].getNickname(1L)).isEqualTo("새닉네임");
+    }
+
+    @Test
+    @DisplayName("성공: 캐시에 없는 사용자가 100명을 넘으면 100명씩 나눠 조회한다")
+    void getNicknames_overBulkLimit_loadsInBatches() {
+        // given
+        List<Long> userIds = LongStream.rangeClosed(1, 250).boxed().toList();
+
+        // when
+        Map<Long, String> nicknames = cache.getNicknames(userIds);
+
+        // then
+        assertThat(nicknames).hasSize(250);
+        assertThat(loadedBatches).extracting(Collection::size).containsExactly(100, 100, 50);
+    }
+
+    @Test
+    @DisplayName("성공: 가득 차면 가장 오래 쓰지 않은 사용자를 밀어내고 새 항목을 보관한다")
+    void getNicknames_full_evictsLeastRecentlyUsed() {
+        // given
+        UserProfileCache small = new UserProfileCache(Duration.ofSeconds(60), 2, userIds -> {
+            loadedBatches.add(userIds);
+            return userIds.stream().collect(Collectors.toMap(userId -> userId, userId -> "user" + userId));
+        }, clock::get);
+        small.getNicknames(List.of(1L, 2L));
+        small.getNickname(1L);
+
+        // when
+        small.getNickname(3L);
+        loadedBatches.clear();
+
+        // then
+        assertThat(small.size()).isEqualTo(2);
+        assertThat(small.getNicknames(List.of(1L, 3L))).hasSize(2);
+        assertThat(loadedBatches).isEmpty();
+        assertThat(small.getNickname(2L)).isEqualTo("user2");
+        assertThat(loadedBatches).containsExactly(List.of(2L));
+    }
+}
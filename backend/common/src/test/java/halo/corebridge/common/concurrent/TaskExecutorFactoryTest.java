@@ -0,0 +1,145 @@
+package halo.corebridge.common.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("TaskExecutorFactory 테스트")
+class TaskExecutorFactoryTest {
+
+    @Test
+    @DisplayName("성공: virtual thread 비활성화 시 ThreadPoolTaskExecutor를 생성한다")
+    void platformMode_createsThreadPool() {
+        // given
+        TaskExecutorFactory factory = new TaskExecutorFactory(false);
+
+        // when
+        Executor executor = factory.create("test-", 1, 2, 10);
+
+        // then
+        assertThat(executor).isInstanceOf(ThreadPoolTaskExecutor.class);
+        ((ThreadPoolTaskExecutor) executor).shutdown();
+    }
+
+    @Test
+    @DisplayName("성공: virtual thread 활성화 시 작업이 virtual thread에서 실행된다")
+    void virtualMode_runsOnVirtualThread() throws Exception {
+        // given
+        TaskExecutorFactory factory = new TaskExecutorFactory(true);
+        Executor executor = factory.create("test-", 1, 2, 10);
+        AtomicBoolean virtual = new AtomicBoolean();
+        CountDownLatch done = new CountDownLatch(1);
+
+        // when
+        executor.execute(() -> {
+            virtual.set(Thread.currentThread().isVirtual());
+            done.countDown();
+        });
+
+        // then
+        assertThat(done.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(virtual).isTrue();
+        ((BoundedVirtualThreadExecutor) executor).destroy();
+    }
+
+    @Test
+    @DisplayName("실패: 허용량을 넘으면 작업이 거절된다")
+    void virtualMode_rejectsWhenFull() throws Exception {
+        // given
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 1, 0, false);
+        CountDownLatch release = new CountDownLatch(1);
+        executor.execute(() -> awaitQuietly(release));
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+
+        release.countDown();
+        executor.destroy();
+    }
+
+    @Test
+    @DisplayName("성공: 폐기 모드에서는 허용량 초과 작업을 예외 없이 버린다")
+    void virtualMode_discardsWhenFull() throws Exception {
+        // given
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 1, 0, true);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        executor.execute(() -> awaitQuietly(release));
+
+        // when
+        executor.execute(executed::incrementAndGet);
+
+        // then
+        release.countDown();
+        executor.destroy();
+        assertThat(executed).hasValue(0);
+    }
+
+    @Test
+    @DisplayName("성공: virtual thread 모드도 동시 실행 수는 maxPoolSize를 넘지 않는다")
+    void virtualMode_capsConcurrencyAtMaxPoolSize() throws Exception {
+        // given
+        TaskExecutorFactory factory = new TaskExecutorFactory(true);
+        Executor executor = factory.create("test-", 1, 2, 10);
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(6);
+        AtomicInteger active = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+
+        // when
+        for (int i = 0; i < 6; i++) {
+            executor.execute(() -> {
+                peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                awaitQuietly(release);
+                active.decrementAndGet();
+                done.countDown();
+            });
+        }
+        Thread.sleep(100);
+        int peakWhileBlocked = peak.get();
+        release.countDown();
+
+        // then
+        assertThat(done.await(2, TimeUnit.SECONDS)).isTrue();
+        assertThat(peakWhileBlocked).isEqualTo(2);
+        assertThat(peak).hasValue(2);
+        ((BoundedVirtualThreadExecutor) executor).destroy();
+    }
+
+    @Test
+    @DisplayName("실패: 실행 중(max)과 대기 중(queue) 작업을 합친 수용량을 넘으면 거절된다")
+    void virtualMode_rejectsBeyondMaxPlusQueue() throws Exception {
+        // given
+        BoundedVirtualThreadExecutor executor = new BoundedVirtualThreadExecutor("test-", 1, 2, false);
+        CountDownLatch release = new CountDownLatch(1);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(() -> awaitQuietly(release));
+        }
+
+        // when & then
+        assertThatThrownBy(() -> executor.execute(() -> { }))
+                .isInstanceOf(TaskRejectedException.class);
+
+        release.countDown();
+        executor.destroy();
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -165,4 +165,35 @@ class IdempotencyCheckerTest {
             verify(repo, never()).save(any());
         }
     }
+
+    @Nested
+    @DisplayName("clear() - 처리 기록 초기화")
+    class ClearTest {
+
+        @Test
+        @DisplayName("성공: Consumer 그룹의 처리 기록을 삭제한다")
+        void clear_deletesConsumerGroup() {
+            // given
+            ProcessedEventRepository repo = mock(ProcessedEventRepository.class);
+            IdempotencyChecker checker = new IdempotencyChecker(Optional.of(repo));
+            given(repo.deleteByConsumerGroup("group-1")).willReturn(3);
+
+            // when
+            int cleared = checker.clear("group-1");
+
+            // then
+            assertThat(cleared).isEqualTo(3);
+            verify(repo).deleteByConsumerGroup("group-1");
+        }
+
+        @Test
+        @DisplayName("성공: Repository가 없으면 0을 반환한다")
+        void clear_noRepository_returnsZero() {
+            // given
+            IdempotencyChecker checker = new IdempotencyChecker(Optional.empty());
+
+            // when & then
+            assertThat(checker.clear("group-1")).isZero();
+        }
+    }
 }
@@ -0,0 +1,116 @@
+package halo.corebridge.common.joblock;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobLock 테스트")
+class JobLockTest {
+
+    private static final String LOCK_KEY = "job-lock::lock::test-service::rebuild";
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    private JobLock jobLock;
+
+    @BeforeEach
+    void setUp() {
+        jobLock = new JobLock(redisTemplate, "test-service");
+    }
+
+    @Test
+    @DisplayName("성공: 잠금을 잡으면 실행하고, 일찍 끝나면 남은 최소 유지 시간만큼 잠금을 남긴다")
+    @SuppressWarnings("unchecked")
+    void runExclusively_runsAndHolds() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(true);
+        AtomicInteger runs = new AtomicInteger();
+
+        // when
+        boolean ran = jobLock.runExclusively("rebuild", Duration.ofMinutes(5), runs::incrementAndGet);
+
+        // then
+        assertThat(ran).isTrue();
+        assertThat(runs).hasValue(1);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString(),
+                argThat((String holdMillis) -> Long.parseLong(holdMillis) > 290_000L && Long.parseLong(holdMillis) <= 300_000L));
+    }
+
+    @Test
+    @DisplayName("성공: 다른 인스턴스가 잠금을 잡고 있으면 실행하지 않는다")
+    @SuppressWarnings("unchecked")
+    void runExclusively_skipsWhenHeld() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(false);
+        AtomicInteger runs = new AtomicInteger();
+
+        // when
+        boolean ran = jobLock.runExclusively("rebuild", Duration.ofMinutes(5), runs::incrementAndGet);
+
+        // then
+        assertThat(ran).isFalse();
+        assertThat(runs).hasValue(0);
+        verify(redisTemplate, never()).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString(), anyString());
+    }
+
+    @Test
+    @DisplayName("성공: 작업이 실패해도 잠금을 해제하고 예외를 전파한다")
+    @SuppressWarnings("unchecked")
+    void runExclusively_releasesOnFailure() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.setIfAbsent(eq(LOCK_KEY), anyString(), any(Duration.class))).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> jobLock.runExclusively("rebuild", Duration.ZERO, () -> {
+            throw new IllegalStateException("실패");
+        })).isInstanceOf(IllegalStateException.class);
+        verify(redisTemplate).execute(any(RedisScript.class), eq(List.of(LOCK_KEY)), anyString(), eq("0"));
+    }
+
+    @Test
+    @DisplayName("성공: 살아 있는 인스턴스 목록에 없으면 배정된 shard가 없다")
+    void assignShards_notRegistered() {
+        // given
+        given(redisTemplate.opsForZSet()).willReturn(zSetOperations);
+        given(zSetOperations.reverseRange("job-lock::app-list::test-service", 0, -1))
+                .willReturn(new LinkedHashSet<>(List.of("other-a", "other-b")));
+
+        // when
+        List<Long> shards = jobLock.assignShards(4);
+
+        // then
+        assertThat(shards).isEmpty();
+        assertThatThrownBy(() -> jobLock.assignShards(0)).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -4,13 +4,18 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -102,4 +107,140 @@ class GatewayAuthenticationFilterTest {
         // then
         verify(filterChain, times(1)).doFilter(request, response);
     }
+
+    @Nested
+    @DisplayName("서명된 identity 헤더 모드")
+    class SignedIdentity {
+
+        private static final String SECRET = "corebridge-jwt-secret-key-must-be-at-least-256-bits-long-for-hs256";
+
+        private GatewayIdentityVerifier verifier;
+
+        @BeforeEach
+        void setUp() {
+            verifier = new GatewayIdentityVerifier(SECRET, 30);
+            filter = new GatewayAuthenticationFilter(verifier);
+        }
+
+        private String signNow(String userId, String role, String email) throws Exception {
+            return sign(userId + "|" + role + "|" + nowSeconds() + "|" + email, SECRET);
+        }
+
+        private long nowSeconds() {
+            return System.currentTimeMillis() / 1000;
+        }
+
+        private String sign(String payload, String secret) throws Exception {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+            Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+            return encoder.encodeToString(bytes) + "." + encoder.encodeToString(mac.doFinal(bytes));
+        }
+
+        @Test
+        @DisplayName("성공: 서명이 유효하면 인증 정보가 설정된다")
+        void validSignature_setsAuthentication() throws Exception {
+            // given
+            request.addHeader("X-User-Identity", signNow("100", "ROLE_USER", "user@test.com"));
+
+            // when
+            filter.doFilterInternal(request, response, filterChain);
+
+            // then
+            Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+            assertThat(auth).isNotNull();
+            assertThat(auth.getPrincipal()).isEqualTo(100L);
+            assertThat(auth.getCredentials()).isEqualTo("user@test.com");
+            assertThat(auth.getAuthorities().iterator().next().getAuthority()).isEqualTo("ROLE_USER");
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("성공: 같은 역할은 동일한 권한 목록을 재사용한다")
+        void sameRole_reusesAuthorities() throws Exception {
+            // given
+            request.addHeader("X-User-Identity", signNow("100", "ROLE_USER", "a@test.com"));
+            MockHttpServletRequest other = new MockHttpServletRequest();
+            other.addHeader("X-User-Identity", signNow("200", "ROLE_USER", "b@test.com"));
+
+            // when
+            filter.doFilterInternal(request, response, filterChain);
+            Authentication first = SecurityContextHolder.getContext().getAuthentication();
+            filter.doFilterInternal(other, response, filterChain);
+            Authentication second = SecurityContextHolder.getContext().getAuthentication();
+
+            // then
+            assertThat(second.getAuthorities().iterator().next())
+                    .isSameAs(first.getAuthorities().iterator().next());
+        }
+
+        @Test
+        @DisplayName("실패: 다른 키로 서명된 헤더는 무시된다")
+        void invalidSignature_ignored() throws Exception {
+            // given
+            request.addHeader("X-User-Identity", sign("1|ROLE_ADMIN|" + nowSeconds() + "|admin@test.com", "another-secret-key-another-secret-key-another"));
+
+            // when
+            filter.doFilterInternal(request, response, filterChain);
+
+            // then
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("실패: 허용 시간보다 오래 전에 서명된 헤더는 무시된다")
+        void staleSignature_ignored() throws Exception {
+            // given
+            request.addHeader("X-User-Identity", sign("100|ROLE_USER|" + (nowSeconds() - 60) + "|user@test.com", SECRET));
+
+            // when
+            filter.doFilterInternal(request, response, filterChain);
+
+            // then
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+            verify(filterChain).doFilter(request, response);
+        }
+
+        @Test
+        @DisplayName("실패: 서명 시각이 허용 시간보다 미래인 헤더는 무시된다")
+        void futureSignature_ignored() throws Exception {
+            // given
+            request.addHeader("X-User-Identity", sign("100|ROLE_USER|" + (nowSeconds() + 60) + "|user@test.com", SECRET));
+
+            // when
+            filter.doFilterInternal(request, response, filterChain);
+
+            // then
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패: 서명 시각이 없는 이전 형식 헤더는 무시된다")
+        void legacyPayloadWithoutIssuedAt_ignored() throws Exception {
+            // given
+            request.addHeader("X-User-Identity", sign("100|ROLE_USER|user@test.com", SECRET));
+
+            // when
+            filter.doFilterInternal(request, response, filterChain);
+
+            // then
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+
+        @Test
+        @DisplayName("실패: 서명 모드에서는 X-User-* 헤더만으로 인증되지 않는다")
+        void plainHeaders_ignored() throws ServletException, IOException {
+            // given
+            request.addHeader("X-User-Id", "1");
+            request.addHeader("X-User-Role", "ROLE_ADMIN");
+
+            // when
+            filter.doFilterInternal(request, response, filterChain);
+
+            // then
+            assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        }
+    }
 }
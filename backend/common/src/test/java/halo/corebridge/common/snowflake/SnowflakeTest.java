@@ -5,6 +5,9 @@ import org.junit.jupiter.api.Test;
 
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -31,6 +34,25 @@ class SnowflakeTest {
         assertThat(ids).hasSize(1000);
     }
 
+    @Test
+    @DisplayName("성공: 여러 Virtual Thread에서 동시에 생성해도 ID가 유니크하다")
+    void nextId_concurrentVirtualThreads_uniqueIds() {
+        Snowflake snowflake = new Snowflake(1);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < 100; i++) {
+                executor.submit(() -> {
+                    for (int j = 0; j < 100; j++) {
+                        ids.add(snowflake.nextId());
+                    }
+                });
+            }
+        }
+
+        assertThat(ids).hasSize(10_000);
+    }
+
     @Test
     @DisplayName("성공: 서로 다른 노드에서 생성된 ID도 유니크하다")
     void nextId_differentNodes_uniqueIds() {
@@ -77,4 +99,19 @@ class SnowflakeTest {
         assertThatThrownBy(() -> new Snowflake(1024))
                 .isInstanceOf(IllegalArgumentException.class);
     }
+
+    @Test
+    @DisplayName("성공: firstIdAt은 그 시각 이전에 생성된 ID보다 크고 이후에 생성된 ID보다 크지 않다")
+    void firstIdAt_boundsIdsByTime() throws InterruptedException {
+        Snowflake snowflake = new Snowflake(1023);
+        long before = snowflake.nextId();
+        Thread.sleep(2);
+        long boundary = Snowflake.firstIdAt(System.currentTimeMillis());
+        Thread.sleep(2);
+        long after = snowflake.nextId();
+
+        assertThat(before).isLessThan(boundary);
+        assertThat(after).isGreaterThanOrEqualTo(boundary);
+        assertThat(Snowflake.firstIdAt(0L)).isZero();
+    }
 }
@@ -0,0 +1,108 @@
+package halo.corebridge.common.warmup;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("WarmUp 테스트")
+class WarmUpTest {
+
+    @Test
+    @DisplayName("성공: prepare 이후 작업을 동시 실행 수 이하로 병렬 실행하고, 실패한 작업은 건너뛰고 WARM이 된다")
+    void start_boundedConcurrency() throws Exception {
+        // given
+        WarmUp warmUp = new WarmUp("test-warm-up", 2, Duration.ofSeconds(10));
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        List<String> order = new ArrayList<>();
+        List<Runnable> tasks = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            int index = i;
+            tasks.add(() -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(10);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    running.decrementAndGet();
+                }
+                if (index == 3) {
+                    throw new IllegalStateException("downstream down");
+                }
+            });
+        }
+
+        // when
+        warmUp.start(() -> order.add("prepare"), () -> {
+            order.add("tasks");
+            return tasks;
+        }).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(warmUp.isWarm()).isTrue();
+        assertThat(order).containsExactly("prepare", "tasks");
+        assertThat(maxRunning.get()).isLessThanOrEqualTo(2);
+        assertThat(warmUp.getTotal()).isEqualTo(8);
+        assertThat(warmUp.getCompleted()).isEqualTo(7);
+        assertThat(warmUp.getFailed()).isEqualTo(1);
+        assertThat(warmUp.isTimedOut()).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: timeout이 지나면 남은 작업을 취소하고 WARM이 된다")
+    void start_timeout() throws Exception {
+        // given
+        WarmUp warmUp = new WarmUp("test-warm-up", 1, Duration.ofMillis(100));
+        Runnable slow = () -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+
+        // when
+        warmUp.start(() -> { }, () -> List.of(slow, slow)).get(5, TimeUnit.SECONDS);
+
+        // then
+        assertThat(warmUp.isWarm()).isTrue();
+        assertThat(warmUp.isTimedOut()).isTrue();
+    }
+
+    @Test
+    @DisplayName("성공: prepare도 timeout을 넘기면 중단하고 병렬 작업 없이 WARM이 된다")
+    void start_prepareTimeout() throws Exception {
+        // given
+        WarmUp warmUp = new WarmUp("test-warm-up", 1, Duration.ofMillis(100));
+        AtomicInteger interrupted = new AtomicInteger();
+        AtomicInteger taskLists = new AtomicInteger();
+        Runnable stuck = () -> {
+            try {
+                Thread.sleep(5_000);
+            } catch (InterruptedException e) {
+                interrupted.incrementAndGet();
+            }
+        };
+
+        // when
+        warmUp.start(stuck, () -> {
+            taskLists.incrementAndGet();
+            return List.of();
+        }).get(2, TimeUnit.SECONDS);
+
+        // then
+        assertThat(warmUp.isWarm()).isTrue();
+        assertThat(warmUp.isTimedOut()).isTrue();
+        assertThat(taskLists).hasValue(0);
+        Thread.sleep(50);
+        assertThat(interrupted).hasValue(1);
+    }
+}
@@ -0,0 +1,98 @@
+package halo.corebridge.common.web;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("VersionStamps 테스트")
+class VersionStampsTest {
+
+    private final VersionStamps versions = new VersionStamps();
+
+    @Test
+    @DisplayName("성공: 버전은 변경 전까지 유지되고, 변경하면 다른 리소스 버전보다 커진다")
+    void touch_increasesBeyondAllVersions() {
+        // given
+        long first = versions.get(1L);
+        long other = versions.touch(2L);
+
+        // when
+        long touched = versions.touch(1L);
+
+        // then
+        assertThat(versions.get(1L)).isEqualTo(touched);
+        assertThat(touched).isGreaterThan(Math.max(first, other));
+    }
+
+    @Test
+    @DisplayName("성공: 최대 유지 시간이 지난 버전은 새로 발급한다")
+    void get_withMaxAge_renewsExpiredVersion() throws InterruptedException {
+        // given
+        long first = versions.get(1L);
+
+        // when
+        long fresh = versions.get(1L, 60_000L);
+        Thread.sleep(20);
+        long renewed = versions.get(1L, 1L);
+
+        // then
+        assertThat(fresh).isEqualTo(first);
+        assertThat(renewed).isGreaterThan(first);
+        assertThat(versions.get(1L)).isEqualTo(renewed);
+    }
+
+    @Test
+    @DisplayName("성공: 조회만으로는 항목을 만들지 않는다")
+    void get_doesNotCreateEntries() {
+        // when
+        for (long key = 0; key < 1_000; key++) {
+            versions.get(key);
+            versions.get(key, 60_000L);
+        }
+
+        // then
+        assertThat(versions.size()).isZero();
+        assertThat(versions.get(1L)).isEqualTo(versions.get(2L));
+    }
+
+    @Test
+    @DisplayName("성공: 삭제된 리소스는 touch 기록이 없었어도 이전 버전으로 돌아가지 않는다")
+    void remove_issuesNewerVersion() {
+        // given
+        long untouched = versions.get(1L);
+        long touched = versions.touch(2L);
+
+        // when
+        versions.remove(1L);
+        versions.remove(2L);
+
+        // then
+        assertThat(versions.get(1L)).isGreaterThan(untouched);
+        assertThat(versions.get(2L)).isGreaterThan(touched);
+        assertThat(versions.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: If-None-Match가 현재 ETag와 같으면 304, 변경 후에는 본문을 응답한다")
+    void checkNotModified_matchesCurrentEtag() {
+        // given
+        long version = versions.get(1L);
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/resource/1");
+        request.addHeader("If-None-Match", VersionStamps.etag(version));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        boolean notModified = VersionStamps.checkNotModified(new ServletWebRequest(request, response), version);
+        boolean afterChange = VersionStamps.checkNotModified(
+                new ServletWebRequest(request, new MockHttpServletResponse()), versions.touch(1L));
+
+        // then
+        assertThat(notModified).isTrue();
+        assertThat(response.getStatus()).isEqualTo(304);
+        assertThat(afterChange).isFalse();
+    }
+}
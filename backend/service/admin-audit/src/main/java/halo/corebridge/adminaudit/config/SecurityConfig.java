@@ -1,6 +1,8 @@
 package halo.corebridge.adminaudit.config;
 
 import halo.corebridge.common.security.GatewayAuthenticationFilter;
+import halo.corebridge.common.security.GatewayIdentityVerifier;
+import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -14,8 +16,11 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity
+@RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
+
     @Bean
     public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
         http
@@ -40,6 +45,6 @@ public class SecurityConfig {
 
     @Bean
     public GatewayAuthenticationFilter gatewayAuthenticationFilter() {
-        return new GatewayAuthenticationFilter();
+        return new GatewayAuthenticationFilter(gatewayIdentityVerifier);
     }
 }
@@ -5,12 +5,17 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 /**
  * User 서비스 호출 클라이언트
  *
- * AI 매칭 결과에서 candidateId(userId)로 사용자 닉네임을 조회합니다.
+ * AI 매칭 결과의 candidateId(userId)들로 사용자 닉네임을 일괄 조회합니다.
+ * 직접 호출하지 않고 UserProfileCache를 거쳐 사용합니다.
  */
 @Slf4j
 @Component
@@ -26,23 +31,31 @@ public class UserClient {
     }
 
     /**
-     * userId로 닉네임 조회
-     * @return 닉네임 (조회 실패 시 null)
+     * userId 목록으로 닉네임 일괄 조회 (요청 1회)
+     * @return userId → 닉네임 (없는 사용자는 빠짐, 조회 실패 시 빈 Map)
      */
-    public String getNickname(String userId) {
+    public Map<Long, String> getNicknames(Collection<Long> userIds) {
+        Map<Long, String> nicknames = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return nicknames;
+        }
         try {
-            String url = userServiceUrl + "/api/v1/users/" + userId;
+            String ids = userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+            String url = userServiceUrl + "/api/v1/users/profiles?userIds=" + ids;
             Map<String, Object> response = restTemplate.getForObject(url, Map.class);
 
-            if (response != null && response.containsKey("result")) {
-                Map<String, Object> result = (Map<String, Object>) response.get("result");
-                if (result != null && result.containsKey("nickname")) {
-                    return (String) result.get("nickname");
+            if (response != null && response.get("result") instanceof List<?> profiles) {
+                for (Object profile : profiles) {
+                    if (profile instanceof Map<?, ?> map
+                            && map.get("userId") instanceof Number userId
+                            && map.get("nickname") instanceof String nickname) {
+                        nicknames.put(userId.longValue(), nickname);
+                    }
                 }
             }
         } catch (Exception e) {
-            log.debug("사용자 닉네임 조회 실패: userId={}, error={}", userId, e.getMessage());
+            log.debug("사용자 닉네임 일괄 조회 실패: size={}, error={}", userIds.size(), e.getMessage());
         }
-        return null;
+        return nicknames;
     }
 }
@@ -2,6 +2,7 @@ package halo.corebridge.apply.config;
 
 import halo.corebridge.common.audit.filter.AuditLoggingFilter;
 import halo.corebridge.common.security.GatewayAuthenticationFilter;
+import halo.corebridge.common.security.GatewayIdentityVerifier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -24,6 +25,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
     private final AuditLoggingFilter auditLoggingFilter;
 
     @Bean
@@ -47,7 +49,7 @@ public class SecurityConfig {
 
     @Bean
     public GatewayAuthenticationFilter gatewayAuthenticationFilter() {
-        return new GatewayAuthenticationFilter();
+        return new GatewayAuthenticationFilter(gatewayIdentityVerifier);
     }
 
     @Bean
@@ -0,0 +1,47 @@
+package halo.corebridge.apply.consumer;
+
+import halo.corebridge.common.cache.UserProfileCache;
+import halo.corebridge.common.dataserializer.DataSerializer;
+import halo.corebridge.common.event.Event;
+import halo.corebridge.common.event.EventPayload;
+import halo.corebridge.common.event.EventType;
+import halo.corebridge.common.event.UserUpdatedEventPayload;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 이벤트 Consumer
+ *
+ * USER_UPDATED를 받아 인스턴스 로컬 닉네임 캐시(UserProfileCache)를 갱신합니다.
+ * 캐시는 인스턴스마다 있으므로 인스턴스마다 별도 consumer group으로 모든 이벤트를 받고,
+ * 시작 이전 이벤트는 재생하지 않습니다. (캐시는 비어서 시작하고, 유실분은 TTL로 정리)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserEventConsumer {
+
+    private final UserProfileCache userProfileCache;
+
+    @KafkaListener(
+            topics = "corebridge-user",
+            groupId = "apply-user-cache-${random.uuid}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consume(String message) {
+        Event<EventPayload> event = DataSerializer.deserialize(message, Event.class);
+        if (event == null || event.getType() != EventType.USER_UPDATED) {
+            return;
+        }
+
+        UserUpdatedEventPayload payload = DataSerializer.deserialize(event.getPayload(), UserUpdatedEventPayload.class);
+        if (payload == null) {
+            log.error("[UserEventConsumer] 페이로드 역직렬화 실패: eventId={}", event.getEventId());
+            return;
+        }
+        userProfileCache.update(payload.getUserId(), payload.getNickname());
+        log.info("[UserEventConsumer] 닉네임 캐시 갱신: userId={}", payload.getUserId());
+    }
+}
@@ -2,13 +2,15 @@ package halo.corebridge.apply.service;
 
 import halo.corebridge.apply.client.AiMatchingClient;
 import halo.corebridge.apply.client.ResumeClient;
-import halo.corebridge.apply.client.UserClient;
 import halo.corebridge.apply.model.dto.AiMatchingDto;
+import halo.corebridge.common.cache.UserProfileCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -16,13 +18,13 @@ import java.util.List;
 public class AiMatchingService {
 
     private final AiMatchingClient aiMatchingClient;
-    private final UserClient userClient;
+    private final UserProfileCache userProfileCache;
     private final ResumeClient resumeClient;
 
     /**
      * 채용공고에 맞는 후보자 매칭 (회사용)
      * - FastAPI에서 매칭 결과를 받은 후
-     * - candidateId(=userId)로 User 서비스에서 닉네임 조회
+     * - candidateId(=userId)로 닉네임 일괄 조회 (UserProfileCache)
      * - resumeId가 없으면 Resume 서비스에서 fallback 조회
      */
     public AiMatchingDto.MatchCandidatesResponse matchCandidates(AiMatchingDto.MatchCandidatesRequest request) {
@@ -32,11 +34,19 @@ public class AiMatchingService {
                 request.getJdText(), topK
         );
 
-        // candidateId(=userId)로 닉네임 + resumeId enrichment
+        // candidateId(=userId)로 닉네임 일괄 조회 (캐시 미스만 User 서비스 1회 호출)
+        Map<Long, String> nicknames = userProfileCache.getNicknames(matches.stream()
+                .map(AiMatchingService::lookupId)
+                .map(AiMatchingService::parseUserId)
+                .filter(Objects::nonNull)
+                .toList());
+
+        // 닉네임 + resumeId enrichment
         List<AiMatchingDto.MatchedCandidate> enriched = matches.stream()
                 .map(m -> {
-                    String lookupId = m.getUserId() != null ? m.getUserId() : m.getCandidateId();
-                    String nickname = userClient.getNickname(lookupId);
+                    String lookupId = lookupId(m);
+                    Long userId = parseUserId(lookupId);
+                    String nickname = userId != null ? nicknames.get(userId) : null;
 
                     // resumeId: Redis 메타데이터 우선, 없으면 Resume 서비스 fallback
                     String resolvedResumeId = m.getResumeId();
@@ -98,4 +108,20 @@ public class AiMatchingService {
                 request.getJobpostingId()
         );
     }
+
+    private static String lookupId(AiMatchingDto.MatchedCandidate match) {
+        return match.getUserId() != null ? match.getUserId() : match.getCandidateId();
+    }
+
+    // 숫자가 아닌 candidateId는 User 서비스 사용자가 아님
+    private static Long parseUserId(String lookupId) {
+        if (lookupId == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(lookupId);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
 }
@@ -0,0 +1,111 @@
+package halo.corebridge.gateway.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.cloud.gateway.config.GatewayProperties;
+import org.springframework.cloud.gateway.config.HttpClientCustomizer;
+import org.springframework.cloud.gateway.config.HttpClientFactory;
+import org.springframework.cloud.gateway.config.HttpClientProperties;
+import org.springframework.cloud.gateway.config.HttpClientSslConfigurer;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.List;
+
+/**
+ * Downstream 커넥션 풀 격리 설정
+ *
+ * 기본 Gateway 설정은 모든 라우트가 하나의 풀 설정(무제한 대기열)을 공유하므로
+ * 특정 서비스가 느려지면 대기 중인 커넥션 획득 요청이 계속 쌓입니다.
+ *
+ * 라우트(원격 호스트)별로 최대 커넥션 수와 대기열 길이를 제한하여
+ * 느린 서비스(resume, apply 등)의 적체가 다른 라우트로 번지지 않도록 합니다.
+ * 대기열이 가득 차면 즉시 실패하여 Gateway 스레드/메모리가 묶이지 않습니다.
+ */
+@Slf4j
+@Configuration
+public class DownstreamHttpClientConfig {
+
+    private static final String POOL_NAME = "gateway-downstream";
+
+    @Bean
+    public HttpClientFactory downstreamHttpClientFactory(HttpClientProperties httpClientProperties,
+                                                         ServerProperties serverProperties,
+                                                         HttpClientSslConfigurer sslConfigurer,
+                                                         List<HttpClientCustomizer> customizers,
+                                                         GatewayProperties gatewayProperties,
+                                                         DownstreamHttpClientProperties downstreamProperties) {
+        return new HttpClientFactory(httpClientProperties, serverProperties, sslConfigurer, customizers) {
+            @Override
+            protected ConnectionProvider buildConnectionProvider(HttpClientProperties properties) {
+                return buildIsolatedConnectionProvider(gatewayProperties.getRoutes(), downstreamProperties);
+            }
+        };
+    }
+
+    /**
+     * h2c 사용 시 HTTP/1.1 Upgrade로 협상하므로 h2c 미지원 서비스는 HTTP/1.1로 계속 통신합니다.
+     */
+    @Bean
+    public HttpClientCustomizer downstreamProtocolCustomizer(DownstreamHttpClientProperties downstreamProperties) {
+        return httpClient -> downstreamProperties.isH2c()
+                ? httpClient.protocol(HttpProtocol.H2C, HttpProtocol.HTTP11)
+                : httpClient;
+    }
+
+    static ConnectionProvider buildIsolatedConnectionProvider(List<RouteDefinition> routes,
+                                                              DownstreamHttpClientProperties downstreamProperties) {
+        DownstreamHttpClientProperties.Pool defaults = downstreamProperties.getDefaults();
+
+        ConnectionProvider.Builder builder = ConnectionProvider.builder(POOL_NAME);
+        applyDefaults(builder, defaults);
+
+        for (RouteDefinition route : routes) {
+            DownstreamHttpClientProperties.Pool routePool = downstreamProperties.getRoutes().get(route.getId());
+            if (routePool == null) {
+                continue;
+            }
+            InetSocketAddress address = toAddress(route.getUri());
+            if (address == null) {
+                log.warn("[DownstreamHttpClient] 풀 격리 대상이 아닌 라우트 URI: routeId={}, uri={}", route.getId(), route.getUri());
+                continue;
+            }
+
+            DownstreamHttpClientProperties.Pool pool = routePool.mergedWith(defaults);
+            builder.forRemoteHost(address, spec -> {
+                if (pool.getMaxConnections() != null) spec.maxConnections(pool.getMaxConnections());
+                if (pool.getPendingAcquireMaxCount() != null) spec.pendingAcquireMaxCount(pool.getPendingAcquireMaxCount());
+                if (pool.getPendingAcquireTimeout() != null) spec.pendingAcquireTimeout(pool.getPendingAcquireTimeout());
+                if (pool.getMaxIdleTime() != null) spec.maxIdleTime(pool.getMaxIdleTime());
+            });
+            log.info("[DownstreamHttpClient] routeId={}, host={}:{}, maxConnections={}, pendingAcquireMaxCount={}",
+                    route.getId(), address.getHostString(), address.getPort(),
+                    pool.getMaxConnections(), pool.getPendingAcquireMaxCount());
+        }
+
+        return builder.build();
+    }
+
+    private static void applyDefaults(ConnectionProvider.Builder builder, DownstreamHttpClientProperties.Pool defaults) {
+        if (defaults.getMaxConnections() != null) builder.maxConnections(defaults.getMaxConnections());
+        if (defaults.getPendingAcquireMaxCount() != null) builder.pendingAcquireMaxCount(defaults.getPendingAcquireMaxCount());
+        if (defaults.getPendingAcquireTimeout() != null) builder.pendingAcquireTimeout(defaults.getPendingAcquireTimeout());
+        if (defaults.getMaxIdleTime() != null) builder.maxIdleTime(defaults.getMaxIdleTime());
+    }
+
+    private static InetSocketAddress toAddress(URI uri) {
+        if (uri == null || uri.getHost() == null) {
+            return null;
+        }
+        int port = uri.getPort();
+        if (port == -1) {
+            port = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+        }
+        return InetSocketAddress.createUnresolved(uri.getHost(), port);
+    }
+}
@@ -0,0 +1,58 @@
+package halo.corebridge.gateway.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Downstream 서비스 호출용 커넥션 풀 설정
+ *
+ * - defaults: 모든 라우트에 공통으로 적용되는 풀 설정
+ * - routes:   라우트 ID별로 덮어쓰는 풀 설정 (지정하지 않은 값은 defaults 사용)
+ * - h2c:      HTTP/1.1 Upgrade 기반 h2c 협상 사용 여부 (미지원 서비스는 HTTP/1.1로 동작)
+ *
+ * Reactor Netty 풀은 원격 호스트(host:port) 단위로 분리되므로,
+ * 라우트별 설정은 해당 라우트 URI의 호스트 풀에 적용됩니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "gateway.downstream")
+public class DownstreamHttpClientProperties {
+
+    private boolean h2c = false;
+
+    private Pool defaults = new Pool();
+
+    private Map<String, Pool> routes = new HashMap<>();
+
+    @Getter
+    @Setter
+    public static class Pool {
+        /** 호스트당 최대 커넥션 수 */
+        private Integer maxConnections;
+
+        /** 커넥션 획득 대기열 최대 길이 (초과 시 즉시 실패) */
+        private Integer pendingAcquireMaxCount;
+
+        /** 커넥션 획득 대기 최대 시간 */
+        private Duration pendingAcquireTimeout;
+
+        /** 유휴 커넥션 유지 시간 */
+        private Duration maxIdleTime;
+
+        Pool mergedWith(Pool defaults) {
+            Pool merged = new Pool();
+            merged.maxConnections = maxConnections != null ? maxConnections : defaults.maxConnections;
+            merged.pendingAcquireMaxCount = pendingAcquireMaxCount != null ? pendingAcquireMaxCount : defaults.pendingAcquireMaxCount;
+            merged.pendingAcquireTimeout = pendingAcquireTimeout != null ? pendingAcquireTimeout : defaults.pendingAcquireTimeout;
+            merged.maxIdleTime = maxIdleTime != null ? maxIdleTime : defaults.maxIdleTime;
+            return merged;
+        }
+    }
+}
@@ -12,6 +12,8 @@ import org.springframework.stereotype.Component;
 public class JwtProperties {
 
     private String secret;
+    /** Downstream identity 헤더 서명 키 (미설정 시 secret 사용) */
+    private String identitySecret;
     private long accessTokenExpiration;
     private long refreshTokenExpiration;
 }
@@ -0,0 +1,48 @@
+package halo.corebridge.gateway.filter;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.Base64;
+
+/**
+ * Downstream 전달용 identity 헤더 서명기
+ *
+ * 헤더 형식: base64url(userId|role|issuedAt|email) + "." + base64url(HMAC-SHA256)
+ * - common GatewayIdentityVerifier가 같은 키로 검증하고, issuedAt(epoch 초)이 오래된 헤더는 거부
+ * - 검증된 토큰 캐시에 함께 저장되며 재서명 주기가 지나면 새로 생성됨
+ */
+class IdentityHeaderSigner {
+
+    static final String HEADER_IDENTITY = "X-User-Identity";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final Mac prototype;
+
+    IdentityHeaderSigner(String secret) {
+        try {
+            this.prototype = Mac.getInstance(ALGORITHM);
+            this.prototype.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("identity 서명 키 초기화 실패", e);
+        }
+    }
+
+    String sign(String userId, String role, String email, long issuedAtSeconds) {
+        String payload = userId + "|" + (role != null ? role : "") + "|" + issuedAtSeconds
+                + "|" + (email != null ? email : "");
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.UTF_8);
+        return ENCODER.encodeToString(payloadBytes) + "." + ENCODER.encodeToString(newMac().doFinal(payloadBytes));
+    }
+
+    private Mac newMac() {
+        try {
+            return (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("Mac 복제 실패", e);
+        }
+    }
+}
@@ -10,6 +10,7 @@ import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.cloud.gateway.filter.GlobalFilter;
 import org.springframework.core.Ordered;
 import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.server.reactive.ServerHttpRequest;
 import org.springframework.http.server.reactive.ServerHttpResponse;
@@ -20,11 +21,15 @@ import reactor.core.publisher.Mono;
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Gateway JWT 인증 필터
  * - 모든 요청에서 JWT 검증
  * - 검증 성공 시 userId, email, role을 헤더에 추가하여 downstream 서비스로 전달
+ * - 서명된 X-User-Identity 헤더는 검증 결과와 함께 캐싱하고, 재서명 주기가 지나면 서명 시각만 갱신
+ * - 클라이언트가 직접 보낸 X-User-* 헤더는 제거 (위조 방지)
  */
 @Slf4j
 @Component
@@ -52,14 +57,33 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
             "/api/v1/jobposting-likes"   // 좋아요 수 조회
     );
 
+    private static final String HEADER_USER_ID = "X-User-Id";
+    private static final String HEADER_USER_EMAIL = "X-User-Email";
+    private static final String HEADER_USER_ROLE = "X-User-Role";
+    private static final List<String> IDENTITY_HEADERS = List.of(
+            HEADER_USER_ID, HEADER_USER_EMAIL, HEADER_USER_ROLE, IdentityHeaderSigner.HEADER_IDENTITY
+    );
+
+    // 검증된 토큰 캐시 상한 (초과 시 비우고 다시 채움)
+    private static final int MAX_VERIFIED_TOKENS = 10_000;
+
+    // identity 헤더 재서명 주기 (downstream 허용 시간 jwt.identity-max-age-seconds보다 충분히 짧게)
+    private static final long IDENTITY_RESIGN_MILLIS = 10_000;
+
     private final JwtProperties jwtProperties;
+    private final Map<String, VerifiedIdentity> verifiedTokens = new ConcurrentHashMap<>();
     private SecretKey secretKey;
+    private IdentityHeaderSigner identityHeaderSigner;
 
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(
                 jwtProperties.getSecret().getBytes(StandardCharsets.UTF_8)
         );
+        String identitySecret = jwtProperties.getIdentitySecret() != null
+                ? jwtProperties.getIdentitySecret()
+                : jwtProperties.getSecret();
+        this.identityHeaderSigner = new IdentityHeaderSigner(identitySecret);
     }
 
     @Override
@@ -70,7 +94,7 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
         // 1. 완전 공개 경로 (항상 인증 스킵)
         if (isFullyPublicPath(path)) {
-            return chain.filter(exchange);
+            return chain.filter(stripIdentityHeaders(exchange));
         }
 
         // 2. 토큰 추출
@@ -80,20 +104,15 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         if (isOptionalAuthPath(path, method)) {
             if (token != null) {
                 try {
-                    Claims claims = validateAndGetClaims(token);
-                    ServerHttpRequest mutatedRequest = request.mutate()
-                            .header("X-User-Id", claims.getSubject())
-                            .header("X-User-Email", claims.get("email", String.class))
-                            .header("X-User-Role", claims.get("role", String.class))
-                            .build();
-                    log.debug("Optional 인증 성공: userId={}, path={}", claims.getSubject(), path);
-                    return chain.filter(exchange.mutate().request(mutatedRequest).build());
+                    VerifiedIdentity identity = verify(token);
+                    log.debug("Optional 인증 성공: userId={}, path={}", identity.userId(), path);
+                    return chain.filter(withIdentity(exchange, identity));
                 } catch (JwtException e) {
                     // 토큰이 잘못되어도 공개 경로이므로 그냥 통과
                     log.debug("Optional 인증 실패 (무시하고 통과): path={}, reason={}", path, e.getMessage());
                 }
             }
-            return chain.filter(exchange);
+            return chain.filter(stripIdentityHeaders(exchange));
         }
 
         // 4. 인증 필수 경로
@@ -103,18 +122,12 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
 
         // 5. 토큰 검증
         try {
-            Claims claims = validateAndGetClaims(token);
+            VerifiedIdentity identity = verify(token);
 
             // 6. 검증 성공 → 헤더에 사용자 정보 추가
-            ServerHttpRequest mutatedRequest = request.mutate()
-                    .header("X-User-Id", claims.getSubject())
-                    .header("X-User-Email", claims.get("email", String.class))
-                    .header("X-User-Role", claims.get("role", String.class))
-                    .build();
-
-            log.debug("JWT 인증 성공: userId={}, path={}", claims.getSubject(), path);
+            log.debug("JWT 인증 성공: userId={}, path={}", identity.userId(), path);
 
-            return chain.filter(exchange.mutate().request(mutatedRequest).build());
+            return chain.filter(withIdentity(exchange, identity));
 
         } catch (ExpiredJwtException e) {
             log.warn("만료된 토큰: {}", e.getMessage());
@@ -164,6 +177,87 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         return cookie != null ? cookie.getValue() : null;
     }
 
+    /**
+     * 토큰 검증 (캐시 우선)
+     * - 만료 전까지는 같은 토큰에 대해 JWT 서명 검증을 반복하지 않음
+     * - identity 헤더는 재서명 주기 동안 재사용하고, 지나면 현재 시각으로 다시 서명
+     * - 만료된 캐시 항목은 제거 후 재검증하여 ExpiredJwtException으로 처리
+     */
+    private VerifiedIdentity verify(String token) {
+        long now = System.currentTimeMillis();
+        VerifiedIdentity cached = verifiedTokens.get(token);
+        if (cached != null) {
+            if (cached.expiresAtMillis() > now) {
+                if (now - cached.signedAtMillis() < IDENTITY_RESIGN_MILLIS) {
+                    return cached;
+                }
+                VerifiedIdentity resigned = cached.resign(identityHeaderSigner, now);
+                verifiedTokens.put(token, resigned);
+                return resigned;
+            }
+            verifiedTokens.remove(token);
+        }
+
+        Claims claims = validateAndGetClaims(token);
+        String userId = claims.getSubject();
+        String email = claims.get("email", String.class);
+        String role = claims.get("role", String.class);
+        long expiresAtMillis = claims.getExpiration() != null
+                ? claims.getExpiration().getTime()
+                : Long.MAX_VALUE;
+
+        VerifiedIdentity identity = new VerifiedIdentity(
+                userId, email, role, identityHeaderSigner.sign(userId, role, email, now / 1000), now, expiresAtMillis);
+
+        if (verifiedTokens.size() >= MAX_VERIFIED_TOKENS) {
+            verifiedTokens.clear();
+        }
+        verifiedTokens.put(token, identity);
+        return identity;
+    }
+
+    /**
+     * 사용자 정보 헤더 설정 (request mutate 1회, 클라이언트가 보낸 값은 덮어씀)
+     */
+    private ServerWebExchange withIdentity(ServerWebExchange exchange, VerifiedIdentity identity) {
+        ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
+                .headers(headers -> {
+                    headers.set(HEADER_USER_ID, identity.userId());
+                    headers.set(HEADER_USER_ROLE, identity.role());
+                    headers.set(IdentityHeaderSigner.HEADER_IDENTITY, identity.identityHeader());
+                    if (identity.email() != null) {
+                        headers.set(HEADER_USER_EMAIL, identity.email());
+                    } else {
+                        headers.remove(HEADER_USER_EMAIL);
+                    }
+                })
+                .build();
+        return exchange.mutate().request(mutatedRequest).build();
+    }
+
+    /**
+     * 인증되지 않은 요청에서 클라이언트가 보낸 X-User-* 헤더 제거
+     * - 해당 헤더가 없으면 exchange를 그대로 반환 (추가 할당 없음)
+     */
+    private ServerWebExchange stripIdentityHeaders(ServerWebExchange exchange) {
+        HttpHeaders requestHeaders = exchange.getRequest().getHeaders();
+        boolean present = false;
+        for (String header : IDENTITY_HEADERS) {
+            if (requestHeaders.containsKey(header)) {
+                present = true;
+                break;
+            }
+        }
+        if (!present) {
+            return exchange;
+        }
+
+        ServerHttpRequest mutatedRequest = exchange.getRequest().mutate()
+                .headers(headers -> IDENTITY_HEADERS.forEach(headers::remove))
+                .build();
+        return exchange.mutate().request(mutatedRequest).build();
+    }
+
     /**
      * 토큰 검증 및 Claims 추출
      */
@@ -184,4 +278,16 @@ public class JwtAuthenticationFilter implements GlobalFilter, Ordered {
         log.warn("인증 실패: {} - {}", status, message);
         return response.setComplete();
     }
+
+    /**
+     * 검증된 토큰의 사용자 정보 + 서명된 identity 헤더
+     */
+    private record VerifiedIdentity(String userId, String email, String role,
+                                    String identityHeader, long signedAtMillis, long expiresAtMillis) {
+
+        VerifiedIdentity resign(IdentityHeaderSigner signer, long now) {
+            return new VerifiedIdentity(userId, email, role,
+                    signer.sign(userId, role, email, now / 1000), now, expiresAtMillis);
+        }
+    }
 }
\ No newline at end of file
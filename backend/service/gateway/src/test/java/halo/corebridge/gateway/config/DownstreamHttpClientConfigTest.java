@@ -0,0 +1,100 @@
+package halo.corebridge.gateway.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cloud.gateway.route.RouteDefinition;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("DownstreamHttpClientConfig 테스트")
+class DownstreamHttpClientConfigTest {
+
+    private DownstreamHttpClientProperties properties;
+    private ConnectionProvider provider;
+
+    @BeforeEach
+    void setUp() {
+        properties = new DownstreamHttpClientProperties();
+        properties.getDefaults().setMaxConnections(200);
+        properties.getDefaults().setPendingAcquireMaxCount(400);
+        properties.getDefaults().setPendingAcquireTimeout(Duration.ofSeconds(2));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (provider != null) {
+            provider.dispose();
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 라우트 호스트마다 별도 풀 한도가 적용되고, 설정 없는 호스트는 기본 풀을 쓴다")
+    void eachRouteHost_getsOwnPool() {
+        // given
+        properties.getRoutes().put("resume-service", pool(10, 20));
+        properties.getRoutes().put("apply-service", pool(30, null));
+        List<RouteDefinition> routes = List.of(
+                route("resume-service", "http://resume:8084"),
+                route("apply-service", "http://apply:8085"),
+                route("user-service", "http://user:8081")
+        );
+
+        // when
+        provider = DownstreamHttpClientConfig.buildIsolatedConnectionProvider(routes, properties);
+
+        // then
+        assertThat(provider.maxConnections()).isEqualTo(200);
+        assertThat(provider.maxConnectionsPerHost())
+                .hasSize(2)
+                .containsEntry(InetSocketAddress.createUnresolved("resume", 8084), 10)
+                .containsEntry(InetSocketAddress.createUnresolved("apply", 8085), 30);
+    }
+
+    @Test
+    @DisplayName("성공: 라우트 설정에 없는 값은 기본 풀 설정을 물려받는다")
+    void routePool_inheritsUnsetValuesFromDefaults() {
+        // when
+        DownstreamHttpClientProperties.Pool merged = pool(30, null).mergedWith(properties.getDefaults());
+
+        // then
+        assertThat(merged.getMaxConnections()).isEqualTo(30);
+        assertThat(merged.getPendingAcquireMaxCount()).isEqualTo(400);
+        assertThat(merged.getPendingAcquireTimeout()).isEqualTo(Duration.ofSeconds(2));
+    }
+
+    @Test
+    @DisplayName("성공: 호스트가 없는 라우트 URI는 격리 대상에서 제외한다")
+    void routeWithoutHost_skipped() {
+        // given
+        properties.getRoutes().put("lb-service", pool(10, 20));
+
+        // when
+        provider = DownstreamHttpClientConfig.buildIsolatedConnectionProvider(
+                List.of(route("lb-service", "forward:/fallback")), properties);
+
+        // then
+        assertThat(provider.maxConnectionsPerHost()).isEmpty();
+    }
+
+    private static DownstreamHttpClientProperties.Pool pool(Integer maxConnections, Integer pendingAcquireMaxCount) {
+        DownstreamHttpClientProperties.Pool pool = new DownstreamHttpClientProperties.Pool();
+        pool.setMaxConnections(maxConnections);
+        pool.setPendingAcquireMaxCount(pendingAcquireMaxCount);
+        return pool;
+    }
+
+    private static RouteDefinition route(String id, String uri) {
+        RouteDefinition route = new RouteDefinition();
+        route.setId(id);
+        route.setUri(URI.create(uri));
+        return route;
+    }
+}
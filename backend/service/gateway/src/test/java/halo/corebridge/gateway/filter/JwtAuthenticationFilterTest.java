@@ -7,18 +7,23 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.springframework.cloud.gateway.filter.GatewayFilterChain;
 import org.springframework.http.HttpCookie;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
 import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.server.ServerWebExchange;
 import reactor.core.publisher.Mono;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.Date;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -213,6 +218,83 @@ class JwtAuthenticationFilterTest {
         }
     }
 
+    @Nested
+    @DisplayName("identity 헤더 전달")
+    class IdentityHeaders {
+
+        @Test
+        @DisplayName("인증 성공 시 사용자 헤더와 서명된 identity 헤더를 전달한다")
+        void authenticated_request_carries_signed_identity() {
+            String token = createToken(1001L, "company@test.com", "ROLE_COMPANY");
+
+            MockServerHttpRequest request = MockServerHttpRequest
+                    .post("/api/v1/jobpostings")
+                    .cookie(new HttpCookie("accessToken", token))
+                    .build();
+            MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+            filter.filter(exchange, chain).block();
+
+            ArgumentCaptor<ServerWebExchange> captor = ArgumentCaptor.forClass(ServerWebExchange.class);
+            verify(chain).filter(captor.capture());
+            HttpHeaders headers = captor.getValue().getRequest().getHeaders();
+            assertThat(headers.getFirst("X-User-Id")).isEqualTo("1001");
+            assertThat(headers.getFirst("X-User-Role")).isEqualTo("ROLE_COMPANY");
+            assertThat(headers.getFirst("X-User-Email")).isEqualTo("company@test.com");
+            String identity = headers.getFirst("X-User-Identity");
+            String payload = new String(Base64.getUrlDecoder().decode(identity.substring(0, identity.indexOf('.'))),
+                    StandardCharsets.UTF_8);
+            String[] parts = payload.split("\\|", 4);
+            assertThat(parts[0]).isEqualTo("1001");
+            assertThat(parts[1]).isEqualTo("ROLE_COMPANY");
+            assertThat(Long.parseLong(parts[2])).isCloseTo(System.currentTimeMillis() / 1000, within(5L));
+            assertThat(parts[3]).isEqualTo("company@test.com");
+            assertThat(identity).isEqualTo(new IdentityHeaderSigner(SECRET)
+                    .sign("1001", "ROLE_COMPANY", "company@test.com", Long.parseLong(parts[2])));
+        }
+
+        @Test
+        @DisplayName("같은 토큰의 재요청은 캐시된 identity 헤더를 그대로 사용한다")
+        void same_token_reuses_cached_identity() {
+            String token = createToken(1001L, "company@test.com", "ROLE_COMPANY");
+
+            ArgumentCaptor<ServerWebExchange> captor = ArgumentCaptor.forClass(ServerWebExchange.class);
+            for (int i = 0; i < 2; i++) {
+                MockServerHttpRequest request = MockServerHttpRequest
+                        .post("/api/v1/jobpostings")
+                        .cookie(new HttpCookie("accessToken", token))
+                        .build();
+                filter.filter(MockServerWebExchange.from(request), chain).block();
+            }
+
+            verify(chain, times(2)).filter(captor.capture());
+            String first = captor.getAllValues().get(0).getRequest().getHeaders().getFirst("X-User-Identity");
+            String second = captor.getAllValues().get(1).getRequest().getHeaders().getFirst("X-User-Identity");
+            assertThat(second).isSameAs(first);
+        }
+
+        @Test
+        @DisplayName("토큰 없는 요청에 위조된 X-User-* 헤더가 있으면 제거한다")
+        void spoofed_headers_are_stripped() {
+            MockServerHttpRequest request = MockServerHttpRequest
+                    .get("/api/v1/jobpostings")
+                    .header("X-User-Id", "1")
+                    .header("X-User-Role", "ROLE_ADMIN")
+                    .header("X-User-Identity", "forged.value")
+                    .build();
+            MockServerWebExchange exchange = MockServerWebExchange.from(request);
+
+            filter.filter(exchange, chain).block();
+
+            ArgumentCaptor<ServerWebExchange> captor = ArgumentCaptor.forClass(ServerWebExchange.class);
+            verify(chain).filter(captor.capture());
+            HttpHeaders headers = captor.getValue().getRequest().getHeaders();
+            assertThat(headers.containsKey("X-User-Id")).isFalse();
+            assertThat(headers.containsKey("X-User-Role")).isFalse();
+            assertThat(headers.containsKey("X-User-Identity")).isFalse();
+        }
+    }
+
     @Test
     @DisplayName("필터 순서는 -100 (가장 먼저 실행)")
     void filter_order_is_negative_100() {
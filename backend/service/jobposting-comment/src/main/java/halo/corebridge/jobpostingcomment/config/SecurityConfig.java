@@ -2,6 +2,7 @@ package halo.corebridge.jobpostingcomment.config;
 
 import halo.corebridge.common.audit.filter.AuditLoggingFilter;
 import halo.corebridge.common.security.GatewayAuthenticationFilter;
+import halo.corebridge.common.security.GatewayIdentityVerifier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -21,6 +22,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
     private final AuditLoggingFilter auditLoggingFilter;
 
     @Bean
@@ -46,7 +48,7 @@ public class SecurityConfig {
 
     @Bean
     public GatewayAuthenticationFilter gatewayAuthenticationFilter() {
-        return new GatewayAuthenticationFilter();
+        return new GatewayAuthenticationFilter(gatewayIdentityVerifier);
     }
 
     @Bean
@@ -7,6 +7,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/comments")
@@ -45,4 +48,11 @@ public class CommentController {
     ) {
         return BaseResponse.success(commentService.readAll(jobpostingId, page, pageSize));
     }
+
+    @GetMapping("/counts")
+    public BaseResponse<Map<Long, Long>> counts(
+            @RequestParam("jobpostingIds") List<Long> jobpostingIds
+    ) {
+        return BaseResponse.success(commentService.counts(jobpostingIds));
+    }
 }
@@ -6,6 +6,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -56,4 +57,20 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
             @Param("jobpostingId") Long jobpostingId,
             @Param("limit") Long limit
     );
+
+    @Query(
+            value = "select c.jobpostingId as jobpostingId, count(c) as commentCount " +
+                    "from Comment c " +
+                    "where c.jobpostingId in :jobpostingIds and c.deleted = false " +
+                    "group by c.jobpostingId"
+    )
+    List<JobpostingCommentCount> countAllByJobpostingIds(
+            @Param("jobpostingIds") Collection<Long> jobpostingIds
+    );
+
+    interface JobpostingCommentCount {
+        Long getJobpostingId();
+
+        Long getCommentCount();
+    }
 }
@@ -10,11 +10,17 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 import static java.util.function.Predicate.not;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
+    private static final int MAX_BULK_COUNT_SIZE = 100;
+
     private final Snowflake snowflake = new Snowflake();
     private final CommentRepository commentRepository;
     private final OutboxEventPublisher outboxEventPublisher;
@@ -115,4 +121,21 @@ public class CommentService {
                 commentRepository.count(jobpostingId, PageLimitCalculator.calculatePageLimit(page, pageSize, 10L))
         );
     }
+
+    /**
+     * 채용공고별 댓글 수 일괄 조회 (삭제되지 않은 댓글, WHERE jobposting_id IN 단일 쿼리)
+     * - 댓글이 없는 채용공고는 0으로 채움
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> counts(List<Long> jobpostingIds) {
+        if (jobpostingIds.size() > MAX_BULK_COUNT_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 채용공고는 최대 " + MAX_BULK_COUNT_SIZE + "개입니다.");
+        }
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        jobpostingIds.forEach(jobpostingId -> counts.put(jobpostingId, 0L));
+        commentRepository.countAllByJobpostingIds(counts.keySet())
+                .forEach(count -> counts.put(count.getJobpostingId(), count.getCommentCount()));
+        return counts;
+    }
 }
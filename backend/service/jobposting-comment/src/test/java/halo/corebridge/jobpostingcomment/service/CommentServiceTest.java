@@ -12,7 +12,10 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -161,4 +164,31 @@ class CommentServiceTest {
         lenient().when(comment.getParentCommentId()).thenReturn(parentId);
         return comment;
     }
+
+    @Nested
+    @DisplayName("댓글 수 일괄 조회")
+    class CountsTests {
+
+        @Test
+        @DisplayName("성공: 댓글이 없는 채용공고는 0으로 채운다")
+        void counts_fillsMissingWithZero() {
+            CommentRepository.JobpostingCommentCount count = mock(CommentRepository.JobpostingCommentCount.class);
+            given(count.getJobpostingId()).willReturn(JOBPOSTING_ID);
+            given(count.getCommentCount()).willReturn(5L);
+            given(commentRepository.countAllByJobpostingIds(any())).willReturn(List.of(count));
+
+            Map<Long, Long> result = commentService.counts(List.of(JOBPOSTING_ID, 2L));
+
+            assertThat(result).containsEntry(JOBPOSTING_ID, 5L).containsEntry(2L, 0L);
+        }
+
+        @Test
+        @DisplayName("실패: 최대 개수를 넘으면 예외 발생")
+        void counts_tooManyIds_throws() {
+            List<Long> jobpostingIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+            assertThatThrownBy(() -> commentService.counts(jobpostingIds))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+    }
 }
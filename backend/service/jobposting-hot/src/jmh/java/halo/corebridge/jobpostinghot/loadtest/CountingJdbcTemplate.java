@@ -0,0 +1,32 @@
+package halo.corebridge.jobpostinghot.loadtest;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.util.Collection;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * DB 대역 (JobpostingHotWriter의 배치 upsert를 실행하지 않고 횟수만 셈)
+ */
+final class CountingJdbcTemplate extends JdbcTemplate {
+
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder rows = new LongAdder();
+
+    @Override
+    public <T> int[][] batchUpdate(String sql, Collection<T> batchArgs, int batchSize,
+                                   ParameterizedPreparedStatementSetter<T> pss) {
+        batches.increment();
+        rows.add(batchArgs.size());
+        return new int[0][];
+    }
+
+    long batches() {
+        return batches.sum();
+    }
+
+    long rows() {
+        return rows.sum();
+    }
+}
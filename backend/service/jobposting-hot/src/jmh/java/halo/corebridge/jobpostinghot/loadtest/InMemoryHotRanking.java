@@ -0,0 +1,205 @@
+package halo.corebridge.jobpostinghot.loadtest;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.LongSupplier;
+
+/**
+ * JobpostingHotRanking의 인프로세스 대역 (Redis 없이 하네스 실행)
+ *
+ * Lua 스크립트와 같은 의미를 공고별 원자 연산(ConcurrentHashMap.compute)으로 흉내 냅니다.
+ * - 순위에 없는 공고의 통계 이벤트는 무시하고, 값이 바뀔 때만 dirty/변경 번호 표시
+ * - roundTripNanos > 0이면 호출마다 그만큼 쉬어 Redis 왕복 시간을 흉내 냅니다.
+ * - dirty로 처음 표시된 시각(이벤트 발행 시각)을 기억해 drainDirty 때 DB 스냅샷까지의 지연을 기록합니다.
+ */
+final class InMemoryHotRanking extends JobpostingHotRanking {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::jobpostingId);
+
+    private final Map<LocalDate, Map<Long, Entry>> postings = new ConcurrentHashMap<>();
+    private final Map<LocalDate, Map<Long, Long>> dirtySince = new ConcurrentHashMap<>();
+    private final Map<LocalDate, Map<Long, Long>> changes = new ConcurrentHashMap<>();
+    private final AtomicLong seq = new AtomicLong();
+    private final long roundTripNanos;
+    private final LongSupplier eventNanos;
+    private final Latencies snapshotLag = new Latencies();
+
+    /**
+     * @param eventNanos 지금 처리 중인 이벤트의 발행 시각 (System.nanoTime 기준)
+     */
+    InMemoryHotRanking(long roundTripNanos, LongSupplier eventNanos) {
+        super(new StringRedisTemplate(), 48);
+        this.roundTripNanos = roundTripNanos;
+        this.eventNanos = eventNanos;
+    }
+
+    /**
+     * 첫 변경 → 스냅샷으로 꺼내기까지 걸린 시간 (스냅샷 스레드에서만 기록)
+     */
+    Latencies snapshotLag() {
+        return snapshotLag;
+    }
+
+    @Override
+    public void add(LocalDate date, Long jobpostingId, String title, Long boardId, List<String> skills) {
+        roundTrip();
+        if (postings(date).putIfAbsent(jobpostingId, Entry.of(jobpostingId, title, boardId, skills, 0, 0, 0)) == null) {
+            dirty(date, jobpostingId);
+        }
+    }
+
+    @Override
+    public void put(LocalDate date, Entry entry) {
+        roundTrip();
+        postings(date).put(entry.jobpostingId(), Entry.of(entry.jobpostingId(), entry.title(), entry.boardId(),
+                entry.skills(), entry.likeCount(), entry.commentCount(), entry.viewCount()));
+        dirty(date, entry.jobpostingId());
+    }
+
+    @Override
+    public boolean describe(LocalDate date, Long jobpostingId, String title, Long boardId, List<String> skills) {
+        roundTrip();
+        Entry updated = postings(date).computeIfPresent(jobpostingId, (id, current) -> new Entry(id, title, boardId,
+                current.likeCount(), current.commentCount(), current.viewCount(), current.score(), skills));
+        if (updated == null) {
+            return false;
+        }
+        dirty(date, jobpostingId);
+        return true;
+    }
+
+    @Override
+    public boolean set(LocalDate date, Long jobpostingId, Counter counter, long value) {
+        return count(date, jobpostingId, counter, value, false);
+    }
+
+    @Override
+    public boolean increment(LocalDate date, Long jobpostingId, Counter counter, long delta) {
+        return count(date, jobpostingId, counter, delta, true);
+    }
+
+    @Override
+    public void remove(LocalDate date, Long jobpostingId) {
+        roundTrip();
+        if (postings(date).remove(jobpostingId) != null) {
+            changes(date).put(jobpostingId, seq.incrementAndGet());
+        }
+        dirtySince(date).remove(jobpostingId);
+    }
+
+    @Override
+    public List<Entry> top(LocalDate date, int limit) {
+        roundTrip();
+        return postings(date).values().stream().sorted(ORDER).limit(Math.max(limit, 0)).toList();
+    }
+
+    @Override
+    public List<Entry> all(LocalDate date) {
+        return top(date, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public Map<Long, Entry> entries(LocalDate date, Collection<Long> jobpostingIds) {
+        roundTrip();
+        Map<Long, Entry> current = postings(date);
+        Map<Long, Entry> entries = new LinkedHashMap<>();
+        for (Long jobpostingId : jobpostingIds) {
+            Entry entry = current.get(jobpostingId);
+            if (entry != null) {
+                entries.put(jobpostingId, entry);
+            }
+        }
+        return entries;
+    }
+
+    @Override
+    public long changeSeq(LocalDate date) {
+        roundTrip();
+        return seq.get();
+    }
+
+    @Override
+    public Changes changesSince(LocalDate date, long afterSeq, int limit) {
+        roundTrip();
+        List<Map.Entry<Long, Long>> changed = changes(date).entrySet().stream()
+                .filter(change -> change.getValue() > afterSeq)
+                .sorted(Map.Entry.comparingByValue())
+                .limit(limit)
+                .toList();
+        long lastSeq = changed.isEmpty() ? afterSeq : changed.get(changed.size() - 1).getValue();
+        return new Changes(changed.stream().map(Map.Entry::getKey).toList(), lastSeq);
+    }
+
+    @Override
+    public List<Long> drainDirty(LocalDate date, int limit) {
+        roundTrip();
+        long now = System.nanoTime();
+        List<Long> drained = new ArrayList<>(Math.min(limit, 1024));
+        Iterator<Map.Entry<Long, Long>> iterator = dirtySince(date).entrySet().iterator();
+        while (drained.size() < limit && iterator.hasNext()) {
+            Map.Entry<Long, Long> dirty = iterator.next();
+            iterator.remove();
+            drained.add(dirty.getKey());
+            snapshotLag.record(now - dirty.getValue());
+        }
+        return drained;
+    }
+
+    @Override
+    public void markDirty(LocalDate date, Collection<Long> jobpostingIds) {
+        jobpostingIds.forEach(jobpostingId -> dirty(date, jobpostingId));
+    }
+
+    private boolean count(LocalDate date, Long jobpostingId, Counter counter, long value, boolean incremental) {
+        roundTrip();
+        boolean[] changed = {false};
+        Entry updated = postings(date).computeIfPresent(jobpostingId, (id, current) -> {
+            long next = incremental ? Math.max(0, current.count(counter) + value) : value;
+            if (next == current.count(counter)) {
+                return current;
+            }
+            changed[0] = true;
+            return current.with(counter, next);
+        });
+        if (changed[0]) {
+            dirty(date, jobpostingId);
+        }
+        return updated != null;
+    }
+
+    private void dirty(LocalDate date, Long jobpostingId) {
+        dirtySince(date).putIfAbsent(jobpostingId, eventNanos.getAsLong());
+        changes(date).put(jobpostingId, seq.incrementAndGet());
+    }
+
+    private Map<Long, Entry> postings(LocalDate date) {
+        return postings.computeIfAbsent(date, key -> new ConcurrentHashMap<>());
+    }
+
+    private Map<Long, Long> dirtySince(LocalDate date) {
+        return dirtySince.computeIfAbsent(date, key -> new ConcurrentHashMap<>());
+    }
+
+    private Map<Long, Long> changes(LocalDate date) {
+        return changes.computeIfAbsent(date, key -> new ConcurrentHashMap<>());
+    }
+
+    private void roundTrip() {
+        if (roundTripNanos > 0) {
+            LockSupport.parkNanos(roundTripNanos);
+        }
+    }
+}
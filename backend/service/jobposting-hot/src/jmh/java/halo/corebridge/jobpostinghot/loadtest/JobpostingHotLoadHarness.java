@@ -0,0 +1,336 @@
+package halo.corebridge.jobpostinghot.loadtest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import halo.corebridge.common.dataserializer.DataSerializer;
+import halo.corebridge.common.event.CommentCreatedEventPayload;
+import halo.corebridge.common.event.Event;
+import halo.corebridge.common.event.EventHandler;
+import halo.corebridge.common.event.EventType;
+import halo.corebridge.common.event.JobpostingLikedEventPayload;
+import halo.corebridge.common.event.JobpostingViewedEventPayload;
+import halo.corebridge.common.event.idempotency.IdempotencyChecker;
+import halo.corebridge.common.event.idempotency.ProcessedEventRepository;
+import halo.corebridge.jobpostinghot.consumer.JobpostingHotEventConsumer;
+import halo.corebridge.jobpostinghot.handler.JobpostingHotEventHandler;
+import halo.corebridge.jobpostinghot.repository.JobpostingHotRepository;
+import halo.corebridge.jobpostinghot.service.JobpostingHotIndex;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Entry;
+import halo.corebridge.jobpostinghot.service.JobpostingHotService;
+import halo.corebridge.jobpostinghot.service.JobpostingHotVersions;
+import halo.corebridge.jobpostinghot.service.JobpostingHotWriter;
+import org.slf4j.LoggerFactory;
+
+import java.lang.reflect.Proxy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 인기 공고 이벤트 파이프라인 부하 하네스
+ *
+ * Kafka 메시지(JSON) → JobpostingHotEventConsumer → JobpostingHotEventHandler → 순위/인덱스 → 스냅샷 DB 저장을
+ * 한 프로세스 안에서 돌립니다. 소비자/핸들러/인덱스/스냅샷 저장은 실제 클래스이고, 바깥 의존성만 대역입니다.
+ * - Kafka: jobpostingId로 파티션을 나눈 큐 (파티션당 소비 스레드 1개, consumers = 리스너 concurrency)
+ * - Redis: InMemoryHotRanking (redis-rtt-micros로 호출당 왕복 시간 흉내)
+ * - DB: CountingJdbcTemplate(jobposting_hot upsert), ProcessedEventRepository 프록시(processed_event insert)
+ *
+ * 이벤트는 Zipf 분포로 인기 공고에 몰리며 조회 90% / 좋아요 8% / 댓글 2% 비율입니다.
+ * 보고 항목: 처리량(events/s), 발행 → TOP N 반영 지연, 발행 → DB 스냅샷 반영 지연, DB 쓰기 증폭(이벤트당 행 수)
+ *
+ * 실행: sh gradlew :service:jobposting-hot:hotLoadHarness --args="--events=500000 --consumers=3"
+ * 옵션 (--key=value): events, warmup-events, postings, zipf, consumers, rate(초당 발행, 0 = 최대),
+ * redis-rtt-micros, snapshot-interval-ms, snapshot-batch-size, readers, logging(true면 INFO 로그 유지)
+ *
+ * 측정 결과 (JDK 21, 1 vCPU 컨테이너, rate=0으로 최대 발행, 공고 10,000건, zipf=1.0, 워밍업 50,000건)
+ * | 옵션                                   | 처리량         | TOP N 반영 p50 / p99 | DB 스냅샷 p50 / p99 | DB 행/이벤트 |
+ * | --events=500000 --consumers=3          | 43,276 events/s | 29ms / 1,148ms      | 921ms / 2,044ms     | 1.15        |
+ * | --events=200000 --consumers=3 --redis-rtt-micros=200 | 7,764 events/s | 1,633ms / 3,935ms | 2,018ms / 4,757ms | 1.30 |
+ * 최대 발행이라 반영 지연은 큐 적체를 포함합니다. (실제 유입 속도의 지연은 --rate로 측정)
+ * Redis 왕복 시간이 들어가면 처리량은 호출 수에 묶이고, 스냅샷 병합으로 DB 쓰기는 이벤트당 2행 대비 35~42% 줄어듭니다.
+ */
+public final class JobpostingHotLoadHarness {
+
+    private static final String CONSUMER_GROUP = "jobposting-hot-group";
+    private static final Message END = new Message(null, 0L, 0L);
+
+    private final Options options;
+
+    private JobpostingHotLoadHarness(Options options) {
+        this.options = options;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Options options = Options.parse(args);
+        if (!options.logging()) {
+            // 메시지마다 찍히는 INFO 로그는 처리량을 크게 깎으므로 기본은 끄고, 비교할 때만 켭니다.
+            ((Logger) LoggerFactory.getLogger("halo.corebridge")).setLevel(Level.WARN);
+        }
+        System.out.println("[HotLoad] " + options);
+
+        JobpostingHotLoadHarness harness = new JobpostingHotLoadHarness(options);
+        if (options.warmupEvents() > 0) {
+            harness.run(options.warmupEvents(), 1L);
+        }
+        harness.run(options.events(), 2L).print(options);
+    }
+
+    /**
+     * 공고 postings개를 순위/인덱스에 올린 뒤 events개를 흘려보냄 (실행마다 새 파이프라인)
+     */
+    private Result run(int events, long seed) throws InterruptedException {
+        LocalDate today = LocalDate.now();
+        ThreadLocal<Long> eventNanos = ThreadLocal.withInitial(System::nanoTime);
+        InMemoryHotRanking ranking = new InMemoryHotRanking(
+                TimeUnit.MICROSECONDS.toNanos(options.redisRttMicros()), () -> eventNanos.get());
+        JobpostingHotIndex index = new JobpostingHotIndex(ranking, 100, Math.max(options.postings(), 100), 5000);
+        CountingJdbcTemplate jdbcTemplate = new CountingJdbcTemplate();
+        JobpostingHotService service = new JobpostingHotService(null, null, null, null, null, null,
+                ranking, index, null, new JobpostingHotWriter(jdbcTemplate), null, null);
+
+        ProcessedEvents processedEvents = new ProcessedEvents();
+        JobpostingHotEventHandler handler = new JobpostingHotEventHandler(
+                unsupported(JobpostingHotRepository.class), new JobpostingHotVersions(5), ranking, index);
+        JobpostingHotEventConsumer consumer = new JobpostingHotEventConsumer(
+                List.<EventHandler<?>>of(handler), new IdempotencyChecker(Optional.of(processedEvents.repository())));
+
+        for (long jobpostingId = 1; jobpostingId <= options.postings(); jobpostingId++) {
+            ranking.put(today, Entry.of(jobpostingId, "공고 " + jobpostingId, jobpostingId % 5 + 1,
+                    List.of(), 0L, 0L, 0L));
+        }
+        index.resync();
+        ranking.drainDirty(today, Integer.MAX_VALUE);
+        ranking.snapshotLag().clear();
+
+        List<Message> messages = generate(events, seed);
+        int partitions = options.consumers();
+        List<BlockingQueue<Message>> queues = new ArrayList<>();
+        List<Latencies> freshness = new ArrayList<>();
+        List<Thread> consumers = new ArrayList<>();
+        for (int partition = 0; partition < partitions; partition++) {
+            BlockingQueue<Message> queue = new ArrayBlockingQueue<>(10_000);
+            Latencies latencies = new Latencies();
+            queues.add(queue);
+            freshness.add(latencies);
+            consumers.add(Thread.ofPlatform().name("hot-consumer-" + partition).start(() -> {
+                try {
+                    for (Message message = queue.take(); message != END; message = queue.take()) {
+                        eventNanos.set(message.publishedNanos());
+                        consumer.consume(message.payload());
+                        latencies.record(System.nanoTime() - message.publishedNanos());
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }));
+        }
+
+        AtomicBoolean running = new AtomicBoolean(true);
+        LongAdder reads = new LongAdder();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < options.readers(); i++) {
+            readers.add(Thread.ofPlatform().name("hot-reader-" + i).daemon().start(() -> {
+                while (running.get()) {
+                    index.top(10);
+                    reads.increment();
+                }
+            }));
+        }
+        Thread snapshotter = Thread.ofPlatform().name("hot-snapshot").daemon().start(() -> {
+            while (running.get()) {
+                LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(options.snapshotIntervalMs()));
+                flush(service, today);
+            }
+        });
+
+        long startNanos = System.nanoTime();
+        double intervalNanos = options.rate() > 0 ? 1e9 / options.rate() : 0;
+        for (int i = 0; i < messages.size(); i++) {
+            if (intervalNanos > 0) {
+                long due = startNanos + (long) (i * intervalNanos);
+                for (long now = System.nanoTime(); now < due; now = System.nanoTime()) {
+                    LockSupport.parkNanos(due - now);
+                }
+            }
+            Message message = messages.get(i);
+            queues.get((int) Math.floorMod(message.jobpostingId(), (long) partitions))
+                    .put(new Message(message.payload(), message.jobpostingId(), System.nanoTime()));
+        }
+        for (BlockingQueue<Message> queue : queues) {
+            queue.put(END);
+        }
+        for (Thread thread : consumers) {
+            thread.join();
+        }
+        long elapsedNanos = System.nanoTime() - startNanos;
+
+        running.set(false);
+        snapshotter.join();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+        // 남은 변경 마저 저장 (스케줄러의 다음 주기에 해당)
+        flush(service, today);
+
+        Latencies rankingLag = new Latencies();
+        freshness.forEach(rankingLag::merge);
+        return new Result(events, elapsedNanos, reads.sum(), rankingLag, ranking.snapshotLag(),
+                jdbcTemplate.rows(), jdbcTemplate.batches(), processedEvents.inserts(), processedEvents.lookups());
+    }
+
+    /**
+     * JobpostingHotSnapshotScheduler와 같이 남은 변경이 없을 때까지 batch 단위로 저장
+     */
+    private void flush(JobpostingHotService service, LocalDate today) {
+        while (service.persistSnapshot(today, options.snapshotBatchSize()) == options.snapshotBatchSize()) {
+            // 다음 batch
+        }
+    }
+
+    /**
+     * Outbox가 발행하는 형태의 메시지 (조회/좋아요 수는 공고별 누적값, 댓글은 +1 이벤트)
+     */
+    private List<Message> generate(int events, long seed) {
+        ZipfianGenerator zipf = new ZipfianGenerator(options.postings(), options.zipf(), seed);
+        long[] views = new long[options.postings() + 1];
+        long[] likes = new long[options.postings() + 1];
+        List<Message> messages = new ArrayList<>(events);
+        for (int i = 0; i < events; i++) {
+            int jobpostingId = zipf.next();
+            double kind = zipf.nextDouble();
+            Event<?> event;
+            if (kind < 0.90) {
+                event = Event.of(UUID.randomUUID().toString(), EventType.JOBPOSTING_VIEWED,
+                        new JobpostingViewedEventPayload((long) jobpostingId, ++views[jobpostingId]));
+            } else if (kind < 0.98) {
+                event = Event.of(UUID.randomUUID().toString(), EventType.JOBPOSTING_LIKED,
+                        new JobpostingLikedEventPayload((long) jobpostingId, (long) i, ++likes[jobpostingId]));
+            } else {
+                event = Event.of(UUID.randomUUID().toString(), EventType.COMMENT_CREATED,
+                        new CommentCreatedEventPayload((long) i, (long) jobpostingId, (long) i, "댓글 " + i));
+            }
+            messages.add(new Message(DataSerializer.serialize(event), jobpostingId, 0L));
+        }
+        return messages;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> T unsupported(Class<T> type) {
+        return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return objectMethod(proxy, method.getName(), args);
+            }
+            throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+        });
+    }
+
+    private static Object objectMethod(Object proxy, String name, Object[] args) {
+        return switch (name) {
+            case "equals" -> proxy == args[0];
+            case "hashCode" -> System.identityHashCode(proxy);
+            default -> "stand-in";
+        };
+    }
+
+    private record Message(String payload, long jobpostingId, long publishedNanos) {
+    }
+
+    /**
+     * processed_event 테이블 대역 (조회는 항상 미처리, 저장 횟수만 셈)
+     */
+    private static final class ProcessedEvents {
+
+        private final LongAdder lookups = new LongAdder();
+        private final LongAdder inserts = new LongAdder();
+
+        ProcessedEventRepository repository() {
+            return (ProcessedEventRepository) Proxy.newProxyInstance(ProcessedEventRepository.class.getClassLoader(),
+                    new Class<?>[]{ProcessedEventRepository.class}, (proxy, method, args) -> {
+                        if (method.getDeclaringClass() == Object.class) {
+                            return objectMethod(proxy, method.getName(), args);
+                        }
+                        return switch (method.getName()) {
+                            case "existsByEventIdAndConsumerGroup" -> {
+                                lookups.increment();
+                                yield false;
+                            }
+                            case "save" -> {
+                                inserts.increment();
+                                yield args[0];
+                            }
+                            default -> throw new UnsupportedOperationException(
+                                    "ProcessedEventRepository." + method.getName());
+                        };
+                    });
+        }
+
+        long lookups() {
+            return lookups.sum();
+        }
+
+        long inserts() {
+            return inserts.sum();
+        }
+    }
+
+    private record Result(int events, long elapsedNanos, long reads, Latencies rankingLag, Latencies snapshotLag,
+                          long hotRows, long hotBatches, long processedInserts, long processedLookups) {
+
+        void print(Options options) {
+            double seconds = elapsedNanos / 1e9;
+            System.out.printf("[HotLoad] events=%d, elapsed=%.2fs, throughput=%.0f events/s, top-n reads=%.0f/s%n",
+                    events, seconds, events / seconds, reads / seconds);
+            System.out.println("[HotLoad] 발행 → TOP N 반영: " + rankingLag.summary());
+            System.out.println("[HotLoad] 발행 → DB 스냅샷 반영 (interval=" + options.snapshotIntervalMs() + "ms): "
+                    + snapshotLag.summary());
+            System.out.printf("[HotLoad] jobposting_hot upsert: rows=%d (%.4f/event), batches=%d%n",
+                    hotRows, (double) hotRows / events, hotBatches);
+            System.out.printf("[HotLoad] processed_event: lookups=%d, inserts=%d (%.2f/event)%n",
+                    processedLookups, processedInserts, (double) processedInserts / events);
+            System.out.printf("[HotLoad] DB 쓰기 행/이벤트: %.4f (이벤트마다 jobposting_hot 1행 저장 시 %.2f)%n",
+                    (double) (hotRows + processedInserts) / events, 1.0 + (double) processedInserts / events);
+        }
+    }
+
+    private record Options(int events, int warmupEvents, int postings, double zipf, int consumers, int rate,
+                           long redisRttMicros, long snapshotIntervalMs, int snapshotBatchSize, int readers,
+                           boolean logging) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("--key=value 형식이어야 합니다: " + arg);
+                }
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            Options options = new Options(
+                    Integer.parseInt(values.getOrDefault("events", "300000")),
+                    Integer.parseInt(values.getOrDefault("warmup-events", "50000")),
+                    Integer.parseInt(values.getOrDefault("postings", "10000")),
+                    Double.parseDouble(values.getOrDefault("zipf", "1.0")),
+                    Integer.parseInt(values.getOrDefault("consumers", "1")),
+                    Integer.parseInt(values.getOrDefault("rate", "0")),
+                    Long.parseLong(values.getOrDefault("redis-rtt-micros", "0")),
+                    Long.parseLong(values.getOrDefault("snapshot-interval-ms", "1000")),
+                    Integer.parseInt(values.getOrDefault("snapshot-batch-size", "500")),
+                    Integer.parseInt(values.getOrDefault("readers", "1")),
+                    Boolean.parseBoolean(values.getOrDefault("logging", "false")));
+            if (options.events() <= 0 || options.postings() <= 0 || options.consumers() <= 0
+                    || options.snapshotIntervalMs() <= 0 || options.snapshotBatchSize() <= 0) {
+                throw new IllegalArgumentException("events/postings/consumers/snapshot 옵션은 0보다 커야 합니다: " + options);
+            }
+            return options;
+        }
+    }
+}
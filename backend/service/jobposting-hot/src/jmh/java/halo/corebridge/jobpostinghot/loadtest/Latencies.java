@@ -0,0 +1,51 @@
+package halo.corebridge.jobpostinghot.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * 지연 시간 표본 (스레드 하나가 기록, 끝나고 merge로 합침)
+ */
+final class Latencies {
+
+    private long[] samples = new long[1024];
+    private int size;
+
+    void record(long nanos) {
+        if (size == samples.length) {
+            samples = Arrays.copyOf(samples, size * 2);
+        }
+        samples[size++] = nanos;
+    }
+
+    void merge(Latencies other) {
+        for (int i = 0; i < other.size; i++) {
+            record(other.samples[i]);
+        }
+    }
+
+    void clear() {
+        size = 0;
+    }
+
+    int count() {
+        return size;
+    }
+
+    /**
+     * "p50=.. p99=.. max=.." (ms, 표본이 없으면 "-")
+     */
+    String summary() {
+        if (size == 0) {
+            return "-";
+        }
+        long[] sorted = Arrays.copyOf(samples, size);
+        Arrays.sort(sorted);
+        return "p50=%.2fms p99=%.2fms p99.9=%.2fms max=%.2fms (n=%d)".formatted(
+                millis(sorted, 0.50), millis(sorted, 0.99), millis(sorted, 0.999), sorted[size - 1] / 1e6, size);
+    }
+
+    private static double millis(long[] sorted, double quantile) {
+        int index = (int) Math.min(sorted.length - 1, Math.ceil(quantile * sorted.length) - 1);
+        return sorted[Math.max(index, 0)] / 1e6;
+    }
+}
@@ -0,0 +1,42 @@
+package halo.corebridge.jobpostinghot.loadtest;
+
+import java.util.Arrays;
+import java.util.SplittableRandom;
+
+/**
+ * 1 ~ n 사이 Zipf 분포 (k번째 공고가 1/k^s에 비례해 뽑힘, 인기 공고에 이벤트가 몰리는 상황)
+ * 누적 분포를 미리 만들어 두고 이진 탐색으로 뽑습니다.
+ */
+final class ZipfianGenerator {
+
+    private final double[] cumulative;
+    private final SplittableRandom random;
+
+    ZipfianGenerator(int n, double exponent, long seed) {
+        if (n <= 0) {
+            throw new IllegalArgumentException("n은 0보다 커야 합니다: " + n);
+        }
+        cumulative = new double[n];
+        double sum = 0;
+        for (int k = 1; k <= n; k++) {
+            sum += 1.0 / Math.pow(k, exponent);
+            cumulative[k - 1] = sum;
+        }
+        for (int i = 0; i < n; i++) {
+            cumulative[i] /= sum;
+        }
+        random = new SplittableRandom(seed);
+    }
+
+    /**
+     * 1 ~ n (1이 가장 자주 나옴)
+     */
+    int next() {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1;
+    }
+
+    double nextDouble() {
+        return random.nextDouble();
+    }
+}
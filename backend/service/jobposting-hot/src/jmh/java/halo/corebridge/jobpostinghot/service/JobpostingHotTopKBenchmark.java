@@ -0,0 +1,88 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Counter;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Entry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TOP N 조회 비교: 매 요청 전체 정렬 vs JobpostingHotTopK 스냅샷
+ *
+ * 조회수 이벤트 반영(set)과 TOP 10 조회를 여러 스레드에서 동시에 수행합니다.
+ * 조회수는 상위 공고일수록 자주 바뀌도록 제곱 분포로 고릅니다. (스냅샷 재생성이 일어나는 경우 포함)
+ * 실행: sh gradlew :service:jobposting-hot:jmh
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobpostingHotTopKBenchmark {
+
+    private static final int LIMIT = 10;
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::jobpostingId);
+
+    @Param({"1000", "100000"})
+    int entries;
+
+    private final Map<Long, Entry> map = new ConcurrentHashMap<>();
+    private JobpostingHotTopK topK;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        topK = new JobpostingHotTopK(100, entries);
+        List<Entry> all = new ArrayList<>(entries);
+        for (long id = 1; id <= entries; id++) {
+            Entry entry = Entry.of(id, "공고 " + id, 1L, id % 50, id % 20, id);
+            all.add(entry);
+            map.put(id, entry);
+        }
+        topK.replaceAll(all);
+    }
+
+    @Benchmark
+    public boolean topK_update() {
+        long id = randomId();
+        return topK.set(id, Counter.VIEW, ThreadLocalRandom.current().nextLong(2L * entries));
+    }
+
+    @Benchmark
+    public List<Entry> topK_read() {
+        return topK.top(LIMIT);
+    }
+
+    @Benchmark
+    public Entry map_update() {
+        long id = randomId();
+        return map.computeIfPresent(id, (k, entry) ->
+                entry.with(Counter.VIEW, ThreadLocalRandom.current().nextLong(2L * entries)));
+    }
+
+    @Benchmark
+    public List<Entry> map_read() {
+        return map.values().stream()
+                .sorted(ORDER)
+                .limit(LIMIT)
+                .toList();
+    }
+
+    // 큰 id(점수가 높은 공고)에 치우친 분포
+    private long randomId() {
+        double r = ThreadLocalRandom.current().nextDouble();
+        return entries - (long) (r * r * entries);
+    }
+}
@@ -1,5 +1,6 @@
 package halo.corebridge.jobpostinghot.client;
 
+import halo.corebridge.common.concurrent.SingleFlight;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +21,9 @@ import java.util.Map;
 public class JobpostingClient {
     
     private final RestTemplate restTemplate;
+
+    // 같은 공고에 대한 동시 조회는 한 번만 호출
+    private final SingleFlight<Long, JobpostingResponse> readFlight = new SingleFlight<>();
     
     @Value("${client.jobposting.url:http://localhost:8001}")
     private String jobpostingServiceUrl;
@@ -28,8 +32,35 @@ public class JobpostingClient {
      * 단일 채용공고 조회
      */
     public JobpostingResponse read(Long jobpostingId) {
+        return readFlight.execute(jobpostingId, () -> {
+            try {
+                String url = jobpostingServiceUrl + "/api/v1/jobpostings/" + jobpostingId;
+                ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                    url, HttpMethod.GET, null, 
+                    new ParameterizedTypeReference<Map<String, Object>>() {}
+                );
+            
+                Map<String, Object> body = response.getBody();
+                if (body != null && body.get("result") != null) {
+                    Map<String, Object> result = (Map<String, Object>) body.get("result");
+                    return mapToJobpostingResponse(result);
+                }
+                return null;
+            } catch (Exception e) {
+                log.error("Failed to fetch jobposting: {}", jobpostingId, e);
+                return null;
+            }
+        });
+    }
+
+    /**
+     * 게시판별 채용공고 목록 조회
+     */
+    public JobpostingPageResponse readAll(Long boardId, Long page, Long pageSize) {
         try {
-            String url = jobpostingServiceUrl + "/api/v1/jobpostings/" + jobpostingId;
+            String url = String.format("%s/api/v1/jobpostings?boardId=%d&page=%d&pageSize=%d",
+                    jobpostingServiceUrl, boardId, page, pageSize);
+            
             ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
                 url, HttpMethod.GET, null, 
                 new ParameterizedTypeReference<Map<String, Object>>() {}
@@ -38,36 +69,43 @@ public class JobpostingClient {
             Map<String, Object> body = response.getBody();
             if (body != null && body.get("result") != null) {
                 Map<String, Object> result = (Map<String, Object>) body.get("result");
-                return mapToJobpostingResponse(result);
+                return mapToPageResponse(result);
             }
             return null;
         } catch (Exception e) {
-            log.error("Failed to fetch jobposting: {}", jobpostingId, e);
+            log.error("Failed to fetch jobpostings: boardId={}", boardId, e);
             return null;
         }
     }
 
     /**
-     * 게시판별 채용공고 목록 조회
+     * 전체 채용공고 스크롤 조회 (모든 게시판, jobpostingId 내림차순)
+     * @param lastJobpostingId 이전 페이지 마지막 ID (첫 페이지는 null)
+     * @return 조회 실패 시 null (빈 목록 = 마지막 페이지 이후)
      */
-    public JobpostingPageResponse readAll(Long boardId, Long page, Long pageSize) {
+    public List<JobpostingResponse> readAllScroll(Long lastJobpostingId, Long pageSize) {
         try {
-            String url = String.format("%s/api/v1/jobpostings?boardId=%d&page=%d&pageSize=%d",
-                    jobpostingServiceUrl, boardId, page, pageSize);
-            
+            String url = lastJobpostingId == null
+                    ? String.format("%s/api/v1/jobpostings/scroll?pageSize=%d", jobpostingServiceUrl, pageSize)
+                    : String.format("%s/api/v1/jobpostings/scroll?lastJobpostingId=%d&pageSize=%d",
+                            jobpostingServiceUrl, lastJobpostingId, pageSize);
+
             ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                url, HttpMethod.GET, null, 
+                url, HttpMethod.GET, null,
                 new ParameterizedTypeReference<Map<String, Object>>() {}
             );
-            
+
             Map<String, Object> body = response.getBody();
             if (body != null && body.get("result") != null) {
                 Map<String, Object> result = (Map<String, Object>) body.get("result");
-                return mapToPageResponse(result);
+                List<Map<String, Object>> jobpostings = (List<Map<String, Object>>) result.get("jobpostings");
+                return jobpostings == null ? List.of() : jobpostings.stream()
+                        .map(this::mapToJobpostingResponse)
+                        .toList();
             }
             return null;
         } catch (Exception e) {
-            log.error("Failed to fetch jobpostings: boardId={}", boardId, e);
+            log.error("Failed to scroll jobpostings: lastJobpostingId={}", lastJobpostingId, e);
             return null;
         }
     }
@@ -79,6 +117,9 @@ public class JobpostingClient {
         response.setContent((String) map.get("content"));
         response.setBoardId(getLong(map, "boardId"));
         response.setUserId(getLong(map, "userId"));
+        if (map.get("requiredSkills") instanceof List<?> skills) {
+            response.setRequiredSkills(skills.stream().map(String::valueOf).toList());
+        }
         return response;
     }
 
@@ -113,6 +154,7 @@ public class JobpostingClient {
         private String content;
         private Long boardId;
         private Long userId;
+        private List<String> requiredSkills;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
     }
@@ -1,5 +1,6 @@
 package halo.corebridge.jobpostinghot.client;
 
+import halo.corebridge.common.concurrent.SingleFlight;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -9,40 +10,104 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class LikeClient {
     
+    // 통계 서비스 일괄 조회 한도 (각 서비스의 MAX_BULK_COUNT_SIZE와 같은 값)
+    private static final int MAX_BULK_COUNT_SIZE = 100;
+
     private final RestTemplate restTemplate;
+
+    // 같은 공고(또는 같은 ID 묶음)에 대한 동시 조회는 한 번만 호출
+    private final SingleFlight<Long, Long> countFlight = new SingleFlight<>();
+    private final SingleFlight<List<Long>, Map<Long, Long>> countsFlight = new SingleFlight<>();
     
     @Value("${client.like.url:http://localhost:8005}")
     private String likeServiceUrl;
 
     public Long count(Long jobpostingId) {
-        try {
-            String url = likeServiceUrl + "/api/v1/jobposting-likes/jobpostings/" + jobpostingId + "/count";
+        return countFlight.execute(jobpostingId, () -> {
+            try {
+                String url = likeServiceUrl + "/api/v1/jobposting-likes/jobpostings/" + jobpostingId + "/count";
             
-            // BaseResponse 형태로 받기
-            ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    null,
-                    new ParameterizedTypeReference<Map<String, Object>>() {}
-            );
+                // BaseResponse 형태로 받기
+                ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                        url,
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<Map<String, Object>>() {}
+                );
             
-            if (response.getBody() != null && response.getBody().get("result") != null) {
-                Object result = response.getBody().get("result");
-                if (result instanceof Number) {
-                    return ((Number) result).longValue();
+                if (response.getBody() != null && response.getBody().get("result") != null) {
+                    Object result = response.getBody().get("result");
+                    if (result instanceof Number) {
+                        return ((Number) result).longValue();
+                    }
                 }
+                return 0L;
+            } catch (Exception e) {
+                log.warn("Failed to fetch like count for jobposting: {}, error: {}", jobpostingId, e.getMessage());
+                return 0L;
+            }
+        });
+    }
+
+    /**
+     * 여러 채용공고의 좋아요 수 일괄 조회 (최대 {@value #MAX_BULK_COUNT_SIZE}개씩 나눠 요청)
+     * 응답에 없는 ID는 0으로 간주합니다.
+     * @return 한 묶음이라도 실패하면 null (0으로 덮어쓰지 않도록 호출 측에서 구분)
+     */
+    public Map<Long, Long> counts(Collection<Long> jobpostingIds) {
+        if (jobpostingIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Long> ids = List.copyOf(jobpostingIds);
+        Map<Long, Long> counts = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += MAX_BULK_COUNT_SIZE) {
+            Map<Long, Long> batch = fetchCounts(ids.subList(from, Math.min(from + MAX_BULK_COUNT_SIZE, ids.size())));
+            if (batch == null) {
+                return null;
             }
-            return 0L;
-        } catch (Exception e) {
-            log.warn("Failed to fetch like count for jobposting: {}, error: {}", jobpostingId, e.getMessage());
-            return 0L;
+            counts.putAll(batch);
         }
+        return counts;
+    }
+
+    private Map<Long, Long> fetchCounts(List<Long> jobpostingIds) {
+        return countsFlight.execute(List.copyOf(jobpostingIds), () -> {
+            try {
+                String url = likeServiceUrl + "/api/v1/jobposting-likes/jobpostings/counts?jobpostingIds=" + jobpostingIds.stream()
+                        .map(String::valueOf)
+                        .collect(Collectors.joining(","));
+
+                ResponseEntity<Map<String, Object>> response = restTemplate.exchange(
+                        url,
+                        HttpMethod.GET,
+                        null,
+                        new ParameterizedTypeReference<Map<String, Object>>() {}
+                );
+
+                Map<Long, Long> counts = new HashMap<>();
+                if (response.getBody() != null && response.getBody().get("result") instanceof Map<?, ?> result) {
+                    result.forEach((key, value) -> {
+                        if (value instanceof Number number) {
+                            counts.put(Long.valueOf(String.valueOf(key)), number.longValue());
+                        }
+                    });
+                }
+                return counts;
+            } catch (Exception e) {
+                log.warn("Failed to fetch like counts for jobpostings: size={}, error: {}", jobpostingIds.size(), e.getMessage());
+                return null;
+            }
+        });
     }
 }
@@ -0,0 +1,76 @@
+package halo.corebridge.jobpostinghot.consumer;
+
+import halo.corebridge.common.dataserializer.DataSerializer;
+import halo.corebridge.common.event.CommentCreatedEventPayload;
+import halo.corebridge.common.event.CommentDeletedEventPayload;
+import halo.corebridge.common.event.Event;
+import halo.corebridge.common.event.EventPayload;
+import halo.corebridge.common.event.EventType;
+import halo.corebridge.common.event.JobpostingDeletedEventPayload;
+import halo.corebridge.common.event.JobpostingLikedEventPayload;
+import halo.corebridge.common.event.JobpostingUnlikedEventPayload;
+import halo.corebridge.common.event.JobpostingViewedEventPayload;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Counter;
+import halo.corebridge.jobpostinghot.service.JobpostingHotTrends;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 시간 창 인기 점수 Consumer
+ *
+ * 점수(JobpostingHotTrends)는 인스턴스마다 있으므로 인스턴스마다 별도 consumer group으로 모든 이벤트를 받고,
+ * 시작 이전 이벤트는 재생하지 않습니다. (재시작 후 시간 창이 다시 채워짐)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobpostingHotTrendConsumer {
+
+    private final JobpostingHotTrends jobpostingHotTrends;
+
+    @KafkaListener(
+            topics = {"corebridge-jobposting", "corebridge-comment", "corebridge-like", "corebridge-view"},
+            groupId = "jobposting-hot-trend-${random.uuid}",
+            containerFactory = "jobpostingHotKafkaListenerContainerFactory",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consume(String message) {
+        try {
+            Event<EventPayload> event = DataSerializer.deserialize(message, Event.class);
+            if (event == null) {
+                return;
+            }
+            EventType type = event.getType();
+            switch (type) {
+                case JOBPOSTING_VIEWED -> {
+                    JobpostingViewedEventPayload payload = payload(event, JobpostingViewedEventPayload.class);
+                    jobpostingHotTrends.set(payload.getJobpostingId(), Counter.VIEW, payload.getViewCount());
+                }
+                case JOBPOSTING_LIKED -> {
+                    JobpostingLikedEventPayload payload = payload(event, JobpostingLikedEventPayload.class);
+                    jobpostingHotTrends.set(payload.getJobpostingId(), Counter.LIKE, payload.getLikeCount());
+                }
+                case JOBPOSTING_UNLIKED -> {
+                    JobpostingUnlikedEventPayload payload = payload(event, JobpostingUnlikedEventPayload.class);
+                    jobpostingHotTrends.set(payload.getJobpostingId(), Counter.LIKE, payload.getLikeCount());
+                }
+                case COMMENT_CREATED -> jobpostingHotTrends.add(
+                        payload(event, CommentCreatedEventPayload.class).getJobpostingId(), Counter.COMMENT, 1);
+                case COMMENT_DELETED -> jobpostingHotTrends.add(
+                        payload(event, CommentDeletedEventPayload.class).getJobpostingId(), Counter.COMMENT, -1);
+                case JOBPOSTING_DELETED -> jobpostingHotTrends.remove(
+                        payload(event, JobpostingDeletedEventPayload.class).getJobpostingId());
+                default -> {
+                }
+            }
+        } catch (Exception e) {
+            log.error("[JobpostingHotTrendConsumer] error processing message", e);
+        }
+    }
+
+    private static <T> T payload(Event<EventPayload> event, Class<T> type) {
+        return DataSerializer.deserialize(event.getPayload(), type);
+    }
+}
@@ -1,10 +1,12 @@
 package halo.corebridge.jobpostinghot.controller;
 
 import halo.corebridge.common.response.BaseResponse;
+import halo.corebridge.common.web.VersionStamps;
 import halo.corebridge.jobpostinghot.model.dto.JobpostingHotDto;
 import halo.corebridge.jobpostinghot.service.JobpostingHotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,21 +18,71 @@ public class JobpostingHotController {
     private final JobpostingHotService jobpostingHotService;
 
     /**
-     * 오늘의 인기 공고 TOP 10 (실시간 통계 반영)
+     * 오늘의 인기 공고 TOP N (기본 10, 이벤트로 갱신되는 실시간 통계)
+     * 목록 버전으로 ETag/Last-Modified를 붙이고, 변경이 없으면 DB/통계 조회 없이 304
      */
     @GetMapping("/today")
-    public BaseResponse<List<JobpostingHotDto.Response>> readToday() {
-        return BaseResponse.success(jobpostingHotService.readTopNWithLiveStats(10));
+    public BaseResponse<List<JobpostingHotDto.Response>> readToday(
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            WebRequest webRequest) {
+        Long version = jobpostingHotService.todayVersion();
+        if (version != null && VersionStamps.checkNotModified(webRequest, version)) {
+            return null;
+        }
+        return BaseResponse.success(jobpostingHotService.readTopNWithLiveStats(limit));
+    }
+
+    /**
+     * 오늘의 게시판별 인기 공고 TOP N
+     */
+    @GetMapping("/today/boards/{boardId}")
+    public BaseResponse<List<JobpostingHotDto.Response>> readTodayByBoard(
+            @PathVariable("boardId") Long boardId,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return BaseResponse.success(jobpostingHotService.readTopN(boardId, limit));
+    }
+
+    /**
+     * 오늘의 스킬별 인기 공고 TOP N (필수 스킬)
+     */
+    @GetMapping("/today/skills/{skill}")
+    public BaseResponse<List<JobpostingHotDto.Response>> readTodayBySkill(
+            @PathVariable("skill") String skill,
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return BaseResponse.success(jobpostingHotService.readTopNBySkill(skill, limit));
+    }
+
+    /**
+     * 최근 인기 급상승 공고 (시간 창 점수, 자정 초기화 없음)
+     */
+    @GetMapping("/trending")
+    public BaseResponse<List<JobpostingHotDto.Response>> readTrending(
+            @RequestParam(value = "limit", defaultValue = "10") int limit) {
+        return BaseResponse.success(jobpostingHotService.readTrending(limit));
     }
 
     /**
      * 특정 날짜의 인기 공고
      */
     @GetMapping("/date/{dateStr}")
-    public BaseResponse<List<JobpostingHotDto.Response>> readByDate(@PathVariable("dateStr") String dateStr) {
+    public BaseResponse<List<JobpostingHotDto.Response>> readByDate(@PathVariable("dateStr") String dateStr,
+                                                                     WebRequest webRequest) {
+        Long version = jobpostingHotService.version(dateStr);
+        if (version != null && VersionStamps.checkNotModified(webRequest, version)) {
+            return null;
+        }
         return BaseResponse.success(jobpostingHotService.readAll(dateStr));
     }
 
+    /**
+     * 특정 날짜의 공고 한 건 (지난 날짜는 보관 스냅샷에서)
+     */
+    @GetMapping("/date/{dateStr}/jobpostings/{jobpostingId}")
+    public BaseResponse<JobpostingHotDto.Response> readOneByDate(@PathVariable("dateStr") String dateStr,
+                                                                 @PathVariable("jobpostingId") Long jobpostingId) {
+        return BaseResponse.success(jobpostingHotService.read(dateStr, jobpostingId));
+    }
+
     /**
      * 단일 채용공고 인기 등록/갱신
      */
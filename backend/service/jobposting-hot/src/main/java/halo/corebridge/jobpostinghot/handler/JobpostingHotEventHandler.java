@@ -1,21 +1,29 @@
 package halo.corebridge.jobpostinghot.handler;
 
 import halo.corebridge.common.event.*;
-import halo.corebridge.jobpostinghot.model.entity.JobpostingHot;
 import halo.corebridge.jobpostinghot.model.entity.JobpostingHotId;
 import halo.corebridge.jobpostinghot.repository.JobpostingHotRepository;
+import halo.corebridge.jobpostinghot.service.JobpostingHotIndex;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Counter;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Entry;
+import halo.corebridge.jobpostinghot.service.JobpostingHotSkills;
+import halo.corebridge.jobpostinghot.service.JobpostingHotVersions;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.List;
 import java.util.Set;
 
 /**
- * 이벤트 수신 시 JobpostingHot 테이블의 통계를 실시간 갱신.
+ * 이벤트 수신 시 인기 순위의 통계를 실시간 갱신.
  * 기존 @Scheduled 배치 + HTTP 호출 방식에서
  * → 이벤트 기반 실시간 갱신으로 전환.
+ * 통계는 Redis 순위(JobpostingHotRanking)와 이 인스턴스의 TOP N 인덱스(JobpostingHotIndex)에 반영하고
+ * DB는 스냅샷으로 따라갑니다. (행 잠금 없음)
  */
 @Slf4j
 @Component
@@ -23,6 +31,9 @@ import java.util.Set;
 public class JobpostingHotEventHandler implements EventHandler<EventPayload> {
 
     private final JobpostingHotRepository jobpostingHotRepository;
+    private final JobpostingHotVersions jobpostingHotVersions;
+    private final JobpostingHotRanking jobpostingHotRanking;
+    private final JobpostingHotIndex jobpostingHotIndex;
 
     private static final Set<EventType> SUPPORTED_TYPES = Set.of(
             EventType.JOBPOSTING_CREATED,
@@ -51,6 +62,8 @@ public class JobpostingHotEventHandler implements EventHandler<EventPayload> {
             case COMMENT_CREATED -> handleCommentCreated((CommentCreatedEventPayload) payload);
             case COMMENT_DELETED -> handleCommentDeleted((CommentDeletedEventPayload) payload);
         }
+        // 오늘 목록 버전 갱신 (커밋 후)
+        jobpostingHotVersions.touch(LocalDate.now());
     }
 
     @Override
@@ -60,69 +73,64 @@ public class JobpostingHotEventHandler implements EventHandler<EventPayload> {
 
     private void handleCreated(JobpostingCreatedEventPayload payload) {
         LocalDate today = LocalDate.now();
-        JobpostingHot hot = JobpostingHot.create(
-                today, payload.getJobpostingId(), payload.getTitle(),
-                payload.getBoardId(), 0L, 0L, 0L
-        );
-        jobpostingHotRepository.save(hot);
+        List<String> skills = JobpostingHotSkills.parse(payload.getRequiredSkills());
+        jobpostingHotRanking.add(today, payload.getJobpostingId(), payload.getTitle(), payload.getBoardId(), skills);
+        jobpostingHotIndex.add(today, Entry.of(payload.getJobpostingId(), payload.getTitle(), payload.getBoardId(), skills,
+                0L, 0L, 0L));
         log.info("[HotHandler] CREATED: jobpostingId={}", payload.getJobpostingId());
     }
 
     private void handleUpdated(JobpostingUpdatedEventPayload payload) {
-        findAndUpdate(payload.getJobpostingId(), hot -> {
-            // 제목 변경 반영 (필요하면 엔티티에 updateTitle 추가)
-        });
+        // 제목/게시판/필수 스킬 변경 반영 (통계 유지, 게시판/스킬별 순위 이동)
+        LocalDate today = LocalDate.now();
+        List<String> skills = JobpostingHotSkills.parse(payload.getRequiredSkills());
+        if (jobpostingHotRanking.describe(today, payload.getJobpostingId(), payload.getTitle(), payload.getBoardId(), skills)) {
+            jobpostingHotIndex.describe(today, payload.getJobpostingId(), payload.getTitle(), payload.getBoardId(), skills);
+        }
         log.info("[HotHandler] UPDATED: jobpostingId={}", payload.getJobpostingId());
     }
 
     private void handleDeleted(JobpostingDeletedEventPayload payload) {
         LocalDate today = LocalDate.now();
+        jobpostingHotRanking.remove(today, payload.getJobpostingId());
+        jobpostingHotIndex.remove(today, payload.getJobpostingId());
         JobpostingHotId id = new JobpostingHotId(today, payload.getJobpostingId());
         jobpostingHotRepository.deleteById(id);
         log.info("[HotHandler] DELETED: jobpostingId={}", payload.getJobpostingId());
     }
 
     private void handleViewed(JobpostingViewedEventPayload payload) {
-        findAndUpdate(payload.getJobpostingId(), hot ->
-                hot.updateCounts(hot.getLikeCount(), hot.getCommentCount(), payload.getViewCount())
-        );
+        LocalDate today = LocalDate.now();
+        jobpostingHotRanking.set(today, payload.getJobpostingId(), Counter.VIEW, payload.getViewCount());
+        jobpostingHotIndex.set(today, payload.getJobpostingId(), Counter.VIEW, payload.getViewCount());
         log.info("[HotHandler] VIEWED: jobpostingId={}, viewCount={}", payload.getJobpostingId(), payload.getViewCount());
     }
 
     private void handleLiked(JobpostingLikedEventPayload payload) {
-        findAndUpdate(payload.getJobpostingId(), hot ->
-                hot.updateCounts(payload.getLikeCount(), hot.getCommentCount(), hot.getViewCount())
-        );
+        LocalDate today = LocalDate.now();
+        jobpostingHotRanking.set(today, payload.getJobpostingId(), Counter.LIKE, payload.getLikeCount());
+        jobpostingHotIndex.set(today, payload.getJobpostingId(), Counter.LIKE, payload.getLikeCount());
         log.info("[HotHandler] LIKED: jobpostingId={}, likeCount={}", payload.getJobpostingId(), payload.getLikeCount());
     }
 
     private void handleUnliked(JobpostingUnlikedEventPayload payload) {
-        findAndUpdate(payload.getJobpostingId(), hot ->
-                hot.updateCounts(payload.getLikeCount(), hot.getCommentCount(), hot.getViewCount())
-        );
+        LocalDate today = LocalDate.now();
+        jobpostingHotRanking.set(today, payload.getJobpostingId(), Counter.LIKE, payload.getLikeCount());
+        jobpostingHotIndex.set(today, payload.getJobpostingId(), Counter.LIKE, payload.getLikeCount());
         log.info("[HotHandler] UNLIKED: jobpostingId={}, likeCount={}", payload.getJobpostingId(), payload.getLikeCount());
     }
 
     private void handleCommentCreated(CommentCreatedEventPayload payload) {
-        findAndUpdate(payload.getJobpostingId(), hot ->
-                hot.updateCounts(hot.getLikeCount(), hot.getCommentCount() + 1, hot.getViewCount())
-        );
+        LocalDate today = LocalDate.now();
+        jobpostingHotRanking.increment(today, payload.getJobpostingId(), Counter.COMMENT, 1);
+        jobpostingHotIndex.increment(today, payload.getJobpostingId(), Counter.COMMENT, 1);
         log.info("[HotHandler] COMMENT_CREATED: jobpostingId={}", payload.getJobpostingId());
     }
 
     private void handleCommentDeleted(CommentDeletedEventPayload payload) {
-        findAndUpdate(payload.getJobpostingId(), hot ->
-                hot.updateCounts(hot.getLikeCount(), Math.max(0, hot.getCommentCount() - 1), hot.getViewCount())
-        );
-        log.info("[HotHandler] COMMENT_DELETED: jobpostingId={}", payload.getJobpostingId());
-    }
-
-    private void findAndUpdate(Long jobpostingId, java.util.function.Consumer<JobpostingHot> updater) {
         LocalDate today = LocalDate.now();
-        JobpostingHotId id = new JobpostingHotId(today, jobpostingId);
-        jobpostingHotRepository.findById(id).ifPresent(hot -> {
-            updater.accept(hot);
-            jobpostingHotRepository.save(hot);
-        });
+        jobpostingHotRanking.increment(today, payload.getJobpostingId(), Counter.COMMENT, -1);
+        jobpostingHotIndex.increment(today, payload.getJobpostingId(), Counter.COMMENT, -1);
+        log.info("[HotHandler] COMMENT_DELETED: jobpostingId={}", payload.getJobpostingId());
     }
 }
@@ -4,6 +4,7 @@ import halo.corebridge.common.domain.BaseTimeEntity;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
 import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -12,7 +13,9 @@ import lombok.NoArgsConstructor;
 import java.time.LocalDate;
 
 @Entity
-@Table(name = "jobposting_hot")
+@Table(name = "jobposting_hot", indexes = {
+        @Index(name = "idx_jobposting_hot_date_board_score", columnList = "date_key, board_id, score")
+})
 @IdClass(JobpostingHotId.class)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -0,0 +1,43 @@
+package halo.corebridge.jobpostinghot.model.entity;
+
+import halo.corebridge.common.domain.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+/**
+ * 지난 날짜의 인기 순위 (하루 한 행, JobpostingHotSnapshot으로 인코딩)
+ */
+@Entity
+@Table(name = "jobposting_hot_archive")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobpostingHotArchive extends BaseTimeEntity {
+
+    @Id
+    private LocalDate dateKey;
+
+    private Integer entryCount;
+
+    @Column(nullable = false, columnDefinition = "bytea")
+    private byte[] snapshot;
+
+    public static JobpostingHotArchive create(LocalDate dateKey, int entryCount, byte[] snapshot) {
+        JobpostingHotArchive entity = new JobpostingHotArchive();
+        entity.dateKey = dateKey;
+        entity.entryCount = entryCount;
+        entity.snapshot = snapshot;
+        return entity;
+    }
+
+    public void replace(int entryCount, byte[] snapshot) {
+        this.entryCount = entryCount;
+        this.snapshot = snapshot;
+    }
+}
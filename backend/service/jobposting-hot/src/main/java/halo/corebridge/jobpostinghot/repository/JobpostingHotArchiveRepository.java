@@ -0,0 +1,9 @@
+package halo.corebridge.jobpostinghot.repository;
+
+import halo.corebridge.jobpostinghot.model.entity.JobpostingHotArchive;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDate;
+
+public interface JobpostingHotArchiveRepository extends JpaRepository<JobpostingHotArchive, LocalDate> {
+}
@@ -3,6 +3,7 @@ package halo.corebridge.jobpostinghot.repository;
 import halo.corebridge.jobpostinghot.model.entity.JobpostingHot;
 import halo.corebridge.jobpostinghot.model.entity.JobpostingHotId;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -16,4 +17,16 @@ public interface JobpostingHotRepository extends JpaRepository<JobpostingHot, Jo
     
     @Query("SELECT h FROM JobpostingHot h WHERE h.dateKey = :dateKey ORDER BY h.score DESC LIMIT :limit")
     List<JobpostingHot> findTopByDateKey(@Param("dateKey") LocalDate dateKey, @Param("limit") int limit);
+
+    @Query("SELECT h FROM JobpostingHot h WHERE h.dateKey = :dateKey AND h.boardId = :boardId ORDER BY h.score DESC LIMIT :limit")
+    List<JobpostingHot> findTopByDateKeyAndBoardId(@Param("dateKey") LocalDate dateKey,
+                                                   @Param("boardId") Long boardId,
+                                                   @Param("limit") int limit);
+
+    @Query("SELECT DISTINCT h.dateKey FROM JobpostingHot h WHERE h.dateKey < :before ORDER BY h.dateKey")
+    List<LocalDate> findDateKeysBefore(@Param("before") LocalDate before);
+
+    @Modifying
+    @Query("DELETE FROM JobpostingHot h WHERE h.dateKey = :dateKey")
+    int deleteByDateKey(@Param("dateKey") LocalDate dateKey);
 }
@@ -0,0 +1,46 @@
+package halo.corebridge.jobpostinghot.scheduler;
+
+import halo.corebridge.common.joblock.JobLock;
+import halo.corebridge.jobpostinghot.service.JobpostingHotArchives;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+/**
+ * 지난 날짜 인기 순위 보관 (매일, 어제 순위의 남은 스냅샷 반영이 끝난 뒤, 클러스터 전체에서 한 인스턴스만)
+ * 날짜마다 별도 트랜잭션이라 한 날짜가 실패해도 나머지는 보관하고, 실패한 날짜는 다음 실행에서 다시 시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobpostingHotArchiveScheduler {
+
+    private static final String ARCHIVE_JOB = "jobposting-hot-archive";
+    private static final Duration LOCK_HOLD = Duration.ofMinutes(5);
+
+    private final JobpostingHotArchives jobpostingHotArchives;
+    private final JobLock jobLock;
+
+    @Scheduled(cron = "${hot.archive.cron:0 30 0 * * *}")
+    public void archive() {
+        try {
+            jobLock.runExclusively(ARCHIVE_JOB, LOCK_HOLD, this::archivePending);
+        } catch (Exception e) {
+            log.error("[HotArchive] 보관 실행 실패", e);
+        }
+    }
+
+    private void archivePending() {
+        for (LocalDate date : jobpostingHotArchives.pendingDates()) {
+            try {
+                jobpostingHotArchives.archive(date);
+            } catch (Exception e) {
+                log.error("[HotArchive] 보관 실패: date={}", date, e);
+            }
+        }
+    }
+}
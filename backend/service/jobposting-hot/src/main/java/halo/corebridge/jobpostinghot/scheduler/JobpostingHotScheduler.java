@@ -1,31 +1,54 @@
 package halo.corebridge.jobpostinghot.scheduler;
 
+import halo.corebridge.common.joblock.JobLock;
+import halo.corebridge.common.snowflake.Snowflake;
 import halo.corebridge.jobpostinghot.service.JobpostingHotService;
-import jakarta.annotation.PostConstruct;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+/**
+ * 인기 공고 전체 갱신 (클러스터 전체에서 주기마다 한 번)
+ *
+ * 매시간/자정 작업은 같은 전체 갱신이므로 하나의 작업 잠금(REBUILD_JOB)을 함께 씁니다.
+ * 자정에 두 cron이 겹치거나 모든 인스턴스가 동시에 깨어나도 잠금을 잡은 한 곳만 실행하고,
+ * 잠금은 끝난 뒤에도 lock-hold-seconds까지 남겨 같은 주기의 중복 실행을 막습니다.
+ *
+ * hot.rebuild.shards > 1이면 shard마다 따로 잠금을 잡아 여러 인스턴스가 나눠 실행합니다.
+ * shard는 jobpostingId(생성 시각) 구간이며, 구간 경계는 주기 시작 시각(정시)으로 정해 인스턴스끼리 같습니다.
+ * 인스턴스마다 자기 몫(JobLock.assignShards)부터 시도하고 나머지 shard도 이어서 시도하므로,
+ * 인스턴스 목록이 잠깐 어긋나도 shard가 빠지거나 두 번 실행되지 않습니다.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JobpostingHotScheduler {
-    
+
+    static final String REBUILD_JOB = "jobposting-hot-rebuild";
+
     private final JobpostingHotService jobpostingHotService;
+    private final JobLock jobLock;
+    private final long shardCount;
+    private final Duration lockHold;
 
-    /**
-     * 서비스 시작 시 인기 공고 갱신
-     */
-    @PostConstruct
-    public void initOnStartup() {
-        log.info("=== Starting initial hot jobposting update on startup ===");
-        try {
-            int count = jobpostingHotService.updateAll();
-            log.info("=== Completed initial update: {} jobpostings ===", count);
-        } catch (Exception e) {
-            log.warn("=== Initial hot jobposting update failed (services may not be ready): {} ===", e.getMessage());
+    public JobpostingHotScheduler(JobpostingHotService jobpostingHotService,
+                                  JobLock jobLock,
+                                  @Value("${hot.rebuild.shards:1}") long shardCount,
+                                  @Value("${hot.rebuild.lock-hold-seconds:300}") long lockHoldSeconds) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("shardCount는 0보다 커야 합니다: " + shardCount);
         }
+        this.jobpostingHotService = jobpostingHotService;
+        this.jobLock = jobLock;
+        this.shardCount = shardCount;
+        this.lockHold = Duration.ofSeconds(lockHoldSeconds);
     }
 
     /**
@@ -35,13 +58,7 @@ public class JobpostingHotScheduler {
      */
     @Scheduled(cron = "0 0 * * * *")
     public void updateJobpostingHotsHourly() {
-        log.info("=== Starting hourly hot jobposting update ===");
-        try {
-            int count = jobpostingHotService.updateAll();
-            log.info("=== Completed hourly update: {} jobpostings ===", count);
-        } catch (Exception e) {
-            log.error("=== Failed hourly hot jobposting update ===", e);
-        }
+        rebuild("hourly");
     }
 
     /**
@@ -50,12 +67,43 @@ public class JobpostingHotScheduler {
      */
     @Scheduled(cron = "0 0 0 * * *")
     public void updateJobpostingHotsDaily() {
-        log.info("=== Starting daily hot jobposting update ===");
-        try {
-            int count = jobpostingHotService.updateAll();
-            log.info("=== Completed daily update: {} jobpostings ===", count);
-        } catch (Exception e) {
-            log.error("=== Failed daily hot jobposting update ===", e);
+        rebuild("daily");
+    }
+
+    /**
+     * 잠금을 잡은 shard만 전체 갱신 (시작 예열도 같은 잠금을 씀)
+     */
+    public void rebuild(String trigger) {
+        log.info("=== Starting {} hot jobposting update ===", trigger);
+        long splitId = Snowflake.firstIdAt(Instant.now().truncatedTo(ChronoUnit.HOURS).toEpochMilli());
+        for (long shard : shardOrder()) {
+            try {
+                jobLock.runExclusively(jobName(shard), lockHold, () -> {
+                    int count = shardCount == 1 ? jobpostingHotService.updateAll()
+                            : jobpostingHotService.updateShard(shard, shardCount, splitId);
+                    log.info("=== Completed {} update: shard={}/{}, {} jobpostings ===", trigger, shard, shardCount, count);
+                });
+            } catch (Exception e) {
+                log.error("=== Failed {} hot jobposting update: shard={}/{} ===", trigger, shard, shardCount, e);
+            }
         }
     }
+
+    // 내 몫 → 나머지 순서
+    private Set<Long> shardOrder() {
+        Set<Long> order = new LinkedHashSet<>();
+        if (shardCount > 1) {
+            try {
+                order.addAll(jobLock.assignShards(shardCount));
+            } catch (Exception e) {
+                log.warn("[HotRebuild] shard 배정 조회 실패, 순서대로 시도: {}", e.getMessage());
+            }
+        }
+        LongStream.range(0, shardCount).forEach(order::add);
+        return order;
+    }
+
+    private String jobName(long shard) {
+        return shardCount == 1 ? REBUILD_JOB : REBUILD_JOB + "::shard-" + shard;
+    }
 }
@@ -0,0 +1,56 @@
+package halo.corebridge.jobpostinghot.scheduler;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Redis 인기 순위 → DB 스냅샷
+ *
+ * 마지막 스냅샷 이후 바뀐 공고만 batch-size개씩 나눠 DB에 반영합니다.
+ * 자정 직후 어제 순위에 남은 변경도 함께 반영합니다.
+ */
+@Slf4j
+@Component
+public class JobpostingHotSnapshotScheduler {
+
+    private final JobpostingHotService jobpostingHotService;
+    private final int batchSize;
+
+    public JobpostingHotSnapshotScheduler(JobpostingHotService jobpostingHotService,
+                                          @Value("${hot.snapshot.batch-size:500}") int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("batchSize는 0보다 커야 합니다: " + batchSize);
+        }
+        this.jobpostingHotService = jobpostingHotService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${hot.snapshot.interval-seconds:10}", timeUnit = TimeUnit.SECONDS)
+    public void persistSnapshot() {
+        LocalDate today = LocalDate.now();
+        try {
+            int count = persist(today.minusDays(1)) + persist(today);
+            if (count > 0) {
+                log.info("[HotSnapshot] {}건 반영", count);
+            }
+        } catch (Exception e) {
+            log.error("[HotSnapshot] 스냅샷 반영 실패", e);
+        }
+    }
+
+    private int persist(LocalDate date) {
+        int total = 0;
+        int drained;
+        do {
+            drained = jobpostingHotService.persistSnapshot(date, batchSize);
+            total += drained;
+        } while (drained == batchSize);
+        return total;
+    }
+}
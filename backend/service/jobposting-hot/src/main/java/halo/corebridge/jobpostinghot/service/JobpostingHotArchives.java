@@ -0,0 +1,135 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.model.entity.JobpostingHot;
+import halo.corebridge.jobpostinghot.model.entity.JobpostingHotArchive;
+import halo.corebridge.jobpostinghot.repository.JobpostingHotArchiveRepository;
+import halo.corebridge.jobpostinghot.repository.JobpostingHotRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * 지난 날짜 인기 순위 보관소
+ *
+ * 하루가 끝난 날짜의 jobposting_hot 행을 JobpostingHotSnapshot 한 행(jobposting_hot_archive)으로 묶고 행은 지웁니다.
+ * 그래서 jobposting_hot에는 오늘(과 아직 보관 전인 날짜)만 남고, 지난 날짜 조회는 ORDER BY 없이 스냅샷에서 읽습니다.
+ *
+ * - 스냅샷은 불변이므로 풀어 둔 것을 최근 cache-days일치 캐시합니다.
+ * - 보관한 날짜에 늦게 들어온 행이 있으면 다음 보관 때 기존 스냅샷에 합쳐 다시 만듭니다.
+ */
+@Slf4j
+@Component
+public class JobpostingHotArchives {
+
+    private final JobpostingHotRepository jobpostingHotRepository;
+    private final JobpostingHotArchiveRepository jobpostingHotArchiveRepository;
+    private final Map<LocalDate, JobpostingHotSnapshot> cache;
+
+    public JobpostingHotArchives(JobpostingHotRepository jobpostingHotRepository,
+                                 JobpostingHotArchiveRepository jobpostingHotArchiveRepository,
+                                 @Value("${hot.archive.cache-days:30}") int cacheDays) {
+        if (cacheDays <= 0) {
+            throw new IllegalArgumentException("cacheDays는 0보다 커야 합니다: " + cacheDays);
+        }
+        this.jobpostingHotRepository = jobpostingHotRepository;
+        this.jobpostingHotArchiveRepository = jobpostingHotArchiveRepository;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<LocalDate, JobpostingHotSnapshot> eldest) {
+                return size() > cacheDays;
+            }
+        };
+    }
+
+    /**
+     * 보관된 날짜의 스냅샷 (없으면 null)
+     */
+    public JobpostingHotSnapshot find(LocalDate date) {
+        synchronized (cache) {
+            JobpostingHotSnapshot cached = cache.get(date);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        Optional<JobpostingHotArchive> archive = jobpostingHotArchiveRepository.findById(date);
+        if (archive.isEmpty()) {
+            return null;
+        }
+        JobpostingHotSnapshot snapshot = JobpostingHotSnapshot.decode(archive.get().getSnapshot());
+        synchronized (cache) {
+            cache.put(date, snapshot);
+        }
+        return snapshot;
+    }
+
+    /**
+     * 아직 jobposting_hot에 행이 남은 지난 날짜
+     */
+    public List<LocalDate> pendingDates() {
+        return jobpostingHotRepository.findDateKeysBefore(LocalDate.now());
+    }
+
+    /**
+     * date의 행을 스냅샷으로 보관하고 jobposting_hot에서 삭제
+     * @return 스냅샷의 공고 수 (남은 행이 없으면 0)
+     */
+    @Transactional
+    public int archive(LocalDate date) {
+        if (!date.isBefore(LocalDate.now())) {
+            throw new IllegalArgumentException("지난 날짜만 보관할 수 있습니다: " + date);
+        }
+        List<JobpostingHot> rows = jobpostingHotRepository.findByDateKeyOrderByScoreDesc(date);
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        Optional<JobpostingHotArchive> existing = jobpostingHotArchiveRepository.findById(date);
+        Map<Long, JobpostingHotRanking.Entry> entries = new LinkedHashMap<>();
+        existing.ifPresent(archive -> JobpostingHotSnapshot.decode(archive.getSnapshot()).all()
+                .forEach(entry -> entries.put(entry.jobpostingId(), entry)));
+        for (JobpostingHot row : rows) {
+            entries.put(row.getJobpostingId(), JobpostingHotRanking.Entry.of(row.getJobpostingId(), row.getTitle(),
+                    row.getBoardId(), row.getLikeCount(), row.getCommentCount(), row.getViewCount()));
+        }
+
+        JobpostingHotSnapshot snapshot = JobpostingHotSnapshot.of(entries.values());
+        byte[] encoded = snapshot.encode();
+        existing.ifPresentOrElse(
+                archive -> archive.replace(snapshot.size(), encoded),
+                () -> jobpostingHotArchiveRepository.save(JobpostingHotArchive.create(date, snapshot.size(), encoded)));
+        int deleted = jobpostingHotRepository.deleteByDateKey(date);
+        evictAfterCommit(date);
+
+        log.info("[HotArchive] date={}, entries={}, deletedRows={}, bytes={}",
+                date, snapshot.size(), deleted, encoded.length);
+        return snapshot.size();
+    }
+
+    private void evictAfterCommit(LocalDate date) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(date);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(date);
+            }
+        });
+    }
+
+    private void evict(LocalDate date) {
+        synchronized (cache) {
+            cache.remove(date);
+        }
+    }
+}
@@ -0,0 +1,205 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Counter;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Entry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * 오늘의 인기 공고 인메모리 인덱스 (TOP N 조회용)
+ *
+ * 홈 화면마다 호출되는 readTopN이 DB/Redis를 거치지 않도록 오늘 순위를 JobpostingHotTopKGroup으로 보관합니다.
+ * (전체 + 게시판별 + 스킬별 TOP N을 같은 변경으로 함께 갱신)
+ * - 이 인스턴스가 처리한 이벤트/수동 갱신은 즉시 반영 (O(log n))
+ * - 이벤트는 인스턴스끼리 나눠 소비하므로, resync-seconds마다 Redis 순위와 다시 맞춥니다.
+ *   (다른 인스턴스의 변경은 최대 resync 주기만큼 늦게 보임)
+ *   마지막 동기화 이후 바뀐 공고(변경 번호 이후)만 읽어 반영하고, 처음이거나 변경이 resync-max-changes를 넘거나
+ *   변경 번호가 뒤로 갔으면(Redis 초기화) max-entries개를 통째로 다시 읽습니다.
+ * - 첫 동기화 전이거나 날짜가 바뀐 직후에는 빈 목록을 돌려주고, 호출 측이 Redis/DB로 조회합니다.
+ * - 마지막 동기화 시각을 보관해, 신선도 상한이 있는 조회(실시간 통계)는 동기화가 밀리면 Redis로 넘깁니다.
+ */
+@Slf4j
+@Component
+public class JobpostingHotIndex {
+
+    private final JobpostingHotRanking jobpostingHotRanking;
+    private final int snapshotSize;
+    private final int maxEntries;
+    private final int maxChanges;
+
+    private volatile Day day;
+
+    /**
+     * 날짜별 인덱스 (syncedAtMillis: 마지막으로 Redis 순위와 맞춘 시각, 0 = 아직 없음 / seq: 반영한 변경 번호)
+     */
+    private record Day(LocalDate date, JobpostingHotTopKGroup topK, long syncedAtMillis, long seq) {
+
+        boolean loaded() {
+            return syncedAtMillis > 0;
+        }
+    }
+
+    public JobpostingHotIndex(JobpostingHotRanking jobpostingHotRanking,
+                              @Value("${hot.index.snapshot-size:100}") int snapshotSize,
+                              @Value("${hot.index.max-entries:100000}") int maxEntries,
+                              @Value("${hot.index.resync-max-changes:5000}") int maxChanges) {
+        if (maxChanges <= 0) {
+            throw new IllegalArgumentException("maxChanges는 0보다 커야 합니다: " + maxChanges);
+        }
+        this.jobpostingHotRanking = jobpostingHotRanking;
+        this.snapshotSize = snapshotSize;
+        this.maxEntries = maxEntries;
+        this.maxChanges = maxChanges;
+        this.day = new Day(LocalDate.now(), new JobpostingHotTopKGroup(snapshotSize, maxEntries), 0L, 0L);
+    }
+
+    /**
+     * 오늘의 상위 limit개 (준비 전이거나 snapshot-size를 넘는 limit이면 빈 목록)
+     */
+    public List<Entry> top(int limit) {
+        return top(limit, Long.MAX_VALUE);
+    }
+
+    /**
+     * 오늘의 상위 limit개 - 마지막 동기화가 maxStalenessMillis보다 오래됐으면 빈 목록
+     */
+    public List<Entry> top(int limit, long maxStalenessMillis) {
+        Day current = ready(limit, maxStalenessMillis);
+        return current == null ? List.of() : current.topK().top(limit);
+    }
+
+    /**
+     * 오늘 게시판별 상위 limit개 (준비 전이면 빈 목록)
+     */
+    public List<Entry> topByBoard(Long boardId, int limit) {
+        Day current = ready(limit, Long.MAX_VALUE);
+        return current == null ? List.of() : current.topK().topByBoard(boardId, limit);
+    }
+
+    /**
+     * 오늘 스킬별 상위 limit개 (skill은 정규화된 값, 준비 전이면 빈 목록)
+     */
+    public List<Entry> topBySkill(String skill, int limit) {
+        Day current = ready(limit, Long.MAX_VALUE);
+        return current == null ? List.of() : current.topK().topBySkill(skill, limit);
+    }
+
+    public void add(LocalDate date, Entry entry) {
+        apply(date, topK -> topK.add(entry));
+    }
+
+    public void put(LocalDate date, Entry entry) {
+        apply(date, topK -> topK.put(entry));
+    }
+
+    public void set(LocalDate date, Long jobpostingId, Counter counter, long value) {
+        apply(date, topK -> topK.set(jobpostingId, counter, value));
+    }
+
+    public void increment(LocalDate date, Long jobpostingId, Counter counter, long delta) {
+        apply(date, topK -> topK.increment(jobpostingId, counter, delta));
+    }
+
+    public void describe(LocalDate date, Long jobpostingId, String title, Long boardId, List<String> skills) {
+        apply(date, topK -> topK.describe(jobpostingId, title, boardId, skills));
+    }
+
+    public void remove(LocalDate date, Long jobpostingId) {
+        apply(date, topK -> topK.remove(jobpostingId));
+    }
+
+    /**
+     * Redis 순위로 다시 맞춤 (시작 직후 1회 + 주기적)
+     */
+    @Scheduled(fixedDelayString = "${hot.index.resync-seconds:5}", timeUnit = TimeUnit.SECONDS)
+    public void resync() {
+        LocalDate today = LocalDate.now();
+        try {
+            JobpostingHotTopKGroup topK = topK(today);
+            if (topK == null) {
+                return;
+            }
+            Day current = day;
+            // 전체를 읽기 전에 변경 번호를 먼저 읽어, 읽는 동안 바뀐 공고는 다음 동기화에서 다시 반영
+            long seq = jobpostingHotRanking.changeSeq(today);
+            long synced = current.topK() == topK && current.loaded() && seq >= current.seq()
+                    ? applyChanges(today, topK, current.seq(), seq)
+                    : -1L;
+            if (synced < 0) {
+                topK.replaceAll(jobpostingHotRanking.top(today, maxEntries));
+                synced = seq;
+            }
+            synchronized (this) {
+                if (day.topK() == topK) {
+                    day = new Day(today, topK, System.currentTimeMillis(), synced);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[HotIndex] Redis 순위 동기화 실패, 기존 인덱스 유지: {}", e.getMessage());
+        }
+    }
+
+    // fromSeq 이후 바뀐 공고만 반영 (변경이 maxChanges개 이상이면 -1 → 전체 동기화)
+    private long applyChanges(LocalDate date, JobpostingHotTopKGroup topK, long fromSeq, long toSeq) {
+        if (toSeq == fromSeq) {
+            return fromSeq;
+        }
+        JobpostingHotRanking.Changes changes = jobpostingHotRanking.changesSince(date, fromSeq, maxChanges);
+        if (changes.jobpostingIds().size() >= maxChanges) {
+            return -1L;
+        }
+        Map<Long, Entry> entries = jobpostingHotRanking.entries(date, changes.jobpostingIds());
+        for (Long jobpostingId : changes.jobpostingIds()) {
+            Entry entry = entries.get(jobpostingId);
+            if (entry == null) {
+                topK.remove(jobpostingId);
+            } else {
+                topK.put(entry);
+            }
+        }
+        return changes.lastSeq();
+    }
+
+    // 조회 가능한 오늘 인덱스 (동기화 전/날짜 지남/limit 초과/동기화 지연이면 null)
+    private Day ready(int limit, long maxStalenessMillis) {
+        Day current = day;
+        if (!current.loaded() || limit > snapshotSize || !current.date().equals(LocalDate.now())
+                || System.currentTimeMillis() - current.syncedAtMillis() > maxStalenessMillis) {
+            return null;
+        }
+        return current;
+    }
+
+    // 지난 날짜 변경은 무시 (자정 직후 늦게 처리된 이벤트)
+    private void apply(LocalDate date, Consumer<JobpostingHotTopKGroup> change) {
+        JobpostingHotTopKGroup topK = topK(date);
+        if (topK != null) {
+            change.accept(topK);
+        }
+    }
+
+    // 날짜가 바뀌면 빈 인덱스로 교체 (다음 동기화 전까지는 syncedAtMillis=0)
+    private JobpostingHotTopKGroup topK(LocalDate date) {
+        Day current = day;
+        if (current.date().equals(date)) {
+            return current.topK();
+        }
+        synchronized (this) {
+            if (date.isBefore(day.date())) {
+                return null;
+            }
+            if (!day.date().equals(date)) {
+                day = new Day(date, new JobpostingHotTopKGroup(snapshotSize, maxEntries), 0L, 0L);
+            }
+            return day.topK();
+        }
+    }
+}
@@ -0,0 +1,467 @@
+package halo.corebridge.jobpostinghot.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * 날짜별 인기 순위 (Redis Sorted Set)
+ *
+ * 이벤트마다 jobposting_hot 행을 findById+save 하던 방식은 인기 공고 한 행에 쓰기가 몰려
+ * 행 잠금 경합이 생기고, TOP N 조회도 매번 ORDER BY score를 실행했습니다.
+ * 이제 순위는 Redis에서 관리하고 DB는 주기적인 스냅샷만 받습니다. (JobpostingHotSnapshotScheduler)
+ *
+ * 키 (날짜마다, {날짜} 해시 태그로 클러스터에서도 같은 슬롯)
+ * - ranking  ZSET : member=jobpostingId, score=좋아요*3 + 댓글*2 + 조회수
+ * - postings HASH : {id}:title, {id}:boardId, {id}:skills, {id}:like, {id}:comment, {id}:view
+ *                   (skills: 정규화된 필수 스킬, 쉼표 구분 - 게시판/스킬별 TOP N 인덱스용)
+ * - dirty    SET  : 마지막 스냅샷 이후 바뀐 jobpostingId
+ * - changes  ZSET : member=jobpostingId, score=마지막으로 바뀐 변경 번호 (인메모리 인덱스 증분 동기화용)
+ * - seq      STRING : 변경 번호 (쓰기마다 INCR)
+ *
+ * - 통계 변경은 Lua 스크립트 한 번으로 카운트 저장 + ZINCRBY(차이 * 가중치) + dirty 표시를 원자적으로 처리합니다.
+ *   (같은 공고에 이벤트가 몰려도 Redis 단일 명령 처리량만큼 반영, DB 잠금 없음)
+ * - 순위에 없는 공고(등록 전/삭제됨)의 통계 이벤트는 무시합니다. (기존 findById 후 갱신과 동일)
+ * - 키는 ttl 후 만료되어 지난 날짜 순위가 메모리에 남지 않습니다. (지난 날짜는 DB 스냅샷으로 조회)
+ */
+@Component
+public class JobpostingHotRanking {
+
+    /**
+     * 통계 종류와 점수 가중치 (JobpostingHot 점수 계산과 같음)
+     */
+    public enum Counter {
+        LIKE("like", 3),
+        COMMENT("comment", 2),
+        VIEW("view", 1);
+
+        private final String field;
+        private final int weight;
+
+        Counter(String field, int weight) {
+            this.field = field;
+            this.weight = weight;
+        }
+    }
+
+    // 처음 보는 공고만 0점으로 추가 (재전송된 생성 이벤트가 통계를 초기화하지 않도록)
+    private static final RedisScript<Long> ADD_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+              return 0
+            end
+            redis.call('HSET', KEYS[2], ARGV[1] .. ':title', ARGV[2], ARGV[1] .. ':boardId', ARGV[3],
+                ARGV[1] .. ':skills', ARGV[4], ARGV[1] .. ':like', 0, ARGV[1] .. ':comment', 0, ARGV[1] .. ':view', 0)
+            redis.call('ZADD', KEYS[1], 0, ARGV[1])
+            redis.call('SADD', KEYS[3], ARGV[1])
+            redis.call('ZADD', KEYS[4], redis.call('INCR', KEYS[5]), ARGV[1])
+            for i = 1, 5 do
+              redis.call('EXPIRE', KEYS[i], ARGV[5])
+            end
+            return 1
+            """, Long.class);
+
+    // 전체 통계로 덮어쓰기 (수동 등록/게시판 갱신, ARGV[10]: dirty=스냅샷 대상 표시, saved=이미 DB에 저장됨)
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            redis.call('HSET', KEYS[2], ARGV[1] .. ':title', ARGV[2], ARGV[1] .. ':boardId', ARGV[3],
+                ARGV[1] .. ':like', ARGV[4], ARGV[1] .. ':comment', ARGV[5], ARGV[1] .. ':view', ARGV[6],
+                ARGV[1] .. ':skills', ARGV[9])
+            redis.call('ZADD', KEYS[1], ARGV[7], ARGV[1])
+            if ARGV[10] == 'dirty' then
+              redis.call('SADD', KEYS[3], ARGV[1])
+            end
+            redis.call('ZADD', KEYS[4], redis.call('INCR', KEYS[5]), ARGV[1])
+            for i = 1, 5 do
+              redis.call('EXPIRE', KEYS[i], ARGV[8])
+            end
+            return 1
+            """, Long.class);
+
+    // 공고 정보만 변경 (수정 이벤트, 순위에 있는 공고만)
+    private static final RedisScript<Long> DESCRIBE_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+              return 0
+            end
+            redis.call('HSET', KEYS[2], ARGV[1] .. ':title', ARGV[2], ARGV[1] .. ':boardId', ARGV[3],
+                ARGV[1] .. ':skills', ARGV[4])
+            redis.call('SADD', KEYS[3], ARGV[1])
+            redis.call('ZADD', KEYS[4], redis.call('INCR', KEYS[5]), ARGV[1])
+            return 1
+            """, Long.class);
+
+    // 통계 하나 변경 (ARGV[5]: set=값 저장, incr=값만큼 증감, 0 미만으로는 내려가지 않음)
+    private static final RedisScript<Long> COUNT_SCRIPT = new DefaultRedisScript<>("""
+            if not redis.call('ZSCORE', KEYS[1], ARGV[1]) then
+              return 0
+            end
+            local field = ARGV[1] .. ':' .. ARGV[2]
+            local current = tonumber(redis.call('HGET', KEYS[2], field) or '0')
+            local updated = tonumber(ARGV[3])
+            if ARGV[5] == 'incr' then
+              updated = math.max(0, current + updated)
+            end
+            if updated ~= current then
+              redis.call('HSET', KEYS[2], field, updated)
+              redis.call('ZINCRBY', KEYS[1], (updated - current) * tonumber(ARGV[4]), ARGV[1])
+              redis.call('SADD', KEYS[3], ARGV[1])
+              redis.call('ZADD', KEYS[4], redis.call('INCR', KEYS[5]), ARGV[1])
+            end
+            return 1
+            """, Long.class);
+
+    // 공고 제거 (순위에 있던 공고만 변경 번호를 남김)
+    private static final RedisScript<Long> REMOVE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('ZREM', KEYS[1], ARGV[1]) == 0 then
+              return 0
+            end
+            redis.call('HDEL', KEYS[2], ARGV[1] .. ':title', ARGV[1] .. ':boardId', ARGV[1] .. ':like',
+                ARGV[1] .. ':comment', ARGV[1] .. ':view', ARGV[1] .. ':skills')
+            redis.call('SREM', KEYS[3], ARGV[1])
+            redis.call('ZADD', KEYS[4], redis.call('INCR', KEYS[5]), ARGV[1])
+            return 1
+            """, Long.class);
+
+    private static final String[] FIELDS = {"title", "boardId", "like", "comment", "view", "skills"};
+
+    private final StringRedisTemplate redisTemplate;
+    private final String ttlSeconds;
+
+    public JobpostingHotRanking(StringRedisTemplate redisTemplate,
+                                @Value("${hot.ranking.ttl-hours:48}") long ttlHours) {
+        if (ttlHours <= 0) {
+            throw new IllegalArgumentException("ttlHours는 0보다 커야 합니다: " + ttlHours);
+        }
+        this.redisTemplate = redisTemplate;
+        this.ttlSeconds = String.valueOf(Duration.ofHours(ttlHours).toSeconds());
+    }
+
+    /**
+     * 순위 항목 (skills: 정규화된 필수 스킬, JobpostingHotSkills)
+     */
+    public record Entry(Long jobpostingId, String title, Long boardId,
+                        long likeCount, long commentCount, long viewCount, double score, List<String> skills) {
+
+        public Entry {
+            skills = skills == null ? List.of() : List.copyOf(skills);
+        }
+
+        public Entry(Long jobpostingId, String title, Long boardId,
+                     long likeCount, long commentCount, long viewCount, double score) {
+            this(jobpostingId, title, boardId, likeCount, commentCount, viewCount, score, List.of());
+        }
+
+        public static Entry of(Long jobpostingId, String title, Long boardId,
+                               long likeCount, long commentCount, long viewCount) {
+            return of(jobpostingId, title, boardId, List.of(), likeCount, commentCount, viewCount);
+        }
+
+        public static Entry of(Long jobpostingId, String title, Long boardId, List<String> skills,
+                               long likeCount, long commentCount, long viewCount) {
+            return new Entry(jobpostingId, title, boardId, likeCount, commentCount, viewCount,
+                    JobpostingHotRanking.score(likeCount, commentCount, viewCount), skills);
+        }
+
+        public long count(Counter counter) {
+            return switch (counter) {
+                case LIKE -> likeCount;
+                case COMMENT -> commentCount;
+                case VIEW -> viewCount;
+            };
+        }
+
+        /**
+         * 통계 하나를 바꾼 항목 (점수 재계산)
+         */
+        public Entry with(Counter counter, long value) {
+            return of(jobpostingId, title, boardId, skills,
+                    counter == Counter.LIKE ? value : likeCount,
+                    counter == Counter.COMMENT ? value : commentCount,
+                    counter == Counter.VIEW ? value : viewCount);
+        }
+    }
+
+    /**
+     * 점수 = 좋아요 * 3 + 댓글 * 2 + 조회수 * 1
+     */
+    public static double score(long likeCount, long commentCount, long viewCount) {
+        return likeCount * (double) Counter.LIKE.weight
+                + commentCount * (double) Counter.COMMENT.weight
+                + viewCount * (double) Counter.VIEW.weight;
+    }
+
+    // ============================================
+    // 쓰기
+    // ============================================
+
+    /**
+     * 새 공고를 0점으로 추가 (이미 있으면 무시)
+     */
+    public void add(LocalDate date, Long jobpostingId, String title, Long boardId, List<String> skills) {
+        redisTemplate.execute(ADD_SCRIPT, keys(date),
+                String.valueOf(jobpostingId), Objects.toString(title, ""), Objects.toString(boardId, ""),
+                JobpostingHotSkills.join(skills), ttlSeconds);
+    }
+
+    /**
+     * 공고 통계 전체 저장 (있으면 덮어씀)
+     */
+    public void put(LocalDate date, Entry entry) {
+        put(date, entry, "dirty");
+    }
+
+    /**
+     * DB에 방금 저장한 공고 통계 저장 (재구성용)
+     * 스냅샷 대상으로 표시하지 않아 같은 값을 스냅샷이 다시 upsert하지 않습니다.
+     */
+    public void putSaved(LocalDate date, Entry entry) {
+        put(date, entry, "saved");
+    }
+
+    /**
+     * 공고 정보(제목/게시판/스킬) 변경 - 통계는 유지
+     * @return 순위에 있는 공고면 true
+     */
+    public boolean describe(LocalDate date, Long jobpostingId, String title, Long boardId, List<String> skills) {
+        Long applied = redisTemplate.execute(DESCRIBE_SCRIPT, keys(date),
+                String.valueOf(jobpostingId), Objects.toString(title, ""), Objects.toString(boardId, ""),
+                JobpostingHotSkills.join(skills));
+        return applied != null && applied == 1L;
+    }
+
+    /**
+     * 통계 값 저장 (이벤트의 누적 조회수/좋아요 수)
+     * @return 순위에 있는 공고면 true
+     */
+    public boolean set(LocalDate date, Long jobpostingId, Counter counter, long value) {
+        return count(date, jobpostingId, counter, value, "set");
+    }
+
+    /**
+     * 통계 증감 (댓글 생성/삭제)
+     * @return 순위에 있는 공고면 true
+     */
+    public boolean increment(LocalDate date, Long jobpostingId, Counter counter, long delta) {
+        return count(date, jobpostingId, counter, delta, "incr");
+    }
+
+    /**
+     * 공고 제거 (순위에서 먼저 빼서 이후 통계 이벤트는 무시됨)
+     */
+    public void remove(LocalDate date, Long jobpostingId) {
+        redisTemplate.execute(REMOVE_SCRIPT, keys(date), String.valueOf(jobpostingId));
+    }
+
+    // ============================================
+    // 조회
+    // ============================================
+
+    /**
+     * 점수 내림차순 상위 limit개 (ZREVRANGE)
+     * @return 순위가 없으면(만료/Redis 초기화) 빈 목록
+     */
+    public List<Entry> top(LocalDate date, int limit) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        return range(date, limit - 1);
+    }
+
+    /**
+     * 점수 내림차순 전체
+     */
+    public List<Entry> all(LocalDate date) {
+        return range(date, -1);
+    }
+
+    /**
+     * 공고별 현재 통계 (스냅샷용, 순위에 없는 공고는 제외)
+     */
+    public Map<Long, Entry> entries(LocalDate date, Collection<Long> jobpostingIds) {
+        Map<Long, Entry> entries = new LinkedHashMap<>();
+        List<String> members = jobpostingIds.stream().map(String::valueOf).toList();
+        List<Object> values = multiGet(date, members);
+        for (int i = 0; i < members.size(); i++) {
+            Entry entry = toEntry(members.get(i), values, i, null);
+            if (entry != null) {
+                entries.put(entry.jobpostingId(), entry);
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * 현재 변경 번호 (순위가 없으면 0)
+     */
+    public long changeSeq(LocalDate date) {
+        String seq = redisTemplate.opsForValue().get(seqKey(date));
+        return seq == null ? 0L : Long.parseLong(seq);
+    }
+
+    /**
+     * afterSeq 이후 바뀐 공고 (변경 번호 순 최대 limit개, 제거된 공고 포함)
+     */
+    public Changes changesSince(LocalDate date, long afterSeq, int limit) {
+        Set<ZSetOperations.TypedTuple<String>> tuples = redisTemplate.opsForZSet()
+                .rangeByScoreWithScores(changesKey(date), afterSeq + 1, Double.POSITIVE_INFINITY, 0, limit);
+        if (tuples == null || tuples.isEmpty()) {
+            return new Changes(List.of(), afterSeq);
+        }
+        List<Long> jobpostingIds = new ArrayList<>(tuples.size());
+        long lastSeq = afterSeq;
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            jobpostingIds.add(Long.valueOf(tuple.getValue()));
+            lastSeq = Math.max(lastSeq, tuple.getScore().longValue());
+        }
+        return new Changes(jobpostingIds, lastSeq);
+    }
+
+    /**
+     * 바뀐 공고와 그중 가장 큰 변경 번호
+     */
+    public record Changes(List<Long> jobpostingIds, long lastSeq) {
+    }
+
+    // ============================================
+    // 스냅샷 대상
+    // ============================================
+
+    /**
+     * 마지막 스냅샷 이후 바뀐 공고 최대 limit개를 꺼냄 (SPOP, 인스턴스끼리 나눠 가져감)
+     */
+    public List<Long> drainDirty(LocalDate date, int limit) {
+        List<String> members = redisTemplate.opsForSet().pop(dirtyKey(date), limit);
+        if (members == null) {
+            return List.of();
+        }
+        return members.stream().map(Long::valueOf).toList();
+    }
+
+    /**
+     * 스냅샷 실패 시 다시 표시
+     */
+    public void markDirty(LocalDate date, Collection<Long> jobpostingIds) {
+        if (jobpostingIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.opsForSet().add(dirtyKey(date),
+                jobpostingIds.stream().map(String::valueOf).toArray(String[]::new));
+    }
+
+    private void put(LocalDate date, Entry entry, String mode) {
+        double score = score(entry.likeCount(), entry.commentCount(), entry.viewCount());
+        redisTemplate.execute(PUT_SCRIPT, keys(date),
+                String.valueOf(entry.jobpostingId()), Objects.toString(entry.title(), ""),
+                Objects.toString(entry.boardId(), ""),
+                String.valueOf(entry.likeCount()), String.valueOf(entry.commentCount()), String.valueOf(entry.viewCount()),
+                String.valueOf(score), ttlSeconds, JobpostingHotSkills.join(entry.skills()), mode);
+    }
+
+    private boolean count(LocalDate date, Long jobpostingId, Counter counter, long value, String mode) {
+        Long applied = redisTemplate.execute(COUNT_SCRIPT, keys(date),
+                String.valueOf(jobpostingId), counter.field, String.valueOf(value), String.valueOf(counter.weight), mode);
+        return applied != null && applied == 1L;
+    }
+
+    private List<Entry> range(LocalDate date, long end) {
+        Set<ZSetOperations.TypedTuple<String>> tuples =
+                redisTemplate.opsForZSet().reverseRangeWithScores(rankingKey(date), 0, end);
+        if (tuples == null || tuples.isEmpty()) {
+            return List.of();
+        }
+        List<String> members = new ArrayList<>(tuples.size());
+        List<Double> scores = new ArrayList<>(tuples.size());
+        for (ZSetOperations.TypedTuple<String> tuple : tuples) {
+            members.add(tuple.getValue());
+            scores.add(tuple.getScore());
+        }
+        List<Object> values = multiGet(date, members);
+        List<Entry> entries = new ArrayList<>(members.size());
+        for (int i = 0; i < members.size(); i++) {
+            Entry entry = toEntry(members.get(i), values, i, scores.get(i));
+            if (entry != null) {
+                entries.add(entry);
+            }
+        }
+        return entries;
+    }
+
+    // 공고마다 FIELDS 순서로 한 번에 조회 (HMGET 1회)
+    private List<Object> multiGet(LocalDate date, List<String> members) {
+        List<Object> fields = new ArrayList<>(members.size() * FIELDS.length);
+        for (String member : members) {
+            fields.addAll(List.of(fields(member)));
+        }
+        if (fields.isEmpty()) {
+            return List.of();
+        }
+        return redisTemplate.opsForHash().multiGet(postingsKey(date), fields);
+    }
+
+    private Entry toEntry(String member, List<Object> values, int index, Double score) {
+        int offset = index * FIELDS.length;
+        if (values.size() < offset + FIELDS.length || values.get(offset + 2) == null) {
+            // 통계가 없음 (삭제 직후 등)
+            return null;
+        }
+        String title = (String) values.get(offset);
+        String boardId = (String) values.get(offset + 1);
+        long like = toLong(values.get(offset + 2));
+        long comment = toLong(values.get(offset + 3));
+        long view = toLong(values.get(offset + 4));
+        List<String> skills = JobpostingHotSkills.split((String) values.get(offset + 5));
+        double resolvedScore = score != null ? score : score(like, comment, view);
+        return new Entry(
+                Long.valueOf(member),
+                title == null || title.isEmpty() ? null : title,
+                boardId == null || boardId.isEmpty() ? null : Long.valueOf(boardId),
+                like, comment, view, resolvedScore, skills);
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0L : (long) Double.parseDouble((String) value);
+    }
+
+    private static String[] fields(String member) {
+        String[] fields = new String[FIELDS.length];
+        for (int i = 0; i < FIELDS.length; i++) {
+            fields[i] = member + ":" + FIELDS[i];
+        }
+        return fields;
+    }
+
+    private static List<String> keys(LocalDate date) {
+        return List.of(rankingKey(date), postingsKey(date), dirtyKey(date), changesKey(date), seqKey(date));
+    }
+
+    private static String rankingKey(LocalDate date) {
+        return "jobposting-hot::ranking::{%s}".formatted(date);
+    }
+
+    private static String postingsKey(LocalDate date) {
+        return "jobposting-hot::postings::{%s}".formatted(date);
+    }
+
+    private static String dirtyKey(LocalDate date) {
+        return "jobposting-hot::dirty::{%s}".formatted(date);
+    }
+
+    private static String changesKey(LocalDate date) {
+        return "jobposting-hot::changes::{%s}".formatted(date);
+    }
+
+    private static String seqKey(LocalDate date) {
+        return "jobposting-hot::seq::{%s}".formatted(date);
+    }
+}
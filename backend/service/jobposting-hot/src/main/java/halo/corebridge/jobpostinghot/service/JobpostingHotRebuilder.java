@@ -0,0 +1,176 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.client.CommentClient;
+import halo.corebridge.jobpostinghot.client.JobpostingClient;
+import halo.corebridge.jobpostinghot.client.LikeClient;
+import halo.corebridge.jobpostinghot.client.ViewClient;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 오늘의 인기 공고 전체 재구성
+ *
+ * 기존 updateAll은 게시판 1~5(고정)의 첫 100건만, 하나의 긴 트랜잭션 안에서 공고마다 HTTP 호출로 갱신했습니다.
+ * 여기서는 모든 게시판의 공고를 jobpostingId keyset 스크롤로 pageSize개씩 읽고,
+ * 페이지마다 서비스별 통계 일괄 조회(3회) → DB 배치 저장(페이지당 트랜잭션 1개) → Redis 순위/인덱스 반영 순으로 처리합니다.
+ *
+ * - 앞 페이지는 커밋된 상태로 남으므로 중간에 실패해도 다음 실행에서 이어서 맞춰집니다.
+ * - 통계 일괄 조회는 클라이언트가 서비스 한도(100건)씩 나눠 요청합니다.
+ * - 통계 조회가 실패한 페이지는 0으로 덮어쓰지 않고 건너뜁니다. (기존 값 유지, 다음 실행에서 다시 반영)
+ */
+@Slf4j
+@Component
+public class JobpostingHotRebuilder {
+
+    private final JobpostingClient jobpostingClient;
+    private final ViewClient viewClient;
+    private final LikeClient likeClient;
+    private final CommentClient commentClient;
+    private final JobpostingHotWriter jobpostingHotWriter;
+    private final JobpostingHotRanking jobpostingHotRanking;
+    private final JobpostingHotIndex jobpostingHotIndex;
+    private final JobpostingHotVersions jobpostingHotVersions;
+    private final long pageSize;
+
+    public JobpostingHotRebuilder(JobpostingClient jobpostingClient,
+                                  ViewClient viewClient,
+                                  LikeClient likeClient,
+                                  CommentClient commentClient,
+                                  JobpostingHotWriter jobpostingHotWriter,
+                                  JobpostingHotRanking jobpostingHotRanking,
+                                  JobpostingHotIndex jobpostingHotIndex,
+                                  JobpostingHotVersions jobpostingHotVersions,
+                                  @Value("${hot.rebuild.page-size:200}") long pageSize) {
+        if (pageSize <= 0) {
+            throw new IllegalArgumentException("pageSize는 0보다 커야 합니다: " + pageSize);
+        }
+        this.jobpostingClient = jobpostingClient;
+        this.viewClient = viewClient;
+        this.likeClient = likeClient;
+        this.commentClient = commentClient;
+        this.jobpostingHotWriter = jobpostingHotWriter;
+        this.jobpostingHotRanking = jobpostingHotRanking;
+        this.jobpostingHotIndex = jobpostingHotIndex;
+        this.jobpostingHotVersions = jobpostingHotVersions;
+        this.pageSize = pageSize;
+    }
+
+    /**
+     * 전체 공고를 순회해 오늘 날짜 인기 공고를 다시 채움
+     * @return 반영한 공고 수
+     */
+    public int rebuild() {
+        return rebuildRange("0/1", 0L, null);
+    }
+
+    /**
+     * shard 몫의 jobpostingId 구간만 다시 채움 (여러 인스턴스가 나눠 실행할 때)
+     *
+     * [0, splitId)를 shardCount개 구간으로 나누고, 마지막 shard는 splitId 이후(새 공고)까지 맡습니다.
+     * Snowflake ID는 생성 시각 순이라 구간은 생성 시각 구간이며, shard마다 자기 구간만 스크롤합니다.
+     * 같은 주기의 shard는 같은 splitId를 써야 빠짐/겹침이 없습니다. (JobpostingHotScheduler가 주기 시작 시각으로 계산)
+     * @return 반영한 공고 수
+     */
+    public int rebuild(long shard, long shardCount, long splitId) {
+        if (shardCount <= 0 || shard < 0 || shard >= shardCount) {
+            throw new IllegalArgumentException("shard는 0 이상 shardCount 미만이어야 합니다: " + shard + "/" + shardCount);
+        }
+        if (splitId < 0) {
+            throw new IllegalArgumentException("splitId는 0 이상이어야 합니다: " + splitId);
+        }
+        long step = splitId / shardCount;
+        long fromId = shard * step;
+        Long toId = shard == shardCount - 1 ? null : (shard + 1) * step;
+        return rebuildRange(shard + "/" + shardCount, fromId, toId);
+    }
+
+    // fromId 이상 toId 미만(null이면 끝까지) 구간을 최신 ID부터 스크롤
+    private int rebuildRange(String shard, long fromId, Long toId) {
+        LocalDate today = LocalDate.now();
+        long startNanos = System.nanoTime();
+        Long lastJobpostingId = toId;
+        int pages = 0;
+        int skipped = 0;
+        int total = 0;
+        try {
+            while (true) {
+                List<JobpostingClient.JobpostingResponse> jobpostings =
+                        jobpostingClient.readAllScroll(lastJobpostingId, pageSize);
+                if (jobpostings == null) {
+                    throw new IllegalStateException("공고 목록 조회 실패: lastJobpostingId=" + lastJobpostingId);
+                }
+                if (jobpostings.isEmpty()) {
+                    break;
+                }
+                List<JobpostingClient.JobpostingResponse> owned = jobpostings.stream()
+                        .filter(jobposting -> jobposting.getJobpostingId() >= fromId)
+                        .toList();
+                if (!owned.isEmpty()) {
+                    int saved = rebuildPage(today, owned);
+                    if (saved < 0) {
+                        skipped++;
+                    } else {
+                        total += saved;
+                    }
+                }
+                pages++;
+                lastJobpostingId = jobpostings.get(jobpostings.size() - 1).getJobpostingId();
+                if (owned.size() < pageSize) {
+                    break;
+                }
+            }
+        } finally {
+            if (total > 0) {
+                jobpostingHotVersions.touch(today);
+            }
+            log.info("[HotRebuild] date={}, shard={}, ids=[{}, {}), pages={}, skipped={}, jobpostings={}, {}ms",
+                    today, shard, fromId, toId == null ? "" : toId, pages, skipped, total,
+                    Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        }
+        return total;
+    }
+
+    /**
+     * @return 저장한 공고 수 (통계 조회 실패로 건너뛰면 -1)
+     */
+    private int rebuildPage(LocalDate date, List<JobpostingClient.JobpostingResponse> jobpostings) {
+        List<Long> jobpostingIds = jobpostings.stream()
+                .map(JobpostingClient.JobpostingResponse::getJobpostingId)
+                .toList();
+
+        // 서비스별 일괄 조회 (페이지당 서비스마다 ceil(페이지 크기 / 100)회)
+        Map<Long, Long> viewCounts = viewClient.counts(jobpostingIds);
+        Map<Long, Long> likeCounts = likeClient.counts(jobpostingIds);
+        Map<Long, Long> commentCounts = commentClient.counts(jobpostingIds);
+        if (viewCounts == null || likeCounts == null || commentCounts == null) {
+            log.warn("[HotRebuild] 통계 조회 실패, 페이지 건너뜀: jobpostingIds={}~{}",
+                    jobpostingIds.get(0), jobpostingIds.get(jobpostingIds.size() - 1));
+            return -1;
+        }
+
+        List<JobpostingHotRanking.Entry> entries = jobpostings.stream()
+                .map(jobposting -> JobpostingHotRanking.Entry.of(
+                        jobposting.getJobpostingId(),
+                        jobposting.getTitle(),
+                        jobposting.getBoardId(),
+                        JobpostingHotSkills.normalize(jobposting.getRequiredSkills()),
+                        likeCounts.getOrDefault(jobposting.getJobpostingId(), 0L),
+                        commentCounts.getOrDefault(jobposting.getJobpostingId(), 0L),
+                        viewCounts.getOrDefault(jobposting.getJobpostingId(), 0L)))
+                .toList();
+
+        int saved = jobpostingHotWriter.saveAll(date, entries);
+        // 커밋 후 순위에 저장 (이후 이벤트가 이 값에서 이어서 반영됨, 이미 DB에 있으므로 스냅샷 대상 아님)
+        for (JobpostingHotRanking.Entry entry : entries) {
+            jobpostingHotRanking.putSaved(date, entry);
+            jobpostingHotIndex.put(date, entry);
+        }
+        return saved;
+    }
+}
@@ -10,12 +10,21 @@ import halo.corebridge.jobpostinghot.model.entity.JobpostingHotId;
 import halo.corebridge.jobpostinghot.repository.JobpostingHotRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 
 @Slf4j
 @Service
@@ -27,8 +36,19 @@ public class JobpostingHotService {
     private final ViewClient viewClient;
     private final LikeClient likeClient;
     private final CommentClient commentClient;
+    private final JobpostingHotVersions jobpostingHotVersions;
+    private final JobpostingHotRanking jobpostingHotRanking;
+    private final JobpostingHotIndex jobpostingHotIndex;
+    private final JobpostingHotTrends jobpostingHotTrends;
+    private final JobpostingHotWriter jobpostingHotWriter;
+    private final JobpostingHotRebuilder jobpostingHotRebuilder;
+    private final JobpostingHotArchives jobpostingHotArchives;
     
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final long ALL_BOARD_ID = 1L;
+
+    @Value("${hot.live-stats.max-staleness-seconds:10}")
+    private long liveStatsMaxStalenessSeconds;
 
     // ============================================
     // 조회
@@ -36,30 +56,151 @@ public class JobpostingHotService {
 
     /**
      * 특정 날짜의 인기 공고 목록 조회
+     * Redis 순위가 있으면(오늘/어제) 순위에서, 지난 날짜는 보관 스냅샷(정렬 완료)에서, 그 외에는 DB 스냅샷에서 조회
      */
     @Transactional(readOnly = true)
     public List<JobpostingHotDto.Response> readAll(String dateStr) {
         LocalDate date = LocalDate.parse(dateStr, DATE_FORMATTER);
-        
+
+        List<JobpostingHotDto.Response> ranked = readRanking(date, jobpostingHotRanking::all);
+        if (!ranked.isEmpty()) {
+            return ranked;
+        }
+        JobpostingHotSnapshot archived = archived(date);
+        if (archived != null) {
+            return archived.all().stream().map(this::toResponse).toList();
+        }
         return jobpostingHotRepository.findByDateKeyOrderByScoreDesc(date)
                 .stream()
                 .map(JobpostingHotDto.Response::from)
                 .toList();
     }
 
+    /**
+     * 특정 날짜의 공고 한 건 (Redis 순위 → 보관 스냅샷 이진 탐색 → DB 스냅샷)
+     */
+    @Transactional(readOnly = true)
+    public JobpostingHotDto.Response read(String dateStr, Long jobpostingId) {
+        LocalDate date = LocalDate.parse(dateStr, DATE_FORMATTER);
+
+        List<JobpostingHotDto.Response> ranked = readRanking(date,
+                key -> List.copyOf(jobpostingHotRanking.entries(key, List.of(jobpostingId)).values()));
+        if (!ranked.isEmpty()) {
+            return ranked.get(0);
+        }
+        JobpostingHotSnapshot archived = archived(date);
+        if (archived != null) {
+            JobpostingHotRanking.Entry entry = archived.find(jobpostingId);
+            if (entry != null) {
+                return toResponse(entry);
+            }
+        }
+        return jobpostingHotRepository.findById(new JobpostingHotId(date, jobpostingId))
+                .map(JobpostingHotDto.Response::from)
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "해당 날짜의 인기 공고가 아닙니다: date=" + dateStr + ", jobpostingId=" + jobpostingId));
+    }
+
     /**
      * 오늘의 인기 공고 TOP N
+     * 인메모리 인덱스 스냅샷 → (준비 전이면) Redis ZREVRANGE → (순위가 없을 때만) DB
      */
     @Transactional(readOnly = true)
     public List<JobpostingHotDto.Response> readTopN(int limit) {
+        List<JobpostingHotRanking.Entry> indexed = jobpostingHotIndex.top(limit);
+        if (!indexed.isEmpty()) {
+            return indexed.stream().map(this::toResponse).toList();
+        }
+
         LocalDate today = LocalDate.now();
-        
+        List<JobpostingHotDto.Response> ranked = readRanking(today, date -> jobpostingHotRanking.top(date, limit));
+        if (!ranked.isEmpty()) {
+            return ranked;
+        }
         return jobpostingHotRepository.findTopByDateKey(today, limit)
                 .stream()
                 .map(JobpostingHotDto.Response::from)
                 .toList();
     }
 
+    /**
+     * 오늘의 게시판별 인기 공고 TOP N (boardId=1은 "전체" 게시판 → 전체 TOP N)
+     * 인메모리 인덱스의 게시판 TopK 스냅샷 (O(K)) → (준비 전이면) DB
+     */
+    @Transactional(readOnly = true)
+    public List<JobpostingHotDto.Response> readTopN(Long boardId, int limit) {
+        if (boardId == null || boardId == ALL_BOARD_ID) {
+            return readTopN(limit);
+        }
+        List<JobpostingHotRanking.Entry> indexed = jobpostingHotIndex.topByBoard(boardId, limit);
+        if (!indexed.isEmpty()) {
+            return indexed.stream().map(this::toResponse).toList();
+        }
+        return jobpostingHotRepository.findTopByDateKeyAndBoardId(LocalDate.now(), boardId, limit)
+                .stream()
+                .map(JobpostingHotDto.Response::from)
+                .toList();
+    }
+
+    /**
+     * 오늘의 스킬별 인기 공고 TOP N (필수 스킬 기준, 대소문자 무시)
+     * 스킬은 인메모리 인덱스에만 있으므로 첫 동기화 전에는 빈 목록입니다.
+     */
+    public List<JobpostingHotDto.Response> readTopNBySkill(String skill, int limit) {
+        List<String> normalized = JobpostingHotSkills.normalize(List.of(skill));
+        if (normalized.isEmpty()) {
+            throw new IllegalArgumentException("스킬이 비어 있습니다.");
+        }
+        return jobpostingHotIndex.topBySkill(normalized.get(0), limit).stream()
+                .map(this::toResponse)
+                .toList();
+    }
+
+    /**
+     * 최근 시간 창 기준 인기 공고 (누적이 아닌 최근 증가량, 지수 감쇠)
+     * score는 시간 창 점수이고, 제목/게시판/누적 통계는 오늘(없으면 어제) 순위에서 채웁니다.
+     */
+    public List<JobpostingHotDto.Response> readTrending(int limit) {
+        List<JobpostingHotTrend.Trend> trends = jobpostingHotTrends.top(limit);
+        if (trends.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, JobpostingHotRanking.Entry> entries = trendEntries(trends.stream()
+                .map(JobpostingHotTrend.Trend::jobpostingId)
+                .toList());
+
+        return trends.stream()
+                .map(trend -> {
+                    JobpostingHotRanking.Entry entry = entries.get(trend.jobpostingId());
+                    JobpostingHotDto.Response.ResponseBuilder builder = JobpostingHotDto.Response.builder()
+                            .jobpostingId(trend.jobpostingId())
+                            .score(trend.score());
+                    if (entry != null) {
+                        builder.title(entry.title())
+                                .boardId(entry.boardId())
+                                .likeCount(entry.likeCount())
+                                .commentCount(entry.commentCount())
+                                .viewCount(entry.viewCount());
+                    }
+                    return builder.build();
+                })
+                .toList();
+    }
+
+    /**
+     * 날짜별 인기 목록 버전 (조건부 GET용, DB/통계 서비스 조회 없음)
+     */
+    public Long version(String dateStr) {
+        return jobpostingHotVersions.get(LocalDate.parse(dateStr, DATE_FORMATTER));
+    }
+
+    /**
+     * 오늘의 인기 목록 버전
+     */
+    public Long todayVersion() {
+        return jobpostingHotVersions.get(LocalDate.now());
+    }
+
     // ============================================
     // 수동 등록/갱신
     // ============================================
@@ -75,31 +216,14 @@ public class JobpostingHotService {
             throw new RuntimeException("Jobposting not found: " + jobpostingId);
         }
 
-        LocalDate today = LocalDate.now();
-        
         // 각 서비스에서 통계 조회
         Long viewCount = viewClient.count(jobpostingId);
         Long likeCount = likeClient.count(jobpostingId);
         Long commentCount = commentClient.count(jobpostingId);
 
-        // 기존 데이터 확인
-        JobpostingHotId id = new JobpostingHotId(today, jobpostingId);
-        JobpostingHot jobpostingHot = jobpostingHotRepository.findById(id)
-                .map(existing -> {
-                    existing.updateCounts(likeCount, commentCount, viewCount);
-                    return existing;
-                })
-                .orElseGet(() -> JobpostingHot.create(
-                        today,
-                        jobpostingId,
-                        jobposting.getTitle(),
-                        jobposting.getBoardId(),
-                        likeCount,
-                        commentCount,
-                        viewCount
-                ));
-
-        jobpostingHotRepository.save(jobpostingHot);
+        LocalDate today = LocalDate.now();
+        JobpostingHot jobpostingHot = upsert(today, jobposting, viewCount, likeCount, commentCount);
+        jobpostingHotVersions.touch(today);
         
         log.info("Registered hot jobposting: id={}, score={}", jobpostingId, jobpostingHot.getScore());
         
@@ -118,62 +242,213 @@ public class JobpostingHotService {
             return 0;
         }
 
+        List<JobpostingClient.JobpostingResponse> jobpostings = pageResponse.getJobpostings();
+        List<Long> jobpostingIds = jobpostings.stream()
+                .map(JobpostingClient.JobpostingResponse::getJobpostingId)
+                .toList();
+
+        // 서비스별 일괄 조회 (게시판당 3회)
+        Map<Long, Long> viewCounts = viewClient.counts(jobpostingIds);
+        Map<Long, Long> likeCounts = likeClient.counts(jobpostingIds);
+        Map<Long, Long> commentCounts = commentClient.counts(jobpostingIds);
+        if (viewCounts == null || likeCounts == null || commentCounts == null) {
+            // 실패한 통계를 0으로 덮어쓰지 않음
+            log.warn("Skipped hot jobposting update for board {}: count lookup failed", boardId);
+            return 0;
+        }
+
+        LocalDate today = LocalDate.now();
         int count = 0;
-        for (JobpostingClient.JobpostingResponse jobposting : pageResponse.getJobpostings()) {
+        for (JobpostingClient.JobpostingResponse jobposting : jobpostings) {
+            Long jobpostingId = jobposting.getJobpostingId();
             try {
-                register(jobposting.getJobpostingId());
+                upsert(today, jobposting,
+                        viewCounts.getOrDefault(jobpostingId, 0L),
+                        likeCounts.getOrDefault(jobpostingId, 0L),
+                        commentCounts.getOrDefault(jobpostingId, 0L));
                 count++;
             } catch (Exception e) {
-                log.error("Failed to register hot jobposting: {}", jobposting.getJobpostingId(), e);
+                log.error("Failed to register hot jobposting: {}", jobpostingId, e);
             }
         }
         
+        if (count > 0) {
+            jobpostingHotVersions.touch(today);
+        }
         log.info("Updated {} hot jobpostings for board {}", count, boardId);
         return count;
     }
 
     /**
-     * 전체 채용공고 인기 점수 갱신 (스케줄러에서 호출)
+     * 전체 채용공고 인기 점수 갱신 (시작 예열/스케줄러에서 호출)
+     * 모든 게시판의 전체 공고를 페이지 단위로 재구성합니다. (페이지마다 별도 트랜잭션, JobpostingHotRebuilder)
      */
-    @Transactional
     public int updateAll() {
-        int totalCount = 0;
-        
-        // 게시판 1~5 순회 (전체, IT/개발, 마케팅, 디자인, 영업)
-        for (long boardId = 1; boardId <= 5; boardId++) {
-            totalCount += updateByBoard(boardId);
-        }
-        
-        log.info("Total {} hot jobpostings updated", totalCount);
-        return totalCount;
+        return jobpostingHotRebuilder.rebuild();
+    }
+
+    /**
+     * 전체 갱신 중 한 shard의 jobpostingId 구간만 (여러 인스턴스가 나눠 실행할 때)
+     */
+    public int updateShard(long shard, long shardCount, long splitId) {
+        return jobpostingHotRebuilder.rebuild(shard, shardCount, splitId);
     }
 
     /**
-     * 인기 공고 목록에 실시간 통계 반영
+     * 오늘의 인기 공고 TOP N (실시간 통계, 기본 TOP N API)
+     * 통계는 이벤트로 갱신되는 값을 쓰고, 공고마다 통계 서비스를 호출하지 않습니다.
+     * 신선도 상한(hot.live-stats.max-staleness-seconds) 안에서 다음 순서로 조회:
+     * 1) 인메모리 인덱스 - 마지막 Redis 동기화가 상한 안일 때
+     * 2) Redis 순위 - 이벤트마다 갱신 (Kafka 소비 지연만큼 늦음)
+     * 3) 순위가 없으면 DB 스냅샷 + 서비스별 통계 일괄 조회 (3회)
      */
     @Transactional(readOnly = true)
     public List<JobpostingHotDto.Response> readTopNWithLiveStats(int limit) {
+        List<JobpostingHotRanking.Entry> indexed =
+                jobpostingHotIndex.top(limit, Duration.ofSeconds(liveStatsMaxStalenessSeconds).toMillis());
+        if (!indexed.isEmpty()) {
+            return indexed.stream().map(this::toResponse).toList();
+        }
+
         LocalDate today = LocalDate.now();
-        
-        List<JobpostingHot> hotList = jobpostingHotRepository.findTopByDateKey(today, limit);
-        
-        return hotList.stream()
-                .map(hot -> {
-                    // 실시간 통계 조회
-                    Long liveViewCount = viewClient.count(hot.getJobpostingId());
-                    Long liveLikeCount = likeClient.count(hot.getJobpostingId());
-                    Long liveCommentCount = commentClient.count(hot.getJobpostingId());
-                    
-                    return JobpostingHotDto.Response.builder()
-                            .jobpostingId(hot.getJobpostingId())
-                            .title(hot.getTitle())
-                            .boardId(hot.getBoardId())
-                            .likeCount(liveLikeCount)
-                            .commentCount(liveCommentCount)
-                            .viewCount(liveViewCount)
-                            .score(hot.getScore())
-                            .build();
+        List<JobpostingHotDto.Response> ranked = readRanking(today, date -> jobpostingHotRanking.top(date, limit));
+        if (!ranked.isEmpty()) {
+            return ranked;
+        }
+        return withLiveCounts(jobpostingHotRepository.findTopByDateKey(today, limit));
+    }
+
+    // ============================================
+    // DB 스냅샷
+    // ============================================
+
+    /**
+     * Redis 순위에서 바뀐 공고를 최대 batchSize개 꺼내 DB에 반영 (JobpostingHotSnapshotScheduler)
+     * 반영이 롤백되면 꺼낸 공고를 다시 표시해 다음 스냅샷에서 재시도합니다.
+     * @return 꺼낸 공고 수 (batchSize보다 작으면 남은 변경 없음)
+     */
+    @Transactional
+    public int persistSnapshot(LocalDate date, int batchSize) {
+        List<Long> jobpostingIds = jobpostingHotRanking.drainDirty(date, batchSize);
+        if (jobpostingIds.isEmpty()) {
+            return 0;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        jobpostingHotRanking.markDirty(date, jobpostingIds);
+                    }
+                }
+            });
+        }
+
+        Map<Long, JobpostingHotRanking.Entry> entries = jobpostingHotRanking.entries(date, jobpostingIds);
+        int saved = jobpostingHotWriter.saveAll(date, entries.values());
+        log.debug("[HotSnapshot] date={}, drained={}, saved={}", date, jobpostingIds.size(), saved);
+        return jobpostingIds.size();
+    }
+
+    /**
+     * 오늘 날짜의 인기 공고 저장 (있으면 통계 갱신, 없으면 생성)
+     */
+    private JobpostingHot upsert(LocalDate today, JobpostingClient.JobpostingResponse jobposting,
+                                 Long viewCount, Long likeCount, Long commentCount) {
+        JobpostingHotId id = new JobpostingHotId(today, jobposting.getJobpostingId());
+        JobpostingHot jobpostingHot = jobpostingHotRepository.findById(id)
+                .map(existing -> {
+                    existing.updateCounts(likeCount, commentCount, viewCount);
+                    return existing;
                 })
+                .orElseGet(() -> JobpostingHot.create(
+                        today,
+                        jobposting.getJobpostingId(),
+                        jobposting.getTitle(),
+                        jobposting.getBoardId(),
+                        likeCount,
+                        commentCount,
+                        viewCount
+                ));
+
+        jobpostingHot = jobpostingHotRepository.save(jobpostingHot);
+        // 이후 이벤트가 이 값에서 이어서 반영되도록 순위에도 저장
+        JobpostingHotRanking.Entry entry = JobpostingHotRanking.Entry.of(jobposting.getJobpostingId(),
+                jobposting.getTitle(), jobposting.getBoardId(), JobpostingHotSkills.normalize(jobposting.getRequiredSkills()),
+                likeCount, commentCount, viewCount);
+        jobpostingHotRanking.put(today, entry);
+        jobpostingHotIndex.put(today, entry);
+        return jobpostingHot;
+    }
+
+    /**
+     * DB 스냅샷 행에 통계 서비스 값을 일괄 조회로 반영 (서비스별 1회) 후 점수순 정렬
+     * 조회가 실패한 통계는 스냅샷 값을 그대로 씁니다.
+     */
+    private List<JobpostingHotDto.Response> withLiveCounts(List<JobpostingHot> snapshot) {
+        if (snapshot.isEmpty()) {
+            return List.of();
+        }
+        List<Long> jobpostingIds = snapshot.stream().map(JobpostingHot::getJobpostingId).toList();
+        Map<Long, Long> viewCounts = Objects.requireNonNullElse(viewClient.counts(jobpostingIds), Map.of());
+        Map<Long, Long> likeCounts = Objects.requireNonNullElse(likeClient.counts(jobpostingIds), Map.of());
+        Map<Long, Long> commentCounts = Objects.requireNonNullElse(commentClient.counts(jobpostingIds), Map.of());
+
+        return snapshot.stream()
+                .map(hot -> toResponse(JobpostingHotRanking.Entry.of(hot.getJobpostingId(), hot.getTitle(), hot.getBoardId(),
+                        likeCounts.getOrDefault(hot.getJobpostingId(), hot.getLikeCount()),
+                        commentCounts.getOrDefault(hot.getJobpostingId(), hot.getCommentCount()),
+                        viewCounts.getOrDefault(hot.getJobpostingId(), hot.getViewCount()))))
+                .sorted(Comparator.comparing(JobpostingHotDto.Response::getScore).reversed())
                 .toList();
     }
+
+    /**
+     * Redis 순위 조회 (Redis 장애 시 빈 목록 → DB 조회)
+     */
+    private List<JobpostingHotDto.Response> readRanking(LocalDate date,
+                                                        Function<LocalDate, List<JobpostingHotRanking.Entry>> reader) {
+        try {
+            return reader.apply(date).stream()
+                    .map(this::toResponse)
+                    .toList();
+        } catch (Exception e) {
+            log.warn("[HotRanking] Redis 순위 조회 실패, DB로 조회: date={}, error={}", date, e.getMessage());
+            return List.of();
+        }
+    }
+
+    /**
+     * 지난 날짜의 보관 스냅샷 (오늘이거나 아직 보관 전이면 null)
+     */
+    private JobpostingHotSnapshot archived(LocalDate date) {
+        return date.isBefore(LocalDate.now()) ? jobpostingHotArchives.find(date) : null;
+    }
+
+    private Map<Long, JobpostingHotRanking.Entry> trendEntries(List<Long> jobpostingIds) {
+        LocalDate today = LocalDate.now();
+        try {
+            Map<Long, JobpostingHotRanking.Entry> entries = new HashMap<>(jobpostingHotRanking.entries(today, jobpostingIds));
+            List<Long> missing = jobpostingIds.stream().filter(id -> !entries.containsKey(id)).toList();
+            if (!missing.isEmpty()) {
+                entries.putAll(jobpostingHotRanking.entries(today.minusDays(1), missing));
+            }
+            return entries;
+        } catch (Exception e) {
+            log.warn("[HotRanking] 공고 정보 조회 실패, 점수만 응답: error={}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private JobpostingHotDto.Response toResponse(JobpostingHotRanking.Entry entry) {
+        return JobpostingHotDto.Response.builder()
+                .jobpostingId(entry.jobpostingId())
+                .title(entry.title())
+                .boardId(entry.boardId())
+                .likeCount(entry.likeCount())
+                .commentCount(entry.commentCount())
+                .viewCount(entry.viewCount())
+                .score(entry.score())
+                .build();
+    }
 }
@@ -0,0 +1,67 @@
+package halo.corebridge.jobpostinghot.service;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 스킬 태그 정규화 (스킬별 인기 순위 키)
+ *
+ * 이벤트의 requiredSkills는 JSON 배열 문자열(["Java", "Spring Boot"]),
+ * 공고 조회 응답은 문자열 목록이므로 같은 형태(소문자, 앞뒤 공백 제거, 중복 제거)로 맞춥니다.
+ * 공고당 MAX_SKILLS개까지만 순위에 반영합니다.
+ */
+public final class JobpostingHotSkills {
+
+    static final int MAX_SKILLS = 20;
+
+    private JobpostingHotSkills() {
+    }
+
+    /**
+     * JSON 배열 문자열 → 정규화된 스킬 목록 (null/빈 값은 빈 목록)
+     */
+    public static List<String> parse(String skillsJson) {
+        if (skillsJson == null || skillsJson.isBlank()) {
+            return List.of();
+        }
+        String cleaned = skillsJson.replaceAll("[\\[\\]\"]", "");
+        return normalize(List.of(cleaned.split(",")));
+    }
+
+    public static List<String> normalize(Collection<String> skills) {
+        if (skills == null || skills.isEmpty()) {
+            return List.of();
+        }
+        Set<String> normalized = new LinkedHashSet<>();
+        for (String skill : skills) {
+            if (skill == null) {
+                continue;
+            }
+            String tag = skill.strip().toLowerCase(Locale.ROOT);
+            if (!tag.isEmpty() && !tag.contains(",")) {
+                normalized.add(tag);
+            }
+            if (normalized.size() == MAX_SKILLS) {
+                break;
+            }
+        }
+        return List.copyOf(normalized);
+    }
+
+    /**
+     * Redis 저장 형식 (쉼표 구분)
+     */
+    static String join(List<String> skills) {
+        return String.join(",", skills);
+    }
+
+    static List<String> split(String joined) {
+        if (joined == null || joined.isEmpty()) {
+            return List.of();
+        }
+        return List.of(joined.split(","));
+    }
+}
@@ -0,0 +1,216 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Entry;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 지난 날짜 인기 순위의 불변 스냅샷 (jobposting_hot_archive 한 행)
+ *
+ * 하루치 순위를 컬럼 단위로 묶어 bytea 하나에 저장합니다.
+ * - 행은 jobpostingId 오름차순으로 두고 ID는 앞 행과의 차이(varint)로 저장합니다. (Snowflake ID 8바이트 → 차이는 보통 5~6바이트)
+ * - 게시판/좋아요/댓글/조회수도 varint 컬럼, 제목은 길이 + UTF-8
+ * - 점수순 목록은 행 번호 컬럼(rank)으로 미리 정렬해 두므로 조회 시 ORDER BY가 없습니다.
+ * - 점수는 저장하지 않고 통계로 다시 계산합니다. (JobpostingHotRanking.score)
+ *
+ * 읽을 때 한 번 풀어 배열로 보관하고, 공고 단건 조회는 ID 배열 이진 탐색(O(log n))입니다.
+ */
+public final class JobpostingHotSnapshot {
+
+    private static final byte FORMAT_VERSION = 1;
+
+    private final long[] jobpostingIds;
+    private final String[] titles;
+    private final Long[] boardIds;
+    private final long[] likeCounts;
+    private final long[] commentCounts;
+    private final long[] viewCounts;
+    private final int[] rank;
+
+    private JobpostingHotSnapshot(int size) {
+        this.jobpostingIds = new long[size];
+        this.titles = new String[size];
+        this.boardIds = new Long[size];
+        this.likeCounts = new long[size];
+        this.commentCounts = new long[size];
+        this.viewCounts = new long[size];
+        this.rank = new int[size];
+    }
+
+    /**
+     * 순위 항목으로 스냅샷 생성 (같은 공고가 여러 번 있으면 마지막 값)
+     */
+    public static JobpostingHotSnapshot of(Collection<Entry> entries) {
+        List<Entry> rows = new ArrayList<>(entries.stream()
+                .collect(Collectors.toMap(Entry::jobpostingId, entry -> entry, (first, last) -> last))
+                .values());
+        rows.sort(Comparator.comparing(Entry::jobpostingId));
+
+        JobpostingHotSnapshot snapshot = new JobpostingHotSnapshot(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            Entry entry = rows.get(i);
+            snapshot.jobpostingIds[i] = entry.jobpostingId();
+            snapshot.titles[i] = entry.title();
+            snapshot.boardIds[i] = entry.boardId();
+            snapshot.likeCounts[i] = Math.max(0, entry.likeCount());
+            snapshot.commentCounts[i] = Math.max(0, entry.commentCount());
+            snapshot.viewCounts[i] = Math.max(0, entry.viewCount());
+        }
+        // 점수 내림차순, 같은 점수는 jobpostingId 오름차순 (행 번호 순)
+        double[] scores = new double[rows.size()];
+        Integer[] order = new Integer[rows.size()];
+        for (int i = 0; i < order.length; i++) {
+            scores[i] = JobpostingHotRanking.score(
+                    snapshot.likeCounts[i], snapshot.commentCounts[i], snapshot.viewCounts[i]);
+            order[i] = i;
+        }
+        Arrays.sort(order, (a, b) -> scores[a] != scores[b]
+                ? Double.compare(scores[b], scores[a]) : Integer.compare(a, b));
+        for (int i = 0; i < order.length; i++) {
+            snapshot.rank[i] = order[i];
+        }
+        return snapshot;
+    }
+
+    public static JobpostingHotSnapshot decode(byte[] bytes) {
+        ByteBuffer buffer = ByteBuffer.wrap(bytes);
+        byte version = buffer.get();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalArgumentException("지원하지 않는 스냅샷 형식입니다: " + version);
+        }
+        int size = (int) readVarLong(buffer);
+        JobpostingHotSnapshot snapshot = new JobpostingHotSnapshot(size);
+        long previous = 0;
+        for (int i = 0; i < size; i++) {
+            previous += readVarLong(buffer);
+            snapshot.jobpostingIds[i] = previous;
+        }
+        for (int i = 0; i < size; i++) {
+            long boardId = readVarLong(buffer);
+            snapshot.boardIds[i] = boardId == 0 ? null : boardId - 1;
+        }
+        readColumn(buffer, snapshot.likeCounts);
+        readColumn(buffer, snapshot.commentCounts);
+        readColumn(buffer, snapshot.viewCounts);
+        for (int i = 0; i < size; i++) {
+            snapshot.rank[i] = (int) readVarLong(buffer);
+        }
+        for (int i = 0; i < size; i++) {
+            int length = (int) readVarLong(buffer);
+            if (length > 0) {
+                snapshot.titles[i] = new String(bytes, buffer.position(), length - 1, StandardCharsets.UTF_8);
+                buffer.position(buffer.position() + length - 1);
+            }
+        }
+        return snapshot;
+    }
+
+    public byte[] encode() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(size() * 16 + 8);
+        out.write(FORMAT_VERSION);
+        writeVarLong(out, size());
+        long previous = 0;
+        for (long jobpostingId : jobpostingIds) {
+            writeVarLong(out, jobpostingId - previous);
+            previous = jobpostingId;
+        }
+        // null 게시판은 0, 나머지는 +1
+        for (Long boardId : boardIds) {
+            writeVarLong(out, boardId == null ? 0 : boardId + 1);
+        }
+        writeColumn(out, likeCounts);
+        writeColumn(out, commentCounts);
+        writeColumn(out, viewCounts);
+        for (int row : rank) {
+            writeVarLong(out, row);
+        }
+        // null 제목은 0, 나머지는 바이트 길이 +1
+        for (String title : titles) {
+            if (title == null) {
+                writeVarLong(out, 0);
+                continue;
+            }
+            byte[] utf8 = title.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(out, utf8.length + 1L);
+            out.writeBytes(utf8);
+        }
+        return out.toByteArray();
+    }
+
+    public int size() {
+        return jobpostingIds.length;
+    }
+
+    /**
+     * 점수 내림차순 상위 limit개
+     */
+    public List<Entry> top(int limit) {
+        int count = Math.min(Math.max(limit, 0), size());
+        List<Entry> entries = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            entries.add(entry(rank[i]));
+        }
+        return entries;
+    }
+
+    /**
+     * 점수 내림차순 전체
+     */
+    public List<Entry> all() {
+        return top(size());
+    }
+
+    /**
+     * 공고 단건 (ID 이진 탐색, 없으면 null)
+     */
+    public Entry find(long jobpostingId) {
+        int row = Arrays.binarySearch(jobpostingIds, jobpostingId);
+        return row < 0 ? null : entry(row);
+    }
+
+    private Entry entry(int row) {
+        return Entry.of(jobpostingIds[row], titles[row], boardIds[row],
+                likeCounts[row], commentCounts[row], viewCounts[row]);
+    }
+
+    private static void writeColumn(ByteArrayOutputStream out, long[] column) {
+        for (long value : column) {
+            writeVarLong(out, value);
+        }
+    }
+
+    private static void readColumn(ByteBuffer buffer, long[] column) {
+        for (int i = 0; i < column.length; i++) {
+            column[i] = readVarLong(buffer);
+        }
+    }
+
+    // 7비트씩, 상위 비트 = 다음 바이트 있음 (0 이상 값만)
+    private static void writeVarLong(ByteArrayOutputStream out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.write((int) value);
+    }
+
+    private static long readVarLong(ByteBuffer buffer) {
+        long value = 0;
+        int shift = 0;
+        byte b;
+        do {
+            b = buffer.get();
+            value |= (long) (b & 0x7F) << shift;
+            shift += 7;
+        } while (b < 0);
+        return value;
+    }
+}
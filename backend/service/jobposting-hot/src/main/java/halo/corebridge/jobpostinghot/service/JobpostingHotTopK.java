@@ -0,0 +1,190 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Counter;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Entry;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 점수순 인기 공고 인덱스 (증분 갱신 + 불변 TOP K 스냅샷)
+ *
+ * 통계가 바뀔 때마다 점수 순서를 O(log n)으로 유지하고, 상위 snapshotSize개는 불변 목록으로 만들어 통째로 교체합니다.
+ * 조회는 volatile 스냅샷만 읽으므로 잠금 없이 limit개를 바로 돌려줍니다.
+ *
+ * - order: 점수 내림차순(같은 점수는 jobpostingId 오름차순) 레드블랙 트리, entries: id → 항목
+ * - 갱신은 기존 항목을 빼고 새 항목을 넣음 (O(log n)), 쓰기끼리는 synchronized로 직렬화
+ * - 스냅샷은 바뀐 항목이 상위 K 범위에 걸릴 때만 다시 만듭니다. (O(K), 하위권 조회수 이벤트는 트리 갱신만)
+ * - maxEntries를 넘으면 점수가 가장 낮은 항목부터 버립니다. (메모리 상한)
+ */
+public final class JobpostingHotTopK {
+
+    private static final Comparator<Entry> ORDER = Comparator.comparingDouble(Entry::score).reversed()
+            .thenComparing(Entry::jobpostingId);
+
+    private final int snapshotSize;
+    private final int maxEntries;
+    private final TreeSet<Entry> order = new TreeSet<>(ORDER);
+    private final Map<Long, Entry> entries = new HashMap<>();
+
+    private volatile List<Entry> snapshot = List.of();
+
+    public JobpostingHotTopK(int snapshotSize, int maxEntries) {
+        if (snapshotSize <= 0) {
+            throw new IllegalArgumentException("snapshotSize는 0보다 커야 합니다: " + snapshotSize);
+        }
+        if (maxEntries < snapshotSize) {
+            throw new IllegalArgumentException("maxEntries는 snapshotSize 이상이어야 합니다: " + maxEntries);
+        }
+        this.snapshotSize = snapshotSize;
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * 점수 내림차순 상위 limit개 (불변, limit은 snapshotSize까지)
+     */
+    public List<Entry> top(int limit) {
+        if (limit > snapshotSize) {
+            throw new IllegalArgumentException("limit은 " + snapshotSize + " 이하여야 합니다: " + limit);
+        }
+        List<Entry> current = snapshot;
+        return limit >= current.size() ? current : current.subList(0, Math.max(limit, 0));
+    }
+
+    /**
+     * 새 항목 추가 (이미 있으면 무시)
+     * @return 추가했으면 true
+     */
+    public synchronized boolean add(Entry entry) {
+        if (entries.containsKey(entry.jobpostingId())) {
+            return false;
+        }
+        replace(null, entry);
+        return true;
+    }
+
+    /**
+     * 항목 저장 (있으면 덮어씀)
+     */
+    public synchronized void put(Entry entry) {
+        replace(entries.get(entry.jobpostingId()), entry);
+    }
+
+    /**
+     * 통계 값 저장
+     * @return 인덱스에 있는 공고면 true
+     */
+    public synchronized boolean set(long jobpostingId, Counter counter, long value) {
+        Entry current = entries.get(jobpostingId);
+        if (current == null) {
+            return false;
+        }
+        if (current.count(counter) != value) {
+            replace(current, current.with(counter, value));
+        }
+        return true;
+    }
+
+    /**
+     * 통계 증감 (0 미만으로는 내려가지 않음)
+     * @return 인덱스에 있는 공고면 true
+     */
+    public synchronized boolean increment(long jobpostingId, Counter counter, long delta) {
+        Entry current = entries.get(jobpostingId);
+        if (current == null) {
+            return false;
+        }
+        return set(jobpostingId, counter, Math.max(0, current.count(counter) + delta));
+    }
+
+    public synchronized boolean remove(long jobpostingId) {
+        Entry removed = entries.remove(jobpostingId);
+        if (removed == null) {
+            return false;
+        }
+        boolean affected = inSnapshotRange(removed);
+        order.remove(removed);
+        if (affected) {
+            rebuild();
+        }
+        return true;
+    }
+
+    /**
+     * 전체 교체 (원본 순위와 다시 맞출 때)
+     */
+    public synchronized void replaceAll(Collection<Entry> all) {
+        order.clear();
+        entries.clear();
+        for (Entry entry : all) {
+            Entry previous = entries.put(entry.jobpostingId(), entry);
+            if (previous != null) {
+                order.remove(previous);
+            }
+            order.add(entry);
+        }
+        evictOverflow();
+        rebuild();
+    }
+
+    /**
+     * 현재 항목 (없으면 null)
+     */
+    public synchronized Entry get(long jobpostingId) {
+        return entries.get(jobpostingId);
+    }
+
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    public int getSnapshotSize() {
+        return snapshotSize;
+    }
+
+    private void replace(Entry current, Entry updated) {
+        // 스냅샷은 변경 전 상태 기준이므로 판단을 먼저 함
+        boolean affected = inSnapshotRange(current) || inSnapshotRange(updated);
+        if (current != null) {
+            order.remove(current);
+        }
+        order.add(updated);
+        entries.put(updated.jobpostingId(), updated);
+        // maxEntries ≥ snapshotSize라 버려지는 최하위 항목은 상위 K에 들지 않음
+        evictOverflow();
+        if (affected) {
+            rebuild();
+        }
+    }
+
+    // 변경 전 스냅샷의 마지막 항목과 같거나 앞서면 상위 K에 영향
+    private boolean inSnapshotRange(Entry entry) {
+        if (entry == null) {
+            return false;
+        }
+        List<Entry> current = snapshot;
+        return current.size() < snapshotSize || ORDER.compare(entry, current.get(current.size() - 1)) <= 0;
+    }
+
+    private void evictOverflow() {
+        while (entries.size() > maxEntries) {
+            Entry lowest = order.pollLast();
+            entries.remove(lowest.jobpostingId());
+        }
+    }
+
+    private void rebuild() {
+        List<Entry> next = new ArrayList<>(Math.min(snapshotSize, order.size()));
+        Iterator<Entry> iterator = order.iterator();
+        while (next.size() < snapshotSize && iterator.hasNext()) {
+            next.add(iterator.next());
+        }
+        snapshot = List.copyOf(next);
+    }
+}
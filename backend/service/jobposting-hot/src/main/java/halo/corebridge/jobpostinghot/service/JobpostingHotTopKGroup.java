@@ -0,0 +1,230 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Counter;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Entry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+
+/**
+ * 전체 / 게시판별 / 스킬별 TOP N을 함께 유지하는 JobpostingHotTopK 묶음
+ *
+ * 같은 변경(이벤트)을 공고가 속한 모든 차원(전체, 자기 게시판, 필수 스킬마다)의 TopK에 반영하므로
+ * 게시판/스킬별 조회도 전체 목록을 훑지 않고 해당 TopK 스냅샷만 읽습니다. (O(K))
+ *
+ * - 차원마다 최대 maxEntries개를 따로 보관합니다. (전체에서 밀려난 공고도 자기 게시판/스킬 순위에는 남음)
+ * - 통계 이벤트에는 게시판/스킬이 없으므로 공고별 태그(게시판, 스킬)를 보관해 반영할 TopK를 찾습니다.
+ * - 변경은 묶음 단위로 잠그고(차원 사이 일관성), 조회는 각 TopK 스냅샷을 잠금 없이 읽습니다.
+ */
+public final class JobpostingHotTopKGroup {
+
+    private final int snapshotSize;
+    private final int maxEntries;
+
+    private final JobpostingHotTopK all;
+    private final Map<Long, JobpostingHotTopK> boards = new ConcurrentHashMap<>();
+    private final Map<String, JobpostingHotTopK> skills = new ConcurrentHashMap<>();
+    private final Map<Long, Tags> tags = new HashMap<>();
+
+    /**
+     * 공고가 속한 차원
+     */
+    private record Tags(Long boardId, List<String> skills) {
+
+        static Tags of(Entry entry) {
+            return new Tags(entry.boardId(), entry.skills());
+        }
+    }
+
+    public JobpostingHotTopKGroup(int snapshotSize, int maxEntries) {
+        this.snapshotSize = snapshotSize;
+        this.maxEntries = maxEntries;
+        this.all = new JobpostingHotTopK(snapshotSize, maxEntries);
+    }
+
+    /**
+     * 전체 상위 limit개
+     */
+    public List<Entry> top(int limit) {
+        return all.top(limit);
+    }
+
+    /**
+     * 게시판 상위 limit개 (해당 게시판 공고가 없으면 빈 목록)
+     */
+    public List<Entry> topByBoard(Long boardId, int limit) {
+        JobpostingHotTopK topK = boards.get(boardId);
+        return topK == null ? List.of() : topK.top(limit);
+    }
+
+    /**
+     * 스킬 상위 limit개 (skill은 JobpostingHotSkills로 정규화된 값)
+     */
+    public List<Entry> topBySkill(String skill, int limit) {
+        JobpostingHotTopK topK = skills.get(skill);
+        return topK == null ? List.of() : topK.top(limit);
+    }
+
+    /**
+     * 없는 공고만 추가
+     * @return 추가했으면 true
+     */
+    public synchronized boolean add(Entry entry) {
+        if (!all.add(entry)) {
+            return false;
+        }
+        Tags tag = Tags.of(entry);
+        tags.put(entry.jobpostingId(), tag);
+        forEach(tag, true, topK -> topK.add(entry));
+        return true;
+    }
+
+    /**
+     * 추가 또는 덮어쓰기 (게시판/스킬이 바뀌었으면 이전 차원에서 제거)
+     */
+    public synchronized void put(Entry entry) {
+        retag(entry.jobpostingId(), Tags.of(entry));
+        all.put(entry);
+        forEach(tags.get(entry.jobpostingId()), true, topK -> topK.put(entry));
+    }
+
+    /**
+     * 통계 값 저장
+     * @return 전체 순위에 있는 공고면 true
+     */
+    public synchronized boolean set(Long jobpostingId, Counter counter, long value) {
+        boolean applied = all.set(jobpostingId, counter, value);
+        forEach(tags.get(jobpostingId), false, topK -> topK.set(jobpostingId, counter, value));
+        return applied;
+    }
+
+    /**
+     * 통계 증감
+     * @return 전체 순위에 있는 공고면 true
+     */
+    public synchronized boolean increment(Long jobpostingId, Counter counter, long delta) {
+        boolean applied = all.increment(jobpostingId, counter, delta);
+        forEach(tags.get(jobpostingId), false, topK -> topK.increment(jobpostingId, counter, delta));
+        return applied;
+    }
+
+    /**
+     * 공고 정보 변경 (통계 유지, 게시판/스킬이 바뀌면 차원 이동)
+     */
+    public synchronized void describe(Long jobpostingId, String title, Long boardId, List<String> skills) {
+        Entry current = current(jobpostingId);
+        if (current == null) {
+            return;
+        }
+        put(new Entry(jobpostingId, title, boardId,
+                current.likeCount(), current.commentCount(), current.viewCount(), current.score(), skills));
+    }
+
+    public synchronized void remove(Long jobpostingId) {
+        all.remove(jobpostingId);
+        Tags tag = tags.remove(jobpostingId);
+        forEach(tag, false, topK -> topK.remove(jobpostingId));
+    }
+
+    /**
+     * 전체 교체 (Redis 순위와 다시 맞춤) - 항목이 없어진 게시판/스킬 TopK는 제거
+     */
+    public synchronized void replaceAll(List<Entry> entries) {
+        all.replaceAll(entries);
+        tags.clear();
+        Map<Long, List<Entry>> byBoard = new HashMap<>();
+        Map<String, List<Entry>> bySkill = new HashMap<>();
+        for (Entry entry : entries) {
+            tags.put(entry.jobpostingId(), Tags.of(entry));
+            if (entry.boardId() != null) {
+                byBoard.computeIfAbsent(entry.boardId(), key -> new ArrayList<>()).add(entry);
+            }
+            for (String skill : entry.skills()) {
+                bySkill.computeIfAbsent(skill, key -> new ArrayList<>()).add(entry);
+            }
+        }
+        replaceAll(boards, byBoard);
+        replaceAll(skills, bySkill);
+    }
+
+    public synchronized int size() {
+        return all.size();
+    }
+
+    private <K> void replaceAll(Map<K, JobpostingHotTopK> dimension, Map<K, List<Entry>> grouped) {
+        dimension.keySet().retainAll(grouped.keySet());
+        grouped.forEach((key, entries) -> dimension.computeIfAbsent(key, ignored -> newTopK()).replaceAll(entries));
+    }
+
+    // 게시판/스킬이 바뀌면 이전 차원에서 빼고 태그 교체
+    private void retag(Long jobpostingId, Tags next) {
+        Tags previous = tags.put(jobpostingId, next);
+        if (previous == null || previous.equals(next)) {
+            return;
+        }
+        if (!Objects.equals(previous.boardId(), next.boardId())) {
+            removeFrom(boards, previous.boardId(), jobpostingId);
+        }
+        for (String skill : previous.skills()) {
+            if (!next.skills().contains(skill)) {
+                removeFrom(skills, skill, jobpostingId);
+            }
+        }
+    }
+
+    private <K> void removeFrom(Map<K, JobpostingHotTopK> dimension, K key, Long jobpostingId) {
+        if (key == null) {
+            return;
+        }
+        JobpostingHotTopK topK = dimension.get(key);
+        if (topK != null) {
+            topK.remove(jobpostingId);
+            if (topK.size() == 0) {
+                dimension.remove(key);
+            }
+        }
+    }
+
+    // 게시판/스킬 TopK에 차례로 적용 (create: 없으면 만듦, 태그를 모르는 공고는 전체에만 반영됨)
+    private void forEach(Tags tag, boolean create, Consumer<JobpostingHotTopK> change) {
+        if (tag == null) {
+            return;
+        }
+        if (tag.boardId() != null) {
+            apply(boards, tag.boardId(), create, change);
+        }
+        for (String skill : tag.skills()) {
+            apply(skills, skill, create, change);
+        }
+    }
+
+    private <K> void apply(Map<K, JobpostingHotTopK> dimension, K key, boolean create,
+                           Consumer<JobpostingHotTopK> change) {
+        JobpostingHotTopK topK = create ? dimension.computeIfAbsent(key, ignored -> newTopK()) : dimension.get(key);
+        if (topK != null) {
+            change.accept(topK);
+        }
+    }
+
+    private Entry current(Long jobpostingId) {
+        Entry entry = all.get(jobpostingId);
+        if (entry != null) {
+            return entry;
+        }
+        Tags tag = tags.get(jobpostingId);
+        if (tag == null || tag.boardId() == null) {
+            return null;
+        }
+        JobpostingHotTopK board = boards.get(tag.boardId());
+        return board == null ? null : board.get(jobpostingId);
+    }
+
+    private JobpostingHotTopK newTopK() {
+        return new JobpostingHotTopK(snapshotSize, maxEntries);
+    }
+}
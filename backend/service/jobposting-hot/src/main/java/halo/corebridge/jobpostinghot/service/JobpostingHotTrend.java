@@ -0,0 +1,282 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Counter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.LongSupplier;
+
+/**
+ * 시간 창 기반 인기 점수 (공고별 구간 링 버퍼 + 지수 감쇠)
+ *
+ * 날짜별 순위는 누적 통계(좋아요*3 + 댓글*2 + 조회수)라 오래된 대형 공고가 계속 상위에 있고 자정에 한 번에 초기화됩니다.
+ * 여기서는 공고마다 최근 buckets개 구간(bucketMillis)의 가중 증가량만 링 버퍼에 보관하고,
+ * 점수 = Σ 구간 증가량 * 0.5^(구간 나이 / halfLife) 로 계산합니다. (halfLife 0이면 단순 시간 창 합계)
+ *
+ * 저장 구조 (원시 타입 배열, open addressing)
+ * - keys:        long[capacity]            (0 = 빈 슬롯)
+ * - buckets:     float[capacity * buckets] (슬롯 i의 구간은 i*buckets ..)
+ * - lastBucket:  long[capacity]            (마지막으로 기록한 구간 번호, 그 뒤 구간은 다음 기록 때 0으로 비움)
+ * - lastTotals:  long[capacity * 3]        (이벤트의 누적값 → 증가량 계산용, -1 = 아직 모름)
+ *
+ * - 이벤트 반영은 O(1) (구간이 넘어갔을 때만 지난 구간 비우기, 최대 buckets번)
+ * - maxEntries가 차면 표본 중 점수가 가장 낮은 공고를 버립니다. (메모리 상한)
+ * - 누적값을 처음 본 공고는 기준값만 기록합니다. (재시작 직후 누적 전체가 증가량으로 잡히지 않도록)
+ * - 상위 목록은 refresh 때 전체를 계산해 불변 스냅샷으로 교체하고, 조회는 스냅샷만 읽습니다.
+ */
+public final class JobpostingHotTrend {
+
+    private static final long EMPTY_KEY = 0L;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    private static final int EVICTION_SAMPLE_SIZE = 16;
+    private static final int COUNTERS = Counter.values().length;
+
+    private final int maxEntries;
+    private final int bucketCount;
+    private final long bucketMillis;
+    private final double[] weights;
+    private final double[] decay;
+    private final LongSupplier clock;
+
+    private final long[] keys;
+    private final float[] buckets;
+    private final long[] lastBucket;
+    private final long[] lastTotals;
+    private final int mask;
+    private int size;
+
+    private volatile List<Trend> snapshot = List.of();
+
+    /**
+     * 공고별 시간 창 점수
+     */
+    public record Trend(long jobpostingId, double score) {
+    }
+
+    /**
+     * @param weights        Counter 순서(LIKE, COMMENT, VIEW)의 가중치
+     * @param halfLifeMillis 반감기 (0이면 감쇠 없음)
+     */
+    public JobpostingHotTrend(int maxEntries, int bucketCount, long bucketMillis, long halfLifeMillis,
+                              double[] weights, LongSupplier clock) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 0보다 커야 합니다: " + maxEntries);
+        }
+        if (bucketCount <= 0 || bucketMillis <= 0) {
+            throw new IllegalArgumentException("buckets와 bucketMillis는 0보다 커야 합니다: " + bucketCount + ", " + bucketMillis);
+        }
+        if (halfLifeMillis < 0) {
+            throw new IllegalArgumentException("halfLifeMillis는 0 이상이어야 합니다: " + halfLifeMillis);
+        }
+        if (weights.length != COUNTERS) {
+            throw new IllegalArgumentException("weights는 " + COUNTERS + "개여야 합니다: " + weights.length);
+        }
+        int capacity = Integer.highestOneBit(Math.max(2, (int) Math.ceil(maxEntries / MAX_LOAD_FACTOR)) - 1) << 1;
+        this.maxEntries = maxEntries;
+        this.bucketCount = bucketCount;
+        this.bucketMillis = bucketMillis;
+        this.weights = weights.clone();
+        this.clock = clock;
+        this.decay = new double[bucketCount];
+        for (int age = 0; age < bucketCount; age++) {
+            decay[age] = halfLifeMillis == 0 ? 1.0 : Math.pow(0.5, (double) age * bucketMillis / halfLifeMillis);
+        }
+        this.keys = new long[capacity];
+        this.buckets = new float[capacity * bucketCount];
+        this.lastBucket = new long[capacity];
+        this.lastTotals = new long[capacity * COUNTERS];
+        this.mask = capacity - 1;
+    }
+
+    /**
+     * 누적값 반영 (조회수/좋아요 수 이벤트) - 마지막으로 본 누적값과의 차이를 현재 구간에 더함
+     */
+    public synchronized void set(long jobpostingId, Counter counter, long total) {
+        int slot = slotOrInsert(jobpostingId);
+        int index = slot * COUNTERS + counter.ordinal();
+        long previous = lastTotals[index];
+        lastTotals[index] = total;
+        if (previous >= 0 && total != previous) {
+            record(slot, (total - previous) * weights[counter.ordinal()]);
+        }
+    }
+
+    /**
+     * 증감 반영 (댓글 생성/삭제)
+     */
+    public synchronized void add(long jobpostingId, Counter counter, long delta) {
+        int slot = slotOrInsert(jobpostingId);
+        int index = slot * COUNTERS + counter.ordinal();
+        if (lastTotals[index] >= 0) {
+            lastTotals[index] = Math.max(0, lastTotals[index] + delta);
+        }
+        record(slot, delta * weights[counter.ordinal()]);
+    }
+
+    public synchronized void remove(long jobpostingId) {
+        int slot = find(jobpostingId);
+        if (slot >= 0) {
+            delete(slot);
+        }
+    }
+
+    /**
+     * 현재 시간 창 점수 (없는 공고는 0)
+     */
+    public synchronized double score(long jobpostingId) {
+        int slot = find(jobpostingId);
+        return slot < 0 ? 0.0 : score(slot, currentBucket());
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * 점수 상위 limit개 (마지막 refresh 기준, 잠금 없음)
+     */
+    public List<Trend> top(int limit) {
+        List<Trend> current = snapshot;
+        return limit >= current.size() ? current : current.subList(0, Math.max(limit, 0));
+    }
+
+    /**
+     * 전체 점수를 다시 계산해 상위 snapshotSize개 스냅샷 교체 (O(n * buckets))
+     */
+    public void refresh(int snapshotSize) {
+        Comparator<Trend> order = Comparator.comparingDouble(Trend::score)
+                .thenComparing(Comparator.comparingLong(Trend::jobpostingId).reversed());
+        PriorityQueue<Trend> heap = new PriorityQueue<>(snapshotSize + 1, order);
+        synchronized (this) {
+            long now = currentBucket();
+            for (int slot = 0; slot < keys.length; slot++) {
+                if (keys[slot] == EMPTY_KEY) {
+                    continue;
+                }
+                double score = score(slot, now);
+                if (score <= 0) {
+                    continue;
+                }
+                heap.offer(new Trend(keys[slot], score));
+                if (heap.size() > snapshotSize) {
+                    heap.poll();
+                }
+            }
+        }
+        List<Trend> next = new ArrayList<>(heap);
+        next.sort(order.reversed());
+        snapshot = List.copyOf(next);
+    }
+
+    private void record(int slot, double weighted) {
+        long now = currentBucket();
+        long last = lastBucket[slot];
+        if (now > last) {
+            // 지난 기록 이후의 구간은 이전 주기 값이 남아 있으므로 비움
+            for (long bucket = Math.max(last + 1, now - bucketCount + 1); bucket <= now; bucket++) {
+                buckets[slot * bucketCount + (int) (bucket % bucketCount)] = 0f;
+            }
+            lastBucket[slot] = now;
+        }
+        buckets[slot * bucketCount + (int) (now % bucketCount)] += (float) weighted;
+    }
+
+    private double score(int slot, long now) {
+        long last = Math.min(lastBucket[slot], now);
+        double score = 0.0;
+        for (long bucket = Math.max(0, now - bucketCount + 1); bucket <= last; bucket++) {
+            score += buckets[slot * bucketCount + (int) (bucket % bucketCount)] * decay[(int) (now - bucket)];
+        }
+        return score;
+    }
+
+    private long currentBucket() {
+        return clock.getAsLong() / bucketMillis;
+    }
+
+    private int find(long jobpostingId) {
+        for (int slot = mix(jobpostingId) & mask; ; slot = (slot + 1) & mask) {
+            if (keys[slot] == jobpostingId) {
+                return slot;
+            }
+            if (keys[slot] == EMPTY_KEY) {
+                return -1;
+            }
+        }
+    }
+
+    private int slotOrInsert(long jobpostingId) {
+        if (jobpostingId == EMPTY_KEY) {
+            throw new IllegalArgumentException("jobpostingId는 0일 수 없습니다.");
+        }
+        int found = find(jobpostingId);
+        if (found >= 0) {
+            return found;
+        }
+        if (size >= maxEntries) {
+            delete(victim());
+        }
+        int slot = mix(jobpostingId) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            slot = (slot + 1) & mask;
+        }
+        keys[slot] = jobpostingId;
+        lastBucket[slot] = currentBucket();
+        Arrays.fill(buckets, slot * bucketCount, (slot + 1) * bucketCount, 0f);
+        Arrays.fill(lastTotals, slot * COUNTERS, (slot + 1) * COUNTERS, -1L);
+        size++;
+        return slot;
+    }
+
+    // 임의 위치부터 EVICTION_SAMPLE_SIZE개 공고 중 점수가 가장 낮은 슬롯
+    private int victim() {
+        long now = currentBucket();
+        int victim = -1;
+        double lowest = Double.MAX_VALUE;
+        int sampled = 0;
+        for (int slot = ThreadLocalRandom.current().nextInt(keys.length), probes = 0;
+             sampled < EVICTION_SAMPLE_SIZE && probes < keys.length; slot = (slot + 1) & mask, probes++) {
+            if (keys[slot] == EMPTY_KEY) {
+                continue;
+            }
+            sampled++;
+            double score = score(slot, now);
+            if (score < lowest) {
+                lowest = score;
+                victim = slot;
+            }
+        }
+        return victim;
+    }
+
+    // backward shift 삭제 (빈 슬롯 표식 없이 탐색 연속성 유지)
+    private void delete(int slot) {
+        int hole = slot;
+        for (int next = (hole + 1) & mask; keys[next] != EMPTY_KEY; next = (next + 1) & mask) {
+            int home = mix(keys[next]) & mask;
+            // next의 원래 자리가 (hole, next] 밖이면 hole로 당겨옴
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                move(next, hole);
+                hole = next;
+            }
+        }
+        keys[hole] = EMPTY_KEY;
+        size--;
+    }
+
+    private void move(int from, int to) {
+        keys[to] = keys[from];
+        lastBucket[to] = lastBucket[from];
+        System.arraycopy(buckets, from * bucketCount, buckets, to * bucketCount, bucketCount);
+        System.arraycopy(lastTotals, from * COUNTERS, lastTotals, to * COUNTERS, COUNTERS);
+    }
+
+    private static int mix(long key) {
+        long h = key * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
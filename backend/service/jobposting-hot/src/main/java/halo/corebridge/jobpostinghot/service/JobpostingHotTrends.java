@@ -0,0 +1,74 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Counter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 시간 창 인기 점수 (JobpostingHotTrend 설정/주기 갱신)
+ *
+ * 이벤트는 인스턴스마다 전부 받아 반영하고 (JobpostingHotTrendConsumer),
+ * 상위 목록 스냅샷은 refresh-seconds마다 다시 계산합니다.
+ * 날짜와 무관하게 이어지므로 자정에 순위가 한 번에 초기화되지 않습니다.
+ */
+@Component
+public class JobpostingHotTrends {
+
+    private final JobpostingHotTrend trend;
+    private final int snapshotSize;
+
+    public JobpostingHotTrends(@Value("${hot.trend.max-entries:50000}") int maxEntries,
+                               @Value("${hot.trend.bucket-minutes:60}") long bucketMinutes,
+                               @Value("${hot.trend.buckets:24}") int buckets,
+                               @Value("${hot.trend.half-life-minutes:360}") long halfLifeMinutes,
+                               @Value("${hot.trend.weights.like:3}") double likeWeight,
+                               @Value("${hot.trend.weights.comment:2}") double commentWeight,
+                               @Value("${hot.trend.weights.view:1}") double viewWeight,
+                               @Value("${hot.trend.snapshot-size:100}") int snapshotSize) {
+        if (snapshotSize <= 0) {
+            throw new IllegalArgumentException("snapshotSize는 0보다 커야 합니다: " + snapshotSize);
+        }
+        double[] weights = new double[Counter.values().length];
+        weights[Counter.LIKE.ordinal()] = likeWeight;
+        weights[Counter.COMMENT.ordinal()] = commentWeight;
+        weights[Counter.VIEW.ordinal()] = viewWeight;
+        this.trend = new JobpostingHotTrend(maxEntries, buckets, Duration.ofMinutes(bucketMinutes).toMillis(),
+                Duration.ofMinutes(halfLifeMinutes).toMillis(), weights, System::currentTimeMillis);
+        this.snapshotSize = snapshotSize;
+    }
+
+    /**
+     * 누적값 이벤트 (조회수/좋아요 수)
+     */
+    public void set(Long jobpostingId, Counter counter, long total) {
+        trend.set(jobpostingId, counter, total);
+    }
+
+    /**
+     * 증감 이벤트 (댓글)
+     */
+    public void add(Long jobpostingId, Counter counter, long delta) {
+        trend.add(jobpostingId, counter, delta);
+    }
+
+    public void remove(Long jobpostingId) {
+        trend.remove(jobpostingId);
+    }
+
+    /**
+     * 시간 창 점수 상위 limit개 (snapshot-size까지)
+     */
+    public List<JobpostingHotTrend.Trend> top(int limit) {
+        return trend.top(Math.min(limit, snapshotSize));
+    }
+
+    @Scheduled(fixedDelayString = "${hot.trend.refresh-seconds:10}", timeUnit = TimeUnit.SECONDS)
+    public void refresh() {
+        trend.refresh(snapshotSize);
+    }
+}
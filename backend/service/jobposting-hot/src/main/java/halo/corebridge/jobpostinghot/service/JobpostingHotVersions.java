@@ -0,0 +1,51 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.common.web.VersionStamps;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+
+/**
+ * 날짜별 인기 목록 버전 스탬프 (조건부 GET용)
+ *
+ * 인기 테이블을 바꾸는 이벤트 처리/수동 갱신이 커밋된 뒤 그 날짜의 버전을 올립니다.
+ * (커밋 전에 올리면 이전 목록에 새 ETag가 붙을 수 있음)
+ * 이벤트는 인스턴스끼리 나눠 소비하므로 다른 인스턴스의 변경은 알 수 없어,
+ * 버전은 max-age가 지나면 새로 발급합니다. (잘못된 304가 나갈 수 있는 기간의 상한)
+ */
+@Component
+public class JobpostingHotVersions {
+
+    private final VersionStamps stamps = new VersionStamps();
+    private final long maxAgeMillis;
+
+    public JobpostingHotVersions(@Value("${hot.etag.max-age-seconds:5}") long maxAgeSeconds) {
+        if (maxAgeSeconds < 0) {
+            throw new IllegalArgumentException("maxAgeSeconds는 0 이상이어야 합니다: " + maxAgeSeconds);
+        }
+        this.maxAgeMillis = maxAgeSeconds * 1000;
+    }
+
+    public long get(LocalDate date) {
+        return stamps.get(date.toEpochDay(), maxAgeMillis);
+    }
+
+    /**
+     * 변경 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void touch(LocalDate date) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            stamps.touch(date.toEpochDay());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                stamps.touch(date.toEpochDay());
+            }
+        });
+    }
+}
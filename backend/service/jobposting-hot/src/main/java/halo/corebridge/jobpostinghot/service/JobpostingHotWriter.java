@@ -0,0 +1,73 @@
+package halo.corebridge.jobpostinghot.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 인기 공고 DB 일괄 저장 (배치 하나 = upsert 문 batch 1회 = 트랜잭션 하나)
+ *
+ * 이벤트는 Redis 순위에 누적되고 바뀐 공고만 dirty로 모였다가 (JobpostingHotRanking)
+ * 스냅샷/재구성 때 공고당 한 행씩 INSERT ... ON CONFLICT DO UPDATE로 기록합니다.
+ * - 행마다 SELECT 후 UPDATE(merge)하지 않으므로 배치당 왕복은 1회입니다.
+ * - 조회가 몰리는 공고도 flush당 한 번만 씁니다. (이벤트 수와 무관)
+ * - 인스턴스끼리 같은 행을 잠그는 순서가 엇갈리지 않도록 jobpostingId 순으로 씁니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class JobpostingHotWriter {
+
+    static final String UPSERT_SQL =
+            "INSERT INTO jobposting_hot " +
+            "(date_key, jobposting_id, title, board_id, like_count, comment_count, view_count, score, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (date_key, jobposting_id) DO UPDATE SET " +
+            "title = COALESCE(EXCLUDED.title, jobposting_hot.title), " +
+            "board_id = COALESCE(EXCLUDED.board_id, jobposting_hot.board_id), " +
+            "like_count = EXCLUDED.like_count, " +
+            "comment_count = EXCLUDED.comment_count, " +
+            "view_count = EXCLUDED.view_count, " +
+            "score = EXCLUDED.score, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * @return 저장한 행 수
+     */
+    @Transactional
+    public int saveAll(LocalDate date, Collection<JobpostingHotRanking.Entry> entries) {
+        if (entries.isEmpty()) {
+            return 0;
+        }
+        List<JobpostingHotRanking.Entry> rows = entries.stream()
+                .sorted(Comparator.comparing(JobpostingHotRanking.Entry::jobpostingId))
+                .toList();
+        Date dateKey = Date.valueOf(date);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        jdbcTemplate.batchUpdate(UPSERT_SQL, rows, rows.size(), (ps, entry) -> {
+            ps.setDate(1, dateKey);
+            ps.setLong(2, entry.jobpostingId());
+            ps.setString(3, entry.title());
+            ps.setObject(4, entry.boardId(), Types.BIGINT);
+            ps.setLong(5, entry.likeCount());
+            ps.setLong(6, entry.commentCount());
+            ps.setLong(7, entry.viewCount());
+            ps.setDouble(8, JobpostingHotRanking.score(entry.likeCount(), entry.commentCount(), entry.viewCount()));
+            ps.setTimestamp(9, now);
+            ps.setTimestamp(10, now);
+        });
+        return rows.size();
+    }
+}
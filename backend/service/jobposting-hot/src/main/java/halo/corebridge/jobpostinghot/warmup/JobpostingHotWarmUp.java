@@ -0,0 +1,84 @@
+package halo.corebridge.jobpostinghot.warmup;
+
+import halo.corebridge.common.warmup.WarmUp;
+import halo.corebridge.common.warmup.WarmUpHealthIndicator;
+import halo.corebridge.jobpostinghot.scheduler.JobpostingHotScheduler;
+import halo.corebridge.jobpostinghot.service.JobpostingHotIndex;
+import halo.corebridge.jobpostinghot.service.JobpostingHotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * jobposting-hot 시작 예열
+ *
+ * 애플리케이션 준비 후 비동기로
+ * 1) Redis 순위로 인메모리 인덱스 동기화 (JobpostingHotIndex.resync)
+ * 2) 오늘의 TOP N + 게시판별 TOP N 조회를 병렬로 실행 (동시 실행 수 hot.warm-up.concurrency)
+ * 완료 전까지 readiness는 OUT_OF_SERVICE입니다. (WarmUpHealthIndicator)
+ *
+ * 전체 공고 재구성은 4개 서비스를 순회해 오래 걸리므로 예열(readiness)에 넣지 않고,
+ * 예열이 끝난 뒤 스케줄 갱신과 같은 작업 잠금으로 한 번 실행합니다. (JobpostingHotScheduler)
+ * 시간 제한으로 중단되지 않으므로 잠금을 잡은 채 재구성이 끊기지 않습니다.
+ */
+@Slf4j
+@Component
+public class JobpostingHotWarmUp {
+
+    private final JobpostingHotScheduler jobpostingHotScheduler;
+    private final JobpostingHotIndex jobpostingHotIndex;
+    private final JobpostingHotService jobpostingHotService;
+    private final WarmUp warmUp;
+    private final List<Long> boardIds;
+    private final int limit;
+
+    public JobpostingHotWarmUp(JobpostingHotScheduler jobpostingHotScheduler,
+                               JobpostingHotIndex jobpostingHotIndex,
+                               JobpostingHotService jobpostingHotService,
+                               @Value("${hot.warm-up.concurrency:2}") int concurrency,
+                               @Value("${hot.warm-up.timeout-seconds:120}") long timeoutSeconds,
+                               @Value("${hot.warm-up.board-ids:1,2,3,4,5}") List<Long> boardIds,
+                               @Value("${hot.warm-up.limit:10}") int limit) {
+        this.jobpostingHotScheduler = jobpostingHotScheduler;
+        this.jobpostingHotIndex = jobpostingHotIndex;
+        this.jobpostingHotService = jobpostingHotService;
+        this.warmUp = new WarmUp("jobposting-hot-warm-up", concurrency, Duration.ofSeconds(timeoutSeconds));
+        this.boardIds = boardIds;
+        this.limit = limit;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        warmUp.start(jobpostingHotIndex::resync, this::tasks)
+                .whenComplete((ignored, e) -> jobpostingHotScheduler.rebuild("startup"));
+    }
+
+    public WarmUp getWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * readiness 그룹의 warmUp 항목
+     */
+    @Bean
+    public WarmUpHealthIndicator warmUpHealthIndicator() {
+        return new WarmUpHealthIndicator(warmUp);
+    }
+
+    private List<Runnable> tasks() {
+        List<Runnable> tasks = new ArrayList<>();
+        tasks.add(() -> jobpostingHotService.readTopNWithLiveStats(limit));
+        for (Long boardId : boardIds) {
+            tasks.add(() -> jobpostingHotService.readTopN(boardId, limit));
+        }
+        log.info("[HotWarmUp] 예열 작업: 오늘의 TOP {} 1건, 게시판별 TOP {} {}건", limit, limit, boardIds.size());
+        return tasks;
+    }
+}
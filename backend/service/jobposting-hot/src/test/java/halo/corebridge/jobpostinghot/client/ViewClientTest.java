@@ -0,0 +1,61 @@
+package halo.corebridge.jobpostinghot.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ViewClient 테스트")
+class ViewClientTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final ViewClient viewClient = new ViewClient(restTemplate);
+
+    @Test
+    @DisplayName("성공: 일괄 조회는 서비스 한도(100건)씩 나눠 요청하고 결과를 합친다")
+    void counts_splitsIntoBulkLimit() {
+        // given
+        List<Long> jobpostingIds = LongStream.rangeClosed(1, 250).boxed().toList();
+        given(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .willReturn(ResponseEntity.ok(Map.of("result", Map.of("1", 5))));
+
+        // when
+        Map<Long, Long> counts = viewClient.counts(jobpostingIds);
+
+        // then
+        assertThat(counts).containsEntry(1L, 5L);
+        verify(restTemplate, times(3))
+                .exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class));
+    }
+
+    @Test
+    @DisplayName("실패: 한 묶음이라도 실패하면 0 대신 null을 반환한다")
+    void counts_failure_returnsNull() {
+        // given
+        given(restTemplate.exchange(anyString(), eq(HttpMethod.GET), isNull(), any(ParameterizedTypeReference.class)))
+                .willThrow(new RestClientException("limit exceeded"));
+
+        // when
+        Map<Long, Long> counts = viewClient.counts(List.of(1L, 2L));
+
+        // then
+        assertThat(counts).isNull();
+    }
+}
@@ -2,6 +2,7 @@ package halo.corebridge.jobpostinghot.controller;
 
 import halo.corebridge.common.audit.filter.AuditLoggingFilter;
 import halo.corebridge.common.security.GatewayAuthenticationFilter;
+import halo.corebridge.common.web.VersionStamps;
 import halo.corebridge.jobpostinghot.config.SecurityConfig;
 import halo.corebridge.jobpostinghot.model.dto.JobpostingHotDto;
 import halo.corebridge.jobpostinghot.service.JobpostingHotService;
@@ -14,12 +15,15 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.List;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
@@ -74,6 +78,67 @@ class JobpostingHotControllerTest {
                     .andExpect(jsonPath("$.result").isArray())
                     .andExpect(jsonPath("$.result[0].jobpostingId").value(1));
         }
+
+        @Test
+        @DisplayName("성공: ETag가 현재 목록 버전과 같으면 통계 조회 없이 304를 반환한다")
+        void readToday_notModified() throws Exception {
+            // given
+            given(jobpostingHotService.todayVersion()).willReturn(1000L);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/jobposting-hot/today")
+                            .header(HttpHeaders.IF_NONE_MATCH, VersionStamps.etag(1000L)))
+                    .andExpect(status().isNotModified());
+            verify(jobpostingHotService, never()).readTopNWithLiveStats(10);
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/jobposting-hot/today/{boards|skills} - 게시판/스킬별 인기 공고")
+    class TodayByDimensionTest {
+
+        @Test
+        @DisplayName("성공: 게시판별 인기 공고를 limit만큼 조회한다")
+        void readTodayByBoard_success() throws Exception {
+            // given
+            given(jobpostingHotService.readTopN(3L, 5)).willReturn(List.of(createTestResponse()));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/jobposting-hot/today/boards/3").param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.result[0].jobpostingId").value(1));
+        }
+
+        @Test
+        @DisplayName("성공: 스킬별 인기 공고를 조회한다 (기본 10개)")
+        void readTodayBySkill_success() throws Exception {
+            // given
+            given(jobpostingHotService.readTopNBySkill("java", 10)).willReturn(List.of(createTestResponse()));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/jobposting-hot/today/skills/java"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.result[0].jobpostingId").value(1));
+        }
+    }
+
+    @Nested
+    @DisplayName("GET /api/v1/jobposting-hot/trending - 급상승 공고")
+    class TrendingTest {
+
+        @Test
+        @DisplayName("성공: limit만큼 시간 창 점수 순으로 조회한다")
+        void readTrending_success() throws Exception {
+            // given
+            given(jobpostingHotService.readTrending(5)).willReturn(List.of(createTestResponse()));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/jobposting-hot/trending").param("limit", "5"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.result[0].jobpostingId").value(1));
+        }
     }
 
     @Nested
@@ -0,0 +1,99 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.model.entity.JobpostingHot;
+import halo.corebridge.jobpostinghot.model.entity.JobpostingHotArchive;
+import halo.corebridge.jobpostinghot.repository.JobpostingHotArchiveRepository;
+import halo.corebridge.jobpostinghot.repository.JobpostingHotRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobpostingHotArchives 테스트")
+class JobpostingHotArchivesTest {
+
+    @Mock
+    private JobpostingHotRepository jobpostingHotRepository;
+    @Mock
+    private JobpostingHotArchiveRepository jobpostingHotArchiveRepository;
+
+    private JobpostingHotArchives jobpostingHotArchives;
+
+    private final LocalDate yesterday = LocalDate.now().minusDays(1);
+
+    @BeforeEach
+    void setUp() {
+        jobpostingHotArchives = new JobpostingHotArchives(jobpostingHotRepository, jobpostingHotArchiveRepository, 7);
+    }
+
+    @Test
+    @DisplayName("성공: 지난 날짜 행을 스냅샷 한 행으로 저장하고 행은 삭제한다")
+    void archive_freezesRows() {
+        // given
+        given(jobpostingHotRepository.findByDateKeyOrderByScoreDesc(yesterday)).willReturn(List.of(
+                JobpostingHot.create(yesterday, 2L, "인기 공고", 1L, 10L, 0L, 0L),
+                JobpostingHot.create(yesterday, 1L, "새 공고", 1L, 0L, 0L, 1L)));
+        given(jobpostingHotArchiveRepository.findById(yesterday)).willReturn(Optional.empty());
+        given(jobpostingHotRepository.deleteByDateKey(yesterday)).willReturn(2);
+
+        // when
+        int archived = jobpostingHotArchives.archive(yesterday);
+
+        // then
+        ArgumentCaptor<JobpostingHotArchive> saved = ArgumentCaptor.forClass(JobpostingHotArchive.class);
+        verify(jobpostingHotArchiveRepository).save(saved.capture());
+        assertThat(archived).isEqualTo(2);
+        assertThat(saved.getValue().getEntryCount()).isEqualTo(2);
+        assertThat(JobpostingHotSnapshot.decode(saved.getValue().getSnapshot()).all())
+                .extracting(JobpostingHotRanking.Entry::jobpostingId).containsExactly(2L, 1L);
+        verify(jobpostingHotRepository).deleteByDateKey(yesterday);
+    }
+
+    @Test
+    @DisplayName("성공: 이미 보관한 날짜에 남은 행은 기존 스냅샷에 합치고, 읽기는 풀어 둔 스냅샷을 재사용한다")
+    void archive_mergesLateRows() {
+        // given
+        JobpostingHotSnapshot previous = JobpostingHotSnapshot.of(List.of(
+                JobpostingHotRanking.Entry.of(1L, "새 공고", 1L, 0L, 0L, 1L),
+                JobpostingHotRanking.Entry.of(3L, "지난 공고", 2L, 0L, 0L, 5L)));
+        JobpostingHotArchive archive = JobpostingHotArchive.create(yesterday, previous.size(), previous.encode());
+        given(jobpostingHotRepository.findByDateKeyOrderByScoreDesc(yesterday)).willReturn(List.of(
+                JobpostingHot.create(yesterday, 1L, "새 공고", 1L, 0L, 0L, 9L)));
+        given(jobpostingHotArchiveRepository.findById(yesterday)).willReturn(Optional.of(archive));
+
+        // when
+        int archived = jobpostingHotArchives.archive(yesterday);
+        JobpostingHotSnapshot first = jobpostingHotArchives.find(yesterday);
+        JobpostingHotSnapshot second = jobpostingHotArchives.find(yesterday);
+
+        // then
+        assertThat(archived).isEqualTo(2);
+        assertThat(first).isSameAs(second);
+        assertThat(first.all()).extracting(JobpostingHotRanking.Entry::jobpostingId).containsExactly(1L, 3L);
+        assertThat(first.find(1L).viewCount()).isEqualTo(9L);
+        verify(jobpostingHotArchiveRepository, never()).save(archive);
+        verify(jobpostingHotArchiveRepository, times(2)).findById(yesterday);
+    }
+
+    @Test
+    @DisplayName("실패: 오늘 날짜는 보관할 수 없다")
+    void archive_rejectsToday() {
+        assertThatThrownBy(() -> jobpostingHotArchives.archive(LocalDate.now()))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,103 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Changes;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Entry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobpostingHotIndex 테스트")
+class JobpostingHotIndexTest {
+
+    @Mock
+    private JobpostingHotRanking jobpostingHotRanking;
+
+    private JobpostingHotIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobpostingHotIndex(jobpostingHotRanking, 10, 1000, 2);
+    }
+
+    @Test
+    @DisplayName("성공: 첫 동기화만 전체를 읽고, 변경 번호가 그대로면 Redis 순위를 다시 읽지 않는다")
+    void resync_unchanged_skipsFullLoad() {
+        // given
+        LocalDate today = LocalDate.now();
+        given(jobpostingHotRanking.changeSeq(today)).willReturn(5L);
+        given(jobpostingHotRanking.top(today, 1000)).willReturn(List.of(entry(1L, 10L)));
+
+        // when
+        index.resync();
+        index.resync();
+
+        // then
+        assertThat(index.top(10)).extracting(Entry::jobpostingId).containsExactly(1L);
+        verify(jobpostingHotRanking, times(1)).top(today, 1000);
+        verify(jobpostingHotRanking, never()).changesSince(any(), anyLong(), anyInt());
+    }
+
+    @Test
+    @DisplayName("성공: 마지막 동기화 이후 바뀐 공고만 반영하고, 순위에서 빠진 공고는 인덱스에서도 뺀다")
+    void resync_changed_appliesOnlyChanges() {
+        // given
+        LocalDate today = LocalDate.now();
+        given(jobpostingHotRanking.changeSeq(today)).willReturn(5L, 7L);
+        given(jobpostingHotRanking.top(today, 1000)).willReturn(List.of(entry(1L, 10L), entry(2L, 5L)));
+        given(jobpostingHotRanking.changesSince(today, 5L, 2)).willReturn(new Changes(List.of(3L), 7L));
+        given(jobpostingHotRanking.entries(today, List.of(3L))).willReturn(Map.of(3L, entry(3L, 20L)));
+        index.resync();
+
+        // when
+        index.resync();
+
+        // then
+        assertThat(index.top(10)).extracting(Entry::jobpostingId).containsExactly(3L, 1L, 2L);
+        verify(jobpostingHotRanking, times(1)).top(today, 1000);
+    }
+
+    @Test
+    @DisplayName("성공: 제거된 공고는 인덱스에서 빼고, 변경이 한도를 넘으면 전체를 다시 읽는다")
+    void resync_removedAndTooManyChanges() {
+        // given
+        LocalDate today = LocalDate.now();
+        given(jobpostingHotRanking.changeSeq(today)).willReturn(5L, 6L, 9L);
+        given(jobpostingHotRanking.top(today, 1000))
+                .willReturn(List.of(entry(1L, 10L), entry(2L, 5L)), List.of(entry(4L, 1L)));
+        given(jobpostingHotRanking.changesSince(today, 5L, 2)).willReturn(new Changes(List.of(2L), 6L));
+        given(jobpostingHotRanking.entries(today, List.of(2L))).willReturn(Map.of());
+        given(jobpostingHotRanking.changesSince(today, 6L, 2)).willReturn(new Changes(List.of(1L, 4L), 9L));
+        index.resync();
+
+        // when
+        index.resync();
+        List<Entry> afterRemove = index.top(10);
+        index.resync();
+
+        // then
+        assertThat(afterRemove).extracting(Entry::jobpostingId).containsExactly(1L);
+        assertThat(index.top(10)).extracting(Entry::jobpostingId).containsExactly(4L);
+        verify(jobpostingHotRanking, times(2)).top(today, 1000);
+    }
+
+    private static Entry entry(Long jobpostingId, long viewCount) {
+        return Entry.of(jobpostingId, "공고 " + jobpostingId, 1L, 0L, 0L, viewCount);
+    }
+}
@@ -0,0 +1,152 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.client.CommentClient;
+import halo.corebridge.jobpostinghot.client.JobpostingClient;
+import halo.corebridge.jobpostinghot.client.LikeClient;
+import halo.corebridge.jobpostinghot.client.ViewClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobpostingHotRebuilder 테스트")
+class JobpostingHotRebuilderTest {
+
+    @Mock
+    private JobpostingClient jobpostingClient;
+    @Mock
+    private ViewClient viewClient;
+    @Mock
+    private LikeClient likeClient;
+    @Mock
+    private CommentClient commentClient;
+    @Mock
+    private JobpostingHotWriter jobpostingHotWriter;
+    @Mock
+    private JobpostingHotRanking jobpostingHotRanking;
+    @Mock
+    private JobpostingHotIndex jobpostingHotIndex;
+
+    private JobpostingHotRebuilder rebuilder;
+
+    @BeforeEach
+    void setUp() {
+        rebuilder = new JobpostingHotRebuilder(jobpostingClient, viewClient, likeClient, commentClient,
+                jobpostingHotWriter, jobpostingHotRanking, jobpostingHotIndex, new JobpostingHotVersions(60), 2);
+    }
+
+    @Test
+    @DisplayName("성공: 마지막 ID 기준으로 모든 페이지를 순회하고, 페이지마다 일괄 조회 후 배치로 저장한다 (순위는 스냅샷 대상으로 표시하지 않음)")
+    void rebuild_scrollsAllPages() {
+        // given
+        LocalDate today = LocalDate.now();
+        given(jobpostingClient.readAllScroll(null, 2L)).willReturn(List.of(jobposting(30L, 2L), jobposting(20L, 3L)));
+        given(jobpostingClient.readAllScroll(20L, 2L)).willReturn(List.of(jobposting(10L, 5L)));
+        given(viewClient.counts(anyList())).willReturn(Map.of(30L, 100L, 10L, 7L));
+        given(likeClient.counts(anyList())).willReturn(Map.of(20L, 4L));
+        given(commentClient.counts(anyList())).willReturn(Map.of());
+        given(jobpostingHotWriter.saveAll(eq(today), anyList())).willReturn(2, 1);
+
+        // when
+        int count = rebuilder.rebuild();
+
+        // then
+        assertThat(count).isEqualTo(3);
+        verify(viewClient).counts(List.of(30L, 20L));
+        verify(viewClient).counts(List.of(10L));
+        verify(jobpostingHotWriter, times(2)).saveAll(eq(today), anyList());
+        verify(jobpostingHotRanking).putSaved(today, JobpostingHotRanking.Entry.of(20L, "공고 20", 3L, 4L, 0L, 0L));
+        verify(jobpostingHotRanking).putSaved(today, JobpostingHotRanking.Entry.of(10L, "공고 10", 5L, 0L, 0L, 7L));
+        verify(jobpostingHotRanking, never()).put(any(), any());
+        verify(jobpostingClient, never()).readAllScroll(10L, 2L);
+    }
+
+    @Test
+    @DisplayName("실패: 목록 조회가 실패하면 중단하고, 이미 저장한 페이지는 남긴다")
+    void rebuild_stopsOnScrollFailure() {
+        // given
+        given(jobpostingClient.readAllScroll(null, 2L)).willReturn(List.of(jobposting(30L, 2L), jobposting(20L, 3L)));
+        given(jobpostingClient.readAllScroll(20L, 2L)).willReturn(null);
+        given(jobpostingHotWriter.saveAll(any(), anyList())).willReturn(2);
+
+        // when & then
+        assertThatThrownBy(() -> rebuilder.rebuild())
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("lastJobpostingId=20");
+        verify(jobpostingHotWriter, times(1)).saveAll(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("실패: 통계 조회가 실패한 페이지는 0으로 저장하지 않고 건너뛴 뒤 다음 페이지를 계속 반영한다")
+    void rebuild_skipsPageOnCountFailure() {
+        // given
+        LocalDate today = LocalDate.now();
+        given(jobpostingClient.readAllScroll(null, 2L)).willReturn(List.of(jobposting(30L, 2L), jobposting(20L, 3L)));
+        given(jobpostingClient.readAllScroll(20L, 2L)).willReturn(List.of(jobposting(10L, 5L)));
+        given(viewClient.counts(anyList())).willReturn(null, Map.of(10L, 7L));
+        given(likeClient.counts(anyList())).willReturn(Map.of());
+        given(commentClient.counts(anyList())).willReturn(Map.of());
+        given(jobpostingHotWriter.saveAll(eq(today), anyList())).willReturn(1);
+
+        // when
+        int count = rebuilder.rebuild();
+
+        // then
+        assertThat(count).isEqualTo(1);
+        verify(jobpostingHotWriter, times(1)).saveAll(eq(today), anyList());
+        verify(jobpostingHotRanking, never()).putSaved(eq(today), eq(JobpostingHotRanking.Entry.of(30L, "공고 30", 2L, 0L, 0L, 0L)));
+        verify(jobpostingHotRanking).putSaved(today, JobpostingHotRanking.Entry.of(10L, "공고 10", 5L, 0L, 0L, 7L));
+    }
+
+    @Test
+    @DisplayName("성공: shard로 나누면 자기 ID 구간만 스크롤하고, 마지막 shard는 splitId 이후 새 공고까지 맡는다")
+    void rebuild_ownIdRangeOnly() {
+        // given - splitId=40, 2개 shard: [0, 20), [20, ∞)
+        LocalDate today = LocalDate.now();
+        given(jobpostingClient.readAllScroll(null, 2L)).willReturn(List.of(jobposting(50L, 2L), jobposting(21L, 3L)));
+        given(jobpostingClient.readAllScroll(21L, 2L)).willReturn(List.of(jobposting(15L, 5L), jobposting(11L, 5L)));
+        given(jobpostingClient.readAllScroll(20L, 2L)).willReturn(List.of(jobposting(15L, 5L), jobposting(11L, 5L)));
+        given(jobpostingClient.readAllScroll(11L, 2L)).willReturn(List.of());
+        given(viewClient.counts(anyList())).willReturn(Map.of());
+        given(likeClient.counts(anyList())).willReturn(Map.of());
+        given(commentClient.counts(anyList())).willReturn(Map.of());
+        given(jobpostingHotWriter.saveAll(eq(today), anyList())).willReturn(2);
+
+        // when
+        int last = rebuilder.rebuild(1, 2, 40L);
+        int first = rebuilder.rebuild(0, 2, 40L);
+
+        // then
+        assertThat(last).isEqualTo(2);
+        assertThat(first).isEqualTo(2);
+        verify(viewClient).counts(List.of(50L, 21L));
+        verify(viewClient).counts(List.of(15L, 11L));
+        verify(jobpostingClient, never()).readAllScroll(15L, 2L);
+        assertThatThrownBy(() -> rebuilder.rebuild(2, 2, 40L)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static JobpostingClient.JobpostingResponse jobposting(Long jobpostingId, Long boardId) {
+        JobpostingClient.JobpostingResponse response = new JobpostingClient.JobpostingResponse();
+        response.setJobpostingId(jobpostingId);
+        response.setTitle("공고 " + jobpostingId);
+        response.setBoardId(boardId);
+        return response;
+    }
+}
@@ -13,17 +13,24 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +46,20 @@ class JobpostingHotServiceTest {
     private LikeClient likeClient;
     @Mock
     private CommentClient commentClient;
+    @Spy
+    private JobpostingHotVersions jobpostingHotVersions = new JobpostingHotVersions(60);
+    @Mock
+    private JobpostingHotRanking jobpostingHotRanking;
+    @Mock
+    private JobpostingHotIndex jobpostingHotIndex;
+    @Mock
+    private JobpostingHotTrends jobpostingHotTrends;
+    @Mock
+    private JobpostingHotWriter jobpostingHotWriter;
+    @Mock
+    private JobpostingHotRebuilder jobpostingHotRebuilder;
+    @Mock
+    private JobpostingHotArchives jobpostingHotArchives;
 
     @InjectMocks
     private JobpostingHotService jobpostingHotService;
@@ -80,6 +101,152 @@ class JobpostingHotServiceTest {
         assertThat(result.get(0).getTitle()).isEqualTo("테스트 채용공고");
     }
 
+    @Test
+    @DisplayName("성공: 인메모리 인덱스가 준비되어 있으면 Redis/DB를 조회하지 않는다")
+    void readTopN_fromIndex() {
+        // given
+        given(jobpostingHotIndex.top(10)).willReturn(List.of(
+                JobpostingHotRanking.Entry.of(1L, "테스트 채용공고", 1L, 10L, 5L, 100L)));
+
+        // when
+        List<JobpostingHotDto.Response> result = jobpostingHotService.readTopN(10);
+
+        // then
+        assertThat(result).hasSize(1);
+        assertThat(result.get(0).getScore()).isEqualTo(10 * 3.0 + 5 * 2.0 + 100 * 1.0);
+        verify(jobpostingHotRanking, never()).top(any(), anyInt());
+        verify(jobpostingHotRepository, never()).findTopByDateKey(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("성공: Redis 순위가 있으면 DB를 조회하지 않는다")
+    void readTopN_fromRanking() {
+        // given
+        given(jobpostingHotRanking.top(LocalDate.now(), 10)).willReturn(List.of(
+                new JobpostingHotRanking.Entry(2L, "인기 공고", 1L, 20L, 3L, 200L, 266.0),
+                new JobpostingHotRanking.Entry(1L, "테스트 채용공고", 1L, 10L, 5L, 100L, 140.0)));
+
+        // when
+        List<JobpostingHotDto.Response> result = jobpostingHotService.readTopN(10);
+
+        // then
+        assertThat(result).extracting(JobpostingHotDto.Response::getJobpostingId).containsExactly(2L, 1L);
+        assertThat(result.get(0).getScore()).isEqualTo(266.0);
+        verify(jobpostingHotRepository, never()).findTopByDateKey(any(), anyInt());
+    }
+
+    @Test
+    @DisplayName("성공: 실시간 통계 TOP N은 인덱스 값을 쓰고 통계 서비스를 호출하지 않는다")
+    void readTopNWithLiveStats_fromIndex() {
+        // given
+        given(jobpostingHotIndex.top(eq(10), anyLong())).willReturn(List.of(
+                JobpostingHotRanking.Entry.of(1L, "테스트 채용공고", 1L, 10L, 5L, 100L)));
+
+        // when
+        List<JobpostingHotDto.Response> result = jobpostingHotService.readTopNWithLiveStats(10);
+
+        // then
+        assertThat(result).extracting(JobpostingHotDto.Response::getViewCount).containsExactly(100L);
+        verify(viewClient, never()).count(any());
+        verify(viewClient, never()).counts(any());
+    }
+
+    @Test
+    @DisplayName("성공: 순위가 없으면 DB 스냅샷에 서비스별 일괄 조회 1회로 통계를 반영하고 점수순으로 정렬한다")
+    void readTopNWithLiveStats_fromSnapshotWithBulkCounts() {
+        // given
+        JobpostingHot other = JobpostingHot.create(LocalDate.now(), 2L, "다른 공고", 1L, 0L, 0L, 50L);
+        given(jobpostingHotRepository.findTopByDateKey(LocalDate.now(), 10))
+                .willReturn(List.of(mockJobpostingHot, other));
+        given(viewClient.counts(List.of(1L, 2L))).willReturn(Map.of(1L, 100L, 2L, 500L));
+        given(likeClient.counts(List.of(1L, 2L))).willReturn(Map.of());
+        given(commentClient.counts(List.of(1L, 2L))).willReturn(Map.of());
+
+        // when
+        List<JobpostingHotDto.Response> result = jobpostingHotService.readTopNWithLiveStats(10);
+
+        // then
+        assertThat(result).extracting(JobpostingHotDto.Response::getJobpostingId).containsExactly(2L, 1L);
+        assertThat(result.get(0).getScore()).isEqualTo(500.0);
+        assertThat(result.get(1).getLikeCount()).isEqualTo(10L);
+        verify(viewClient, never()).count(any());
+    }
+
+    @Test
+    @DisplayName("성공: 게시판별 TOP N은 인덱스의 게시판 순위에서 읽고, 비어 있으면 DB에서 게시판 조건으로 조회한다")
+    void readTopN_byBoard() {
+        // given
+        given(jobpostingHotIndex.topByBoard(3L, 10)).willReturn(List.of(
+                JobpostingHotRanking.Entry.of(7L, "게시판 공고", 3L, 1L, 0L, 0L)), List.of());
+        given(jobpostingHotRepository.findTopByDateKeyAndBoardId(LocalDate.now(), 3L, 10))
+                .willReturn(List.of(mockJobpostingHot));
+
+        // when
+        List<JobpostingHotDto.Response> indexed = jobpostingHotService.readTopN(3L, 10);
+        List<JobpostingHotDto.Response> fallback = jobpostingHotService.readTopN(3L, 10);
+
+        // then
+        assertThat(indexed).extracting(JobpostingHotDto.Response::getJobpostingId).containsExactly(7L);
+        assertThat(fallback).extracting(JobpostingHotDto.Response::getJobpostingId).containsExactly(1L);
+        verify(jobpostingHotRepository, times(1)).findTopByDateKeyAndBoardId(LocalDate.now(), 3L, 10);
+    }
+
+    @Test
+    @DisplayName("성공: 스킬별 TOP N은 정규화한 스킬로 인덱스에서 읽는다")
+    void readTopNBySkill_normalizesSkill() {
+        // given
+        given(jobpostingHotIndex.topBySkill("spring boot", 5)).willReturn(List.of(
+                JobpostingHotRanking.Entry.of(7L, "스프링 공고", 3L, List.of("spring boot"), 1L, 0L, 0L)));
+
+        // when
+        List<JobpostingHotDto.Response> result = jobpostingHotService.readTopNBySkill(" Spring Boot ", 5);
+
+        // then
+        assertThat(result).extracting(JobpostingHotDto.Response::getJobpostingId).containsExactly(7L);
+    }
+
+    @Test
+    @DisplayName("성공: 급상승 공고는 시간 창 점수 순서로, 공고 정보는 오늘(없으면 어제) 순위에서 채운다")
+    void readTrending_fillsEntries() {
+        // given
+        LocalDate today = LocalDate.now();
+        given(jobpostingHotTrends.top(10)).willReturn(List.of(
+                new JobpostingHotTrend.Trend(2L, 42.0), new JobpostingHotTrend.Trend(1L, 7.5)));
+        given(jobpostingHotRanking.entries(today, List.of(2L, 1L))).willReturn(Map.of(
+                1L, JobpostingHotRanking.Entry.of(1L, "테스트 채용공고", 1L, 10L, 5L, 100L)));
+        given(jobpostingHotRanking.entries(today.minusDays(1), List.of(2L))).willReturn(Map.of(
+                2L, JobpostingHotRanking.Entry.of(2L, "어제 공고", 2L, 1L, 0L, 10L)));
+
+        // when
+        List<JobpostingHotDto.Response> result = jobpostingHotService.readTrending(10);
+
+        // then
+        assertThat(result).extracting(JobpostingHotDto.Response::getJobpostingId).containsExactly(2L, 1L);
+        assertThat(result.get(0).getTitle()).isEqualTo("어제 공고");
+        assertThat(result.get(0).getScore()).isEqualTo(42.0);
+        assertThat(result.get(1).getViewCount()).isEqualTo(100L);
+    }
+
+    @Test
+    @DisplayName("성공: 스냅샷은 바뀐 공고만 DB에 반영한다")
+    void persistSnapshot_savesDirtyEntries() {
+        // given
+        LocalDate today = LocalDate.now();
+        given(jobpostingHotRanking.drainDirty(today, 500)).willReturn(List.of(1L, 2L));
+        Map<Long, JobpostingHotRanking.Entry> entries = Map.of(
+                1L, new JobpostingHotRanking.Entry(1L, "테스트 채용공고", 1L, 11L, 5L, 120L, 163.0),
+                2L, new JobpostingHotRanking.Entry(2L, "새 공고", 2L, 0L, 0L, 1L, 1.0));
+        given(jobpostingHotRanking.entries(today, List.of(1L, 2L))).willReturn(entries);
+        given(jobpostingHotWriter.saveAll(today, entries.values())).willReturn(2);
+
+        // when
+        int drained = jobpostingHotService.persistSnapshot(today, 500);
+
+        // then
+        assertThat(drained).isEqualTo(2);
+        verify(jobpostingHotWriter, times(1)).saveAll(today, entries.values());
+    }
+
     @Test
     @DisplayName("성공: 특정 날짜 인기 공고 조회")
     void readAll_success() {
@@ -96,6 +263,27 @@ class JobpostingHotServiceTest {
         assertThat(result.get(0).getScore()).isEqualTo(10 * 3.0 + 5 * 2.0 + 100 * 1.0);
     }
 
+    @Test
+    @DisplayName("성공: 지난 날짜는 보관 스냅샷에서 점수순 목록과 공고 단건을 읽고 DB를 조회하지 않는다")
+    void readAll_fromArchive() {
+        // given
+        LocalDate date = LocalDate.now().minusDays(3);
+        String dateStr = date.format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        given(jobpostingHotArchives.find(date)).willReturn(JobpostingHotSnapshot.of(List.of(
+                JobpostingHotRanking.Entry.of(1L, "테스트 채용공고", 1L, 10L, 5L, 100L),
+                JobpostingHotRanking.Entry.of(2L, "다른 공고", 1L, 0L, 0L, 500L))));
+
+        // when
+        List<JobpostingHotDto.Response> all = jobpostingHotService.readAll(dateStr);
+        JobpostingHotDto.Response one = jobpostingHotService.read(dateStr, 1L);
+
+        // then
+        assertThat(all).extracting(JobpostingHotDto.Response::getJobpostingId).containsExactly(2L, 1L);
+        assertThat(one.getScore()).isEqualTo(10 * 3.0 + 5 * 2.0 + 100 * 1.0);
+        verify(jobpostingHotRepository, never()).findByDateKeyOrderByScoreDesc(any());
+        verify(jobpostingHotRepository, never()).findById(any());
+    }
+
     @Test
     @DisplayName("성공: 인기 공고 등록")
     void register_success() {
@@ -114,6 +302,8 @@ class JobpostingHotServiceTest {
         // then
         assertThat(result).isNotNull();
         verify(jobpostingHotRepository).save(any(JobpostingHot.class));
+        verify(jobpostingHotRanking).put(LocalDate.now(),
+                JobpostingHotRanking.Entry.of(1L, "테스트 채용공고", 1L, 10L, 5L, 100L));
     }
 
     @Test
@@ -128,4 +318,47 @@ class JobpostingHotServiceTest {
                 .isInstanceOf(RuntimeException.class)
                 .hasMessageContaining("Jobposting not found");
     }
+
+    @Test
+    @DisplayName("성공: 게시판 갱신 - 통계는 서비스별 일괄 조회 1회")
+    void updateByBoard_usesBulkCounts() {
+        // given
+        JobpostingClient.JobpostingPageResponse pageResponse = new JobpostingClient.JobpostingPageResponse();
+        pageResponse.setJobpostings(List.of(mockJobposting));
+        pageResponse.setJobpostingCount(1L);
+
+        given(jobpostingClient.readAll(1L, 1L, 100L)).willReturn(pageResponse);
+        given(viewClient.counts(List.of(1L))).willReturn(Map.of(1L, 100L));
+        given(likeClient.counts(List.of(1L))).willReturn(Map.of(1L, 10L));
+        given(commentClient.counts(List.of(1L))).willReturn(Map.of());
+        given(jobpostingHotRepository.findById(any())).willReturn(Optional.empty());
+        given(jobpostingHotRepository.save(any())).willReturn(mockJobpostingHot);
+
+        // when
+        int count = jobpostingHotService.updateByBoard(1L);
+
+        // then
+        assertThat(count).isEqualTo(1);
+        verify(jobpostingClient, never()).read(any());
+        verify(viewClient, never()).count(any());
+        verify(jobpostingHotRepository).save(any(JobpostingHot.class));
+    }
+
+    @Test
+    @DisplayName("성공: 인기 공고 등록 후 오늘 목록 버전이 올라간다")
+    void register_touchesTodayVersion() {
+        // given
+        Long before = jobpostingHotService.todayVersion();
+        given(jobpostingClient.read(1L)).willReturn(mockJobposting);
+        given(jobpostingHotRepository.findById(any())).willReturn(Optional.empty());
+        given(jobpostingHotRepository.save(any())).willReturn(mockJobpostingHot);
+
+        // when
+        jobpostingHotService.register(1L);
+
+        // then
+        String today = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy-MM-dd"));
+        assertThat(jobpostingHotService.todayVersion()).isGreaterThan(before);
+        assertThat(jobpostingHotService.version(today)).isEqualTo(jobpostingHotService.todayVersion());
+    }
 }
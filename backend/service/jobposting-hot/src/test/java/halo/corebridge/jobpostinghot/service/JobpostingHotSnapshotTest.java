@@ -0,0 +1,64 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JobpostingHotSnapshot 테스트")
+class JobpostingHotSnapshotTest {
+
+    @Test
+    @DisplayName("성공: 인코딩 후 다시 풀면 점수순 목록과 공고 단건이 그대로 나온다")
+    void encodeDecode_roundTrip() {
+        // given
+        JobpostingHotSnapshot snapshot = JobpostingHotSnapshot.of(List.of(
+                Entry.of(300L, "백엔드 개발자", 2L, 1L, 0L, 11L),
+                Entry.of(100L, "데이터 엔지니어", null, 5L, 5L, 5L),
+                Entry.of(200L, null, 3L, 0L, 0L, 13L)));
+
+        // when
+        JobpostingHotSnapshot decoded = JobpostingHotSnapshot.decode(snapshot.encode());
+
+        // then
+        assertThat(decoded.all()).extracting(Entry::jobpostingId).containsExactly(100L, 300L, 200L);
+        assertThat(decoded.top(1).get(0).score()).isEqualTo(5 * 3.0 + 5 * 2.0 + 5 * 1.0);
+        assertThat(decoded.find(100L).boardId()).isNull();
+        assertThat(decoded.find(200L).title()).isNull();
+        assertThat(decoded.find(300L)).isEqualTo(Entry.of(300L, "백엔드 개발자", 2L, 1L, 0L, 11L));
+        assertThat(decoded.find(250L)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 같은 점수는 공고 ID 순이고, 정렬된 ID 차이로 저장해 행당 크기가 작다")
+    void encode_compact() {
+        // given
+        long base = 300_000_000_000_000_000L;
+        List<Entry> entries = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            entries.add(Entry.of(base + (long) i * 4_000_000_000L, "공고", 1L, 0L, 0L, i % 10));
+        }
+
+        // when
+        JobpostingHotSnapshot snapshot = JobpostingHotSnapshot.of(entries);
+        byte[] encoded = snapshot.encode();
+
+        // then
+        assertThat(snapshot.top(2)).extracting(Entry::jobpostingId).containsExactly(base + 9 * 4_000_000_000L,
+                base + 19 * 4_000_000_000L);
+        assertThat(encoded.length).isLessThan(1000 * 20);
+        assertThat(JobpostingHotSnapshot.decode(encoded).find(base + 500 * 4_000_000_000L).viewCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("실패: 알 수 없는 형식 버전은 거부한다")
+    void decode_unknownVersion() {
+        assertThatThrownBy(() -> JobpostingHotSnapshot.decode(new byte[]{9, 0}))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
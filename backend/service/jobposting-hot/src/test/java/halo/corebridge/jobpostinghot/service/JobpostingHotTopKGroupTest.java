@@ -0,0 +1,82 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Counter;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JobpostingHotTopKGroup 테스트")
+class JobpostingHotTopKGroupTest {
+
+    private final JobpostingHotTopKGroup group = new JobpostingHotTopKGroup(3, 5);
+
+    @Test
+    @DisplayName("성공: 통계 변경은 전체/게시판/스킬 순위에 함께 반영된다")
+    void increment_updatesEveryDimension() {
+        // given
+        group.replaceAll(List.of(
+                entry(1L, 2L, List.of("java"), 10),
+                entry(2L, 2L, List.of("java", "spring"), 20),
+                entry(3L, 3L, List.of("spring"), 30)));
+
+        // when
+        group.increment(1L, Counter.COMMENT, 20);
+
+        // then
+        assertThat(ids(group.top(3))).containsExactly(1L, 3L, 2L);
+        assertThat(ids(group.topByBoard(2L, 3))).containsExactly(1L, 2L);
+        assertThat(ids(group.topBySkill("java", 3))).containsExactly(1L, 2L);
+        assertThat(ids(group.topBySkill("spring", 3))).containsExactly(3L, 2L);
+        assertThat(group.topByBoard(9L, 3)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 게시판/스킬이 바뀌면 통계를 유지한 채 이전 차원에서 빠지고 새 차원으로 옮겨진다")
+    void describe_movesDimensions() {
+        // given
+        group.add(entry(1L, 2L, List.of("java"), 0));
+        group.set(1L, Counter.VIEW, 50);
+
+        // when
+        group.describe(1L, "수정된 공고", 3L, List.of("kotlin"));
+
+        // then
+        assertThat(group.topByBoard(2L, 3)).isEmpty();
+        assertThat(group.topBySkill("java", 3)).isEmpty();
+        assertThat(group.topByBoard(3L, 3)).singleElement()
+                .satisfies(moved -> {
+                    assertThat(moved.title()).isEqualTo("수정된 공고");
+                    assertThat(moved.viewCount()).isEqualTo(50L);
+                });
+        assertThat(ids(group.topBySkill("kotlin", 3))).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 삭제하면 모든 차원에서 빠지고, 전체 교체 시 항목이 없어진 차원은 비워진다")
+    void removeAndReplaceAll() {
+        // given
+        group.replaceAll(List.of(entry(1L, 2L, List.of("java"), 10), entry(2L, 3L, List.of("go"), 20)));
+
+        // when
+        group.remove(1L);
+        group.replaceAll(List.of(entry(3L, 3L, List.of("go"), 5)));
+
+        // then
+        assertThat(group.topBySkill("java", 3)).isEmpty();
+        assertThat(group.topByBoard(2L, 3)).isEmpty();
+        assertThat(ids(group.topBySkill("go", 3))).containsExactly(3L);
+        assertThat(group.size()).isEqualTo(1);
+    }
+
+    private Entry entry(long jobpostingId, long boardId, List<String> skills, long viewCount) {
+        return Entry.of(jobpostingId, "공고 " + jobpostingId, boardId, skills, 0L, 0L, viewCount);
+    }
+
+    private List<Long> ids(List<Entry> entries) {
+        return entries.stream().map(Entry::jobpostingId).toList();
+    }
+}
@@ -0,0 +1,79 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Counter;
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Entry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JobpostingHotTopK 테스트")
+class JobpostingHotTopKTest {
+
+    private final JobpostingHotTopK topK = new JobpostingHotTopK(3, 5);
+
+    @Test
+    @DisplayName("성공: 통계가 바뀌면 순서를 다시 맞추고, 하위권 변경은 스냅샷을 바꾸지 않는다")
+    void set_reordersSnapshot() {
+        // given
+        topK.replaceAll(List.of(entry(1L, 10), entry(2L, 20), entry(3L, 30), entry(4L, 5), entry(5L, 1)));
+        List<Entry> before = topK.top(3);
+
+        // when
+        topK.set(5L, Counter.VIEW, 2);
+        List<Entry> untouched = topK.top(3);
+        topK.set(1L, Counter.VIEW, 100);
+        topK.increment(3L, Counter.COMMENT, 1);
+
+        // then
+        assertThat(untouched).isSameAs(before);
+        assertThat(ids(topK.top(3))).containsExactly(1L, 3L, 2L);
+        assertThat(topK.top(3).get(1).score()).isEqualTo(32.0);
+        assertThat(ids(topK.top(2))).containsExactly(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("성공: 상위권 항목이 떨어지거나 삭제되면 다음 항목이 올라온다")
+    void remove_promotesNext() {
+        // given
+        topK.replaceAll(List.of(entry(1L, 10), entry(2L, 20), entry(3L, 30), entry(4L, 5)));
+
+        // when
+        topK.remove(3L);
+        topK.set(2L, Counter.VIEW, 0);
+
+        // then
+        assertThat(ids(topK.top(3))).containsExactly(1L, 4L, 2L);
+        assertThat(topK.set(3L, Counter.VIEW, 99)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 최대 개수를 넘으면 점수가 가장 낮은 항목을 버리고, 이미 있는 항목은 add로 덮어쓰지 않는다")
+    void add_evictsLowest() {
+        // given
+        for (long id = 1; id <= 5; id++) {
+            topK.add(entry(id, id * 10));
+        }
+
+        // when
+        boolean added = topK.add(entry(6L, 15));
+        boolean duplicated = topK.add(entry(6L, 1000));
+
+        // then
+        assertThat(added).isTrue();
+        assertThat(duplicated).isFalse();
+        assertThat(topK.size()).isEqualTo(5);
+        assertThat(topK.set(1L, Counter.VIEW, 1)).isFalse();
+        assertThat(ids(topK.top(3))).containsExactly(5L, 4L, 3L);
+    }
+
+    private static Entry entry(long id, long viewCount) {
+        return Entry.of(id, "공고 " + id, 1L, 0L, 0L, viewCount);
+    }
+
+    private static List<Long> ids(List<Entry> entries) {
+        return entries.stream().map(Entry::jobpostingId).toList();
+    }
+}
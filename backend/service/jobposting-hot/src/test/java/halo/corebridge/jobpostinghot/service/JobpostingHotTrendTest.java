@@ -0,0 +1,76 @@
+package halo.corebridge.jobpostinghot.service;
+
+import halo.corebridge.jobpostinghot.service.JobpostingHotRanking.Counter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JobpostingHotTrend 테스트")
+class JobpostingHotTrendTest {
+
+    private static final long HOUR = Duration.ofHours(1).toMillis();
+    private static final double[] WEIGHTS = {3, 2, 1};
+
+    private final AtomicLong now = new AtomicLong();
+
+    @Test
+    @DisplayName("성공: 누적값 이벤트는 직전 값과의 차이만 점수에 더하고, 시간 창을 벗어난 구간은 빠진다")
+    void set_slidingWindow() {
+        // given
+        JobpostingHotTrend trend = new JobpostingHotTrend(10, 3, HOUR, 0, WEIGHTS, now::get);
+
+        // when
+        trend.set(1L, Counter.VIEW, 100);
+        trend.set(1L, Counter.VIEW, 110);
+        trend.add(1L, Counter.COMMENT, 1);
+        now.set(HOUR);
+        trend.set(1L, Counter.VIEW, 115);
+
+        // then
+        assertThat(trend.score(1L)).isEqualTo(10 + 2 + 5);
+        now.set(3 * HOUR);
+        assertThat(trend.score(1L)).isEqualTo(5);
+        now.set(10 * HOUR);
+        assertThat(trend.score(1L)).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 반감기마다 점수가 절반이 되어 최근 증가량이 많은 공고가 앞선다")
+    void refresh_decayedOrder() {
+        // given
+        JobpostingHotTrend trend = new JobpostingHotTrend(10, 24, HOUR, 2 * HOUR, WEIGHTS, now::get);
+        trend.add(1L, Counter.LIKE, 10);
+
+        // when
+        now.set(2 * HOUR);
+        trend.add(2L, Counter.LIKE, 6);
+        trend.refresh(10);
+
+        // then
+        assertThat(trend.score(1L)).isEqualTo(15.0);
+        assertThat(trend.top(10)).extracting(JobpostingHotTrend.Trend::jobpostingId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    @DisplayName("성공: 최대 개수를 넘으면 점수가 낮은 공고를 버리고, 삭제 후에도 나머지 공고는 그대로 찾는다")
+    void add_boundedAndRemovable() {
+        // given
+        JobpostingHotTrend trend = new JobpostingHotTrend(5, 4, HOUR, 0, WEIGHTS, now::get);
+        for (long id = 1; id <= 20; id++) {
+            trend.add(id, Counter.COMMENT, id);
+        }
+
+        // when
+        trend.remove(20L);
+        trend.refresh(3);
+
+        // then
+        assertThat(trend.size()).isEqualTo(4);
+        assertThat(trend.score(20L)).isZero();
+        assertThat(trend.top(3)).extracting(JobpostingHotTrend.Trend::jobpostingId).containsExactly(19L, 18L, 17L);
+    }
+}
@@ -0,0 +1,74 @@
+package halo.corebridge.jobpostinghot.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+
+import java.sql.PreparedStatement;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobpostingHotWriter 테스트")
+class JobpostingHotWriterTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private JobpostingHotWriter jobpostingHotWriter;
+
+    @Test
+    @DisplayName("성공: 공고 순으로 정렬해 upsert 한 번의 batch로 저장하고, 점수는 통계로 다시 계산한다")
+    @SuppressWarnings("unchecked")
+    void saveAll_upsertsInOneBatch() throws Exception {
+        // given
+        LocalDate today = LocalDate.now();
+        JobpostingHotRanking.Entry viral = new JobpostingHotRanking.Entry(2L, "인기 공고", 1L, 11L, 5L, 120L, 162.9999);
+        JobpostingHotRanking.Entry fresh = JobpostingHotRanking.Entry.of(1L, "새 공고", 2L, 0L, 0L, 1L);
+
+        // when
+        int saved = jobpostingHotWriter.saveAll(today, List.of(viral, fresh));
+
+        // then
+        ArgumentCaptor<Collection<JobpostingHotRanking.Entry>> rows = ArgumentCaptor.forClass(Collection.class);
+        ArgumentCaptor<ParameterizedPreparedStatementSetter<JobpostingHotRanking.Entry>> setter =
+                ArgumentCaptor.forClass(ParameterizedPreparedStatementSetter.class);
+        verify(jdbcTemplate).batchUpdate(eq(JobpostingHotWriter.UPSERT_SQL), rows.capture(), eq(2), setter.capture());
+        assertThat(saved).isEqualTo(2);
+        assertThat(rows.getValue()).extracting(JobpostingHotRanking.Entry::jobpostingId).containsExactly(1L, 2L);
+
+        PreparedStatement ps = mock(PreparedStatement.class);
+        setter.getValue().setValues(ps, viral);
+        verify(ps).setLong(2, 2L);
+        verify(ps).setDouble(8, 11 * 3.0 + 5 * 2.0 + 120 * 1.0);
+    }
+
+    @Test
+    @DisplayName("성공: 빈 목록이면 DB에 쓰지 않는다")
+    void saveAll_empty() {
+        // when
+        int saved = jobpostingHotWriter.saveAll(LocalDate.now(), List.of());
+
+        // then
+        assertThat(saved).isZero();
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), any(Collection.class), anyInt(),
+                any(ParameterizedPreparedStatementSetter.class));
+    }
+}
@@ -2,6 +2,7 @@ package halo.corebridge.jobpostinglike.config;
 
 import halo.corebridge.common.audit.filter.AuditLoggingFilter;
 import halo.corebridge.common.security.GatewayAuthenticationFilter;
+import halo.corebridge.common.security.GatewayIdentityVerifier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
@@ -21,6 +22,7 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private final GatewayIdentityVerifier gatewayIdentityVerifier;
     private final AuditLoggingFilter auditLoggingFilter;
 
     @Bean
@@ -34,6 +36,7 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         // 좋아요 수 조회는 공개
                         .requestMatchers(HttpMethod.GET, "/api/v1/jobposting-likes/jobpostings/*/count").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/v1/jobposting-likes/jobpostings/counts").permitAll()
                         .requestMatchers("/actuator/**", "/health/**", "/swagger-ui/**", "/swagger-ui.html", "/v3/api-docs/**").permitAll()
                         .anyRequest().authenticated()
                 )
@@ -45,7 +48,7 @@ public class SecurityConfig {
 
     @Bean
     public GatewayAuthenticationFilter gatewayAuthenticationFilter() {
-        return new GatewayAuthenticationFilter();
+        return new GatewayAuthenticationFilter(gatewayIdentityVerifier);
     }
 
     @Bean
@@ -7,6 +7,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/jobposting-likes")
@@ -33,6 +36,14 @@ public class JobpostingLikeController {
         return BaseResponse.success(jobpostingLikeService.count(jobpostingId));
     }
 
+    /**
+     * 좋아요 수 일괄 조회 (인증 불필요, 최대 100개)
+     */
+    @GetMapping("/jobpostings/counts")
+    public BaseResponse<Map<Long, Long>> counts(@RequestParam("jobpostingIds") List<Long> jobpostingIds) {
+        return BaseResponse.success(jobpostingLikeService.counts(jobpostingIds));
+    }
+
     /**
      * 좋아요 (인증 필요)
      */
@@ -12,10 +12,16 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class JobpostingLikeService {
 
+    private static final int MAX_BULK_COUNT_SIZE = 100;
+
     private final Snowflake snowflake = new Snowflake();
     private final JobpostingLikeRepository jobpostingLikeRepository;
     private final JobpostingLikeCountRepository jobpostingLikeCountRepository;
@@ -41,6 +47,23 @@ public class JobpostingLikeService {
                 .orElse(0L);
     }
 
+    /**
+     * 좋아요 수 일괄 조회 (WHERE jobposting_id IN 단일 쿼리)
+     * - 레코드가 없는 채용공고는 0으로 채움
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> counts(List<Long> jobpostingIds) {
+        if (jobpostingIds.size() > MAX_BULK_COUNT_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 채용공고는 최대 " + MAX_BULK_COUNT_SIZE + "개입니다.");
+        }
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        jobpostingIds.forEach(jobpostingId -> counts.put(jobpostingId, 0L));
+        jobpostingLikeCountRepository.findAllById(counts.keySet())
+                .forEach(count -> counts.put(count.getJobpostingId(), count.getLikeCount()));
+        return counts;
+    }
+
     /**
      * 좋아요 - (UPDATE 쿼리 - 증가)
      */
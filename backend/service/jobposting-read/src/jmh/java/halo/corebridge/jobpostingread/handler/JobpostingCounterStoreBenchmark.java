@@ -0,0 +1,93 @@
+package halo.corebridge.jobpostingread.handler;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카운터 저장소 비교: ConcurrentHashMap<Long, AtomicLong> 3개 vs JobpostingCounterStore
+ *
+ * 이벤트 반영(set/add)과 조회(get 3회)를 여러 스레드에서 동시에 수행합니다.
+ * 실행: sh gradlew :service:jobposting-read:jmh
+ *
+ * 측정 결과 (JDK 21, 1 vCPU 컨테이너, 4스레드, -wi 2 -w 3s -i 5 -r 3s -f 1, ops/us)
+ * | 항목          | 10,000건      | 100,000건    |
+ * | map_get       | 12.6 ± 1.4   | 5.3 ± 1.8   |
+ * | store_get     |  8.3 ± 1.1   | 4.7 ± 2.2   |
+ * | map_update    | 12.2 ± 9.5   | 3.7 ± 3.3   |
+ * | store_update  |  7.9 ± 1.9   | 3.8 ± 0.3   |
+ * 저장소는 작은 크기에서 처리량이 30%대 낮고 (StampedLock 검증/읽기 락 + 빈도 스케치 기록),
+ * 100,000건에서는 오차 범위 안에서 비슷합니다. 이점은 처리량이 아니라 메모리입니다.
+ * (JobpostingCounterStoreFootprint 100000: ConcurrentHashMap 3개 271.5 bytes/entry, 저장소 101.5 bytes/entry)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class JobpostingCounterStoreBenchmark {
+
+    @Param({"10000", "100000"})
+    int entries;
+
+    private final Map<Long, AtomicLong> viewCounts = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> likeCounts = new ConcurrentHashMap<>();
+    private final Map<Long, AtomicLong> commentCounts = new ConcurrentHashMap<>();
+    private JobpostingCounterStore store;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        store = new JobpostingCounterStore(entries);
+        for (long id = 1; id <= entries; id++) {
+            viewCounts.put(id, new AtomicLong(id));
+            likeCounts.put(id, new AtomicLong(id));
+            commentCounts.put(id, new AtomicLong(id));
+            store.set(id, JobpostingCounterStore.VIEW, id);
+            store.set(id, JobpostingCounterStore.LIKE, id);
+            store.set(id, JobpostingCounterStore.COMMENT, id);
+        }
+    }
+
+    @Benchmark
+    public long map_update() {
+        long id = randomId();
+        viewCounts.computeIfAbsent(id, k -> new AtomicLong()).set(id);
+        return commentCounts.computeIfAbsent(id, k -> new AtomicLong())
+                .updateAndGet(v -> Math.max(0, v + 1));
+    }
+
+    @Benchmark
+    public boolean store_update() {
+        long id = randomId();
+        store.set(id, JobpostingCounterStore.VIEW, id);
+        return store.add(id, JobpostingCounterStore.COMMENT, 1L);
+    }
+
+    @Benchmark
+    public long map_get() {
+        long id = randomId();
+        return viewCounts.get(id).get() + likeCounts.get(id).get() + commentCounts.get(id).get();
+    }
+
+    @Benchmark
+    public long store_get() {
+        long id = randomId();
+        return store.get(id, JobpostingCounterStore.VIEW)
+                + store.get(id, JobpostingCounterStore.LIKE)
+                + store.get(id, JobpostingCounterStore.COMMENT);
+    }
+
+    private long randomId() {
+        return ThreadLocalRandom.current().nextLong(1, entries + 1L);
+    }
+}
@@ -0,0 +1,76 @@
+package halo.corebridge.jobpostingread.handler;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 카운터 저장소 메모리 사용량 비교 (GC 후 힙 사용량 차이)
+ *
+ * JMH는 점유 메모리를 직접 측정하지 않으므로 별도 main으로 실행합니다.
+ * 실행: java -cp <jmh classpath> halo.corebridge.jobpostingread.handler.JobpostingCounterStoreFootprint [entries]
+ */
+public class JobpostingCounterStoreFootprint {
+
+    public static void main(String[] args) {
+        int entries = args.length > 0 ? Integer.parseInt(args[0]) : 100_000;
+
+        long baseline = usedHeapAfterGc();
+        Object maps = fillMaps(entries);
+        long mapBytes = usedHeapAfterGc() - baseline;
+        keep(maps);
+        maps = null;
+
+        baseline = usedHeapAfterGc();
+        Object store = fillStore(entries);
+        long storeBytes = usedHeapAfterGc() - baseline;
+        keep(store);
+
+        System.out.printf("entries=%d%n", entries);
+        System.out.printf("ConcurrentHashMap x3 : %,d bytes (%.1f bytes/entry)%n", mapBytes, (double) mapBytes / entries);
+        System.out.printf("JobpostingCounterStore: %,d bytes (%.1f bytes/entry)%n", storeBytes, (double) storeBytes / entries);
+    }
+
+    private static Object fillMaps(int entries) {
+        Map<Long, AtomicLong> view = new ConcurrentHashMap<>();
+        Map<Long, AtomicLong> like = new ConcurrentHashMap<>();
+        Map<Long, AtomicLong> comment = new ConcurrentHashMap<>();
+        for (long id = 1; id <= entries; id++) {
+            // 실제 ID는 캐시 범위(-128~127)를 벗어나므로 Long 박싱 비용도 포함
+            view.put(id + 1_000_000_000L, new AtomicLong(id));
+            like.put(id + 1_000_000_000L, new AtomicLong(id));
+            comment.put(id + 1_000_000_000L, new AtomicLong(id));
+        }
+        return new Object[]{view, like, comment};
+    }
+
+    private static Object fillStore(int entries) {
+        JobpostingCounterStore store = new JobpostingCounterStore(entries);
+        for (long id = 1; id <= entries; id++) {
+            store.set(id + 1_000_000_000L, JobpostingCounterStore.VIEW, id);
+            store.set(id + 1_000_000_000L, JobpostingCounterStore.LIKE, id);
+            store.set(id + 1_000_000_000L, JobpostingCounterStore.COMMENT, id);
+        }
+        return store;
+    }
+
+    private static long usedHeapAfterGc() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            try {
+                Thread.sleep(100);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    // 측정 중 수거되지 않도록 참조 유지
+    private static void keep(Object o) {
+        if (o.hashCode() == System.nanoTime()) {
+            System.out.print("");
+        }
+    }
+}
@@ -0,0 +1,458 @@
+package halo.corebridge.jobpostingread.loadtest;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import halo.corebridge.common.dataserializer.DataSerializer;
+import halo.corebridge.jobpostingread.JobpostingReadApplication;
+import halo.corebridge.jobpostingread.warmup.JobpostingReadWarmUp;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Platform vs Virtual Thread 처리량 비교 하네스 (k6-virtual-thread.js의 프로세스 내 버전)
+ *
+ * 실제 jobposting-read 애플리케이션을 모드마다 새로 띄우고(spring.threads.virtual.enabled=false/true),
+ * 같은 도착률 단계로 목록 조회(GET /api/v1/jobposting-read)를 보내 성공 처리량과 지연을 비교합니다.
+ * 애플리케이션 코드는 그대로이고 바깥 의존성만 대역입니다.
+ * - 원본/통계/사용자 서비스: 한 HTTP 스텁 서버 (응답마다 downstream-ms만큼 대기)
+ * - DB: H2 메모리 (읽기 모델 영속화 upsert는 PostgreSQL 문법이라 실패, 조회 경로와 무관), Kafka: 접속 불가 주소
+ * - 문서 보충(pageSize=100 목록)은 스텁이 503으로 거절 → 목록은 k6 실행 때와 같이 원본 조회 경로
+ *
+ * 요청 스레드는 원본 목록 조회(블로킹 RestTemplate)를 기다리므로 platform 모드의 상한은
+ * 대략 server.tomcat.threads.max / 요청 시간입니다. 요청 timeout(timeout-ms)을 넘기면 실패로 셉니다.
+ * 결과는 단계별 표와 vt-result-<mode>.json(k6와 같은 항목, test_virtual_thread_compare.sh로 비교)으로 남깁니다.
+ *
+ * 실행: sh gradlew :service:jobposting-read:virtualThreadHarness --args="--downstream-ms=1000 --out=../../../deploy/load-test"
+ * 옵션 (--key=value): modes, rates(단계별 초당 요청), stage-seconds, warmup-rate, warmup-seconds, downstream-ms,
+ * tomcat-threads, board-id, pages, page-size, timeout-ms, out, logging
+ *
+ * 측정 결과는 deploy/load-test/vt-harness-result.md에 있습니다.
+ */
+public final class JobpostingReadVirtualThreadHarness {
+
+    private static final long POSTINGS = 1_000L;
+    private static final long USERS = 50L;
+    private static final long BACKFILL_PAGE_SIZE = 100L;
+
+    private final Options options;
+    private final HttpClient client;
+
+    private JobpostingReadVirtualThreadHarness(Options options) {
+        this.options = options;
+        // 부하 발생기는 응답 콜백만 처리하므로 소수의 platform 스레드로 충분
+        this.client = HttpClient.newBuilder()
+                .executor(Executors.newFixedThreadPool(4))
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofMillis(options.timeoutMs()))
+                .build();
+    }
+
+    public static void main(String[] args) throws Exception {
+        Options options = Options.parse(args);
+        if (!options.logging()) {
+            ((Logger) LoggerFactory.getLogger(org.slf4j.Logger.ROOT_LOGGER_NAME)).setLevel(Level.WARN);
+        }
+        System.out.println("[VtHarness] " + options);
+
+        Downstream downstream = Downstream.start(options.downstreamMs());
+        try {
+            JobpostingReadVirtualThreadHarness harness = new JobpostingReadVirtualThreadHarness(options);
+            List<Result> results = new ArrayList<>();
+            for (String mode : options.modes()) {
+                results.add(harness.run(mode, downstream.url()));
+            }
+            System.out.println();
+            results.forEach(Result::printTotal);
+        } finally {
+            downstream.stop();
+        }
+        System.exit(0);
+    }
+
+    /**
+     * 모드 하나: 애플리케이션 기동 → 예열 완료 대기 → 워밍업 단계 → 도착률 단계 → 종료
+     */
+    private Result run(String mode, String downstreamUrl) throws Exception {
+        ConfigurableApplicationContext context = SpringApplication.run(JobpostingReadApplication.class,
+                arguments(mode, downstreamUrl));
+        try {
+            int port = ((ServletWebServerApplicationContext) context).getWebServer().getPort();
+            JobpostingReadWarmUp warmUp = context.getBean(JobpostingReadWarmUp.class);
+            long warmDeadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(120);
+            while (!warmUp.getWarmUp().isWarm() && System.nanoTime() < warmDeadline) {
+                TimeUnit.MILLISECONDS.sleep(100);
+            }
+            String baseUrl = "http://127.0.0.1:" + port + "/api/v1/jobposting-read?boardId=" + options.boardId()
+                    + "&pageSize=" + options.pageSize() + "&page=";
+
+            // JIT 워밍업 (virtual 모드는 carrier가 적어 인터프리터 구간에서 요청이 밀리면 회복이 느림)
+            stage(baseUrl, options.warmupRate(), options.warmupSeconds());
+            List<Stage> stages = new ArrayList<>();
+            for (int rate : options.rates()) {
+                Stage stage = stage(baseUrl, rate, options.stageSeconds());
+                stage.print(mode);
+                stages.add(stage);
+            }
+            Result result = new Result(mode, stages, options.stageSeconds());
+            result.write(Path.of(options.out()));
+            return result;
+        } finally {
+            context.close();
+        }
+    }
+
+    /**
+     * 고정 도착률로 seconds 동안 요청 (open model: 응답을 기다리지 않고 일정 간격으로 시작)
+     */
+    private Stage stage(String baseUrl, int rate, int seconds) throws InterruptedException {
+        Stage stage = new Stage(rate);
+        int requests = rate * seconds;
+        double intervalNanos = 1e9 / rate;
+        List<CompletableFuture<?>> responses = new ArrayList<>(requests);
+        long startNanos = System.nanoTime();
+        for (int i = 0; i < requests; i++) {
+            long due = startNanos + (long) (i * intervalNanos);
+            for (long now = System.nanoTime(); now < due; now = System.nanoTime()) {
+                LockSupport.parkNanos(due - now);
+            }
+            long page = ThreadLocalRandom.current().nextLong(options.pages()) + 1;
+            responses.add(send(stage, baseUrl + page));
+        }
+        try {
+            CompletableFuture.allOf(responses.toArray(CompletableFuture[]::new))
+                    .get(options.timeoutMs() + 5_000L, TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | TimeoutException e) {
+            // 개별 실패는 send에서 셈
+        }
+        return stage;
+    }
+
+    private CompletableFuture<?> send(Stage stage, String url) {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(Duration.ofMillis(options.timeoutMs()))
+                .GET()
+                .build();
+        long startNanos = System.nanoTime();
+        return client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                .whenComplete((response, e) -> {
+                    // timeout/연결 거절/200 외 응답은 실패
+                    if (e == null && response.statusCode() == 200) {
+                        stage.succeeded(System.nanoTime() - startNanos);
+                    } else {
+                        stage.failed();
+                    }
+                });
+    }
+
+    private String[] arguments(String mode, String downstreamUrl) {
+        Map<String, String> properties = new LinkedHashMap<>();
+        properties.put("server.port", "0");
+        properties.put("spring.threads.virtual.enabled", String.valueOf("virtual".equals(mode)));
+        properties.put("server.tomcat.threads.max", String.valueOf(options.tomcatThreads()));
+        properties.put("spring.datasource.url", "jdbc:h2:mem:vt-" + mode + ";DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.kafka.bootstrap-servers", "127.0.0.1:1");
+        properties.put("audit.enabled", "false");
+        for (String service : List.of("jobposting", "user", "comment", "view", "like")) {
+            properties.put("client." + service + ".url", downstreamUrl);
+        }
+        if (!options.logging()) {
+            properties.put("logging.level.root", "WARN");
+            properties.put("logging.level.halo.corebridge", "WARN");
+            properties.put("logging.level.org.apache.kafka", "OFF");
+            // H2는 ON CONFLICT upsert를 지원하지 않아 영속화는 매 주기 실패함 (측정 대상 아님)
+            properties.put("logging.level.halo.corebridge.jobpostingread.readmodel.JobpostingReadModelWriter", "OFF");
+            properties.put("spring.main.banner-mode", "off");
+        }
+        return properties.entrySet().stream()
+                .map(entry -> "--" + entry.getKey() + "=" + entry.getValue())
+                .toArray(String[]::new);
+    }
+
+    /**
+     * 원본/통계/사용자 서비스 스텁 (요청마다 Virtual Thread, downstream-ms 대기 후 응답)
+     *
+     * 스텁을 요청마다 platform 스레드로 돌리면 같은 CPU에서 OS 스케줄러가 스레드 단위로 시간을 나눠
+     * virtual 모드의 carrier 스레드(vCPU 수만큼)가 스텁 스레드들에 밀립니다 (측정 대상이 아닌 경합).
+     */
+    private record Downstream(HttpServer server, ExecutorService executor) {
+
+        static Downstream start(long latencyMs) throws IOException {
+            HttpServer server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 4096);
+            ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+            server.setExecutor(executor);
+            server.createContext("/", exchange -> {
+                try {
+                    TimeUnit.MILLISECONDS.sleep(latencyMs);
+                    respond(exchange);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    exchange.close();
+                }
+            });
+            server.start();
+            return new Downstream(server, executor);
+        }
+
+        String url() {
+            return "http://127.0.0.1:" + server.getAddress().getPort();
+        }
+
+        void stop() {
+            server.stop(0);
+            executor.shutdownNow();
+        }
+
+        private static void respond(HttpExchange exchange) throws IOException {
+            String path = exchange.getRequestURI().getPath();
+            Map<String, String> query = query(exchange.getRequestURI().getRawQuery());
+            Object result;
+            if (path.equals("/api/v1/jobpostings")) {
+                long pageSize = Long.parseLong(query.getOrDefault("pageSize", "10"));
+                if (pageSize == BACKFILL_PAGE_SIZE) {
+                    // 문서 보충을 막아 목록이 원본 조회 경로로 남도록
+                    send(exchange, 503, Map.of("success", false));
+                    return;
+                }
+                result = page(Long.parseLong(query.getOrDefault("boardId", "1")),
+                        Long.parseLong(query.getOrDefault("page", "1")), pageSize);
+            } else if (path.endsWith("/counts")) {
+                Map<String, Long> counts = new HashMap<>();
+                for (String id : query.getOrDefault("jobpostingIds", "").split(",")) {
+                    if (!id.isEmpty()) {
+                        counts.put(id, Long.parseLong(id) % 100);
+                    }
+                }
+                result = counts;
+            } else if (path.equals("/api/v1/users/profiles")) {
+                List<Map<String, Object>> profiles = new ArrayList<>();
+                for (String id : query.getOrDefault("userIds", "").split(",")) {
+                    if (!id.isEmpty()) {
+                        profiles.add(Map.of("userId", Long.parseLong(id), "nickname", "사용자" + id));
+                    }
+                }
+                result = profiles;
+            } else {
+                result = null;
+            }
+            Map<String, Object> body = new HashMap<>();
+            body.put("success", true);
+            body.put("code", 200);
+            body.put("result", result);
+            send(exchange, 200, body);
+        }
+
+        private static Map<String, Object> page(long boardId, long page, long pageSize) {
+            List<Map<String, Object>> jobpostings = new ArrayList<>();
+            for (long i = 0; i < pageSize; i++) {
+                long jobpostingId = POSTINGS - (page - 1) * pageSize - i;
+                if (jobpostingId <= 0) {
+                    break;
+                }
+                Map<String, Object> jobposting = new HashMap<>();
+                jobposting.put("jobpostingId", jobpostingId);
+                jobposting.put("title", "공고 " + jobpostingId);
+                jobposting.put("content", "내용");
+                jobposting.put("boardId", boardId);
+                jobposting.put("userId", jobpostingId % USERS + 1);
+                jobposting.put("createdAt", "2026-01-01T00:00:00");
+                jobposting.put("updatedAt", "2026-01-01T00:00:00");
+                jobpostings.add(jobposting);
+            }
+            return Map.of("jobpostings", jobpostings, "jobpostingCount", POSTINGS);
+        }
+
+        private static void send(HttpExchange exchange, int status, Object body) throws IOException {
+            byte[] bytes = DataSerializer.serialize(body).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(status, bytes.length);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(bytes);
+            }
+        }
+
+        private static Map<String, String> query(String rawQuery) {
+            Map<String, String> values = new HashMap<>();
+            if (rawQuery == null) {
+                return values;
+            }
+            for (String pair : rawQuery.split("&")) {
+                int index = pair.indexOf('=');
+                if (index > 0) {
+                    values.put(pair.substring(0, index), pair.substring(index + 1));
+                }
+            }
+            return values;
+        }
+    }
+
+    /**
+     * 도착률 단계 하나의 결과
+     */
+    private static final class Stage {
+
+        private final int rate;
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final LongAdder failures = new LongAdder();
+
+        Stage(int rate) {
+            this.rate = rate;
+        }
+
+        void succeeded(long nanos) {
+            latencies.add(nanos);
+        }
+
+        void failed() {
+            failures.increment();
+        }
+
+        long[] sortedMillis() {
+            long[] millis = latencies.stream().mapToLong(TimeUnit.NANOSECONDS::toMillis).toArray();
+            Arrays.sort(millis);
+            return millis;
+        }
+
+        void print(String mode) {
+            long[] millis = sortedMillis();
+            long total = millis.length + failures.sum();
+            System.out.printf(Locale.ROOT,
+                    "[VtHarness] mode=%-8s rate=%4d/s ok=%6d failed=%6d success=%6.1f%% avg=%7.1fms p95=%6dms p99=%6dms%n",
+                    mode, rate, millis.length, failures.sum(), total == 0 ? 0.0 : 100.0 * millis.length / total,
+                    average(millis), percentile(millis, 0.95), percentile(millis, 0.99));
+        }
+    }
+
+    /**
+     * 도착률 단계 전체 합계 (k6 handleSummary와 같은 항목)
+     */
+    private record Result(String mode, List<Stage> stages, int stageSeconds) {
+
+        long[] sortedMillis() {
+            return stages.stream()
+                    .flatMapToLong(stage -> Arrays.stream(stage.sortedMillis()))
+                    .sorted()
+                    .toArray();
+        }
+
+        long failed() {
+            return stages.stream().mapToLong(stage -> stage.failures.sum()).sum();
+        }
+
+        void printTotal() {
+            long[] millis = sortedMillis();
+            long total = millis.length + failed();
+            System.out.printf(Locale.ROOT,
+                    "[VtHarness] %-8s 합계: 처리량(성공)=%.1f req/s, 성공률=%.1f%%, avg/p95/p99=%.1f/%d/%dms, 실패=%d%n",
+                    mode, (double) millis.length / (stages.size() * (long) stageSeconds),
+                    total == 0 ? 0.0 : 100.0 * millis.length / total,
+                    average(millis), percentile(millis, 0.95), percentile(millis, 0.99), failed());
+        }
+
+        void write(Path directory) throws IOException {
+            long[] millis = sortedMillis();
+            long total = millis.length + failed();
+            String json = String.format(Locale.ROOT, """
+                    {
+                      "mode": "%s",
+                      "throughput_rps": %.1f,
+                      "success_rate": %.4f,
+                      "avg_ms": "%.1f",
+                      "p95_ms": "%d.0",
+                      "p99_ms": "%d.0",
+                      "failed": %d
+                    }
+                    """, mode, (double) millis.length / (stages.size() * (long) stageSeconds),
+                    total == 0 ? 0.0 : (double) millis.length / total,
+                    average(millis), percentile(millis, 0.95), percentile(millis, 0.99), failed());
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("vt-result-" + mode + ".json"), json);
+        }
+    }
+
+    private static double average(long[] sorted) {
+        return sorted.length == 0 ? 0.0 : Arrays.stream(sorted).average().orElse(0.0);
+    }
+
+    private static long percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0L;
+        }
+        return sorted[Math.min(sorted.length - 1, (int) Math.ceil(quantile * sorted.length) - 1)];
+    }
+
+    private record Options(List<String> modes, List<Integer> rates, int stageSeconds, int warmupRate,
+                           int warmupSeconds, long downstreamMs, int tomcatThreads, long boardId, long pages,
+                           long pageSize, long timeoutMs, String out, boolean logging) {
+
+        static Options parse(String[] args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--") || !arg.contains("=")) {
+                    throw new IllegalArgumentException("--key=value 형식이어야 합니다: " + arg);
+                }
+                values.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            }
+            Options options = new Options(
+                    List.of(values.getOrDefault("modes", "platform,virtual").split(",")),
+                    Arrays.stream(values.getOrDefault("rates", "100,200,300,400").split(","))
+                            .map(Integer::valueOf).toList(),
+                    Integer.parseInt(values.getOrDefault("stage-seconds", "30")),
+                    Integer.parseInt(values.getOrDefault("warmup-rate", "50")),
+                    Integer.parseInt(values.getOrDefault("warmup-seconds", "30")),
+                    Long.parseLong(values.getOrDefault("downstream-ms", "50")),
+                    Integer.parseInt(values.getOrDefault("tomcat-threads", "200")),
+                    Long.parseLong(values.getOrDefault("board-id", "1")),
+                    Long.parseLong(values.getOrDefault("pages", "5")),
+                    Long.parseLong(values.getOrDefault("page-size", "10")),
+                    Long.parseLong(values.getOrDefault("timeout-ms", "5000")),
+                    values.getOrDefault("out", "."),
+                    Boolean.parseBoolean(values.getOrDefault("logging", "false")));
+            if (options.rates().stream().anyMatch(rate -> rate <= 0) || options.stageSeconds() <= 0
+                    || options.warmupRate() <= 0 || options.pages() <= 0 || options.pageSize() <= 0) {
+                throw new IllegalArgumentException("rates/stage-seconds/warmup-rate/pages/page-size는 0보다 커야 합니다: " + options);
+            }
+            if (!options.modes().stream().allMatch(mode -> mode.equals("platform") || mode.equals("virtual"))) {
+                throw new IllegalArgumentException("modes는 platform, virtual만 가능합니다: " + options.modes());
+            }
+            return options;
+        }
+    }
+}
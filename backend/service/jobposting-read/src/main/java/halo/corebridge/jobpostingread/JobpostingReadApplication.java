@@ -5,6 +5,7 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 import org.springframework.boot.autoconfigure.domain.EntityScan;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication(scanBasePackages = {
         "halo.corebridge.jobpostingread",
@@ -19,6 +20,7 @@ import org.springframework.scheduling.annotation.EnableAsync;
         "halo.corebridge.common.event.idempotency"
 })
 @EnableAsync
+@EnableScheduling
 public class JobpostingReadApplication {
     public static void main(String[] args) {
         SpringApplication.run(JobpostingReadApplication.class, args);
@@ -1,5 +1,6 @@
 package halo.corebridge.jobpostingread.client;
 
+import halo.corebridge.common.concurrent.SingleFlight;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -7,32 +8,81 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class CommentClient {
 
+    // 통계 서비스 일괄 조회 한도 (각 서비스의 MAX_BULK_COUNT_SIZE와 같은 값)
+    private static final int MAX_BULK_COUNT_SIZE = 100;
+
     private final RestTemplate restTemplate;
 
+    // 같은 공고(또는 같은 ID 묶음)에 대한 동시 조회는 한 번만 호출
+    private final SingleFlight<Long, Long> countFlight = new SingleFlight<>();
+    private final SingleFlight<List<Long>, Map<Long, Long>> countsFlight = new SingleFlight<>();
+
     @Value("${client.comment.url:http://localhost:8003}")
     private String commentServiceUrl;
 
     @CircuitBreaker(name = "commentService", fallbackMethod = "countFallback")
     public Long count(Long jobpostingId) {
-        String url = String.format("%s/api/v1/comments?jobpostingId=%d&page=1&pageSize=1",
-                commentServiceUrl, jobpostingId);
-        BaseResponse response = restTemplate.getForObject(url, BaseResponse.class);
-        if (response != null && response.getResult() != null) {
-            return response.getResult().getCommentCount();
+        return countFlight.execute(jobpostingId, () -> {
+            String url = String.format("%s/api/v1/comments?jobpostingId=%d&page=1&pageSize=1",
+                    commentServiceUrl, jobpostingId);
+            BaseResponse response = restTemplate.getForObject(url, BaseResponse.class);
+            if (response != null && response.getResult() != null) {
+                return response.getResult().getCommentCount();
+            }
+            return 0L;
+        });
+    }
+
+    /**
+     * 일괄 조회 (채용공고 N건 → 최대 {@value #MAX_BULK_COUNT_SIZE}건씩 나눠 요청)
+     * 한도를 넘는 요청은 400으로 거절되고 서킷 브레이커 실패로 기록되므로 반드시 나눠 보냅니다.
+     */
+    @CircuitBreaker(name = "commentService", fallbackMethod = "countsFallback")
+    public Map<Long, Long> counts(Collection<Long> jobpostingIds) {
+        if (jobpostingIds.isEmpty()) {
+            return Map.of();
         }
-        return 0L;
+        List<Long> ids = List.copyOf(jobpostingIds);
+        return countsFlight.execute(ids, () -> {
+            Map<Long, Long> counts = new HashMap<>();
+            for (int from = 0; from < ids.size(); from += MAX_BULK_COUNT_SIZE) {
+                List<Long> batch = ids.subList(from, Math.min(from + MAX_BULK_COUNT_SIZE, ids.size()));
+                String url = commentServiceUrl + "/api/v1/comments/counts?jobpostingIds=" + joinIds(batch);
+                CountsResponse response = restTemplate.getForObject(url, CountsResponse.class);
+                if (response != null && response.getResult() != null) {
+                    counts.putAll(response.getResult());
+                }
+            }
+            return counts;
+        });
+    }
+
+    private static String joinIds(Collection<Long> jobpostingIds) {
+        return jobpostingIds.stream().map(String::valueOf).collect(Collectors.joining(","));
     }
 
     // ===== Fallback Methods =====
+    // count 실패는 null (기본값은 호출자가 적용, 캐시에 채우지 않음)
 
     private Long countFallback(Long jobpostingId, Throwable t) {
         log.warn("[CircuitBreaker] commentService.count FALLBACK - jobpostingId={}, error={}", jobpostingId, t.getMessage());
-        return 0L;
+        return null;
+    }
+
+    private Map<Long, Long> countsFallback(Collection<Long> jobpostingIds, Throwable t) {
+        log.warn("[CircuitBreaker] commentService.counts FALLBACK - size={}, error={}", jobpostingIds.size(), t.getMessage());
+        return Map.of();
     }
 
     @lombok.Data
@@ -47,4 +97,12 @@ public class CommentClient {
     public static class CommentPageResponse {
         private Long commentCount;
     }
+
+    @lombok.Data
+    public static class CountsResponse {
+        private boolean success;
+        private int code;
+        private String message;
+        private Map<Long, Long> result;
+    }
 }
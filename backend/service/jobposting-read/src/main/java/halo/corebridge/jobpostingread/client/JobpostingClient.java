@@ -1,30 +1,50 @@
 package halo.corebridge.jobpostingread.client;
 
+import halo.corebridge.common.cache.LastKnownGood;
+import halo.corebridge.common.concurrent.SingleFlight;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class JobpostingClient {
 
     private final RestTemplate restTemplate;
 
+    // 같은 공고에 대한 동시 조회는 한 번만 호출
+    private final SingleFlight<Long, JobpostingResponse> readFlight = new SingleFlight<>();
+
+    // 마지막 정상 응답 (Circuit OPEN 시 fallback으로 사용)
+    private final LastKnownGood<Long, JobpostingResponse> lastKnownReads;
+    private final LastKnownGood<PageKey, JobpostingPageResponse> lastKnownPages;
+
     @Value("${client.jobposting.url:http://localhost:8002}")
     private String jobpostingServiceUrl;
 
+    public JobpostingClient(RestTemplate restTemplate,
+                            @Value("${read.stale.max-entries:10000}") int maxEntries,
+                            @Value("${read.stale.max-age-seconds:3600}") long maxAgeSeconds) {
+        this.restTemplate = restTemplate;
+        this.lastKnownReads = new LastKnownGood<>(maxEntries, Duration.ofSeconds(maxAgeSeconds));
+        this.lastKnownPages = new LastKnownGood<>(maxEntries, Duration.ofSeconds(maxAgeSeconds));
+    }
+
     @CircuitBreaker(name = "jobpostingService", fallbackMethod = "readFallback")
     public JobpostingResponse read(Long jobpostingId) {
-        String url = jobpostingServiceUrl + "/api/v1/jobpostings/" + jobpostingId;
-        BaseResponse response = restTemplate.getForObject(url, BaseResponse.class);
-        return response != null ? response.getResult() : null;
+        JobpostingResponse result = readFlight.execute(jobpostingId, () -> {
+            String url = jobpostingServiceUrl + "/api/v1/jobpostings/" + jobpostingId;
+            BaseResponse response = restTemplate.getForObject(url, BaseResponse.class);
+            return response != null ? response.getResult() : null;
+        });
+        lastKnownReads.put(jobpostingId, result);
+        return result;
     }
 
     @CircuitBreaker(name = "jobpostingService", fallbackMethod = "readAllFallback")
@@ -32,7 +52,9 @@ public class JobpostingClient {
         String url = String.format("%s/api/v1/jobpostings?boardId=%d&page=%d&pageSize=%d",
                 jobpostingServiceUrl, boardId, page, pageSize);
         BasePageResponse response = restTemplate.getForObject(url, BasePageResponse.class);
-        return response != null ? response.getResult() : null;
+        JobpostingPageResponse result = response != null ? response.getResult() : null;
+        lastKnownPages.put(new PageKey(boardId, page, pageSize), result);
+        return result;
     }
 
     @CircuitBreaker(name = "jobpostingService", fallbackMethod = "countFallback")
@@ -42,16 +64,46 @@ public class JobpostingClient {
         return response != null && response.getResult() != null ? response.getResult() : 0L;
     }
 
+    /**
+     * 삭제된 공고는 마지막 정상 응답에서도 제거 (fallback으로 되살아나지 않도록)
+     */
+    public void forget(Long jobpostingId) {
+        lastKnownReads.remove(jobpostingId);
+    }
+
+    /**
+     * fallback으로 응답한 단건 조회 키 (HALF_OPEN 시 재검증)
+     */
+    public List<Long> drainStaleReads(int limit) {
+        return lastKnownReads.drainStaleKeys(limit);
+    }
+
+    /**
+     * fallback으로 응답한 목록 조회 키 (HALF_OPEN 시 재검증)
+     */
+    public List<PageKey> drainStalePages(int limit) {
+        return lastKnownPages.drainStaleKeys(limit);
+    }
+
     // ===== Fallback Methods =====
+    // 마지막 정상 응답이 있으면 stale로 응답 (경과 시간은 StaleResponses에 기록)
 
     private JobpostingResponse readFallback(Long jobpostingId, Throwable t) {
         log.warn("[CircuitBreaker] jobpostingService.read FALLBACK - jobpostingId={}, error={}", jobpostingId, t.getMessage());
-        return null;
+        return stale(lastKnownReads.get(jobpostingId));
     }
 
     private JobpostingPageResponse readAllFallback(Long boardId, Long page, Long pageSize, Throwable t) {
         log.warn("[CircuitBreaker] jobpostingService.readAll FALLBACK - boardId={}, error={}", boardId, t.getMessage());
-        return null;
+        return stale(lastKnownPages.get(new PageKey(boardId, page, pageSize)));
+    }
+
+    private static <T> T stale(LastKnownGood.Stale<T> stale) {
+        if (stale == null) {
+            return null;
+        }
+        StaleResponses.record(stale.age());
+        return stale.value();
     }
 
     private Long countFallback(Long boardId, Throwable t) {
@@ -59,6 +111,9 @@ public class JobpostingClient {
         return 0L;
     }
 
+    public record PageKey(Long boardId, Long page, Long pageSize) {
+    }
+
     // BaseResponse Wrappers
     @lombok.Data
     public static class BaseResponse {
@@ -0,0 +1,101 @@
+package halo.corebridge.jobpostingread.client;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 요청 단위 stale 응답 기록
+ *
+ * Circuit Breaker fallback이 마지막 정상 응답(LastKnownGood)으로 응답하면 그 경과 시간을 기록합니다.
+ * - 컨트롤러는 기록이 있으면 Age/Warning 헤더를 붙이고,
+ *   서비스는 stale 응답을 읽기 모델에 채우지 않습니다. (최신 데이터로 오인되지 않도록)
+ * - 기록 범위는 중첩할 수 있으며, 안쪽 기록은 바깥 범위에도 반영됩니다.
+ * - fan-out 작업 스레드로는 propagate로 전달합니다.
+ */
+public final class StaleResponses {
+
+    private static final ThreadLocal<Recorder> CURRENT = new ThreadLocal<>();
+
+    private StaleResponses() {
+    }
+
+    /**
+     * 현재 스레드에 기록 범위 시작 (try-with-resources로 닫음)
+     */
+    public static Recorder open() {
+        Recorder recorder = new Recorder(CURRENT.get());
+        CURRENT.set(recorder);
+        return recorder;
+    }
+
+    /**
+     * stale 응답 사용 기록 (기록 범위 밖이면 무시)
+     */
+    public static void record(Duration age) {
+        Recorder recorder = CURRENT.get();
+        if (recorder != null) {
+            recorder.record(age.toMillis());
+        }
+    }
+
+    /**
+     * 현재 기록 범위를 다른 스레드에서 실행할 작업에 전달
+     */
+    public static <T> Supplier<T> propagate(Supplier<T> task) {
+        Recorder recorder = CURRENT.get();
+        if (recorder == null) {
+            return task;
+        }
+        return () -> {
+            Recorder previous = CURRENT.get();
+            CURRENT.set(recorder);
+            try {
+                return task.get();
+            } finally {
+                restore(previous);
+            }
+        };
+    }
+
+    private static void restore(Recorder previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+
+    public static final class Recorder implements AutoCloseable {
+
+        private final Recorder parent;
+        private final AtomicLong maxAgeMillis = new AtomicLong(-1);
+
+        private Recorder(Recorder parent) {
+            this.parent = parent;
+        }
+
+        public boolean isStale() {
+            return maxAgeMillis.get() >= 0;
+        }
+
+        /**
+         * 가장 오래된 stale 응답의 경과 시간 (초)
+         */
+        public long getAgeSeconds() {
+            return Math.max(maxAgeMillis.get(), 0) / 1000;
+        }
+
+        private void record(long ageMillis) {
+            maxAgeMillis.accumulateAndGet(ageMillis, Math::max);
+            if (parent != null) {
+                parent.record(ageMillis);
+            }
+        }
+
+        @Override
+        public void close() {
+            restore(parent);
+        }
+    }
+}
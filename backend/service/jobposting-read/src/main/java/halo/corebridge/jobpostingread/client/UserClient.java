@@ -1,43 +1,101 @@
 package halo.corebridge.jobpostingread.client;
 
+import halo.corebridge.common.cache.LastKnownGood;
+import halo.corebridge.common.concurrent.SingleFlight;
 import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
 
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class UserClient {
 
     private final RestTemplate restTemplate;
+    private final SingleFlight<Long, UserResponse> userFlight = new SingleFlight<>();
+    private final SingleFlight<List<Long>, Map<Long, String>> nicknamesFlight = new SingleFlight<>();
+
+    // 마지막으로 확인한 닉네임 (Circuit OPEN 시 fallback으로 사용)
+    private final LastKnownGood<Long, String> lastKnownNicknames;
 
     @Value("${client.user.url:http://localhost:8001}")
     private String userServiceUrl;
 
+    public UserClient(RestTemplate restTemplate,
+                      @Value("${read.stale.max-entries:10000}") int maxEntries,
+                      @Value("${read.stale.max-age-seconds:3600}") long maxAgeSeconds) {
+        this.restTemplate = restTemplate;
+        this.lastKnownNicknames = new LastKnownGood<>(maxEntries, Duration.ofSeconds(maxAgeSeconds));
+    }
+
     @CircuitBreaker(name = "userService", fallbackMethod = "readFallback")
     public UserResponse read(Long userId) {
         if (userId == null) {
             return null;
         }
-        String url = userServiceUrl + "/api/v1/users/" + userId;
-        BaseResponse response = restTemplate.getForObject(url, BaseResponse.class);
-        return response != null ? response.getResult() : null;
+        return fetch(userId);
     }
 
-    @CircuitBreaker(name = "userService", fallbackMethod = "getNicknameFallback")
-    public String getNickname(Long userId) {
-        if (userId == null) {
-            return "익명";
+    /**
+     * 닉네임 일괄 조회 (사용자 N명 → 요청 1회)
+     * 존재하지 않는 사용자는 결과에서 빠집니다.
+     */
+    @CircuitBreaker(name = "userService", fallbackMethod = "getNicknamesFallback")
+    public Map<Long, String> getNicknames(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return Map.of();
         }
-        String url = userServiceUrl + "/api/v1/users/" + userId;
-        BaseResponse response = restTemplate.getForObject(url, BaseResponse.class);
-        if (response != null && response.getResult() != null) {
-            return response.getResult().getNickname();
+        Map<Long, String> nicknames = nicknamesFlight.execute(List.copyOf(userIds), () -> {
+            String url = userServiceUrl + "/api/v1/users/profiles?userIds=" + joinIds(userIds);
+            ProfilesResponse response = restTemplate.getForObject(url, ProfilesResponse.class);
+            if (response == null || response.getResult() == null) {
+                return Map.of();
+            }
+            return response.getResult().stream()
+                    .filter(profile -> profile.getUserId() != null && profile.getNickname() != null)
+                    .collect(Collectors.toMap(ProfileResponse::getUserId, ProfileResponse::getNickname, (a, b) -> a));
+        });
+        nicknames.forEach(lastKnownNicknames::put);
+        return nicknames;
+    }
+
+    /**
+     * 변경된 닉네임 반영 (USER_UPDATED, fallback이 변경 전 닉네임을 돌려주지 않도록)
+     */
+    public void rememberNickname(Long userId, String nickname) {
+        if (nickname == null) {
+            lastKnownNicknames.remove(userId);
+        } else {
+            lastKnownNicknames.put(userId, nickname);
         }
-        return "익명";
+    }
+
+    /**
+     * fallback으로 응답한 사용자 (HALF_OPEN 시 재검증)
+     */
+    public List<Long> drainStaleNicknames(int limit) {
+        return lastKnownNicknames.drainStaleKeys(limit);
+    }
+
+    // 같은 사용자에 대한 동시 조회는 한 번만 호출
+    private UserResponse fetch(Long userId) {
+        return userFlight.execute(userId, () -> {
+            String url = userServiceUrl + "/api/v1/users/" + userId;
+            BaseResponse response = restTemplate.getForObject(url, BaseResponse.class);
+            return response != null ? response.getResult() : null;
+        });
+    }
+
+    private static String joinIds(Collection<Long> userIds) {
+        return userIds.stream().map(String::valueOf).collect(Collectors.joining(","));
     }
 
     // ===== Fallback Methods =====
@@ -47,9 +105,18 @@ public class UserClient {
         return null;
     }
 
-    private String getNicknameFallback(Long userId, Throwable t) {
-        log.warn("[CircuitBreaker] userService.getNickname FALLBACK - userId={}, error={}", userId, t.getMessage());
-        return "익명";
+    // 마지막으로 확인한 닉네임으로 응답, 없는 사용자는 결과에서 빠짐 (기본 닉네임은 호출자가 적용)
+    private Map<Long, String> getNicknamesFallback(Collection<Long> userIds, Throwable t) {
+        log.warn("[CircuitBreaker] userService.getNicknames FALLBACK - size={}, error={}", userIds.size(), t.getMessage());
+        Map<Long, String> nicknames = new HashMap<>();
+        for (Long userId : userIds) {
+            LastKnownGood.Stale<String> stale = lastKnownNicknames.get(userId);
+            if (stale != null) {
+                nicknames.put(userId, stale.value());
+                StaleResponses.record(stale.age());
+            }
+        }
+        return nicknames;
     }
 
     @lombok.Data
@@ -66,4 +133,18 @@ public class UserClient {
         private String email;
         private String nickname;
     }
+
+    @lombok.Data
+    public static class ProfilesResponse {
+        private boolean success;
+        private int code;
+        private String message;
+        private List<ProfileResponse> result;
+    }
+
+    @lombok.Data
+    public static class ProfileResponse {
+        private Long userId;
+        private String nickname;
+    }
 }
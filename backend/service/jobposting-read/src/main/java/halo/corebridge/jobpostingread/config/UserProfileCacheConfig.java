@@ -0,0 +1,23 @@
+package halo.corebridge.jobpostingread.config;
+
+import halo.corebridge.common.cache.UserProfileCache;
+import halo.corebridge.jobpostingread.client.UserClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 작성자 닉네임 캐시 (USER_UPDATED로 갱신, 미스는 User 서비스 일괄 조회)
+ */
+@Configuration
+public class UserProfileCacheConfig {
+
+    @Bean
+    public UserProfileCache userProfileCache(UserClient userClient,
+                                             @Value("${user-profile.cache.ttl-seconds:600}") long ttlSeconds,
+                                             @Value("${user-profile.cache.max-entries:50000}") int maxEntries) {
+        return new UserProfileCache(Duration.ofSeconds(ttlSeconds), maxEntries, userClient::getNicknames);
+    }
+}
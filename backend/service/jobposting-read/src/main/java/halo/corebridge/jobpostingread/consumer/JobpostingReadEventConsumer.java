@@ -9,6 +9,7 @@ import halo.corebridge.common.event.idempotency.IdempotencyChecker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
@@ -17,24 +18,49 @@ import org.springframework.kafka.annotation.KafkaListener;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.ConsumerFactory;
 import org.springframework.kafka.core.DefaultKafkaConsumerFactory;
+import org.springframework.kafka.listener.ConsumerSeekAware;
 import org.springframework.kafka.listener.ContainerProperties;
 import org.springframework.stereotype.Component;
 
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Slf4j
 @Component
 @RequiredArgsConstructor
-public class JobpostingReadEventConsumer {
+public class JobpostingReadEventConsumer implements ConsumerSeekAware {
 
+    public static final String LISTENER_ID = "jobposting-read-listener";
     private static final String CONSUMER_GROUP = "jobposting-read-group";
     private final List<EventHandler<?>> eventHandlers;
     private final IdempotencyChecker idempotencyChecker;
 
+    // 재구성 모드: earliest offset부터 재생 (파티션당 최초 할당 시 1회 seek, consumer 시작 전 loader가 설정)
+    private volatile boolean replaying;
+    private final Set<TopicPartition> replayedPartitions = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 새 rebuild-id로 읽기 모델을 초기화한 경우 JobpostingReadModelLoader가 consumer 시작 전에 호출합니다.
+     * 이 그룹의 처리 기록(processed_event)도 비워서, 멱등성 체크는 그대로 둔 채 재생 이벤트를 다시 반영합니다.
+     * (재생이 끝난 뒤의 재전달도 중복으로 걸러져 댓글 수 같은 증분 값이 두 번 더해지지 않음)
+     */
+    public void replayFromBeginning() {
+        int cleared = idempotencyChecker.clear(CONSUMER_GROUP);
+        this.replaying = true;
+        log.info("[JobpostingReadEventConsumer] rebuild: processed_event {}건 삭제, earliest offset부터 재생합니다.", cleared);
+    }
+
+    /**
+     * 읽기 모델 적재 후 JobpostingReadModelLoader가 시작합니다.
+     */
     @KafkaListener(
-            topics = {"corebridge-jobposting", "corebridge-comment", "corebridge-like", "corebridge-view"},
+            id = LISTENER_ID,
+            idIsGroup = false,
+            autoStartup = "false",
+            topics = {"corebridge-jobposting", "corebridge-comment", "corebridge-like", "corebridge-view", "corebridge-user"},
             groupId = "jobposting-read-group",
             containerFactory = "jobpostingReadKafkaListenerContainerFactory"
     )
@@ -72,6 +98,20 @@ public class JobpostingReadEventConsumer {
         }
     }
 
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        if (!replaying) {
+            return;
+        }
+        List<TopicPartition> partitions = assignments.keySet().stream()
+                .filter(replayedPartitions::add)
+                .toList();
+        if (!partitions.isEmpty()) {
+            callback.seekToBeginning(partitions);
+            log.info("[JobpostingReadEventConsumer] rebuild: seek to beginning {}", partitions);
+        }
+    }
+
     @Configuration
     static class KafkaConsumerConfig {
         @Value("${spring.kafka.bootstrap-servers}")
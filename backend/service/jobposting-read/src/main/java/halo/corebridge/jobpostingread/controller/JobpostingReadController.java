@@ -1,35 +1,74 @@
 package halo.corebridge.jobpostingread.controller;
 
 import halo.corebridge.common.response.BaseResponse;
+import halo.corebridge.common.web.VersionStamps;
+import halo.corebridge.jobpostingread.client.StaleResponses;
 import halo.corebridge.jobpostingread.model.dto.JobpostingReadDto;
 import halo.corebridge.jobpostingread.service.JobpostingReadService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/jobposting-read")
 public class JobpostingReadController {
     
+    private static final String STALE_WARNING = "110 - \"Response is Stale\"";
+
     private final JobpostingReadService jobpostingReadService;
 
     /**
      * 단일 채용공고 조회 (통계 포함)
+     * 읽기 모델에 모두 있으면 ETag/Last-Modified를 붙이고, 변경이 없으면 304 (본문/원격 조회 없음)
      */
     @GetMapping("/{jobpostingId}")
-    public BaseResponse<JobpostingReadDto.Response> read(@PathVariable("jobpostingId") Long jobpostingId) {
-        return BaseResponse.success(jobpostingReadService.read(jobpostingId));
+    public BaseResponse<JobpostingReadDto.Response> read(@PathVariable("jobpostingId") Long jobpostingId,
+                                                         WebRequest webRequest,
+                                                         HttpServletResponse response) {
+        Long version = jobpostingReadService.version(jobpostingId);
+        if (version != null && VersionStamps.checkNotModified(webRequest, version)) {
+            return null;
+        }
+        try (StaleResponses.Recorder stale = StaleResponses.open()) {
+            JobpostingReadDto.Response result = jobpostingReadService.read(jobpostingId);
+            markStale(stale, response);
+            return BaseResponse.success(result);
+        }
     }
 
     /**
      * 채용공고 목록 조회 (통계 포함)
+     * 게시판 인덱스와 페이지의 모든 공고가 읽기 모델에 있으면 조건부 GET 지원
      */
     @GetMapping
     public BaseResponse<JobpostingReadDto.PageResponse> readAll(
             @RequestParam("boardId") Long boardId,
             @RequestParam("page") Long page,
-            @RequestParam("pageSize") Long pageSize
+            @RequestParam("pageSize") Long pageSize,
+            WebRequest webRequest,
+            HttpServletResponse response
     ) {
-        return BaseResponse.success(jobpostingReadService.readAll(boardId, page, pageSize));
+        Long version = jobpostingReadService.pageVersion(boardId, page, pageSize);
+        if (version != null && VersionStamps.checkNotModified(webRequest, version)) {
+            return null;
+        }
+        try (StaleResponses.Recorder stale = StaleResponses.open()) {
+            JobpostingReadDto.PageResponse result = jobpostingReadService.readAll(boardId, page, pageSize);
+            markStale(stale, response);
+            return BaseResponse.success(result);
+        }
+    }
+
+    /**
+     * 원본 장애로 마지막 정상 응답을 사용했으면 Age(경과 초)/Warning 헤더 추가
+     */
+    private static void markStale(StaleResponses.Recorder stale, HttpServletResponse response) {
+        if (stale.isStale()) {
+            response.setHeader(HttpHeaders.AGE, String.valueOf(stale.getAgeSeconds()));
+            response.setHeader(HttpHeaders.WARNING, STALE_WARNING);
+        }
     }
 }
@@ -0,0 +1,517 @@
+package halo.corebridge.jobpostingread.handler;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongConsumer;
+import java.util.function.LongPredicate;
+
+/**
+ * jobpostingId(long) -> (조회수, 좋아요 수, 댓글 수) 원시 타입 카운터 저장소 (크기 제한 + 축출)
+ *
+ * ConcurrentHashMap<Long, AtomicLong> 3개 대신 open addressing 테이블 하나에
+ * 세 카운터를 연속으로 보관합니다. (슬롯당 32바이트, 항목별 객체 할당 없음)
+ * - keys:   long[capacity]      (0 = 빈 슬롯)
+ * - values: long[capacity * 3]  (슬롯 i의 카운터는 i*3 .. i*3+2)
+ *
+ * 최대 maxEntries개까지 보관하며, 가득 차면 TinyLFU 방식으로 교체합니다.
+ * - 빈도: 조회/갱신마다 JobpostingFrequencySketch에 기록
+ * - 희생자: 임의 위치에서 축출 가능한 항목을 표본 추출하여 빈도가 가장 낮은 항목
+ * - 적재(setIfAbsent): 새 항목의 빈도가 희생자보다 높을 때만 교체 (롱테일은 들어오지 못함)
+ * - 갱신(set/add): 아직 영속화되지 않은 값이므로 항상 보관 (희생자만 빈도로 선택)
+ *   축출할 항목이 없어(모두 영속화 대기) 여유분까지 차면 테이블을 두 배로 늘리고 경고 로그를 남깁니다.
+ *   (갱신을 버리지 않음, 영속화 대기 항목이 빠지면 다시 maxEntries 기준으로 축출)
+ *
+ * 동시성 (lock-free가 아님: 갱신도 락을 잡고, 쓰기 락 동안은 조회/갱신이 기다림)
+ * - 조회: StampedLock 낙관적 읽기 (실패 시 읽기 락)
+ * - 기존 항목 갱신: 읽기 락 + VarHandle CAS (갱신끼리는 막지 않음)
+ * - 삽입/삭제/축출/확장: 쓰기 락 (삭제는 backward shift로 뒤 항목을 당겨 빈 슬롯/삭제 표식을 남기지 않음)
+ * - 확장은 values → keys 순서로 교체하고, 낙관적 읽기는 keys → values 순서로 읽어 배열 범위를 벗어나지 않습니다.
+ */
+@Slf4j
+public final class JobpostingCounterStore {
+
+    public static final int VIEW = 0;
+    public static final int LIKE = 1;
+    public static final int COMMENT = 2;
+
+    // 값이 없음을 나타내는 표식 (카운터는 음수가 될 수 없음)
+    public static final long ABSENT = Long.MIN_VALUE;
+
+    private static final int FIELDS = 3;
+    private static final long EMPTY_KEY = 0L;
+    private static final double MAX_LOAD_FACTOR = 0.75;
+    private static final int EVICTION_SAMPLE_SIZE = 8;
+    private static final int EVICTION_MAX_PROBES = 128;
+    private static final VarHandle LONGS = MethodHandles.arrayElementVarHandle(long[].class);
+
+    // 확장 시 교체 (마스크는 keys.length - 1)
+    private volatile long[] keys;
+    private volatile long[] values;
+    private final int maxEntries;
+    private int hardLimit;
+    private final LongPredicate evictable;
+    private final LongConsumer evicted;
+    private final JobpostingFrequencySketch sketch;
+    private final StampedLock lock = new StampedLock();
+
+    // 쓰기 락 안에서만 변경
+    private volatile int size;
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+    private final LongAdder grows = new LongAdder();
+
+    public JobpostingCounterStore(int maxEntries) {
+        this(maxEntries, jobpostingId -> true);
+    }
+
+    /**
+     * @param evictable 축출해도 되는 항목인지 (영속화 대기 중인 항목은 false)
+     */
+    public JobpostingCounterStore(int maxEntries, LongPredicate evictable) {
+        this(maxEntries, evictable, jobpostingId -> { });
+    }
+
+    /**
+     * @param evictable 축출해도 되는 항목인지 (영속화 대기 중인 항목은 false)
+     * @param evicted   축출된 항목 알림 (쓰기 락 안에서 호출되므로 가볍게 처리해야 함)
+     */
+    public JobpostingCounterStore(int maxEntries, LongPredicate evictable, LongConsumer evicted) {
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("maxEntries는 1 이상이어야 합니다.");
+        }
+        int capacity = tableSizeFor((int) Math.ceil(maxEntries / MAX_LOAD_FACTOR));
+        this.values = newValues(capacity);
+        this.keys = new long[capacity];
+        this.maxEntries = maxEntries;
+        this.hardLimit = hardLimit(capacity, maxEntries);
+        this.evictable = evictable;
+        this.evicted = evicted;
+        this.sketch = new JobpostingFrequencySketch(maxEntries);
+    }
+
+    /**
+     * 카운터 값 (없으면 ABSENT) — 조회 경로용, 빈도와 적중률에 반영
+     */
+    public long get(long jobpostingId, int field) {
+        long value = peek(jobpostingId, field);
+        sketch.increment(jobpostingId);
+        if (value != ABSENT) {
+            hits.increment();
+        } else {
+            misses.increment();
+        }
+        return value;
+    }
+
+    /**
+     * 카운터 값 (없으면 ABSENT) — 빈도/적중률에 반영하지 않음 (영속화 등 내부용)
+     */
+    public long peek(long jobpostingId, int field) {
+        checkKey(jobpostingId);
+        long stamp = lock.tryOptimisticRead();
+        long value = read(jobpostingId, field);
+        if (lock.validate(stamp)) {
+            return value;
+        }
+        stamp = lock.readLock();
+        try {
+            return read(jobpostingId, field);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * 카운터 값 설정 (없던 항목은 항상 보관, 필요하면 다른 항목 축출)
+     * @return 축출할 항목도 여유 공간도 없으면 false
+     */
+    public boolean set(long jobpostingId, int field, long value) {
+        checkKey(jobpostingId);
+        sketch.increment(jobpostingId);
+        long stamp = lock.readLock();
+        try {
+            int slot = find(jobpostingId);
+            if (slot >= 0) {
+                LONGS.setVolatile(values, slot * FIELDS + field, value);
+                return true;
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        stamp = lock.writeLock();
+        try {
+            int slot = findOrInsert(jobpostingId, true);
+            if (slot < 0) {
+                return false;
+            }
+            LONGS.setVolatile(values, slot * FIELDS + field, value);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 값이 없을 때만 설정 (이미 있는 값은 유지)
+     * 새 항목은 TinyLFU 적재 정책을 통과해야 보관됩니다.
+     * @return 보관되지 않았으면 false
+     */
+    public boolean setIfAbsent(long jobpostingId, int field, long value) {
+        checkKey(jobpostingId);
+        long stamp = lock.readLock();
+        try {
+            int slot = find(jobpostingId);
+            if (slot >= 0) {
+                LONGS.compareAndSet(values, slot * FIELDS + field, ABSENT, value);
+                return true;
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        stamp = lock.writeLock();
+        try {
+            int slot = findOrInsert(jobpostingId, false);
+            if (slot < 0) {
+                return false;
+            }
+            LONGS.compareAndSet(values, slot * FIELDS + field, ABSENT, value);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * delta만큼 증감 (없던 값은 0에서 시작, 0 미만으로 내려가지 않음)
+     */
+    public boolean add(long jobpostingId, int field, long delta) {
+        checkKey(jobpostingId);
+        sketch.increment(jobpostingId);
+        long stamp = lock.readLock();
+        try {
+            int slot = find(jobpostingId);
+            if (slot >= 0) {
+                addAt(slot * FIELDS + field, delta, true);
+                return true;
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        stamp = lock.writeLock();
+        try {
+            int slot = findOrInsert(jobpostingId, true);
+            if (slot < 0) {
+                return false;
+            }
+            addAt(slot * FIELDS + field, delta, true);
+            return true;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * 값이 있을 때만 delta만큼 증감 (0 미만으로 내려가지 않음)
+     * @return 값이 없으면(미보관/축출/미수신) false
+     */
+    public boolean addIfPresent(long jobpostingId, int field, long delta) {
+        checkKey(jobpostingId);
+        sketch.increment(jobpostingId);
+        long stamp = lock.readLock();
+        try {
+            int slot = find(jobpostingId);
+            return slot >= 0 && addAt(slot * FIELDS + field, delta, false);
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean contains(long jobpostingId) {
+        checkKey(jobpostingId);
+        long stamp = lock.tryOptimisticRead();
+        boolean found = find(jobpostingId) >= 0;
+        if (lock.validate(stamp)) {
+            return found;
+        }
+        stamp = lock.readLock();
+        try {
+            return find(jobpostingId) >= 0;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public void remove(long jobpostingId) {
+        checkKey(jobpostingId);
+        long stamp = lock.writeLock();
+        try {
+            int slot = find(jobpostingId);
+            if (slot >= 0) {
+                delete(slot);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public void clear() {
+        long stamp = lock.writeLock();
+        try {
+            long[] keys = this.keys;
+            Arrays.fill(values, ABSENT);
+            Arrays.fill(keys, EMPTY_KEY);
+            size = 0;
+            sketch.clear();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return keys.length;
+    }
+
+    public long hitCount() {
+        return hits.sum();
+    }
+
+    public long missCount() {
+        return misses.sum();
+    }
+
+    public long evictionCount() {
+        return evictions.sum();
+    }
+
+    public long rejectionCount() {
+        return rejections.sum();
+    }
+
+    /**
+     * 축출할 항목이 없어 테이블을 늘린 횟수
+     */
+    public long growCount() {
+        return grows.sum();
+    }
+
+    /**
+     * 조회 적중률 (조회가 없으면 1.0)
+     */
+    public double hitRatio() {
+        long hitCount = hits.sum();
+        long requestCount = hitCount + misses.sum();
+        return requestCount == 0 ? 1.0 : (double) hitCount / requestCount;
+    }
+
+    // find가 keys를 먼저 읽으므로 values는 같거나 더 새로운 테이블 (확장 후 values가 더 큼)
+    private long read(long jobpostingId, int field) {
+        int slot = find(jobpostingId);
+        return slot < 0 ? ABSENT : (long) LONGS.getVolatile(values, slot * FIELDS + field);
+    }
+
+    private boolean addAt(int index, long delta, boolean absentAsZero) {
+        long current;
+        long base;
+        do {
+            current = (long) LONGS.getVolatile(values, index);
+            if (current == ABSENT && !absentAsZero) {
+                return false;
+            }
+            base = current == ABSENT ? 0L : current;
+        } while (!LONGS.compareAndSet(values, index, current, Math.max(0L, base + delta)));
+        return true;
+    }
+
+    /**
+     * 쓰기 락 안에서 호출: 항목이 있으면 그 슬롯, 없으면 삽입
+     * @param force true면 적재 정책과 무관하게 보관 (희생자는 빈도로 선택)
+     * @return 슬롯 위치 (보관하지 못하면 -1)
+     */
+    private int findOrInsert(long jobpostingId, boolean force) {
+        int slot = find(jobpostingId);
+        if (slot >= 0) {
+            return slot;
+        }
+        if (size >= maxEntries && !makeRoom(jobpostingId, force)) {
+            rejections.increment();
+            return -1;
+        }
+        return insert(jobpostingId);
+    }
+
+    // 쓰기 락 안에서 호출
+    private boolean makeRoom(long candidateId, boolean force) {
+        int victim = sampleVictim();
+        if (victim < 0) {
+            if (!force) {
+                return false;
+            }
+            if (size >= hardLimit) {
+                grow();
+            }
+            return true;
+        }
+        if (!force && sketch.frequency(candidateId) <= sketch.frequency(keys[victim])) {
+            return false;
+        }
+        long victimKey = keys[victim];
+        delete(victim);
+        evictions.increment();
+        evicted.accept(victimKey);
+        return true;
+    }
+
+    // 임의 위치부터 축출 가능한 항목을 표본 추출하여 빈도가 가장 낮은 슬롯 선택
+    private int sampleVictim() {
+        long[] keys = this.keys;
+        int mask = keys.length - 1;
+        int slot = ThreadLocalRandom.current().nextInt(keys.length);
+        int victim = -1;
+        int victimFrequency = Integer.MAX_VALUE;
+        int sampled = 0;
+        for (int probe = 0; probe < EVICTION_MAX_PROBES && sampled < EVICTION_SAMPLE_SIZE; probe++) {
+            long key = keys[slot];
+            if (key != EMPTY_KEY && evictable.test(key)) {
+                sampled++;
+                int frequency = sketch.frequency(key);
+                if (frequency < victimFrequency) {
+                    victim = slot;
+                    victimFrequency = frequency;
+                }
+            }
+            slot = (slot + 1) & mask;
+        }
+        return victim;
+    }
+
+    // 쓰기 락 안에서 호출: 축출할 항목이 없을 때 두 배 크기 테이블로 옮김
+    private void grow() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        int capacity = oldKeys.length << 1;
+        if (capacity <= 0 || capacity * FIELDS <= 0) {
+            throw new IllegalStateException("카운터 테이블을 더 늘릴 수 없습니다: " + oldKeys.length);
+        }
+        long[] newKeys = new long[capacity];
+        long[] newValues = newValues(capacity);
+        int mask = capacity - 1;
+        for (int i = 0; i < oldKeys.length; i++) {
+            long key = oldKeys[i];
+            if (key == EMPTY_KEY) {
+                continue;
+            }
+            int slot = hash(key) & mask;
+            while (newKeys[slot] != EMPTY_KEY) {
+                slot = (slot + 1) & mask;
+            }
+            newKeys[slot] = key;
+            System.arraycopy(oldValues, i * FIELDS, newValues, slot * FIELDS, FIELDS);
+        }
+        values = newValues;
+        keys = newKeys;
+        hardLimit = hardLimit(capacity, maxEntries);
+        grows.increment();
+        log.warn("[ReadCache] 축출할 카운터가 없어(영속화 대기) 테이블 확장: size={}, slots={} -> {}",
+                size, oldKeys.length, capacity);
+    }
+
+    // 쓰기 락 안에서 호출
+    private int insert(long jobpostingId) {
+        long[] keys = this.keys;
+        int mask = keys.length - 1;
+        int slot = hash(jobpostingId) & mask;
+        while (keys[slot] != EMPTY_KEY) {
+            slot = (slot + 1) & mask;
+        }
+        LONGS.setVolatile(keys, slot, jobpostingId);
+        size++;
+        return slot;
+    }
+
+    // 쓰기 락 안에서 호출: 뒤따르는 항목을 당겨 탐색 경로에 빈 슬롯이 생기지 않도록 함
+    private void delete(int slot) {
+        long[] keys = this.keys;
+        long[] values = this.values;
+        int mask = keys.length - 1;
+        int hole = slot;
+        int next = (hole + 1) & mask;
+        long key;
+        while ((key = keys[next]) != EMPTY_KEY) {
+            int home = hash(key) & mask;
+            if (((next - home) & mask) >= ((next - hole) & mask)) {
+                keys[hole] = key;
+                System.arraycopy(values, next * FIELDS, values, hole * FIELDS, FIELDS);
+                hole = next;
+            }
+            next = (next + 1) & mask;
+        }
+        keys[hole] = EMPTY_KEY;
+        Arrays.fill(values, hole * FIELDS, hole * FIELDS + FIELDS, ABSENT);
+        size--;
+    }
+
+    private int find(long jobpostingId) {
+        long[] keys = this.keys;
+        int mask = keys.length - 1;
+        int slot = hash(jobpostingId) & mask;
+        for (int probe = 0; probe < keys.length; probe++) {
+            long key = (long) LONGS.getVolatile(keys, slot);
+            if (key == jobpostingId) {
+                return slot;
+            }
+            if (key == EMPTY_KEY) {
+                return -1;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private static void checkKey(long jobpostingId) {
+        if (jobpostingId == EMPTY_KEY) {
+            throw new IllegalArgumentException("jobpostingId는 0일 수 없습니다.");
+        }
+    }
+
+    // murmur3 fmix64 (연속된 snowflake ID도 고르게 분산)
+    private static int hash(long key) {
+        key ^= key >>> 33;
+        key *= 0xff51afd7ed558ccdL;
+        key ^= key >>> 33;
+        key *= 0xc4ceb9fe1a85ec53L;
+        key ^= key >>> 33;
+        return (int) key;
+    }
+
+    // 축출할 항목이 없을 때 갱신을 받아줄 여유분 (넘으면 확장)
+    private static int hardLimit(int capacity, int maxEntries) {
+        return Math.max(maxEntries, Math.min(capacity - 1, capacity - capacity / 8));
+    }
+
+    private static long[] newValues(int capacity) {
+        long[] values = new long[capacity * FIELDS];
+        Arrays.fill(values, ABSENT);
+        return values;
+    }
+
+    private static int tableSizeFor(int size) {
+        int capacity = Integer.highestOneBit(Math.max(size - 1, 1)) << 1;
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("maxEntries가 너무 큽니다: " + size);
+        }
+        return capacity;
+    }
+}
@@ -0,0 +1,24 @@
+package halo.corebridge.jobpostingread.handler;
+
+/**
+ * 공고 한 건의 통계 (없는 값은 null)
+ */
+public record JobpostingCounts(Long viewCount, Long likeCount, Long commentCount) {
+
+    public static final JobpostingCounts EMPTY = new JobpostingCounts(null, null, null);
+
+    public boolean isComplete() {
+        return viewCount != null && likeCount != null && commentCount != null;
+    }
+
+    /**
+     * 비어 있는 값만 other로 채움
+     */
+    public JobpostingCounts orElse(JobpostingCounts other) {
+        return new JobpostingCounts(
+                viewCount != null ? viewCount : other.viewCount,
+                likeCount != null ? likeCount : other.likeCount,
+                commentCount != null ? commentCount : other.commentCount
+        );
+    }
+}
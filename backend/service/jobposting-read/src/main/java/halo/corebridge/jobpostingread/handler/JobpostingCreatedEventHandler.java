@@ -0,0 +1,33 @@
+package halo.corebridge.jobpostingread.handler;
+
+import halo.corebridge.common.event.Event;
+import halo.corebridge.common.event.EventHandler;
+import halo.corebridge.common.event.EventType;
+import halo.corebridge.common.event.JobpostingCreatedEventPayload;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocument;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocumentStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobpostingCreatedEventHandler implements EventHandler<JobpostingCreatedEventPayload> {
+
+    private final JobpostingDocumentStore documentStore;
+
+    @Override
+    public void handle(Event<JobpostingCreatedEventPayload> event) {
+        JobpostingCreatedEventPayload payload = (JobpostingCreatedEventPayload) event.getPayload();
+        // 처음 보는 작성자의 닉네임은 consumer에서 조회하지 않음 (첫 조회 시 닉네임 캐시로 일괄 보충)
+        documentStore.put(JobpostingDocument.from(payload));
+        log.info("[ReadHandler] JOBPOSTING_CREATED: jobpostingId={}, boardId={}",
+                payload.getJobpostingId(), payload.getBoardId());
+    }
+
+    @Override
+    public boolean supports(EventType eventType) {
+        return EventType.JOBPOSTING_CREATED == eventType;
+    }
+}
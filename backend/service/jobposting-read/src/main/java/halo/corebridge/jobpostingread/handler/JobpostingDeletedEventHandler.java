@@ -4,6 +4,8 @@ import halo.corebridge.common.event.Event;
 import halo.corebridge.common.event.EventHandler;
 import halo.corebridge.common.event.EventType;
 import halo.corebridge.common.event.JobpostingDeletedEventPayload;
+import halo.corebridge.jobpostingread.client.JobpostingClient;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocumentStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
@@ -14,11 +16,15 @@ import org.springframework.stereotype.Component;
 public class JobpostingDeletedEventHandler implements EventHandler<JobpostingDeletedEventPayload> {
 
     private final JobpostingReadCache readCache;
+    private final JobpostingDocumentStore documentStore;
+    private final JobpostingClient jobpostingClient;
 
     @Override
     public void handle(Event<JobpostingDeletedEventPayload> event) {
         JobpostingDeletedEventPayload payload = (JobpostingDeletedEventPayload) event.getPayload();
         readCache.removeJobposting(payload.getJobpostingId());
+        documentStore.remove(payload.getJobpostingId());
+        jobpostingClient.forget(payload.getJobpostingId());
         log.info("[ReadHandler] JOBPOSTING_DELETED: jobpostingId={}", payload.getJobpostingId());
     }
 
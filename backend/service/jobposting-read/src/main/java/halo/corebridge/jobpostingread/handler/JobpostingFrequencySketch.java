@@ -0,0 +1,94 @@
+package halo.corebridge.jobpostingread.handler;
+
+import java.util.Arrays;
+
+/**
+ * TinyLFU 접근 빈도 추정기 (4비트 count-min sketch)
+ *
+ * long 하나에 4비트 카운터 16개를 담고, 공고 ID마다 서로 다른 long 4개의 카운터를 증가시킵니다.
+ * 빈도는 네 카운터 중 최솟값이며 최대 15까지 셉니다.
+ * 증가 횟수가 sampleSize에 도달하면 모든 카운터를 절반으로 줄여 오래된 인기도를 잊습니다.
+ *
+ * 동기화하지 않습니다. 동시 증가 시 일부 증가가 유실될 수 있지만 추정치이므로 허용합니다.
+ */
+final class JobpostingFrequencySketch {
+
+    private static final long[] SEEDS = {
+            0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL, 0xcbf29ce484222325L};
+    private static final long RESET_MASK = 0x7777777777777777L;
+    private static final int MAX_FREQUENCY = 15;
+
+    private final long[] table;
+    private final int tableMask;
+    private final int sampleSize;
+    private int size;
+
+    JobpostingFrequencySketch(int maxEntries) {
+        int length = Math.max(Integer.highestOneBit(Math.max(maxEntries - 1, 1)) << 1, 16);
+        this.table = new long[length];
+        this.tableMask = length - 1;
+        this.sampleSize = (int) Math.min(10L * maxEntries, Integer.MAX_VALUE);
+    }
+
+    /**
+     * 추정 접근 빈도 (0 ~ 15)
+     */
+    int frequency(long jobpostingId) {
+        int hash = spread(jobpostingId);
+        int start = (hash & 3) << 2;
+        int frequency = MAX_FREQUENCY;
+        for (int i = 0; i < SEEDS.length; i++) {
+            int offset = (start + i) << 2;
+            int count = (int) ((table[indexOf(hash, i)] >>> offset) & 0xfL);
+            frequency = Math.min(frequency, count);
+        }
+        return frequency;
+    }
+
+    void increment(long jobpostingId) {
+        int hash = spread(jobpostingId);
+        int start = (hash & 3) << 2;
+        boolean added = false;
+        for (int i = 0; i < SEEDS.length; i++) {
+            added |= incrementAt(indexOf(hash, i), (start + i) << 2);
+        }
+        if (added && ++size >= sampleSize) {
+            reset();
+        }
+    }
+
+    void clear() {
+        Arrays.fill(table, 0L);
+        size = 0;
+    }
+
+    private boolean incrementAt(int index, int offset) {
+        long mask = 0xfL << offset;
+        if ((table[index] & mask) != mask) {
+            table[index] += 1L << offset;
+            return true;
+        }
+        return false;
+    }
+
+    // 모든 카운터를 절반으로 (aging)
+    private void reset() {
+        for (int i = 0; i < table.length; i++) {
+            table[i] = (table[i] >>> 1) & RESET_MASK;
+        }
+        size /= 2;
+    }
+
+    private int indexOf(int hash, int i) {
+        long h = (hash + SEEDS[i]) * SEEDS[i];
+        h += h >>> 32;
+        return (int) h & tableMask;
+    }
+
+    private static int spread(long jobpostingId) {
+        long h = jobpostingId * 0x9e3779b97f4a7c15L;
+        int x = (int) (h ^ (h >>> 32));
+        x = ((x >>> 16) ^ x) * 0x45d9f3b;
+        return (x >>> 16) ^ x;
+    }
+}
@@ -1,69 +1,396 @@
 package halo.corebridge.jobpostingread.handler;
 
+import halo.corebridge.common.web.VersionStamps;
+import halo.corebridge.jobpostingread.model.entity.JobpostingReadModel;
+import halo.corebridge.jobpostingread.repository.JobpostingReadModelRepository;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * 이벤트 기반으로 수신한 통계 데이터를 로컬 캐시에 보관.
  * CQRS 읽기 모델의 역할 — HTTP 호출 없이 즉시 응답 가능.
+ * 통계는 원시 타입 카운터 저장소(JobpostingCounterStore)에 보관하여 항목별 객체를 만들지 않습니다.
+ * 변경된 ID는 dirty로 표시되어 JobpostingReadModelWriter가 배치로 영속화합니다.
+ *
+ * 캐시는 read.cache.max-entries개까지만 보관하고, 자주 조회/갱신되는 공고를 남기도록
+ * 빈도 기반(TinyLFU)으로 축출합니다.
+ * - 영속화 대기(dirty/flush 중)인 공고는 축출하지 않습니다.
+ * - 캐시에 없는 통계는 영속 사본(jobposting_read_model)에서 먼저 찾고, 그래도 없으면 원격 조회합니다.
+ * - 캐시에 없는 공고의 댓글 수 증감은 모아 두었다가 기록기가 영속 사본 값에 더합니다. (컨슈머 스레드에서 DB 조회 없음)
+ *
+ * 이벤트로 통계가 바뀌면 공고별 버전을 올립니다. (조건부 GET의 ETag)
  */
 @Slf4j
 @Component
 public class JobpostingReadCache {
 
-    // jobpostingId -> viewCount
-    private final Map<Long, AtomicLong> viewCountCache = new ConcurrentHashMap<>();
+    // jobpostingId -> (viewCount, likeCount, commentCount)
+    private final JobpostingCounterStore counterStore;
+    private final JobpostingReadModelRepository readModelRepository;
 
-    // jobpostingId -> likeCount
-    private final Map<Long, AtomicLong> likeCountCache = new ConcurrentHashMap<>();
+    // 저장 공간 부족으로 반영하지 못한 갱신 수
+    private final AtomicLong droppedUpdates = new AtomicLong();
 
-    // jobpostingId -> commentCount
-    private final Map<Long, AtomicLong> commentCountCache = new ConcurrentHashMap<>();
+    // 영속화 대기 중인 변경/삭제 ID, 기록 중인 ID
+    private final Set<Long> dirtyIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> removedIds = ConcurrentHashMap.newKeySet();
+    private final Set<Long> flushingIds = ConcurrentHashMap.newKeySet();
+
+    // 캐시에 댓글 수가 없는 공고의 증감 (모으는 중 / 기록 중)
+    // 둘 중 하나에 있는 동안은 댓글 수를 적재하지 않습니다. (적재 값에 증감이 빠지거나 두 번 더해지지 않도록)
+    private final ConcurrentHashMap<Long, Long> pendingCommentDeltas = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<Long, Long> writingCommentDeltas = new ConcurrentHashMap<>();
+
+    // 댓글 수 증감 기록이 끝날 때마다 증가 (기록 전에 읽은 영속 사본의 댓글 수는 적재하지 않음)
+    private final AtomicLong persistedVersion = new AtomicLong();
+
+    // 이벤트로 바뀐 통계 버전 (적재/보충은 빈 값만 채우므로 올리지 않음)
+    // 카운터가 축출되거나, 캐시에 없는 공고의 댓글 증감이 기록되면 지워서 항목 수를 카운터 저장소 크기로 제한
+    // (지우면 기준 버전이 새로 발급되므로 이전 ETag로 304가 나가지 않음)
+    private final VersionStamps versions = new VersionStamps();
+
+    public JobpostingReadCache(@Value("${read.cache.max-entries:100000}") int maxEntries,
+                               JobpostingReadModelRepository readModelRepository) {
+        this.counterStore = new JobpostingCounterStore(maxEntries, this::isEvictable, versions::remove);
+        this.readModelRepository = readModelRepository;
+        log.info("[ReadCache] counter store: maxEntries={}, slots={}", maxEntries, counterStore.capacity());
+    }
 
     public void updateViewCount(Long jobpostingId, Long viewCount) {
-        viewCountCache.computeIfAbsent(jobpostingId, k -> new AtomicLong(0)).set(viewCount);
+        markDirty(jobpostingId);
+        applied(jobpostingId, counterStore.set(jobpostingId, JobpostingCounterStore.VIEW, viewCount));
+        versions.touch(jobpostingId);
         log.debug("[ReadCache] viewCount updated: jobpostingId={}, count={}", jobpostingId, viewCount);
     }
 
     public void updateLikeCount(Long jobpostingId, Long likeCount) {
-        likeCountCache.computeIfAbsent(jobpostingId, k -> new AtomicLong(0)).set(likeCount);
+        markDirty(jobpostingId);
+        applied(jobpostingId, counterStore.set(jobpostingId, JobpostingCounterStore.LIKE, likeCount));
+        versions.touch(jobpostingId);
         log.debug("[ReadCache] likeCount updated: jobpostingId={}, count={}", jobpostingId, likeCount);
     }
 
     public void incrementCommentCount(Long jobpostingId) {
-        commentCountCache.computeIfAbsent(jobpostingId, k -> new AtomicLong(0)).incrementAndGet();
+        adjustCommentCount(jobpostingId, 1L);
+        versions.touch(jobpostingId);
         log.debug("[ReadCache] commentCount incremented: jobpostingId={}", jobpostingId);
     }
 
     public void decrementCommentCount(Long jobpostingId) {
-        commentCountCache.computeIfAbsent(jobpostingId, k -> new AtomicLong(0))
-                .updateAndGet(v -> Math.max(0, v - 1));
+        adjustCommentCount(jobpostingId, -1L);
+        versions.touch(jobpostingId);
         log.debug("[ReadCache] commentCount decremented: jobpostingId={}", jobpostingId);
     }
 
     public void removeJobposting(Long jobpostingId) {
-        viewCountCache.remove(jobpostingId);
-        likeCountCache.remove(jobpostingId);
-        commentCountCache.remove(jobpostingId);
+        counterStore.remove(jobpostingId);
+        pendingCommentDeltas.remove(jobpostingId);
+        dirtyIds.remove(jobpostingId);
+        removedIds.add(jobpostingId);
+        versions.remove(jobpostingId);
         log.debug("[ReadCache] removed: jobpostingId={}", jobpostingId);
     }
 
     public Long getViewCount(Long jobpostingId) {
-        AtomicLong count = viewCountCache.get(jobpostingId);
-        return count != null ? count.get() : null;
+        return get(jobpostingId, JobpostingCounterStore.VIEW);
     }
 
     public Long getLikeCount(Long jobpostingId) {
-        AtomicLong count = likeCountCache.get(jobpostingId);
-        return count != null ? count.get() : null;
+        return get(jobpostingId, JobpostingCounterStore.LIKE);
     }
 
     public Long getCommentCount(Long jobpostingId) {
-        AtomicLong count = commentCountCache.get(jobpostingId);
-        return count != null ? count.get() : null;
+        return get(jobpostingId, JobpostingCounterStore.COMMENT);
+    }
+
+    /**
+     * 여러 공고의 통계 조회
+     * 캐시에 빠진 값이 있는 공고는 영속 사본을 한 번에 조회하여 채우고 캐시에 적재합니다.
+     * (적재는 TinyLFU 정책을 따르므로 자주 조회되는 공고만 캐시에 남습니다.)
+     * 그래도 없는 값은 null로 남아 호출자가 원격 조회합니다.
+     */
+    public Map<Long, JobpostingCounts> getCounts(Collection<Long> jobpostingIds) {
+        Map<Long, JobpostingCounts> counts = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long jobpostingId : jobpostingIds) {
+            JobpostingCounts cached = new JobpostingCounts(
+                    getViewCount(jobpostingId), getLikeCount(jobpostingId), getCommentCount(jobpostingId));
+            counts.put(jobpostingId, cached);
+            if (!cached.isComplete()) {
+                missingIds.add(jobpostingId);
+            }
+        }
+        if (!missingIds.isEmpty()) {
+            loadPersisted(missingIds).forEach((jobpostingId, persisted) ->
+                    counts.merge(jobpostingId, persisted, JobpostingCounts::orElse));
+        }
+        return counts;
+    }
+
+    /**
+     * 영속화용 통계 (적중률/빈도에 반영하지 않음)
+     */
+    public JobpostingCounts peek(Long jobpostingId) {
+        return new JobpostingCounts(
+                peek(jobpostingId, JobpostingCounterStore.VIEW),
+                peek(jobpostingId, JobpostingCounterStore.LIKE),
+                peek(jobpostingId, JobpostingCounterStore.COMMENT)
+        );
+    }
+
+    /**
+     * 통계 버전 (조건부 GET용, 응답을 만들기 전에 읽어야 함)
+     */
+    public long getVersion(Long jobpostingId) {
+        return versions.get(jobpostingId);
+    }
+
+    int getVersionCount() {
+        return versions.size();
+    }
+
+    public long getDroppedUpdates() {
+        return droppedUpdates.get();
+    }
+
+    public int getSize() {
+        return counterStore.size();
+    }
+
+    public double getHitRatio() {
+        return counterStore.hitRatio();
+    }
+
+    public long getHitCount() {
+        return counterStore.hitCount();
+    }
+
+    public long getMissCount() {
+        return counterStore.missCount();
+    }
+
+    public long getEvictionCount() {
+        return counterStore.evictionCount();
+    }
+
+    public long getRejectionCount() {
+        return counterStore.rejectionCount();
+    }
+
+    public long getGrowCount() {
+        return counterStore.growCount();
+    }
+
+    /**
+     * 원격 조회한 통계 적재 (이미 있는 값은 덮어쓰지 않고 dirty로 표시하지 않음)
+     * 캐시가 가득 차면 TinyLFU 정책을 통과한 공고만 보관됩니다.
+     */
+    public void restore(Long jobpostingId, Long viewCount, Long likeCount, Long commentCount) {
+        restore(jobpostingId, viewCount, likeCount, commentCount, persistedVersion.get());
+    }
+
+    /**
+     * 영속 사본에서 읽은 통계 적재
+     * @param persistedVersion 영속 사본을 읽기 전의 getPersistedVersion 값 (그 뒤 댓글 수 증감이 기록됐으면 댓글 수는 적재하지 않음)
+     */
+    public void restore(Long jobpostingId, Long viewCount, Long likeCount, Long commentCount, long persistedVersion) {
+        if (viewCount != null) {
+            counterStore.setIfAbsent(jobpostingId, JobpostingCounterStore.VIEW, viewCount);
+        }
+        if (likeCount != null) {
+            counterStore.setIfAbsent(jobpostingId, JobpostingCounterStore.LIKE, likeCount);
+        }
+        if (commentCount != null) {
+            // 증감을 모으는 compute와 같은 키 잠금 안에서 확인 후 적재
+            pendingCommentDeltas.compute(jobpostingId, (id, pending) -> {
+                if (pending == null && !writingCommentDeltas.containsKey(id)
+                        && this.persistedVersion.get() == persistedVersion) {
+                    counterStore.setIfAbsent(id, JobpostingCounterStore.COMMENT, commentCount);
+                }
+                return pending;
+            });
+        }
+    }
+
+    public long getPersistedVersion() {
+        return persistedVersion.get();
+    }
+
+    /**
+     * 기록할 댓글 수 증감 꺼내기 (캐시에 댓글 수가 없는 공고만, 없으면 null)
+     * 꺼낸 증감은 commentDeltasFlushed 호출 전까지 기록 중으로 남습니다.
+     */
+    public Long takeCommentDelta(Long jobpostingId) {
+        Long[] taken = new Long[1];
+        pendingCommentDeltas.computeIfPresent(jobpostingId, (id, delta) -> {
+            writingCommentDeltas.put(id, delta);
+            taken[0] = delta;
+            return null;
+        });
+        return taken[0];
+    }
+
+    /**
+     * 꺼낸 댓글 수 증감의 기록 끝 (실패하면 다음 배치에서 다시 더하도록 되돌림)
+     */
+    public void commentDeltasFlushed(Map<Long, Long> deltas, boolean written) {
+        if (deltas.isEmpty()) {
+            return;
+        }
+        if (!written) {
+            deltas.forEach((jobpostingId, delta) -> pendingCommentDeltas.merge(jobpostingId, delta, Long::sum));
+        }
+        // 버전을 먼저 올린 뒤 기록 중 표시를 지움 (그 사이에 확인하는 적재도 건너뛰도록)
+        persistedVersion.incrementAndGet();
+        writingCommentDeltas.keySet().removeAll(deltas.keySet());
+        if (written) {
+            // 카운터 없이 증감만 기록된 공고는 통계 버전도 보관하지 않음
+            deltas.keySet().forEach(jobpostingId -> {
+                if (!counterStore.contains(jobpostingId)) {
+                    versions.remove(jobpostingId);
+                }
+            });
+        }
+    }
+
+    /**
+     * 영속화 대기 ID를 최대 maxSize개 꺼냄
+     * 꺼낸 ID는 flushed 호출 전까지 축출되지 않습니다.
+     * 꺼낸 뒤 값이 바뀌면 다시 dirty로 표시되므로 다음 배치에서 기록됩니다.
+     */
+    public List<Long> drainDirtyIds(int maxSize) {
+        List<Long> drained = new ArrayList<>(Math.min(dirtyIds.size(), maxSize));
+        Iterator<Long> iterator = dirtyIds.iterator();
+        while (iterator.hasNext() && drained.size() < maxSize) {
+            Long jobpostingId = iterator.next();
+            flushingIds.add(jobpostingId);
+            iterator.remove();
+            drained.add(jobpostingId);
+        }
+        return drained;
+    }
+
+    /**
+     * 기록이 끝난(성공/실패) ID의 축출 보호 해제
+     */
+    public void flushed(Collection<Long> jobpostingIds) {
+        flushingIds.removeAll(jobpostingIds);
+    }
+
+    public List<Long> drainRemovedIds(int maxSize) {
+        return drain(removedIds, maxSize);
+    }
+
+    /**
+     * 기록 실패 시 다음 배치에서 다시 시도하도록 되돌림
+     */
+    public void markDirty(Collection<Long> jobpostingIds) {
+        jobpostingIds.forEach(this::markDirty);
+    }
+
+    public void markRemoved(Collection<Long> jobpostingIds) {
+        removedIds.addAll(jobpostingIds);
+    }
+
+    /**
+     * 전체 초기화 (재구성 모드)
+     */
+    public void clear() {
+        counterStore.clear();
+        dirtyIds.clear();
+        removedIds.clear();
+        flushingIds.clear();
+        pendingCommentDeltas.clear();
+        writingCommentDeltas.clear();
+        versions.clear();
+        log.info("[ReadCache] cleared");
+    }
+
+    /**
+     * 캐시에 댓글 수가 없으면(축출/미적재) DB를 조회하지 않고 증감만 모아 둠
+     * 기록기가 다음 배치에서 영속 사본 값에 더합니다. (GREATEST(0, comment_count + 증감))
+     */
+    private void adjustCommentCount(Long jobpostingId, long delta) {
+        markDirty(jobpostingId);
+        pendingCommentDeltas.compute(jobpostingId, (id, pending) -> {
+            if (pending == null && counterStore.addIfPresent(id, JobpostingCounterStore.COMMENT, delta)) {
+                return null;
+            }
+            return pending == null ? delta : pending + delta;
+        });
+        markDirty(jobpostingId);
+    }
+
+    private Map<Long, JobpostingCounts> loadPersisted(List<Long> jobpostingIds) {
+        try {
+            long version = persistedVersion.get();
+            Map<Long, JobpostingCounts> persisted = new HashMap<>();
+            for (JobpostingReadModel model : readModelRepository.findAllById(jobpostingIds)) {
+                restore(model.getJobpostingId(), model.getViewCount(), model.getLikeCount(), model.getCommentCount(), version);
+                persisted.put(model.getJobpostingId(),
+                        new JobpostingCounts(model.getViewCount(), model.getLikeCount(), model.getCommentCount()));
+            }
+            return persisted;
+        } catch (Exception e) {
+            log.warn("[ReadCache] 영속 사본 조회 실패, 원격 조회로 대체: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+
+    private boolean isEvictable(long jobpostingId) {
+        return !dirtyIds.contains(jobpostingId) && !flushingIds.contains(jobpostingId);
+    }
+
+    private Long get(Long jobpostingId, int field) {
+        return toNullable(counterStore.get(jobpostingId, field));
+    }
+
+    private Long peek(Long jobpostingId, int field) {
+        return toNullable(counterStore.peek(jobpostingId, field));
+    }
+
+    private static Long toNullable(long count) {
+        return count != JobpostingCounterStore.ABSENT ? count : null;
+    }
+
+    /**
+     * 갱신 전후로 dirty 표시
+     * - 전: 삽입 직후 다른 스레드의 삽입으로 축출되지 않도록 보호
+     * - 후: 그 사이 기록기가 꺼내 갔더라도 새 값이 다음 배치에 기록되도록 다시 표시
+     * 저장되지 않은 갱신도 dirty로 남지만, 기록기는 빈 통계로 영속 사본을 덮어쓰지 않습니다.
+     */
+    private void applied(Long jobpostingId, boolean stored) {
+        if (stored) {
+            markDirty(jobpostingId);
+        } else {
+            droppedUpdates.incrementAndGet();
+            log.warn("[ReadCache] counter store full, update dropped: jobpostingId={}", jobpostingId);
+        }
+    }
+
+    private void markDirty(Long jobpostingId) {
+        removedIds.remove(jobpostingId);
+        dirtyIds.add(jobpostingId);
+    }
+
+    private static List<Long> drain(Set<Long> ids, int maxSize) {
+        List<Long> drained = new ArrayList<>(Math.min(ids.size(), maxSize));
+        Iterator<Long> iterator = ids.iterator();
+        while (iterator.hasNext() && drained.size() < maxSize) {
+            drained.add(iterator.next());
+            iterator.remove();
+        }
+        return drained;
     }
 }
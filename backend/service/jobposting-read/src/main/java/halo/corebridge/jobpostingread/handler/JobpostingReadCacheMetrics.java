@@ -0,0 +1,57 @@
+package halo.corebridge.jobpostingread.handler;
+
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocumentStore;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 통계 캐시 지표 (/actuator/metrics, /actuator/prometheus)
+ * - jobposting.read.cache.size       : 보관 중인 공고 수
+ * - jobposting.read.cache.hit.ratio  : 조회 적중률
+ * - jobposting.read.cache.requests   : 조회 수 (result=hit|miss)
+ * - jobposting.read.cache.evictions  : 축출 수
+ * - jobposting.read.cache.rejections : 적재 정책으로 보관하지 않은 수
+ * - jobposting.read.page-cache.requests : 앞쪽 페이지 ID 캐시 조회 수 (result=hit|miss)
+ */
+@Component
+@RequiredArgsConstructor
+public class JobpostingReadCacheMetrics implements MeterBinder {
+
+    private final JobpostingReadCache readCache;
+    private final JobpostingDocumentStore documentStore;
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("jobposting.read.cache.size", readCache, JobpostingReadCache::getSize)
+                .description("통계 캐시에 보관 중인 공고 수")
+                .register(registry);
+        Gauge.builder("jobposting.read.cache.hit.ratio", readCache, JobpostingReadCache::getHitRatio)
+                .description("통계 캐시 조회 적중률")
+                .register(registry);
+        FunctionCounter.builder("jobposting.read.cache.requests", readCache, JobpostingReadCache::getHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jobposting.read.cache.requests", readCache, JobpostingReadCache::getMissCount)
+                .tag("result", "miss")
+                .register(registry);
+        FunctionCounter.builder("jobposting.read.cache.evictions", readCache, JobpostingReadCache::getEvictionCount)
+                .description("통계 캐시 축출 수")
+                .register(registry);
+        FunctionCounter.builder("jobposting.read.cache.rejections", readCache, JobpostingReadCache::getRejectionCount)
+                .description("적재 정책으로 보관하지 않은 공고 수")
+                .register(registry);
+        FunctionCounter.builder("jobposting.read.cache.grows", readCache, JobpostingReadCache::getGrowCount)
+                .description("축출할 공고가 없어 카운터 테이블을 늘린 횟수")
+                .register(registry);
+        FunctionCounter.builder("jobposting.read.page-cache.requests", documentStore, JobpostingDocumentStore::getPageCacheHitCount)
+                .tag("result", "hit")
+                .register(registry);
+        FunctionCounter.builder("jobposting.read.page-cache.requests", documentStore, JobpostingDocumentStore::getPageCacheMissCount)
+                .tag("result", "miss")
+                .register(registry);
+    }
+}
@@ -0,0 +1,38 @@
+package halo.corebridge.jobpostingread.handler;
+
+import halo.corebridge.common.event.Event;
+import halo.corebridge.common.event.EventHandler;
+import halo.corebridge.common.event.EventType;
+import halo.corebridge.common.event.JobpostingUpdatedEventPayload;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocument;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocumentStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobpostingUpdatedEventHandler implements EventHandler<JobpostingUpdatedEventPayload> {
+
+    private final JobpostingDocumentStore documentStore;
+
+    @Override
+    public void handle(Event<JobpostingUpdatedEventPayload> event) {
+        JobpostingUpdatedEventPayload payload = (JobpostingUpdatedEventPayload) event.getPayload();
+        JobpostingDocument previous = documentStore.get(payload.getJobpostingId());
+        if (previous == null) {
+            // 생성 시각을 알 수 없으므로 저장하지 않음 (다음 조회/보충 때 원본의 최신 값으로 채워짐)
+            log.warn("[ReadHandler] JOBPOSTING_UPDATED without document, skipped: jobpostingId={}",
+                    payload.getJobpostingId());
+            return;
+        }
+        documentStore.put(JobpostingDocument.from(payload, previous));
+        log.info("[ReadHandler] JOBPOSTING_UPDATED: jobpostingId={}", payload.getJobpostingId());
+    }
+
+    @Override
+    public boolean supports(EventType eventType) {
+        return EventType.JOBPOSTING_UPDATED == eventType;
+    }
+}
@@ -0,0 +1,36 @@
+package halo.corebridge.jobpostingread.handler;
+
+import halo.corebridge.common.cache.UserProfileCache;
+import halo.corebridge.common.event.Event;
+import halo.corebridge.common.event.EventHandler;
+import halo.corebridge.common.event.EventType;
+import halo.corebridge.common.event.UserUpdatedEventPayload;
+import halo.corebridge.jobpostingread.client.UserClient;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocumentStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserUpdatedEventHandler implements EventHandler<UserUpdatedEventPayload> {
+
+    private final JobpostingDocumentStore documentStore;
+    private final UserProfileCache userProfileCache;
+    private final UserClient userClient;
+
+    @Override
+    public void handle(Event<UserUpdatedEventPayload> event) {
+        UserUpdatedEventPayload payload = (UserUpdatedEventPayload) event.getPayload();
+        documentStore.updateNickname(payload.getUserId(), payload.getNickname());
+        userProfileCache.update(payload.getUserId(), payload.getNickname());
+        userClient.rememberNickname(payload.getUserId(), payload.getNickname());
+        log.info("[ReadHandler] USER_UPDATED: userId={}", payload.getUserId());
+    }
+
+    @Override
+    public boolean supports(EventType eventType) {
+        return EventType.USER_UPDATED == eventType;
+    }
+}
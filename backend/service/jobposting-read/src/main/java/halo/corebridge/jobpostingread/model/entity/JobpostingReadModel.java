@@ -0,0 +1,61 @@
+package halo.corebridge.jobpostingread.model.entity;
+
+import halo.corebridge.common.domain.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 이벤트로 만든 채용공고 읽기 모델의 영속 사본 (문서 + 통계)
+ * 재시작 시 로컬 캐시를 다시 채우는 데 사용합니다.
+ * 아직 수신되지 않은 값(문서 필드/통계)은 null로 저장합니다.
+ */
+@Entity
+@Table(name = "jobposting_read_model")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobpostingReadModel extends BaseTimeEntity {
+
+    @Id
+    private Long jobpostingId;
+
+    private String title;
+
+    @Column(columnDefinition = "TEXT")
+    private String content;
+
+    private Long boardId;
+
+    private Long userId;
+
+    private String nickname;
+
+    @Column(columnDefinition = "TEXT")
+    private String requiredSkills;
+
+    @Column(columnDefinition = "TEXT")
+    private String preferredSkills;
+
+    private LocalDateTime jobpostingCreatedAt;
+
+    private LocalDateTime jobpostingUpdatedAt;
+
+    private Long viewCount;
+
+    private Long likeCount;
+
+    private Long commentCount;
+
+    /**
+     * 문서 필드가 있는 행인지 (통계만 수신된 행은 false)
+     */
+    public boolean hasDocument() {
+        return boardId != null;
+    }
+}
@@ -0,0 +1,35 @@
+package halo.corebridge.jobpostingread.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 실행된 읽기 모델 재구성 기록
+ * 같은 rebuild-id로 재시작하면 다시 초기화하지 않고 일반 적재를 합니다.
+ */
+@Entity
+@Table(name = "jobposting_read_model_rebuild")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class JobpostingReadModelRebuild {
+
+    @Id
+    private String rebuildId;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime startedAt;
+
+    public static JobpostingReadModelRebuild create(String rebuildId) {
+        JobpostingReadModelRebuild entity = new JobpostingReadModelRebuild();
+        entity.rebuildId = rebuildId;
+        entity.startedAt = LocalDateTime.now();
+        return entity;
+    }
+}
@@ -0,0 +1,84 @@
+package halo.corebridge.jobpostingread.readmodel;
+
+import halo.corebridge.common.event.JobpostingCreatedEventPayload;
+import halo.corebridge.common.event.JobpostingUpdatedEventPayload;
+import halo.corebridge.jobpostingread.client.JobpostingClient;
+import halo.corebridge.jobpostingread.model.entity.JobpostingReadModel;
+
+import java.time.LocalDateTime;
+
+/**
+ * 읽기 모델에 보관하는 채용공고 문서 (불변)
+ * 작성자 닉네임은 사용자 단위로 JobpostingDocumentStore에 따로 보관합니다.
+ */
+public record JobpostingDocument(
+        Long jobpostingId,
+        String title,
+        String content,
+        Long boardId,
+        Long userId,
+        String requiredSkills,
+        String preferredSkills,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+
+    public static JobpostingDocument from(JobpostingCreatedEventPayload payload) {
+        return new JobpostingDocument(
+                payload.getJobpostingId(),
+                payload.getTitle(),
+                payload.getContent(),
+                payload.getBoardId(),
+                payload.getUserId(),
+                payload.getRequiredSkills(),
+                payload.getPreferredSkills(),
+                payload.getCreatedAt(),
+                payload.getCreatedAt()
+        );
+    }
+
+    /**
+     * 수정 이벤트에는 생성 시각이 없으므로 기존 문서 값을 유지 (기존 문서 필수)
+     */
+    public static JobpostingDocument from(JobpostingUpdatedEventPayload payload, JobpostingDocument previous) {
+        return new JobpostingDocument(
+                payload.getJobpostingId(),
+                payload.getTitle(),
+                payload.getContent(),
+                payload.getBoardId(),
+                payload.getUserId(),
+                payload.getRequiredSkills(),
+                payload.getPreferredSkills(),
+                previous.createdAt(),
+                payload.getUpdatedAt()
+        );
+    }
+
+    public static JobpostingDocument from(JobpostingClient.JobpostingResponse response) {
+        return new JobpostingDocument(
+                response.getJobpostingId(),
+                response.getTitle(),
+                response.getContent(),
+                response.getBoardId(),
+                response.getUserId(),
+                null,
+                null,
+                response.getCreatedAt(),
+                response.getUpdatedAt()
+        );
+    }
+
+    public static JobpostingDocument from(JobpostingReadModel model) {
+        return new JobpostingDocument(
+                model.getJobpostingId(),
+                model.getTitle(),
+                model.getContent(),
+                model.getBoardId(),
+                model.getUserId(),
+                model.getRequiredSkills(),
+                model.getPreferredSkills(),
+                model.getJobpostingCreatedAt(),
+                model.getJobpostingUpdatedAt()
+        );
+    }
+}
@@ -0,0 +1,416 @@
+package halo.corebridge.jobpostingread.readmodel;
+
+import halo.corebridge.common.web.VersionStamps;
+import halo.corebridge.jobpostingread.handler.JobpostingReadCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 채용공고 문서 저장소 (읽기 모델)
+ *
+ * - 문서: jobpostingId -> JobpostingDocument (JOBPOSTING_CREATED/UPDATED/DELETED로 갱신)
+ * - 닉네임: userId -> nickname (USER_UPDATED로 갱신, 사용자 단위라 수정 1회로 모든 문서에 반영)
+ * - 게시판 인덱스: boardId -> jobpostingId 내림차순 (원본 목록과 같은 최신순)
+ * - 작성자 인덱스: userId -> jobpostingId (닉네임 변경 시 전체 문서를 순회하지 않도록)
+ * - 페이지 캐시: 게시판별 앞쪽 read.page-cache.max-items개 ID (인덱스 변경 시 증분 반영)
+ *
+ * 변경된 문서는 JobpostingReadCache의 dirty 표시를 공유하여 통계와 같은 행으로 영속화됩니다.
+ * 게시판 인덱스는 원본 전체를 한 번 보충(bootstrap)한 뒤부터 목록 조회에 사용합니다.
+ * 문서 수는 read.document.max-entries로 제한하며, 넘으면 가장 오래된(jobpostingId가 가장 작은) 문서부터 축출합니다.
+ * 축출 후에는 남은 문서로 채울 수 없는 목록 페이지를 원본 조회로 돌립니다. (covers)
+ * 문서/닉네임/게시판 구성이 이벤트로 바뀌면 각각의 버전을 올립니다. (조건부 GET의 ETag)
+ */
+@Slf4j
+@Component
+public class JobpostingDocumentStore {
+
+    // boardId=1은 "전체" 게시판 → 모든 공고 포함
+    public static final Long ALL_BOARD_ID = 1L;
+
+    private final JobpostingReadCache readCache;
+
+    private final Map<Long, JobpostingDocument> documents = new ConcurrentHashMap<>();
+    private final Map<Long, String> nicknames = new ConcurrentHashMap<>();
+    private final Map<Long, NavigableSet<Long>> boardIndex = new ConcurrentHashMap<>();
+    // 작성자별 공고 (게시판 인덱스와 같이 index/unindex에서 갱신, 빈 집합은 제거)
+    private final Map<Long, Set<Long>> userIndex = new ConcurrentHashMap<>();
+    // 게시판 공고 수 (ConcurrentSkipListSet.size()는 전체 순회)
+    private final Map<Long, AtomicLong> boardSizes = new ConcurrentHashMap<>();
+    private final JobpostingPageCache pageCache;
+
+    // 문서(jobpostingId), 닉네임(userId), 게시판 구성(boardId) 버전
+    private final VersionStamps documentVersions = new VersionStamps();
+    private final VersionStamps nicknameVersions = new VersionStamps();
+    private final VersionStamps boardVersions = new VersionStamps();
+
+    // 보충 중 삭제된 ID (보충 데이터로 되살아나지 않도록)
+    private final Set<Long> tombstones = ConcurrentHashMap.newKeySet();
+    private volatile boolean ready;
+
+    private final int maxDocuments;
+    // 축출한 가장 큰 jobpostingId (0 = 축출 없음, 이보다 큰 문서만 빠짐없이 보관)
+    private final AtomicLong evictedUpTo = new AtomicLong();
+
+    public JobpostingDocumentStore(JobpostingReadCache readCache,
+                                   @Value("${read.page-cache.max-items:300}") int pageCacheMaxItems,
+                                   @Value("${read.document.max-entries:200000}") int maxDocuments) {
+        if (maxDocuments <= 0) {
+            throw new IllegalArgumentException("maxDocuments는 0보다 커야 합니다: " + maxDocuments);
+        }
+        this.readCache = readCache;
+        this.pageCache = new JobpostingPageCache(pageCacheMaxItems);
+        this.maxDocuments = maxDocuments;
+    }
+
+    /**
+     * 이벤트로 받은 문서 저장 (기존 문서 교체, 게시판 이동 반영)
+     */
+    public void put(JobpostingDocument document) {
+        tombstones.remove(document.jobpostingId());
+        store(document);
+        readCache.markDirty(List.of(document.jobpostingId()));
+        documentVersions.touch(document.jobpostingId());
+        evictOverflow();
+    }
+
+    /**
+     * 원본 조회 결과로 보충 (이벤트로 받은 문서/삭제가 우선)
+     */
+    public void backfill(JobpostingDocument document) {
+        if (tombstones.contains(document.jobpostingId()) || documents.containsKey(document.jobpostingId())
+                || evicted(document.jobpostingId())) {
+            return;
+        }
+        if (documents.putIfAbsent(document.jobpostingId(), document) == null) {
+            index(document);
+            readCache.markDirty(List.of(document.jobpostingId()));
+            evictOverflow();
+        }
+    }
+
+    /**
+     * 영속 사본에서 읽은 문서 적재 (시작 시, dirty 표시 없음)
+     */
+    public void restore(JobpostingDocument document, String nickname) {
+        if (documents.putIfAbsent(document.jobpostingId(), document) == null) {
+            index(document);
+            evictOverflow();
+        }
+        if (nickname != null && document.userId() != null) {
+            nicknames.putIfAbsent(document.userId(), nickname);
+        }
+    }
+
+    public void remove(Long jobpostingId) {
+        tombstones.add(jobpostingId);
+        JobpostingDocument removed = documents.remove(jobpostingId);
+        if (removed != null) {
+            unindex(removed);
+        }
+        documentVersions.remove(jobpostingId);
+    }
+
+    public JobpostingDocument get(Long jobpostingId) {
+        return documents.get(jobpostingId);
+    }
+
+    // ============================================
+    // 닉네임
+    // ============================================
+
+    /**
+     * 작성자 닉네임 갱신 → 해당 사용자의 문서를 모두 dirty로 표시
+     */
+    public void updateNickname(Long userId, String nickname) {
+        if (userId == null || nickname == null) {
+            return;
+        }
+        String previous = nicknames.put(userId, nickname);
+        if (nickname.equals(previous)) {
+            return;
+        }
+        nicknameVersions.touch(userId);
+        Set<Long> indexed = userIndex.get(userId);
+        List<Long> jobpostingIds = indexed == null ? List.of() : List.copyOf(indexed);
+        readCache.markDirty(jobpostingIds);
+        log.debug("[DocumentStore] nickname updated: userId={}, documents={}", userId, jobpostingIds.size());
+    }
+
+    /**
+     * 원격 조회로 얻은 닉네임 보충 (이벤트로 받은 값은 덮어쓰지 않음)
+     */
+    public void backfillNickname(Long userId, String nickname) {
+        if (userId != null && nickname != null) {
+            nicknames.putIfAbsent(userId, nickname);
+        }
+    }
+
+    public String getNickname(Long userId) {
+        return userId != null ? nicknames.get(userId) : null;
+    }
+
+    // ============================================
+    // 버전 (조건부 GET용, 응답을 만들기 전에 읽어야 함)
+    // ============================================
+
+    public long getDocumentVersion(Long jobpostingId) {
+        return documentVersions.get(jobpostingId);
+    }
+
+    public long getNicknameVersion(Long userId) {
+        return nicknameVersions.get(userId);
+    }
+
+    public long getBoardVersion(Long boardId) {
+        return boardVersions.get(boardId);
+    }
+
+    /**
+     * 닉네임이 아직 없는 작성자 목록 (보충용)
+     */
+    public Set<Long> findUserIdsWithoutNickname() {
+        Set<Long> userIds = new HashSet<>();
+        userIndex.keySet().forEach(userId -> {
+            if (!nicknames.containsKey(userId)) {
+                userIds.add(userId);
+            }
+        });
+        return userIds;
+    }
+
+    // ============================================
+    // 게시판 인덱스
+    // ============================================
+
+    /**
+     * 게시판 목록 페이지 (jobpostingId 내림차순)
+     * 앞쪽 페이지는 페이지 캐시에서 잘라 쓰고, 그 뒤는 인덱스를 순회합니다.
+     * 인덱스에 없는 게시판은 페이지 캐시에 head를 만들지 않습니다. (요청 boardId로 캐시가 커지지 않도록)
+     */
+    public List<JobpostingDocument> page(Long boardId, Long page, Long pageSize) {
+        NavigableSet<Long> jobpostingIds = boardIndex.get(boardId);
+        if (jobpostingIds == null) {
+            return List.of();
+        }
+
+        List<Long> cachedIds = pageCache.page(boardId, page, pageSize, maxItems -> head(boardId, maxItems));
+        if (cachedIds != null) {
+            return cachedIds.stream()
+                    .map(documents::get)
+                    .filter(Objects::nonNull)
+                    .toList();
+        }
+
+        return jobpostingIds.stream()
+                .skip((page - 1) * pageSize)
+                .limit(pageSize)
+                .map(documents::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    /**
+     * 게시판 공고 수 (원본과 같이 limit까지만 셈)
+     */
+    public Long count(Long boardId, Long limit) {
+        AtomicLong size = boardSizes.get(boardId);
+        return size == null ? 0L : Math.min(size.get(), limit);
+    }
+
+    /**
+     * limit번째 공고까지 로컬 인덱스로 응답할 수 있는지 (페이지와 공고 수 모두)
+     * 보충 전이면 false, 축출이 있었다면 게시판에 limit개 이상 남아 있을 때만 true
+     */
+    public boolean covers(Long boardId, Long limit) {
+        if (!ready) {
+            return false;
+        }
+        if (evictedUpTo.get() == 0L) {
+            return true;
+        }
+        AtomicLong size = boardSizes.get(boardId);
+        return size != null && size.get() >= limit;
+    }
+
+    public long getPageCacheHitCount() {
+        return pageCache.getHitCount();
+    }
+
+    public long getPageCacheMissCount() {
+        return pageCache.getMissCount();
+    }
+
+    int getPageCacheSize() {
+        return pageCache.size();
+    }
+
+    int getUserIndexSize() {
+        return userIndex.size();
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 원본 보충 완료 → 목록 조회를 로컬 인덱스로 전환
+     */
+    public void markReady() {
+        ready = true;
+        tombstones.clear();
+        log.info("[DocumentStore] ready: documents={}", documents.size());
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    public void clear() {
+        ready = false;
+        documents.clear();
+        nicknames.clear();
+        boardIndex.clear();
+        userIndex.clear();
+        boardSizes.clear();
+        pageCache.clear();
+        tombstones.clear();
+        evictedUpTo.set(0L);
+    }
+
+    private boolean evicted(Long jobpostingId) {
+        return documents.size() >= maxDocuments && jobpostingId <= evictedUpTo.get();
+    }
+
+    /**
+     * 용량을 넘은 만큼 가장 오래된 문서 축출 (통계/영속 사본은 유지, 다시 필요하면 원본 조회로 보충)
+     */
+    private void evictOverflow() {
+        while (documents.size() > maxDocuments) {
+            NavigableSet<Long> all = boardIndex.get(ALL_BOARD_ID);
+            Long oldest = all != null && !all.isEmpty() ? all.last() : null;
+            if (oldest == null) {
+                return;
+            }
+            evictedUpTo.accumulateAndGet(oldest, Math::max);
+            JobpostingDocument evicted = documents.remove(oldest);
+            if (evicted != null) {
+                unindex(evicted);
+            } else {
+                removeFromBoard(ALL_BOARD_ID, oldest);
+            }
+            documentVersions.remove(oldest);
+            log.debug("[DocumentStore] evicted: jobpostingId={}, documents={}", oldest, documents.size());
+        }
+    }
+
+    private void store(JobpostingDocument document) {
+        documents.compute(document.jobpostingId(), (jobpostingId, previous) -> {
+            if (previous != null && !Objects.equals(previous.boardId(), document.boardId())) {
+                unindex(previous);
+            }
+            if (previous != null && !Objects.equals(previous.userId(), document.userId())) {
+                removeFromUser(previous.userId(), jobpostingId);
+            }
+            index(document);
+            return document;
+        });
+    }
+
+    private void index(JobpostingDocument document) {
+        addToBoard(ALL_BOARD_ID, document.jobpostingId());
+        if (document.boardId() != null) {
+            addToBoard(document.boardId(), document.jobpostingId());
+        }
+        addToUser(document.userId(), document.jobpostingId());
+    }
+
+    private void unindex(JobpostingDocument document) {
+        if (document.boardId() != null && !ALL_BOARD_ID.equals(document.boardId())) {
+            removeFromBoard(document.boardId(), document.jobpostingId());
+        }
+        if (!documents.containsKey(document.jobpostingId())) {
+            removeFromBoard(ALL_BOARD_ID, document.jobpostingId());
+            removeFromUser(document.userId(), document.jobpostingId());
+        }
+    }
+
+    private void addToUser(Long userId, Long jobpostingId) {
+        if (userId == null) {
+            return;
+        }
+        userIndex.compute(userId, (k, jobpostingIds) -> {
+            Set<Long> updated = jobpostingIds != null ? jobpostingIds : ConcurrentHashMap.newKeySet();
+            updated.add(jobpostingId);
+            return updated;
+        });
+    }
+
+    private void removeFromUser(Long userId, Long jobpostingId) {
+        if (userId == null) {
+            return;
+        }
+        userIndex.computeIfPresent(userId, (k, jobpostingIds) -> {
+            jobpostingIds.remove(jobpostingId);
+            return jobpostingIds.isEmpty() ? null : jobpostingIds;
+        });
+    }
+
+    // 인덱스 변경 후 페이지 캐시에 반영 (실제로 바뀐 경우만 공고 수/게시판 버전 갱신)
+    private void addToBoard(Long boardId, Long jobpostingId) {
+        boolean added = boardIndex(boardId).add(jobpostingId);
+        if (added) {
+            boardSizes.computeIfAbsent(boardId, k -> new AtomicLong()).incrementAndGet();
+        }
+        pageCache.added(boardId, jobpostingId);
+        if (added) {
+            boardVersions.touch(boardId);
+        }
+    }
+
+    private void removeFromBoard(Long boardId, Long jobpostingId) {
+        NavigableSet<Long> jobpostingIds = boardIndex.get(boardId);
+        boolean removed = jobpostingIds != null && jobpostingIds.remove(jobpostingId);
+        if (removed) {
+            boardSizes.computeIfAbsent(boardId, k -> new AtomicLong()).decrementAndGet();
+        }
+        pageCache.removed(boardId, jobpostingId);
+        if (removed) {
+            boardVersions.touch(boardId);
+        }
+    }
+
+    /**
+     * 인덱스 앞쪽 maxItems개로 페이지 캐시 head 생성
+     */
+    private JobpostingPageCache.Head head(Long boardId, int maxItems) {
+        NavigableSet<Long> jobpostingIds = boardIndex.get(boardId);
+        if (jobpostingIds == null) {
+            return new JobpostingPageCache.Head(new long[0], true);
+        }
+        long[] ids = new long[maxItems];
+        int size = 0;
+        Iterator<Long> iterator = jobpostingIds.iterator();
+        while (size < maxItems && iterator.hasNext()) {
+            ids[size++] = iterator.next();
+        }
+        return new JobpostingPageCache.Head(Arrays.copyOf(ids, size), !iterator.hasNext());
+    }
+
+    private NavigableSet<Long> boardIndex(Long boardId) {
+        return boardIndex.computeIfAbsent(boardId, k -> new ConcurrentSkipListSet<>(Comparator.reverseOrder()));
+    }
+}
@@ -0,0 +1,153 @@
+package halo.corebridge.jobpostingread.readmodel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntFunction;
+
+/**
+ * 게시판 앞쪽 페이지 ID 캐시
+ *
+ * 게시판마다 최신순 앞쪽 maxItems개의 jobpostingId를 불변 배열(head)로 보관합니다.
+ * 목록 요청은 대부분 앞쪽 몇 페이지에 몰리므로, 페이지는 head를 잘라서 바로 만듭니다.
+ * (페이지 크기가 달라도 같은 head를 공유)
+ *
+ * - 인덱스에 공고가 추가/삭제되면 head를 새 배열로 교체합니다. (무효화 없이 증분 반영)
+ * - 삭제로 head가 짧아져 요청 범위를 덮지 못하면 인덱스에서 다시 만듭니다.
+ * - 같은 게시판의 생성/반영은 ConcurrentHashMap의 키 단위 잠금으로 직렬화되고,
+ *   반영은 중복 적용해도 결과가 같으므로 생성 도중의 인덱스 변경도 빠지지 않습니다.
+ *
+ * 통계/닉네임은 보관하지 않습니다. (조회 시점에 통계 캐시와 합침)
+ * head는 게시판 인덱스에 있는 게시판만 만들므로(JobpostingDocumentStore.page), 항목 수는 게시판 수를 넘지 않습니다.
+ */
+final class JobpostingPageCache {
+
+    private final int maxItems;
+    private final Map<Long, Head> heads = new ConcurrentHashMap<>();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    JobpostingPageCache(int maxItems) {
+        if (maxItems <= 0) {
+            throw new IllegalArgumentException("maxItems는 0보다 커야 합니다: " + maxItems);
+        }
+        this.maxItems = maxItems;
+    }
+
+    /**
+     * 페이지 ID 목록
+     * @param loader head가 없거나 요청 범위를 덮지 못할 때 인덱스에서 앞쪽 n개를 읽어 head 생성
+     * @return 페이지 ID (최신순), 캐시 범위를 넘는 페이지는 null
+     */
+    List<Long> page(Long boardId, long page, long pageSize, IntFunction<Head> loader) {
+        long offset = (page - 1) * pageSize;
+        long end = offset + pageSize;
+        if (offset < 0 || end > maxItems) {
+            return null;
+        }
+
+        Head head = heads.get(boardId);
+        if (head != null && head.covers(end)) {
+            hits.increment();
+        } else {
+            misses.increment();
+            head = heads.compute(boardId, (id, current) ->
+                    current != null && current.covers(end) ? current : loader.apply(maxItems));
+        }
+        return head.slice((int) offset, (int) end);
+    }
+
+    void added(Long boardId, long jobpostingId) {
+        heads.computeIfPresent(boardId, (id, head) -> head.with(jobpostingId, maxItems));
+    }
+
+    void removed(Long boardId, long jobpostingId) {
+        heads.computeIfPresent(boardId, (id, head) -> head.without(jobpostingId));
+    }
+
+    void clear() {
+        heads.clear();
+    }
+
+    int size() {
+        return heads.size();
+    }
+
+    long getHitCount() {
+        return hits.sum();
+    }
+
+    long getMissCount() {
+        return misses.sum();
+    }
+
+    /**
+     * 게시판 앞쪽 ID (내림차순)
+     * @param complete 게시판 전체가 담겨 있음 (더 뒤의 공고 없음)
+     */
+    record Head(long[] ids, boolean complete) {
+
+        boolean covers(long end) {
+            return complete || ids.length >= end;
+        }
+
+        List<Long> slice(int from, int to) {
+            int end = Math.min(to, ids.length);
+            List<Long> page = new ArrayList<>(Math.max(end - from, 0));
+            for (int i = from; i < end; i++) {
+                page.add(ids[i]);
+            }
+            return page;
+        }
+
+        Head with(long jobpostingId, int maxItems) {
+            int index = indexOf(jobpostingId);
+            if (index >= 0) {
+                return this;
+            }
+            int position = -index - 1;
+            if (position == ids.length && !complete) {
+                // head 뒤쪽 공고: 요청 범위 밖
+                return this;
+            }
+            long[] next = new long[ids.length + 1];
+            System.arraycopy(ids, 0, next, 0, position);
+            next[position] = jobpostingId;
+            System.arraycopy(ids, position, next, position + 1, ids.length - position);
+            return next.length > maxItems
+                    ? new Head(Arrays.copyOf(next, maxItems), false)
+                    : new Head(next, complete);
+        }
+
+        Head without(long jobpostingId) {
+            int index = indexOf(jobpostingId);
+            if (index < 0) {
+                return this;
+            }
+            long[] next = new long[ids.length - 1];
+            System.arraycopy(ids, 0, next, 0, index);
+            System.arraycopy(ids, index + 1, next, index, ids.length - index - 1);
+            return new Head(next, complete);
+        }
+
+        // 내림차순 이진 탐색 (없으면 -(삽입 위치) - 1)
+        private int indexOf(long jobpostingId) {
+            int low = 0;
+            int high = ids.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                if (ids[mid] > jobpostingId) {
+                    low = mid + 1;
+                } else if (ids[mid] < jobpostingId) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+    }
+}
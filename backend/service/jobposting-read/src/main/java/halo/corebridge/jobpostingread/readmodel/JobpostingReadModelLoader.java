@@ -0,0 +1,202 @@
+package halo.corebridge.jobpostingread.readmodel;
+
+import halo.corebridge.common.cache.UserProfileCache;
+import halo.corebridge.jobpostingread.client.JobpostingClient;
+import halo.corebridge.jobpostingread.consumer.JobpostingReadEventConsumer;
+import halo.corebridge.jobpostingread.handler.JobpostingReadCache;
+import halo.corebridge.jobpostingread.model.entity.JobpostingReadModel;
+import halo.corebridge.jobpostingread.model.entity.JobpostingReadModelRebuild;
+import halo.corebridge.jobpostingread.repository.JobpostingReadModelRebuildRepository;
+import halo.corebridge.jobpostingread.repository.JobpostingReadModelRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.kafka.listener.MessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 시작 시 읽기 모델 적재
+ *
+ * 1) 일반 모드: jobposting_read_model 테이블을 keyset 페이징으로 읽어 캐시/문서를 채운 뒤 consumer 시작
+ *    (latest offset부터 소비하므로 재시작 직후에도 캐시 적중)
+ * 2) 재구성 모드(read.model.rebuild-id 지정): 처음 보는 ID면 테이블/캐시를 비우고 consumer가 earliest offset부터 재생
+ *    ID는 jobposting_read_model_rebuild에 기록되므로 같은 ID로 재시작하면 일반 모드로 적재
+ *    (재생 중 재시작해도 커밋된 offset부터 이어서 소비)
+ * 3) 공통: 원본 목록을 별도 스레드에서 한 번 훑어 빠진 문서/닉네임을 보충한 뒤 게시판 인덱스를 목록 조회에 사용
+ *    (전체 목록을 HTTP로 읽으므로 예열/readiness를 기다리게 하지 않으며, 그동안 목록은 원본 조회)
+ *
+ * consumer는 적재가 끝난 뒤 시작하므로, 적재 값이 이벤트 값을 덮어쓰지 않습니다.
+ * (보충은 consumer 시작 후 진행되며, 이벤트로 받은 문서/삭제가 우선합니다.)
+ * 적재 소요 시간은 jobposting.read.model.warm 타이머로 노출합니다.
+ *
+ * 애플리케이션 준비 후 예열(JobpostingReadWarmUp)의 첫 단계로 실행됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobpostingReadModelLoader {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+    private static final long BACKFILL_PAGE_SIZE = 100L;
+    // User 서비스 일괄 조회 한도와 맞춤
+    private static final int NICKNAME_BATCH_SIZE = 100;
+
+    private final JobpostingReadCache readCache;
+    private final JobpostingDocumentStore documentStore;
+    private final JobpostingClient jobpostingClient;
+    private final UserProfileCache userProfileCache;
+    private final JobpostingReadModelRepository readModelRepository;
+    private final JobpostingReadModelRebuildRepository rebuildRepository;
+    private final JobpostingReadEventConsumer eventConsumer;
+    private final KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${read.model.rebuild-id:}")
+    private String rebuildId;
+
+    /**
+     * 읽기 모델 적재 → consumer 시작 → 문서 보충 시작 (보충은 기다리지 않음)
+     * @param topViewedLimit 함께 돌려줄 조회수 상위 공고 수
+     * @return 적재한 공고 중 조회수 상위 ID (재구성 모드/적재 실패 시 빈 목록)
+     */
+    public List<Long> run(int topViewedLimit) {
+        List<Long> topViewed = List.of();
+        try {
+            if (isNewRebuild()) {
+                reset();
+            } else {
+                topViewed = load(topViewedLimit);
+            }
+        } catch (Exception e) {
+            // 적재 실패 시에도 이벤트 소비는 시작 (캐시 미스는 HTTP로 대체)
+            log.warn("[ReadModelLoader] 읽기 모델 적재 실패: {}", e.getMessage());
+        } finally {
+            startConsumer();
+        }
+        Thread.ofVirtual().name("jobposting-read-backfill").start(this::backfill);
+        return topViewed;
+    }
+
+    private List<Long> load(int topViewedLimit) {
+        long startNanos = System.nanoTime();
+        long lastId = 0L;
+        int loaded = 0;
+        // 조회수 상위 topViewedLimit개 (최소 힙)
+        PriorityQueue<JobpostingReadModel> topViewed = new PriorityQueue<>(
+                Comparator.comparingLong(JobpostingReadModelLoader::viewCountOf));
+
+        List<JobpostingReadModel> page;
+        do {
+            long version = readCache.getPersistedVersion();
+            page = readModelRepository.findByJobpostingIdGreaterThanOrderByJobpostingIdAsc(
+                    lastId, PageRequest.of(0, LOAD_PAGE_SIZE));
+            for (JobpostingReadModel model : page) {
+                readCache.restore(model.getJobpostingId(), model.getViewCount(), model.getLikeCount(),
+                        model.getCommentCount(), version);
+                if (model.hasDocument()) {
+                    documentStore.restore(JobpostingDocument.from(model), model.getNickname());
+                    topViewed.add(model);
+                    if (topViewed.size() > topViewedLimit) {
+                        topViewed.poll();
+                    }
+                }
+            }
+            if (!page.isEmpty()) {
+                lastId = page.get(page.size() - 1).getJobpostingId();
+                loaded += page.size();
+            }
+        } while (page.size() == LOAD_PAGE_SIZE);
+
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - startNanos);
+        Timer.builder("jobposting.read.model.warm")
+                .description("재시작 후 읽기 모델 적재 소요 시간")
+                .register(meterRegistry)
+                .record(elapsed);
+        log.info("[ReadModelLoader] 적재 완료: {}건, {}ms (JVM 시작 후 {}ms)",
+                loaded, elapsed.toMillis(), ManagementFactory.getRuntimeMXBean().getUptime());
+        return topViewed.stream()
+                .sorted(Comparator.comparingLong(JobpostingReadModelLoader::viewCountOf).reversed())
+                .map(JobpostingReadModel::getJobpostingId)
+                .toList();
+    }
+
+    private static long viewCountOf(JobpostingReadModel model) {
+        return model.getViewCount() == null ? 0L : model.getViewCount();
+    }
+
+    private boolean isNewRebuild() {
+        if (!StringUtils.hasText(rebuildId)) {
+            return false;
+        }
+        if (rebuildRepository.existsById(rebuildId)) {
+            log.info("[ReadModelLoader] 재구성 완료된 rebuild-id={}, 일반 적재합니다.", rebuildId);
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * 읽기 모델/처리 기록 초기화 후 재구성 기록 저장 (기록 전에 중단되면 다음 시작 때 다시 초기화)
+     */
+    private void reset() {
+        readModelRepository.deleteAllInBatch();
+        readCache.clear();
+        documentStore.clear();
+        eventConsumer.replayFromBeginning();
+        rebuildRepository.save(JobpostingReadModelRebuild.create(rebuildId));
+        log.info("[ReadModelLoader] 재구성 모드(rebuild-id={}): 읽기 모델 초기화, earliest offset부터 재생합니다.", rebuildId);
+    }
+
+    /**
+     * 원본 목록("전체" 게시판)을 페이지 단위로 훑어 빠진 문서와 닉네임 보충
+     * 한 페이지라도 실패하면 목록 조회는 원본 호출을 유지합니다.
+     */
+    private void backfill() {
+        long startNanos = System.nanoTime();
+        try {
+            long page = 1L;
+            List<JobpostingClient.JobpostingResponse> jobpostings;
+            do {
+                JobpostingClient.JobpostingPageResponse pageResponse =
+                        jobpostingClient.readAll(JobpostingDocumentStore.ALL_BOARD_ID, page++, BACKFILL_PAGE_SIZE);
+                if (pageResponse == null || pageResponse.getJobpostings() == null) {
+                    log.warn("[ReadModelLoader] 문서 보충 실패 (page={}), 목록은 원본 조회 유지", page - 1);
+                    return;
+                }
+                jobpostings = pageResponse.getJobpostings();
+                jobpostings.forEach(jobposting -> documentStore.backfill(JobpostingDocument.from(jobposting)));
+            } while (jobpostings.size() == BACKFILL_PAGE_SIZE);
+
+            List<Long> userIds = List.copyOf(documentStore.findUserIdsWithoutNickname());
+            for (int from = 0; from < userIds.size(); from += NICKNAME_BATCH_SIZE) {
+                List<Long> batch = userIds.subList(from, Math.min(from + NICKNAME_BATCH_SIZE, userIds.size()));
+                userProfileCache.getNicknames(batch).forEach(documentStore::updateNickname);
+            }
+
+            documentStore.markReady();
+            log.info("[ReadModelLoader] 문서 보충 완료: {}건, {}ms",
+                    documentStore.size(), Duration.ofNanos(System.nanoTime() - startNanos).toMillis());
+        } catch (Exception e) {
+            log.warn("[ReadModelLoader] 문서 보충 실패, 목록은 원본 조회 유지: {}", e.getMessage());
+        }
+    }
+
+    private void startConsumer() {
+        MessageListenerContainer container =
+                kafkaListenerEndpointRegistry.getListenerContainer(JobpostingReadEventConsumer.LISTENER_ID);
+        if (container != null && !container.isRunning()) {
+            container.start();
+        }
+    }
+}
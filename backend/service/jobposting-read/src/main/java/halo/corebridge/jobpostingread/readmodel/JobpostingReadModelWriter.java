@@ -0,0 +1,166 @@
+package halo.corebridge.jobpostingread.readmodel;
+
+import halo.corebridge.jobpostingread.handler.JobpostingCounts;
+import halo.corebridge.jobpostingread.handler.JobpostingReadCache;
+import halo.corebridge.jobpostingread.repository.JobpostingReadModelRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 읽기 모델 배치 기록기
+ *
+ * 이벤트마다 DB에 쓰지 않고, dirty로 표시된 ID를 주기적으로 모아 (문서 + 통계) 행을
+ * batch-size 단위의 upsert 한 번으로 기록합니다.
+ * 배치마다 별도 요청이므로 하나의 큰 트랜잭션을 만들지 않습니다.
+ * 캐시에 없는 통계(축출/미수신)는 null로 전달되어 기존 값을 유지합니다.
+ * 캐시에 없는 공고의 댓글 수 증감은 같은 upsert에서 기존 값에 더합니다. (없던 행은 0에서 시작)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobpostingReadModelWriter {
+
+    private static final String UPSERT_SQL =
+            "INSERT INTO jobposting_read_model " +
+            "(jobposting_id, title, content, board_id, user_id, nickname, required_skills, preferred_skills, " +
+            " jobposting_created_at, jobposting_updated_at, view_count, like_count, comment_count, created_at, updated_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+            "ON CONFLICT (jobposting_id) DO UPDATE SET " +
+            documentColumn("title") +
+            documentColumn("content") +
+            documentColumn("board_id") +
+            documentColumn("user_id") +
+            documentColumn("nickname") +
+            documentColumn("required_skills") +
+            documentColumn("preferred_skills") +
+            documentColumn("jobposting_created_at") +
+            documentColumn("jobposting_updated_at") +
+            "view_count = COALESCE(EXCLUDED.view_count, jobposting_read_model.view_count), " +
+            "like_count = COALESCE(EXCLUDED.like_count, jobposting_read_model.like_count), " +
+            "comment_count = CASE WHEN CAST(? AS BIGINT) IS NULL " +
+            "THEN COALESCE(EXCLUDED.comment_count, jobposting_read_model.comment_count) " +
+            "ELSE GREATEST(0, COALESCE(jobposting_read_model.comment_count, 0) + ?) END, " +
+            "updated_at = EXCLUDED.updated_at";
+
+    private final JobpostingReadCache readCache;
+    private final JobpostingDocumentStore documentStore;
+    private final JobpostingReadModelRepository readModelRepository;
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${read.model.batch-size:500}")
+    private int batchSize;
+
+    @Scheduled(fixedDelayString = "${read.model.flush-interval-ms:1000}")
+    public void flush() {
+        flushRemoved();
+
+        List<Long> jobpostingIds;
+        while (!(jobpostingIds = readCache.drainDirtyIds(batchSize)).isEmpty()) {
+            if (!upsert(jobpostingIds)) {
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        log.info("[ReadModelWriter] 종료 전 미기록 변경 flush");
+        flush();
+    }
+
+    private boolean upsert(List<Long> jobpostingIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        Map<Long, Long> commentDeltas = new HashMap<>();
+        for (Long jobpostingId : jobpostingIds) {
+            Long delta = readCache.takeCommentDelta(jobpostingId);
+            if (delta != null) {
+                commentDeltas.put(jobpostingId, delta);
+            }
+        }
+        boolean written = false;
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, jobpostingIds, jobpostingIds.size(), (ps, jobpostingId) -> {
+                JobpostingDocument document = documentStore.get(jobpostingId);
+                JobpostingCounts counts = readCache.peek(jobpostingId);
+                Long commentDelta = commentDeltas.get(jobpostingId);
+                ps.setLong(1, jobpostingId);
+                ps.setString(2, document != null ? document.title() : null);
+                ps.setString(3, document != null ? document.content() : null);
+                setNullableLong(ps, 4, document != null ? document.boardId() : null);
+                setNullableLong(ps, 5, document != null ? document.userId() : null);
+                ps.setString(6, document != null ? documentStore.getNickname(document.userId()) : null);
+                ps.setString(7, document != null ? document.requiredSkills() : null);
+                ps.setString(8, document != null ? document.preferredSkills() : null);
+                ps.setTimestamp(9, document != null ? toTimestamp(document.createdAt()) : null);
+                ps.setTimestamp(10, document != null ? toTimestamp(document.updatedAt()) : null);
+                setNullableLong(ps, 11, counts.viewCount());
+                setNullableLong(ps, 12, counts.likeCount());
+                setNullableLong(ps, 13, commentDelta != null ? Long.valueOf(Math.max(0L, commentDelta)) : counts.commentCount());
+                ps.setTimestamp(14, now);
+                ps.setTimestamp(15, now);
+                setNullableLong(ps, 16, commentDelta);
+                setNullableLong(ps, 17, commentDelta);
+            });
+            written = true;
+            log.debug("[ReadModelWriter] upsert {}건 (댓글 수 증감 {}건)", jobpostingIds.size(), commentDeltas.size());
+            return true;
+        } catch (Exception e) {
+            // 다음 주기에 다시 기록
+            readCache.markDirty(jobpostingIds);
+            log.warn("[ReadModelWriter] upsert 실패 ({}건), 다음 주기에 재시도: {}", jobpostingIds.size(), e.getMessage());
+            return false;
+        } finally {
+            readCache.commentDeltasFlushed(commentDeltas, written);
+            readCache.flushed(jobpostingIds);
+        }
+    }
+
+    private void flushRemoved() {
+        List<Long> jobpostingIds;
+        while (!(jobpostingIds = readCache.drainRemovedIds(batchSize)).isEmpty()) {
+            try {
+                readModelRepository.deleteAllByIdInBatch(jobpostingIds);
+                log.debug("[ReadModelWriter] delete {}건", jobpostingIds.size());
+            } catch (Exception e) {
+                readCache.markRemoved(jobpostingIds);
+                log.warn("[ReadModelWriter] delete 실패 ({}건), 다음 주기에 재시도: {}", jobpostingIds.size(), e.getMessage());
+                return;
+            }
+        }
+    }
+
+    /**
+     * 문서 컬럼 갱신식: 저장소에 문서가 없으면(통계만 변경, 용량 초과로 축출) 기존 문서 값을 유지
+     * 문서의 board_id는 항상 있으므로 EXCLUDED.board_id가 null이면 문서 없이 기록한 행입니다. (JobpostingReadModel.hasDocument)
+     */
+    private static String documentColumn(String column) {
+        return column + " = CASE WHEN EXCLUDED.board_id IS NULL THEN jobposting_read_model." + column +
+                " ELSE EXCLUDED." + column + " END, ";
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
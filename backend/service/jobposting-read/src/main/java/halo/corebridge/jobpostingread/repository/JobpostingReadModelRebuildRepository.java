@@ -0,0 +1,7 @@
+package halo.corebridge.jobpostingread.repository;
+
+import halo.corebridge.jobpostingread.model.entity.JobpostingReadModelRebuild;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface JobpostingReadModelRebuildRepository extends JpaRepository<JobpostingReadModelRebuild, String> {
+}
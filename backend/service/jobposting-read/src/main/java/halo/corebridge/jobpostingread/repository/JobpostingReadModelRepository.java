@@ -0,0 +1,13 @@
+package halo.corebridge.jobpostingread.repository;
+
+import halo.corebridge.jobpostingread.model.entity.JobpostingReadModel;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface JobpostingReadModelRepository extends JpaRepository<JobpostingReadModel, Long> {
+
+    // keyset 페이징 (시작 시 적재용)
+    List<JobpostingReadModel> findByJobpostingIdGreaterThanOrderByJobpostingIdAsc(Long jobpostingId, Pageable pageable);
+}
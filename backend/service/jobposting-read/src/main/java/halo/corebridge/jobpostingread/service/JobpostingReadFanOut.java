@@ -0,0 +1,129 @@
+package halo.corebridge.jobpostingread.service;
+
+import halo.corebridge.jobpostingread.client.StaleResponses;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 조회 요청 단위 병렬 fan-out
+ *
+ * 한 요청(단건/페이지)에 필요한 원격 조회를 모두 동시에 시작하고,
+ * 요청 전체에 하나의 deadline을 적용합니다.
+ * - 지연 시간 = 가장 느린 의존 서비스 (합이 아님)
+ * - deadline 안에 끝나지 않은 조회는 작업 스레드를 interrupt하여 취소하고 기본값 사용
+ *   (CompletableFuture.cancel은 실행 중인 스레드를 interrupt하지 않으므로 executor의 Future를 취소)
+ *
+ * 원격 호출은 블로킹 RestTemplate이므로 작업마다 Virtual Thread를 사용합니다.
+ */
+@Slf4j
+@Component
+public class JobpostingReadFanOut implements DisposableBean {
+
+    private final ExecutorService executor;
+    private final Duration deadline;
+
+    @Autowired
+    public JobpostingReadFanOut(@Value("${read.fan-out.deadline-ms:800}") long deadlineMillis) {
+        this(Duration.ofMillis(deadlineMillis));
+    }
+
+    JobpostingReadFanOut(Duration deadline) {
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.deadline = deadline;
+    }
+
+    /**
+     * 요청 하나에 대한 fan-out 범위 시작 (deadline 계산 시작)
+     */
+    public Scope open() {
+        return new Scope(System.nanoTime() + deadline.toNanos());
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 하나의 deadline을 공유하는 조회 작업 묶음
+     * fork/join은 요청 스레드에서만 호출합니다.
+     */
+    public class Scope {
+
+        private final long deadlineNanos;
+        private final List<CompletableFuture<?>> forks = new ArrayList<>();
+        private final List<Future<?>> tasks = new ArrayList<>();
+
+        private Scope(long deadlineNanos) {
+            this.deadlineNanos = deadlineNanos;
+        }
+
+        public <T> CompletableFuture<T> fork(Supplier<T> task) {
+            // stale 응답 기록 범위를 작업 스레드로 전달
+            Supplier<T> propagated = StaleResponses.propagate(task);
+            CompletableFuture<T> future = new CompletableFuture<>();
+            tasks.add(executor.submit(() -> {
+                try {
+                    future.complete(propagated.get());
+                } catch (Throwable e) {
+                    future.completeExceptionally(e);
+                }
+            }));
+            forks.add(future);
+            return future;
+        }
+
+        /**
+         * 모든 작업이 끝나거나 deadline에 도달할 때까지 대기
+         * deadline 초과 시 남은 작업은 interrupt로 취소됩니다.
+         */
+        public void join() {
+            if (forks.isEmpty()) {
+                return;
+            }
+            long remainingNanos = deadlineNanos - System.nanoTime();
+            try {
+                CompletableFuture.allOf(forks.toArray(CompletableFuture[]::new))
+                        .get(Math.max(remainingNanos, 0), TimeUnit.NANOSECONDS);
+            } catch (TimeoutException e) {
+                long pending = forks.stream().filter(f -> !f.isDone()).count();
+                log.warn("[ReadFanOut] deadline {}ms 초과 - 미완료 {}건 기본값 사용", deadline.toMillis(), pending);
+            } catch (ExecutionException e) {
+                // 개별 실패는 resultOrDefault에서 기본값으로 대체
+                log.debug("[ReadFanOut] 일부 조회 실패: {}", e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                // 실행 중인 작업 스레드를 interrupt (블로킹 I/O 중단) 후 결과도 취소 처리
+                tasks.forEach(t -> t.cancel(true));
+                forks.forEach(f -> f.cancel(false));
+            }
+        }
+    }
+
+    /**
+     * 완료된 결과 또는 기본값 (미완료/실패/null)
+     */
+    public static <T> T resultOrDefault(CompletableFuture<T> future, T defaultValue) {
+        if (!future.isDone() || future.isCompletedExceptionally()) {
+            return defaultValue;
+        }
+        T result = future.join();
+        return result != null ? result : defaultValue;
+    }
+}
@@ -1,84 +1,307 @@
 package halo.corebridge.jobpostingread.service;
 
+import halo.corebridge.common.cache.UserProfileCache;
 import halo.corebridge.jobpostingread.client.*;
+import halo.corebridge.jobpostingread.handler.JobpostingCounts;
 import halo.corebridge.jobpostingread.handler.JobpostingReadCache;
 import halo.corebridge.jobpostingread.model.dto.JobpostingReadDto;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocument;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocumentStore;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.BiConsumer;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 public class JobpostingReadService {
+
+    private static final String DEFAULT_NICKNAME = "익명";
+    private static final Long MOVABLE_PAGE_COUNT = 10L;
     
     private final JobpostingClient jobpostingClient;
     private final ViewClient viewClient;
     private final LikeClient likeClient;
     private final CommentClient commentClient;
-    private final UserClient userClient;
+    private final UserProfileCache userProfileCache;
     private final JobpostingReadCache readCache;
+    private final JobpostingDocumentStore documentStore;
+    private final JobpostingReadFanOut readFanOut;
 
     /**
      * 단일 채용공고 조회 (통계 포함)
+     * - 읽기 모델에 문서/통계/닉네임이 모두 있으면 원격 호출 없이 응답
+     * - 문서가 없으면(이벤트 미수신) 원본 조회 후 읽기 모델에 보충
+     *   (원본 장애로 마지막 정상 응답을 받은 경우는 보충하지 않음)
      */
     public JobpostingReadDto.Response read(Long jobpostingId) {
-        JobpostingClient.JobpostingResponse jobposting = jobpostingClient.read(jobpostingId);
-        
-        if (jobposting == null) {
-            throw new RuntimeException("Jobposting not found: " + jobpostingId);
+        try (StaleResponses.Recorder stale = StaleResponses.open()) {
+            JobpostingDocument document = documentStore.get(jobpostingId);
+
+            if (document == null) {
+                JobpostingClient.JobpostingResponse jobposting = jobpostingClient.read(jobpostingId);
+                if (jobposting == null) {
+                    throw new RuntimeException("Jobposting not found: " + jobpostingId);
+                }
+                document = JobpostingDocument.from(jobposting);
+                if (!stale.isStale()) {
+                    documentStore.backfill(document);
+                }
+            }
+
+            JobpostingReadFanOut.Scope scope = readFanOut.open();
+            PendingResponse pending = fork(scope, document);
+            scope.join();
+
+            return pending.toResponse();
         }
-        
-        return toReadResponse(jobposting);
     }
 
     /**
      * 채용공고 목록 조회 (통계 포함)
+     * - 게시판 인덱스로 응답할 수 있으면(보충 완료, 축출로 잘리지 않은 범위) 목록/개수를 로컬에서 조회, 아니면 원본 조회
+     * - 캐시에 없는 통계는 영속 사본에서 한 번에 조회, 그래도 없으면 서비스별 일괄 조회 1회 (페이지당 최대 3회 + 닉네임 1회)
+     * - 모든 조회를 동시에 시작하고 페이지 전체에 하나의 deadline 적용
      */
     public JobpostingReadDto.PageResponse readAll(Long boardId, Long page, Long pageSize) {
-        JobpostingClient.JobpostingPageResponse pageResponse = jobpostingClient.readAll(boardId, page, pageSize);
-        
-        if (pageResponse == null || pageResponse.getJobpostings() == null) {
-            return JobpostingReadDto.PageResponse.of(List.of(), 0L);
+        try (StaleResponses.Recorder stale = StaleResponses.open()) {
+            return readAll(boardId, page, pageSize, stale);
+        }
+    }
+
+    private JobpostingReadDto.PageResponse readAll(Long boardId, Long page, Long pageSize, StaleResponses.Recorder stale) {
+        List<JobpostingDocument> documents;
+        Long jobpostingCount;
+        Long pageLimit = PageLimitCalculator.calculatePageLimit(page, pageSize, MOVABLE_PAGE_COUNT);
+
+        if (documentStore.covers(boardId, pageLimit)) {
+            documents = documentStore.page(boardId, page, pageSize);
+            jobpostingCount = documentStore.count(boardId, pageLimit);
+        } else {
+            JobpostingClient.JobpostingPageResponse pageResponse = jobpostingClient.readAll(boardId, page, pageSize);
+
+            if (pageResponse == null || pageResponse.getJobpostings() == null) {
+                return JobpostingReadDto.PageResponse.of(List.of(), 0L);
+            }
+
+            documents = pageResponse.getJobpostings().stream()
+                    .map(JobpostingDocument::from)
+                    .toList();
+            if (!stale.isStale()) {
+                documents.forEach(documentStore::backfill);
+            }
+            jobpostingCount = pageResponse.getJobpostingCount();
         }
 
-        List<JobpostingReadDto.Response> jobpostings = pageResponse.getJobpostings()
-                .stream()
-                .map(this::toReadResponse)
+        List<Long> jobpostingIds = documents.stream().map(JobpostingDocument::jobpostingId).toList();
+        Map<Long, JobpostingCounts> counts = readCache.getCounts(jobpostingIds);
+
+        JobpostingReadFanOut.Scope scope = readFanOut.open();
+
+        PageValues<Long> viewCounts = forkCounts(scope, jobpostingIds, counts, JobpostingCounts::viewCount, viewClient::counts,
+                (jobpostingId, count) -> readCache.restore(jobpostingId, count, null, null));
+        PageValues<Long> likeCounts = forkCounts(scope, jobpostingIds, counts, JobpostingCounts::likeCount, likeClient::counts,
+                (jobpostingId, count) -> readCache.restore(jobpostingId, null, count, null));
+        PageValues<Long> commentCounts = forkCounts(scope, jobpostingIds, counts, JobpostingCounts::commentCount, commentClient::counts,
+                (jobpostingId, count) -> readCache.restore(jobpostingId, null, null, count));
+        PageValues<String> nicknames = forkNicknames(scope, documents);
+
+        List<PendingResponse> pendings = documents.stream()
+                .map(document -> new PendingResponse(
+                        document,
+                        viewCounts.of(document.jobpostingId()),
+                        likeCounts.of(document.jobpostingId()),
+                        commentCounts.of(document.jobpostingId()),
+                        nicknames.of(document.userId())
+                ))
+                .toList();
+        scope.join();
+
+        List<JobpostingReadDto.Response> responses = pendings.stream()
+                .map(PendingResponse::toResponse)
                 .toList();
 
-        return JobpostingReadDto.PageResponse.of(jobpostings, pageResponse.getJobpostingCount());
+        return JobpostingReadDto.PageResponse.of(responses, jobpostingCount);
+    }
+
+    /**
+     * 단일 조회 버전 (조건부 GET용)
+     * 문서/통계/닉네임이 모두 읽기 모델에 있을 때만 계산합니다. (원격 조회가 필요하면 null → 항상 본문 응답)
+     * 버전을 먼저 읽고 완결 여부를 확인하므로, 그 사이 바뀐 값은 다음 조회에서 ETag 불일치로 드러납니다.
+     */
+    public Long version(Long jobpostingId) {
+        JobpostingDocument document = documentStore.get(jobpostingId);
+        if (document == null) {
+            return null;
+        }
+        long version = Math.max(documentStore.getDocumentVersion(jobpostingId), readCache.getVersion(jobpostingId));
+        if (document.userId() != null) {
+            version = Math.max(version, documentStore.getNicknameVersion(document.userId()));
+        }
+
+        boolean local = readCache.peek(jobpostingId).isComplete()
+                && documentStore.getNickname(document.userId()) != null;
+        return local ? version : null;
+    }
+
+    /**
+     * 목록 페이지 버전 (조건부 GET용)
+     * 게시판 인덱스로 페이지를 응답할 수 있고 페이지의 모든 공고가 읽기 모델에 있을 때만 계산합니다.
+     * 게시판 구성 버전과 공고별 버전의 최댓값 (어느 하나가 바뀌면 더 큰 버전이 됨)
+     */
+    public Long pageVersion(Long boardId, Long page, Long pageSize) {
+        if (!documentStore.covers(boardId, PageLimitCalculator.calculatePageLimit(page, pageSize, MOVABLE_PAGE_COUNT))) {
+            return null;
+        }
+        long version = documentStore.getBoardVersion(boardId);
+        for (JobpostingDocument document : documentStore.page(boardId, page, pageSize)) {
+            Long itemVersion = version(document.jobpostingId());
+            if (itemVersion == null) {
+                return null;
+            }
+            version = Math.max(version, itemVersion);
+        }
+        return version;
+    }
+
+    /**
+     * 페이지 단위 통계 조회: 캐시/영속 사본 우선, 없는 ID만 모아서 일괄 조회
+     * 일괄 조회 결과는 캐시에 채워 다음 요청이 원격 호출 없이 응답하도록 합니다.
+     */
+    private PageValues<Long> forkCounts(JobpostingReadFanOut.Scope scope,
+                                  List<Long> jobpostingIds,
+                                  Map<Long, JobpostingCounts> counts,
+                                  Function<JobpostingCounts, Long> field,
+                                  Function<Collection<Long>, Map<Long, Long>> remote,
+                                  BiConsumer<Long, Long> cache) {
+        Map<Long, Long> cached = new HashMap<>();
+        List<Long> missingIds = new ArrayList<>();
+        for (Long jobpostingId : jobpostingIds) {
+            Long count = field.apply(counts.getOrDefault(jobpostingId, JobpostingCounts.EMPTY));
+            if (count != null) {
+                cached.put(jobpostingId, count);
+            } else {
+                missingIds.add(jobpostingId);
+            }
+        }
+
+        CompletableFuture<Map<Long, Long>> fetched = missingIds.isEmpty()
+                ? CompletableFuture.completedFuture(Map.of())
+                : scope.fork(() -> remember(remote.apply(missingIds), values -> values.forEach(cache)));
+        return new PageValues<>(cached, fetched);
+    }
+
+    /**
+     * 페이지 작성자 닉네임: 읽기 모델 우선, 없는 작성자만 모아서 닉네임 캐시로 일괄 조회
+     */
+    private PageValues<String> forkNicknames(JobpostingReadFanOut.Scope scope, List<JobpostingDocument> documents) {
+        Map<Long, String> cached = new HashMap<>();
+        Set<Long> missingIds = new LinkedHashSet<>();
+        for (JobpostingDocument document : documents) {
+            Long userId = document.userId();
+            String nickname = documentStore.getNickname(userId);
+            if (nickname != null) {
+                cached.put(userId, nickname);
+            } else if (userId != null) {
+                missingIds.add(userId);
+            }
+        }
+
+        CompletableFuture<Map<Long, String>> fetched = missingIds.isEmpty()
+                ? CompletableFuture.completedFuture(Map.of())
+                : scope.fork(() -> remember(userProfileCache.getNicknames(missingIds),
+                        values -> values.forEach(documentStore::backfillNickname)));
+        return new PageValues<>(cached, fetched);
+    }
+
+    /**
+     * Jobposting 한 건에 필요한 조회 시작
+     * 읽기 모델(캐시 → 영속 사본)에 데이터가 있으면 우선 사용, 없으면 HTTP 조회를 병렬로 시작
+     */
+    private PendingResponse fork(JobpostingReadFanOut.Scope scope, JobpostingDocument document) {
+        Long jobpostingId = document.jobpostingId();
+        JobpostingCounts counts = readCache.getCounts(List.of(jobpostingId))
+                .getOrDefault(jobpostingId, JobpostingCounts.EMPTY);
+
+        return new PendingResponse(
+                document,
+                cachedOrFork(scope, counts.viewCount(), () -> remember(viewClient.count(jobpostingId),
+                        count -> readCache.restore(jobpostingId, count, null, null))),
+                cachedOrFork(scope, counts.likeCount(), () -> remember(likeClient.count(jobpostingId),
+                        count -> readCache.restore(jobpostingId, null, count, null))),
+                cachedOrFork(scope, counts.commentCount(), () -> remember(commentClient.count(jobpostingId),
+                        count -> readCache.restore(jobpostingId, null, null, count))),
+                nicknameOrFork(scope, document.userId())
+        );
+    }
+
+    private CompletableFuture<String> nicknameOrFork(JobpostingReadFanOut.Scope scope, Long userId) {
+        return cachedOrFork(scope, documentStore.getNickname(userId), () -> remember(userProfileCache.getNickname(userId),
+                nickname -> documentStore.backfillNickname(userId, nickname)));
     }
 
     /**
-     * Jobposting -> ReadResponse 변환
-     * 이벤트 캐시에 데이터가 있으면 우선 사용, 없으면 HTTP fallback
+     * 원격 조회에 성공한 값(null이 아닌 값)을 읽기 모델에 채움
+     * 같은 키의 동시 미스는 클라이언트의 single-flight로 한 번만 호출되므로, 채우기도 사실상 한 번입니다.
      */
-    private JobpostingReadDto.Response toReadResponse(JobpostingClient.JobpostingResponse jobposting) {
-        Long jobpostingId = jobposting.getJobpostingId();
-
-        // 캐시 우선 조회, 없으면 HTTP fallback
-        Long viewCount = readCache.getViewCount(jobpostingId);
-        if (viewCount == null) viewCount = viewClient.count(jobpostingId);
-
-        Long likeCount = readCache.getLikeCount(jobpostingId);
-        if (likeCount == null) likeCount = likeClient.count(jobpostingId);
-
-        Long commentCount = readCache.getCommentCount(jobpostingId);
-        if (commentCount == null) commentCount = commentClient.count(jobpostingId);
-
-        return JobpostingReadDto.Response.builder()
-                .jobpostingId(jobpostingId)
-                .title(jobposting.getTitle())
-                .content(jobposting.getContent())
-                .boardId(jobposting.getBoardId())
-                .userId(jobposting.getUserId())
-                .nickname(userClient.getNickname(jobposting.getUserId()))
-                .viewCount(viewCount)
-                .likeCount(likeCount)
-                .commentCount(commentCount)
-                .createdAt(jobposting.getCreatedAt())
-                .updatedAt(jobposting.getUpdatedAt())
-                .build();
+    private static <T> T remember(T value, Consumer<T> cache) {
+        if (value != null) {
+            cache.accept(value);
+        }
+        return value;
+    }
+
+    private <T> CompletableFuture<T> cachedOrFork(JobpostingReadFanOut.Scope scope, T cached, Supplier<T> remote) {
+        return cached != null ? CompletableFuture.completedFuture(cached) : scope.fork(remote);
+    }
+
+    /**
+     * 페이지 단위 값 (캐시 값 + 일괄 조회 결과)
+     */
+    private record PageValues<T>(Map<Long, T> cached, CompletableFuture<Map<Long, T>> fetched) {
+
+        CompletableFuture<T> of(Long id) {
+            T value = cached.get(id);
+            return value != null
+                    ? CompletableFuture.completedFuture(value)
+                    : fetched.thenApply(values -> values.get(id));
+        }
+    }
+
+    /**
+     * 조회 진행 중인 응답 (deadline 이후 미완료 값은 기본값 사용)
+     */
+    private record PendingResponse(JobpostingDocument document,
+                                   CompletableFuture<Long> viewCount,
+                                   CompletableFuture<Long> likeCount,
+                                   CompletableFuture<Long> commentCount,
+                                   CompletableFuture<String> nickname) {
+
+        JobpostingReadDto.Response toResponse() {
+            return JobpostingReadDto.Response.builder()
+                    .jobpostingId(document.jobpostingId())
+                    .title(document.title())
+                    .content(document.content())
+                    .boardId(document.boardId())
+                    .userId(document.userId())
+                    .nickname(JobpostingReadFanOut.resultOrDefault(nickname, DEFAULT_NICKNAME))
+                    .viewCount(JobpostingReadFanOut.resultOrDefault(viewCount, 0L))
+                    .likeCount(JobpostingReadFanOut.resultOrDefault(likeCount, 0L))
+                    .commentCount(JobpostingReadFanOut.resultOrDefault(commentCount, 0L))
+                    .createdAt(document.createdAt())
+                    .updatedAt(document.updatedAt())
+                    .build();
+        }
     }
 }
@@ -0,0 +1,12 @@
+package halo.corebridge.jobpostingread.service;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public final class PageLimitCalculator {
+
+    public static Long calculatePageLimit(Long page, Long pageSize, Long movablePageCount) {
+        return (((page - 1) / movablePageCount) + 1) * pageSize * movablePageCount + 1;
+    }
+}
@@ -0,0 +1,125 @@
+package halo.corebridge.jobpostingread.service;
+
+import halo.corebridge.common.cache.UserProfileCache;
+import halo.corebridge.jobpostingread.client.JobpostingClient;
+import halo.corebridge.jobpostingread.client.StaleResponses;
+import halo.corebridge.jobpostingread.client.UserClient;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocument;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocumentStore;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * stale fallback 재검증
+ *
+ * Circuit OPEN 동안 마지막 정상 응답으로 응답한 키를 모아 두었다가,
+ * - HALF_OPEN: 허용 호출 수만큼 다시 조회 (재검증 호출이 곧 Circuit 복구 판단용 시험 호출)
+ * - CLOSED:    남은 키를 모두 다시 조회
+ * 재검증에 성공한 값은 마지막 정상 응답과 읽기 모델(문서/닉네임)에 반영합니다.
+ * 재검증도 fallback으로 끝나면 키는 다시 재검증 대상으로 남습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StaleFallbackRevalidator {
+
+    private static final String JOBPOSTING_SERVICE = "jobpostingService";
+    private static final String USER_SERVICE = "userService";
+    // User 서비스 일괄 조회 한도와 맞춤
+    private static final int NICKNAME_BATCH_SIZE = 100;
+
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final JobpostingClient jobpostingClient;
+    private final UserClient userClient;
+    private final UserProfileCache userProfileCache;
+    private final JobpostingDocumentStore documentStore;
+
+    @PostConstruct
+    public void registerEventListeners() {
+        circuitBreakerRegistry.getAllCircuitBreakers().forEach(this::registerListener);
+        circuitBreakerRegistry.getEventPublisher()
+                .onEntryAdded(event -> registerListener(event.getAddedEntry()));
+    }
+
+    private void registerListener(CircuitBreaker circuitBreaker) {
+        String name = circuitBreaker.getName();
+        if (!JOBPOSTING_SERVICE.equals(name) && !USER_SERVICE.equals(name)) {
+            return;
+        }
+        circuitBreaker.getEventPublisher().onStateTransition(event -> {
+            CircuitBreaker.State to = event.getStateTransition().getToState();
+            int limit;
+            if (to == CircuitBreaker.State.HALF_OPEN) {
+                limit = circuitBreaker.getCircuitBreakerConfig().getPermittedNumberOfCallsInHalfOpenState();
+            } else if (to == CircuitBreaker.State.CLOSED) {
+                limit = Integer.MAX_VALUE;
+            } else {
+                return;
+            }
+            // 상태 전이 이벤트는 호출 스레드에서 발생하므로 별도 스레드에서 재검증
+            Thread.ofVirtual().name("stale-revalidate-" + name).start(() -> revalidate(name, limit));
+        });
+    }
+
+    private void revalidate(String name, int limit) {
+        try {
+            int revalidated = JOBPOSTING_SERVICE.equals(name) ? revalidateJobpostings(limit) : revalidateNicknames(limit);
+            if (revalidated > 0) {
+                log.info("[StaleRevalidator] {} 재검증 완료: {}건", name, revalidated);
+            }
+        } catch (Exception e) {
+            log.warn("[StaleRevalidator] {} 재검증 실패: {}", name, e.getMessage());
+        }
+    }
+
+    private int revalidateJobpostings(int limit) {
+        int revalidated = 0;
+        for (Long jobpostingId : jobpostingClient.drainStaleReads(limit)) {
+            try (StaleResponses.Recorder stale = StaleResponses.open()) {
+                JobpostingClient.JobpostingResponse jobposting = jobpostingClient.read(jobpostingId);
+                if (jobposting != null && !stale.isStale()) {
+                    documentStore.backfill(JobpostingDocument.from(jobposting));
+                    revalidated++;
+                }
+            }
+        }
+        for (JobpostingClient.PageKey key : jobpostingClient.drainStalePages(Math.max(limit - revalidated, 0))) {
+            try (StaleResponses.Recorder stale = StaleResponses.open()) {
+                jobpostingClient.readAll(key.boardId(), key.page(), key.pageSize());
+                if (!stale.isStale()) {
+                    revalidated++;
+                }
+            }
+        }
+        return revalidated;
+    }
+
+    private int revalidateNicknames(int limit) {
+        int revalidated = 0;
+        for (int call = 0; call < limit; call++) {
+            List<Long> userIds = userClient.drainStaleNicknames(NICKNAME_BATCH_SIZE);
+            if (userIds.isEmpty()) {
+                break;
+            }
+            try (StaleResponses.Recorder stale = StaleResponses.open()) {
+                Map<Long, String> nicknames = userClient.getNicknames(userIds);
+                if (stale.isStale()) {
+                    break;
+                }
+                nicknames.forEach((userId, nickname) -> {
+                    userProfileCache.update(userId, nickname);
+                    documentStore.updateNickname(userId, nickname);
+                });
+                revalidated += nicknames.size();
+            }
+        }
+        return revalidated;
+    }
+}
@@ -0,0 +1,93 @@
+package halo.corebridge.jobpostingread.warmup;
+
+import halo.corebridge.common.warmup.WarmUp;
+import halo.corebridge.common.warmup.WarmUpHealthIndicator;
+import halo.corebridge.jobpostingread.readmodel.JobpostingReadModelLoader;
+import halo.corebridge.jobpostingread.service.JobpostingReadService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * jobposting-read 시작 예열
+ *
+ * 애플리케이션 준비 후 비동기로
+ * 1) 읽기 모델 적재/consumer 시작/문서 보충 (JobpostingReadModelLoader)
+ * 2) 조회수 상위 공고 단건 조회 + 게시판별 앞쪽 페이지 조회를 병렬로 실행
+ *    → 통계 캐시 적재 정책, 닉네임 캐시, 앞쪽 페이지 ID 캐시가 채워진 상태로 트래픽을 받습니다.
+ * 완료 전까지 readiness는 OUT_OF_SERVICE입니다. (WarmUpHealthIndicator)
+ */
+@Slf4j
+@Component
+public class JobpostingReadWarmUp {
+
+    private final JobpostingReadModelLoader loader;
+    private final JobpostingReadService jobpostingReadService;
+    private final WarmUp warmUp;
+    private final int topViewedItems;
+    private final List<Long> boardIds;
+    private final long pages;
+    private final long pageSize;
+
+    public JobpostingReadWarmUp(JobpostingReadModelLoader loader,
+                                JobpostingReadService jobpostingReadService,
+                                @Value("${read.warm-up.concurrency:4}") int concurrency,
+                                @Value("${read.warm-up.timeout-seconds:60}") long timeoutSeconds,
+                                @Value("${read.warm-up.top-viewed-items:100}") int topViewedItems,
+                                @Value("${read.warm-up.board-ids:1,2,3,4,5}") List<Long> boardIds,
+                                @Value("${read.warm-up.pages:3}") long pages,
+                                @Value("${read.warm-up.page-size:10}") long pageSize) {
+        this.loader = loader;
+        this.jobpostingReadService = jobpostingReadService;
+        this.warmUp = new WarmUp("jobposting-read-warm-up", concurrency, Duration.ofSeconds(timeoutSeconds));
+        this.topViewedItems = topViewedItems;
+        this.boardIds = boardIds;
+        this.pages = pages;
+        this.pageSize = pageSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onReady() {
+        AtomicReference<List<Long>> topViewed = new AtomicReference<>(List.of());
+        warmUp.start(
+                () -> topViewed.set(loader.run(topViewedItems)),
+                () -> tasks(topViewed.get())
+        );
+    }
+
+    public WarmUp getWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * readiness 그룹의 warmUp 항목
+     */
+    @Bean
+    public WarmUpHealthIndicator warmUpHealthIndicator() {
+        return new WarmUpHealthIndicator(warmUp);
+    }
+
+    private List<Runnable> tasks(List<Long> topViewed) {
+        List<Runnable> tasks = new ArrayList<>();
+        for (Long boardId : boardIds) {
+            for (long page = 1; page <= pages; page++) {
+                long current = page;
+                tasks.add(() -> jobpostingReadService.readAll(boardId, current, pageSize));
+            }
+        }
+        for (Long jobpostingId : topViewed) {
+            tasks.add(() -> jobpostingReadService.read(jobpostingId));
+        }
+        log.info("[ReadWarmUp] 예열 작업: 게시판 페이지 {}건, 조회수 상위 공고 {}건",
+                boardIds.size() * pages, topViewed.size());
+        return tasks;
+    }
+}
@@ -0,0 +1,46 @@
+package halo.corebridge.jobpostingread.client;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@DisplayName("ViewClient 테스트")
+class ViewClientTest {
+
+    private final RestTemplate restTemplate = mock(RestTemplate.class);
+    private final ViewClient viewClient = new ViewClient(restTemplate);
+
+    @Test
+    @DisplayName("성공: 일괄 조회는 서비스 한도(100건)씩 나눠 요청하고 결과를 합친다")
+    void counts_splitsIntoBulkLimit() {
+        // given
+        ReflectionTestUtils.setField(viewClient, "viewServiceUrl", "http://view");
+        List<Long> jobpostingIds = LongStream.rangeClosed(1, 250).boxed().toList();
+        ViewClient.CountsResponse first = new ViewClient.CountsResponse();
+        first.setResult(Map.of(1L, 5L));
+        ViewClient.CountsResponse last = new ViewClient.CountsResponse();
+        last.setResult(Map.of(250L, 7L));
+        given(restTemplate.getForObject(anyString(), eq(ViewClient.CountsResponse.class)))
+                .willReturn(first, new ViewClient.CountsResponse(), last);
+
+        // when
+        Map<Long, Long> counts = viewClient.counts(jobpostingIds);
+
+        // then
+        assertThat(counts).containsEntry(1L, 5L).containsEntry(250L, 7L);
+        verify(restTemplate, times(3)).getForObject(anyString(), eq(ViewClient.CountsResponse.class));
+    }
+}
@@ -2,6 +2,8 @@ package halo.corebridge.jobpostingread.controller;
 
 import halo.corebridge.common.audit.filter.AuditLoggingFilter;
 import halo.corebridge.common.security.GatewayAuthenticationFilter;
+import halo.corebridge.common.web.VersionStamps;
+import halo.corebridge.jobpostingread.client.StaleResponses;
 import halo.corebridge.jobpostingread.config.SecurityConfig;
 import halo.corebridge.jobpostingread.model.dto.JobpostingReadDto;
 import halo.corebridge.jobpostingread.service.JobpostingReadService;
@@ -14,14 +16,18 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.context.TestPropertySource;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -93,6 +99,52 @@ class JobpostingReadControllerTest {
             mockMvc.perform(get("/api/v1/jobposting-read/999"))
                     .andExpect(status().isInternalServerError());
         }
+
+        @Test
+        @DisplayName("성공: ETag가 현재 버전과 같으면 본문 조회 없이 304를 응답한다")
+        void read_matchingEtag_notModified() throws Exception {
+            // given
+            given(jobpostingReadService.version(1L)).willReturn(1_700_000_000_000L);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/jobposting-read/1")
+                            .header(HttpHeaders.IF_NONE_MATCH, VersionStamps.etag(1_700_000_000_000L)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, VersionStamps.etag(1_700_000_000_000L)));
+            verify(jobpostingReadService, never()).read(1L);
+        }
+
+        @Test
+        @DisplayName("성공: 버전이 바뀌었으면 새 ETag와 함께 본문을 응답한다")
+        void read_staleEtag_returnsBody() throws Exception {
+            // given
+            given(jobpostingReadService.version(1L)).willReturn(1_700_000_000_001L);
+            given(jobpostingReadService.read(1L)).willReturn(createTestResponse());
+
+            // when & then
+            mockMvc.perform(get("/api/v1/jobposting-read/1")
+                            .header(HttpHeaders.IF_NONE_MATCH, VersionStamps.etag(1_700_000_000_000L)))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.ETAG, VersionStamps.etag(1_700_000_000_001L)))
+                    .andExpect(jsonPath("$.result.jobpostingId").value(1));
+        }
+
+        @Test
+        @DisplayName("성공: 마지막 정상 응답으로 조회했으면 Age/Warning 헤더를 붙인다")
+        void read_staleFallback_addsStalenessHeaders() throws Exception {
+            // given
+            given(jobpostingReadService.read(1L)).willAnswer(invocation -> {
+                StaleResponses.record(Duration.ofSeconds(42));
+                return createTestResponse();
+            });
+
+            // when & then
+            mockMvc.perform(get("/api/v1/jobposting-read/1"))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string(HttpHeaders.AGE, "42"))
+                    .andExpect(header().exists(HttpHeaders.WARNING))
+                    .andExpect(jsonPath("$.result.jobpostingId").value(1));
+        }
     }
 
     @Nested
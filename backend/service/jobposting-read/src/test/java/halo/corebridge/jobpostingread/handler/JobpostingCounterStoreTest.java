@@ -0,0 +1,201 @@
+package halo.corebridge.jobpostingread.handler;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static halo.corebridge.jobpostingread.handler.JobpostingCounterStore.ABSENT;
+import static halo.corebridge.jobpostingread.handler.JobpostingCounterStore.COMMENT;
+import static halo.corebridge.jobpostingread.handler.JobpostingCounterStore.LIKE;
+import static halo.corebridge.jobpostingread.handler.JobpostingCounterStore.VIEW;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DisplayName("JobpostingCounterStore 테스트")
+class JobpostingCounterStoreTest {
+
+    @Test
+    @DisplayName("성공: 필드별로 값을 저장하고 없는 값은 ABSENT를 반환한다")
+    void set_storesFieldsIndependently() {
+        // given
+        JobpostingCounterStore store = new JobpostingCounterStore(16);
+
+        // when
+        store.set(1L, VIEW, 10L);
+        store.set(1L, LIKE, 3L);
+
+        // then
+        assertThat(store.get(1L, VIEW)).isEqualTo(10L);
+        assertThat(store.get(1L, LIKE)).isEqualTo(3L);
+        assertThat(store.get(1L, COMMENT)).isEqualTo(ABSENT);
+        assertThat(store.get(2L, VIEW)).isEqualTo(ABSENT);
+    }
+
+    @Test
+    @DisplayName("성공: 증감은 0에서 시작하고 0 미만으로 내려가지 않는다")
+    void add_floorsAtZero() {
+        // given
+        JobpostingCounterStore store = new JobpostingCounterStore(16);
+
+        // when
+        store.add(1L, COMMENT, -1L);
+        store.add(2L, COMMENT, 1L);
+        store.add(2L, COMMENT, 1L);
+
+        // then
+        assertThat(store.get(1L, COMMENT)).isZero();
+        assertThat(store.get(2L, COMMENT)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("성공: 삭제하면 같은 탐색 경로의 다른 키는 그대로 조회된다")
+    void remove_keepsOtherKeysReachable() {
+        // given
+        JobpostingCounterStore store = new JobpostingCounterStore(64);
+        for (long id = 1; id <= 48; id++) {
+            store.set(id, VIEW, id);
+        }
+
+        // when
+        for (long id = 1; id <= 48; id += 2) {
+            store.remove(id);
+        }
+
+        // then
+        for (long id = 1; id <= 48; id++) {
+            assertThat(store.get(id, VIEW)).isEqualTo(id % 2 == 0 ? id : ABSENT);
+        }
+        assertThat(store.size()).isEqualTo(24);
+    }
+
+    @Test
+    @DisplayName("성공: 가득 차면 갱신은 빈도가 가장 낮은 항목을 축출하고 보관된다")
+    void set_full_evictsLeastFrequent() {
+        // given
+        JobpostingCounterStore store = new JobpostingCounterStore(2);
+        store.set(1L, VIEW, 1L);
+        store.set(2L, VIEW, 2L);
+        for (int i = 0; i < 5; i++) {
+            store.get(1L, VIEW);
+        }
+
+        // when
+        boolean stored = store.set(3L, VIEW, 3L);
+
+        // then
+        assertThat(stored).isTrue();
+        assertThat(store.get(1L, VIEW)).isEqualTo(1L);
+        assertThat(store.get(2L, VIEW)).isEqualTo(ABSENT);
+        assertThat(store.get(3L, VIEW)).isEqualTo(3L);
+        assertThat(store.evictionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 축출할 항목이 없으면 갱신을 버리지 않고 테이블을 늘려 보관한다")
+    void set_noEvictable_growsTable() {
+        // given
+        JobpostingCounterStore store = new JobpostingCounterStore(4, jobpostingId -> false);
+        int initialCapacity = store.capacity();
+
+        // when
+        for (long id = 1; id <= 20; id++) {
+            assertThat(store.set(id, VIEW, id)).isTrue();
+        }
+
+        // then
+        assertThat(store.size()).isEqualTo(20);
+        assertThat(store.capacity()).isGreaterThan(initialCapacity);
+        assertThat(store.growCount()).isPositive();
+        for (long id = 1; id <= 20; id++) {
+            assertThat(store.peek(id, VIEW)).isEqualTo(id);
+        }
+    }
+
+    @Test
+    @DisplayName("성공: 가득 차면 적재는 희생자보다 자주 쓰인 키만 받아들인다")
+    void setIfAbsent_full_admitsOnlyFrequentKeys() {
+        // given
+        JobpostingCounterStore store = new JobpostingCounterStore(1);
+        store.set(1L, VIEW, 1L);
+        store.get(1L, VIEW);
+
+        // when
+        boolean coldAdmitted = store.setIfAbsent(2L, VIEW, 2L);
+        for (int i = 0; i < 5; i++) {
+            store.get(3L, VIEW);
+        }
+        boolean hotAdmitted = store.setIfAbsent(3L, VIEW, 3L);
+
+        // then
+        assertThat(coldAdmitted).isFalse();
+        assertThat(hotAdmitted).isTrue();
+        assertThat(store.get(1L, VIEW)).isEqualTo(ABSENT);
+        assertThat(store.get(3L, VIEW)).isEqualTo(3L);
+        assertThat(store.rejectionCount()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("성공: 조회 적중률을 집계한다")
+    void get_recordsHitRatio() {
+        // given
+        JobpostingCounterStore store = new JobpostingCounterStore(16);
+        store.set(1L, VIEW, 1L);
+
+        // when
+        store.get(1L, VIEW);
+        store.get(1L, VIEW);
+        store.get(1L, VIEW);
+        store.get(2L, VIEW);
+
+        // then
+        assertThat(store.hitCount()).isEqualTo(3L);
+        assertThat(store.missCount()).isEqualTo(1L);
+        assertThat(store.hitRatio()).isEqualTo(0.75);
+    }
+
+    @Test
+    @DisplayName("실패: 0은 키로 사용할 수 없다")
+    void set_zeroKey_throws() {
+        // given
+        JobpostingCounterStore store = new JobpostingCounterStore(16);
+
+        // when & then
+        assertThatThrownBy(() -> store.set(0L, VIEW, 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("성공: 동시 증가도 유실 없이 반영된다")
+    void add_concurrent_noLostUpdates() throws Exception {
+        // given
+        JobpostingCounterStore store = new JobpostingCounterStore(1024);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int t = 0; t < 8; t++) {
+            futures.add(executor.submit(() -> {
+                for (long id = 1; id <= 100; id++) {
+                    for (int i = 0; i < 10; i++) {
+                        store.add(id, COMMENT, 1L);
+                    }
+                }
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        for (long id = 1; id <= 100; id++) {
+            assertThat(store.get(id, COMMENT)).isEqualTo(80L);
+        }
+        assertThat(store.size()).isEqualTo(100);
+    }
+}
@@ -0,0 +1,186 @@
+package halo.corebridge.jobpostingread.handler;
+
+import halo.corebridge.jobpostingread.model.entity.JobpostingReadModel;
+import halo.corebridge.jobpostingread.repository.JobpostingReadModelRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@DisplayName("JobpostingReadCache 테스트")
+class JobpostingReadCacheTest {
+
+    private final JobpostingReadModelRepository readModelRepository = mock(JobpostingReadModelRepository.class);
+    private final JobpostingReadCache readCache = new JobpostingReadCache(1024, readModelRepository);
+
+    @Test
+    @DisplayName("성공: 이벤트로 변경된 ID만 한 번씩 꺼낸다")
+    void drainDirtyIds_returnsChangedIdsOnce() {
+        // given
+        readCache.updateViewCount(1L, 10L);
+        readCache.updateLikeCount(1L, 3L);
+        readCache.incrementCommentCount(2L);
+
+        // when
+        List<Long> first = readCache.drainDirtyIds(100);
+        List<Long> second = readCache.drainDirtyIds(100);
+
+        // then
+        assertThat(first).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(second).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 적재 값은 이벤트로 갱신된 값을 덮어쓰지 않고 dirty로 표시되지 않는다")
+    void restore_doesNotOverrideEventValue() {
+        // given
+        readCache.updateViewCount(1L, 50L);
+        readCache.drainDirtyIds(100);
+
+        // when
+        readCache.restore(1L, 10L, 2L, null);
+
+        // then
+        assertThat(readCache.getViewCount(1L)).isEqualTo(50L);
+        assertThat(readCache.getLikeCount(1L)).isEqualTo(2L);
+        assertThat(readCache.getCommentCount(1L)).isNull();
+        assertThat(readCache.drainDirtyIds(100)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("성공: 삭제된 공고는 삭제 대기로 이동한다")
+    void removeJobposting_movesToRemoved() {
+        // given
+        readCache.updateViewCount(1L, 10L);
+
+        // when
+        readCache.removeJobposting(1L);
+
+        // then
+        assertThat(readCache.drainDirtyIds(100)).isEmpty();
+        assertThat(readCache.drainRemovedIds(100)).containsExactly(1L);
+        assertThat(readCache.getViewCount(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 캐시에 없는 댓글 수는 DB를 조회하지 않고 증감만 모아 기록기에 넘긴다")
+    void incrementCommentCount_notCached_defersDeltaToWriter() {
+        // when
+        readCache.incrementCommentCount(1L);
+        readCache.incrementCommentCount(1L);
+        readCache.decrementCommentCount(1L);
+
+        // then
+        verifyNoInteractions(readModelRepository);
+        assertThat(readCache.getCommentCount(1L)).isNull();
+        assertThat(readCache.drainDirtyIds(100)).containsExactly(1L);
+        assertThat(readCache.takeCommentDelta(1L)).isEqualTo(1L);
+        assertThat(readCache.takeCommentDelta(1L)).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 증감을 기록하는 동안이나 기록 전에 읽은 영속 사본의 댓글 수는 적재하지 않고, 실패하면 증감을 되돌린다")
+    void restore_skipsCommentWhileDeltaInFlight() {
+        // given
+        readCache.incrementCommentCount(1L);
+        long versionBeforeRead = readCache.getPersistedVersion();
+        Long delta = readCache.takeCommentDelta(1L);
+
+        // when
+        readCache.restore(1L, null, null, 5L, versionBeforeRead);
+        readCache.commentDeltasFlushed(Map.of(1L, delta), false);
+        readCache.restore(1L, null, null, 5L, versionBeforeRead);
+
+        // then
+        assertThat(readCache.getCommentCount(1L)).isNull();
+        assertThat(readCache.takeCommentDelta(1L)).isEqualTo(1L);
+        readCache.commentDeltasFlushed(Map.of(1L, 1L), true);
+        readCache.restore(1L, null, null, 6L, readCache.getPersistedVersion());
+        assertThat(readCache.getCommentCount(1L)).isEqualTo(6L);
+    }
+
+    @Test
+    @DisplayName("성공: 캐시에 없는 통계는 영속 사본에서 채우고 캐시에 적재한다")
+    void getCounts_missing_loadsPersisted() {
+        // given
+        readCache.updateViewCount(1L, 10L);
+        JobpostingReadModel model = mock(JobpostingReadModel.class);
+        given(model.getJobpostingId()).willReturn(1L);
+        given(model.getViewCount()).willReturn(3L);
+        given(model.getLikeCount()).willReturn(2L);
+        given(model.getCommentCount()).willReturn(1L);
+        given(readModelRepository.findAllById(List.of(1L))).willReturn(List.of(model));
+
+        // when
+        JobpostingCounts counts = readCache.getCounts(List.of(1L)).get(1L);
+
+        // then
+        assertThat(counts).isEqualTo(new JobpostingCounts(10L, 2L, 1L));
+        assertThat(readCache.getLikeCount(1L)).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("성공: 영속화 대기 중인 공고는 가득 차도 축출되지 않는다")
+    void dirtyEntries_areNotEvicted() {
+        // given
+        JobpostingReadCache smallCache = new JobpostingReadCache(2, readModelRepository);
+        smallCache.updateViewCount(1L, 1L);
+        smallCache.updateViewCount(2L, 2L);
+
+        // when
+        smallCache.updateViewCount(3L, 3L);
+
+        // then
+        assertThat(smallCache.getViewCount(1L)).isEqualTo(1L);
+        assertThat(smallCache.getViewCount(2L)).isEqualTo(2L);
+        assertThat(smallCache.getViewCount(3L)).isEqualTo(3L);
+        assertThat(smallCache.getEvictionCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("성공: 축출된 공고의 통계 버전은 지워지고, 다음 버전은 이전 버전보다 크다")
+    void evictedEntries_dropVersionStamps() {
+        // given
+        JobpostingReadCache smallCache = new JobpostingReadCache(2, readModelRepository);
+        Map<Long, Long> issued = new HashMap<>();
+
+        // when
+        for (long jobpostingId = 1; jobpostingId <= 50; jobpostingId++) {
+            smallCache.updateViewCount(jobpostingId, jobpostingId);
+            issued.put(jobpostingId, smallCache.getVersion(jobpostingId));
+            smallCache.flushed(smallCache.drainDirtyIds(10));
+        }
+
+        // then
+        assertThat(smallCache.getEvictionCount()).isPositive();
+        assertThat(smallCache.getVersionCount()).isLessThanOrEqualTo(smallCache.getSize());
+        issued.forEach((jobpostingId, version) -> {
+            if (smallCache.peek(jobpostingId).viewCount() == null) {
+                assertThat(smallCache.getVersion(jobpostingId)).isGreaterThan(version);
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("성공: 캐시에 없는 공고의 댓글 증감이 기록되면 통계 버전을 보관하지 않는다")
+    void writtenCommentDelta_dropsVersionStamp() {
+        // given
+        readCache.incrementCommentCount(1L);
+        long versionAfterEvent = readCache.getVersion(1L);
+        Long delta = readCache.takeCommentDelta(1L);
+
+        // when
+        readCache.commentDeltasFlushed(Map.of(1L, delta), true);
+
+        // then
+        assertThat(readCache.getVersionCount()).isZero();
+        assertThat(readCache.getVersion(1L)).isGreaterThan(versionAfterEvent);
+    }
+}
@@ -0,0 +1,133 @@
+package halo.corebridge.jobpostingread.readmodel;
+
+import halo.corebridge.jobpostingread.handler.JobpostingReadCache;
+import halo.corebridge.jobpostingread.repository.JobpostingReadModelRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+@DisplayName("JobpostingDocumentStore 테스트")
+class JobpostingDocumentStoreTest {
+
+    private final JobpostingReadCache readCache = new JobpostingReadCache(1024, mock(JobpostingReadModelRepository.class));
+    private final JobpostingDocumentStore documentStore = new JobpostingDocumentStore(readCache, 300, 3);
+
+    @Test
+    @DisplayName("성공: 최대 문서 수를 넘으면 가장 오래된 공고부터 축출하고 게시판 인덱스에서도 뺀다")
+    void put_overCapacity_evictsOldest() {
+        // when
+        for (long jobpostingId = 1; jobpostingId <= 4; jobpostingId++) {
+            documentStore.put(document(jobpostingId, 2L));
+        }
+
+        // then
+        assertThat(documentStore.size()).isEqualTo(3);
+        assertThat(documentStore.get(1L)).isNull();
+        assertThat(documentStore.page(2L, 1L, 10L))
+                .extracting(JobpostingDocument::jobpostingId)
+                .containsExactly(4L, 3L, 2L);
+        assertThat(documentStore.count(2L, 10L)).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("성공: 축출 후에는 남은 문서로 채울 수 있는 범위만 로컬 인덱스로 응답한다")
+    void covers_afterEviction_onlyFullRange() {
+        // given
+        documentStore.put(document(1L, 2L));
+        documentStore.put(document(2L, 2L));
+        documentStore.markReady();
+        assertThat(documentStore.covers(2L, 10L)).isTrue();
+
+        // when
+        documentStore.put(document(3L, 3L));
+        documentStore.put(document(4L, 3L));
+
+        // then
+        assertThat(documentStore.covers(1L, 3L)).isTrue();
+        assertThat(documentStore.covers(1L, 4L)).isFalse();
+        assertThat(documentStore.covers(2L, 2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("성공: 용량이 찬 상태에서 축출 범위의 공고는 보충하지 않는다")
+    void backfill_evictedRange_ignored() {
+        // given
+        for (long jobpostingId = 1; jobpostingId <= 4; jobpostingId++) {
+            documentStore.put(document(jobpostingId, 2L));
+        }
+
+        // when
+        documentStore.backfill(document(1L, 2L));
+
+        // then
+        assertThat(documentStore.get(1L)).isNull();
+        assertThat(documentStore.size()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("성공: 인덱스에 없는 게시판 요청은 빈 목록을 돌려주고 페이지 캐시를 늘리지 않는다")
+    void page_unknownBoard_doesNotGrowPageCache() {
+        // given
+        documentStore.put(document(1L, 2L));
+
+        // when
+        for (long boardId = 100; boardId < 200; boardId++) {
+            assertThat(documentStore.page(boardId, 1L, 10L)).isEmpty();
+        }
+        documentStore.page(2L, 1L, 10L);
+
+        // then
+        assertThat(documentStore.getPageCacheSize()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("성공: 닉네임이 바뀌면 작성자 인덱스로 해당 사용자의 문서만 dirty로 표시한다")
+    void updateNickname_marksOnlyUsersDocuments() {
+        // given
+        documentStore.put(document(1L, 2L, 100L));
+        documentStore.put(document(2L, 2L, 200L));
+        documentStore.put(document(3L, 3L, 100L));
+        readCache.drainDirtyIds(100);
+
+        // when
+        documentStore.updateNickname(100L, "새닉네임");
+
+        // then
+        assertThat(readCache.drainDirtyIds(100)).containsExactlyInAnyOrder(1L, 3L);
+    }
+
+    @Test
+    @DisplayName("성공: 삭제/축출/작성자 변경된 공고는 작성자 인덱스에서 빠지고, 빈 작성자는 제거된다")
+    void userIndex_followsRemovalAndEviction() {
+        // given
+        documentStore.put(document(1L, 2L, 100L));
+        documentStore.put(document(2L, 2L, 200L));
+        documentStore.put(document(3L, 2L, 300L));
+
+        // when - 삭제, 작성자 변경, 축출(4번 추가로 가장 오래된 1번)
+        documentStore.remove(2L);
+        documentStore.put(document(3L, 2L, 400L));
+        documentStore.put(document(4L, 2L, 500L));
+        documentStore.put(document(5L, 2L, 500L));
+        readCache.drainDirtyIds(100);
+
+        // then
+        assertThat(documentStore.getUserIndexSize()).isEqualTo(2);
+        assertThat(documentStore.findUserIdsWithoutNickname()).containsExactlyInAnyOrder(400L, 500L);
+        documentStore.updateNickname(100L, "닉네임");
+        assertThat(readCache.drainDirtyIds(100)).isEmpty();
+    }
+
+    private JobpostingDocument document(Long jobpostingId, Long boardId) {
+        return document(jobpostingId, boardId, 100L);
+    }
+
+    private JobpostingDocument document(Long jobpostingId, Long boardId, Long userId) {
+        return new JobpostingDocument(jobpostingId, "공고 " + jobpostingId, "내용", boardId, userId,
+                null, null, LocalDateTime.now(), LocalDateTime.now());
+    }
+}
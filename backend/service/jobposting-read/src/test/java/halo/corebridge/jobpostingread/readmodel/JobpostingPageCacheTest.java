@@ -0,0 +1,83 @@
+package halo.corebridge.jobpostingread.readmodel;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JobpostingPageCache 테스트")
+class JobpostingPageCacheTest {
+
+    private final JobpostingPageCache pageCache = new JobpostingPageCache(4);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @DisplayName("성공: 앞쪽 페이지는 한 번 만든 head를 잘라서 응답한다")
+    void page_slicesSharedHead() {
+        // when
+        List<Long> first = pageCache.page(1L, 1L, 2L, maxItems -> load(false, 50L, 40L, 30L, 20L));
+        List<Long> second = pageCache.page(1L, 2L, 2L, maxItems -> load(false, 0L));
+
+        // then
+        assertThat(first).containsExactly(50L, 40L);
+        assertThat(second).containsExactly(30L, 20L);
+        assertThat(loads).hasValue(1);
+        assertThat(pageCache.page(1L, 3L, 2L, maxItems -> load(false))).isNull();
+    }
+
+    @Test
+    @DisplayName("성공: 생성은 head에 끼워 넣고 넘친 항목은 잘라내며, head 뒤쪽 공고는 무시한다")
+    void added_patchesHead() {
+        // given
+        pageCache.page(1L, 1L, 4L, maxItems -> load(false, 50L, 40L, 30L, 20L));
+
+        // when
+        pageCache.added(1L, 60L);
+        pageCache.added(1L, 10L);
+        pageCache.added(1L, 60L);
+
+        // then
+        assertThat(pageCache.page(1L, 1L, 4L, maxItems -> load(false))).containsExactly(60L, 50L, 40L, 30L);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("성공: 삭제로 head가 요청 범위보다 짧아지면 인덱스에서 다시 만든다")
+    void removed_shortHead_reloads() {
+        // given
+        pageCache.page(1L, 1L, 4L, maxItems -> load(false, 50L, 40L, 30L, 20L));
+
+        // when
+        pageCache.removed(1L, 40L);
+        List<Long> firstPage = pageCache.page(1L, 1L, 2L, maxItems -> load(false));
+        List<Long> fullPage = pageCache.page(1L, 1L, 4L, maxItems -> load(false, 50L, 30L, 20L, 15L));
+
+        // then
+        assertThat(firstPage).containsExactly(50L, 30L);
+        assertThat(fullPage).containsExactly(50L, 30L, 20L, 15L);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @DisplayName("성공: 게시판 전체가 담긴 head는 삭제 후에도 다시 만들지 않는다")
+    void completeHead_servesWithoutReload() {
+        // given
+        pageCache.page(2L, 1L, 4L, maxItems -> load(true, 50L, 40L));
+
+        // when
+        pageCache.removed(2L, 50L);
+        pageCache.added(2L, 5L);
+
+        // then
+        assertThat(pageCache.page(2L, 1L, 4L, maxItems -> load(true))).containsExactly(40L, 5L);
+        assertThat(loads).hasValue(1);
+    }
+
+    private JobpostingPageCache.Head load(boolean complete, long... ids) {
+        loads.incrementAndGet();
+        return new JobpostingPageCache.Head(ids, complete);
+    }
+}
@@ -0,0 +1,88 @@
+package halo.corebridge.jobpostingread.readmodel;
+
+import halo.corebridge.common.cache.UserProfileCache;
+import halo.corebridge.jobpostingread.client.JobpostingClient;
+import halo.corebridge.jobpostingread.consumer.JobpostingReadEventConsumer;
+import halo.corebridge.jobpostingread.handler.JobpostingReadCache;
+import halo.corebridge.jobpostingread.model.entity.JobpostingReadModelRebuild;
+import halo.corebridge.jobpostingread.repository.JobpostingReadModelRebuildRepository;
+import halo.corebridge.jobpostingread.repository.JobpostingReadModelRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.kafka.config.KafkaListenerEndpointRegistry;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JobpostingReadModelLoader 테스트")
+class JobpostingReadModelLoaderTest {
+
+    @Mock
+    private JobpostingReadCache readCache;
+    @Mock
+    private JobpostingDocumentStore documentStore;
+    @Mock
+    private JobpostingClient jobpostingClient;
+    @Mock
+    private UserProfileCache userProfileCache;
+    @Mock
+    private JobpostingReadModelRepository readModelRepository;
+    @Mock
+    private JobpostingReadModelRebuildRepository rebuildRepository;
+    @Mock
+    private JobpostingReadEventConsumer eventConsumer;
+    @Mock
+    private KafkaListenerEndpointRegistry kafkaListenerEndpointRegistry;
+
+    private JobpostingReadModelLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new JobpostingReadModelLoader(readCache, documentStore, jobpostingClient, userProfileCache,
+                readModelRepository, rebuildRepository, eventConsumer, kafkaListenerEndpointRegistry,
+                new SimpleMeterRegistry());
+        ReflectionTestUtils.setField(loader, "rebuildId", "2026-10-19");
+    }
+
+    @Test
+    @DisplayName("성공: 처음 보는 rebuild-id면 초기화 후 재구성을 기록하고 처음부터 재생한다")
+    void run_newRebuildId_resetsOnce() {
+        // given
+        given(rebuildRepository.existsById("2026-10-19")).willReturn(false);
+
+        // when
+        loader.run(10);
+
+        // then
+        verify(readModelRepository).deleteAllInBatch();
+        verify(rebuildRepository).save(any(JobpostingReadModelRebuild.class));
+        verify(eventConsumer).replayFromBeginning();
+    }
+
+    @Test
+    @DisplayName("성공: 이미 기록된 rebuild-id면 재시작해도 초기화하지 않고 테이블에서 적재한다")
+    void run_recordedRebuildId_loadsInstead() {
+        // given
+        given(rebuildRepository.existsById("2026-10-19")).willReturn(true);
+        given(readModelRepository.findByJobpostingIdGreaterThanOrderByJobpostingIdAsc(any(), any()))
+                .willReturn(List.of());
+
+        // when
+        loader.run(10);
+
+        // then
+        verify(readModelRepository, never()).deleteAllInBatch();
+        verify(eventConsumer, never()).replayFromBeginning();
+    }
+}
@@ -0,0 +1,61 @@
+package halo.corebridge.jobpostingread.service;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DisplayName("JobpostingReadFanOut 테스트")
+class JobpostingReadFanOutTest {
+
+    private final JobpostingReadFanOut fanOut = new JobpostingReadFanOut(Duration.ofMillis(100));
+
+    @AfterEach
+    void tearDown() {
+        fanOut.destroy();
+    }
+
+    @Test
+    @DisplayName("성공: deadline 안에 끝난 조회는 결과를 사용한다")
+    void join_completedBeforeDeadline_returnsResult() {
+        // given
+        JobpostingReadFanOut.Scope scope = fanOut.open();
+        CompletableFuture<Long> count = scope.fork(() -> 5L);
+
+        // when
+        scope.join();
+
+        // then
+        assertThat(JobpostingReadFanOut.resultOrDefault(count, 0L)).isEqualTo(5L);
+    }
+
+    @Test
+    @DisplayName("성공: deadline 초과 시 실행 중인 작업 스레드를 interrupt하고 기본값을 사용한다")
+    void join_deadlineExceeded_interruptsRunningTask() throws InterruptedException {
+        // given
+        CountDownLatch interrupted = new CountDownLatch(1);
+        JobpostingReadFanOut.Scope scope = fanOut.open();
+        CompletableFuture<Long> count = scope.fork(() -> {
+            try {
+                Thread.sleep(5_000);
+                return 5L;
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw new IllegalStateException(e);
+            }
+        });
+
+        // when
+        scope.join();
+
+        // then
+        assertThat(interrupted.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(JobpostingReadFanOut.resultOrDefault(count, 0L)).isEqualTo(0L);
+    }
+}
@@ -1,21 +1,33 @@
 package halo.corebridge.jobpostingread.service;
 
+import halo.corebridge.common.cache.UserProfileCache;
 import halo.corebridge.jobpostingread.client.*;
+import halo.corebridge.jobpostingread.handler.JobpostingCounts;
 import halo.corebridge.jobpostingread.model.dto.JobpostingReadDto;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocument;
+import halo.corebridge.jobpostingread.readmodel.JobpostingDocumentStore;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class JobpostingReadServiceTest {
@@ -29,17 +41,23 @@ class JobpostingReadServiceTest {
     @Mock
     private CommentClient commentClient;
     @Mock
-    private UserClient userClient;
+    private UserProfileCache userProfileCache;
     @Mock
     private halo.corebridge.jobpostingread.handler.JobpostingReadCache readCache;
 
-    @InjectMocks
+    private JobpostingDocumentStore documentStore;
     private JobpostingReadService jobpostingReadService;
 
     private JobpostingClient.JobpostingResponse mockJobposting;
 
     @BeforeEach
     void setUp() {
+        documentStore = new JobpostingDocumentStore(readCache, 300, 200000);
+        jobpostingReadService = new JobpostingReadService(
+                jobpostingClient, viewClient, likeClient, commentClient, userProfileCache, readCache, documentStore,
+                new JobpostingReadFanOut(Duration.ofMillis(300))
+        );
+
         mockJobposting = new JobpostingClient.JobpostingResponse();
         mockJobposting.setJobpostingId(1L);
         mockJobposting.setTitle("테스트 채용공고");
@@ -56,13 +74,10 @@ class JobpostingReadServiceTest {
         // given
         Long jobpostingId = 1L;
         given(jobpostingClient.read(jobpostingId)).willReturn(mockJobposting);
-        given(readCache.getViewCount(jobpostingId)).willReturn(null);
-        given(readCache.getLikeCount(jobpostingId)).willReturn(null);
-        given(readCache.getCommentCount(jobpostingId)).willReturn(null);
         given(viewClient.count(jobpostingId)).willReturn(100L);
         given(likeClient.count(jobpostingId)).willReturn(50L);
         given(commentClient.count(jobpostingId)).willReturn(10L);
-        given(userClient.getNickname(100L)).willReturn("테스터");
+        given(userProfileCache.getNickname(100L)).willReturn("테스터");
 
         // when
         JobpostingReadDto.Response response = jobpostingReadService.read(jobpostingId);
@@ -77,6 +92,50 @@ class JobpostingReadServiceTest {
         assertThat(response.getNickname()).isEqualTo("테스터");
     }
 
+    @Test
+    @DisplayName("단일 채용공고 조회 - 원격 조회 결과는 읽기 모델에 채운다")
+    void read_remoteResults_populateReadModel() {
+        // given
+        given(jobpostingClient.read(1L)).willReturn(mockJobposting);
+        given(viewClient.count(1L)).willReturn(100L);
+        given(likeClient.count(1L)).willReturn(null);
+        given(commentClient.count(1L)).willReturn(10L);
+        given(userProfileCache.getNickname(100L)).willReturn("테스터");
+
+        // when
+        JobpostingReadDto.Response response = jobpostingReadService.read(1L);
+
+        // then
+        assertThat(response.getLikeCount()).isEqualTo(0L);
+        verify(readCache).restore(1L, 100L, null, null);
+        verify(readCache).restore(1L, null, null, 10L);
+        verify(readCache, never()).restore(eq(1L), isNull(), any(), isNull());
+        assertThat(documentStore.getNickname(100L)).isEqualTo("테스터");
+    }
+
+    @Test
+    @DisplayName("단일 채용공고 조회 - 원본 장애로 받은 마지막 정상 응답은 읽기 모델에 채우지 않는다")
+    void read_staleFallback_notBackfilled() {
+        // given
+        given(jobpostingClient.read(1L)).willAnswer(invocation -> {
+            StaleResponses.record(Duration.ofSeconds(30));
+            return mockJobposting;
+        });
+
+        // when
+        JobpostingReadDto.Response response;
+        boolean stale;
+        try (StaleResponses.Recorder recorder = StaleResponses.open()) {
+            response = jobpostingReadService.read(1L);
+            stale = recorder.isStale();
+        }
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("테스트 채용공고");
+        assertThat(stale).isTrue();
+        assertThat(documentStore.get(1L)).isNull();
+    }
+
     @Test
     @DisplayName("단일 채용공고 조회 - 존재하지 않는 경우")
     void read_notFound() {
@@ -103,13 +162,10 @@ class JobpostingReadServiceTest {
         pageResponse.setJobpostingCount(1L);
 
         given(jobpostingClient.readAll(boardId, page, pageSize)).willReturn(pageResponse);
-        given(readCache.getViewCount(1L)).willReturn(null);
-        given(readCache.getLikeCount(1L)).willReturn(null);
-        given(readCache.getCommentCount(1L)).willReturn(null);
-        given(viewClient.count(1L)).willReturn(100L);
-        given(likeClient.count(1L)).willReturn(50L);
-        given(commentClient.count(1L)).willReturn(10L);
-        given(userClient.getNickname(100L)).willReturn("테스터");
+        given(viewClient.counts(List.of(1L))).willReturn(Map.of(1L, 100L));
+        given(likeClient.counts(List.of(1L))).willReturn(Map.of(1L, 50L));
+        given(commentClient.counts(List.of(1L))).willReturn(Map.of(1L, 10L));
+        given(userProfileCache.getNicknames(Set.of(100L))).willReturn(Map.of(100L, "테스터"));
 
         // when
         JobpostingReadDto.PageResponse response = jobpostingReadService.readAll(boardId, page, pageSize);
@@ -138,4 +194,128 @@ class JobpostingReadServiceTest {
         assertThat(response.getJobpostings()).isEmpty();
         assertThat(response.getJobpostingCount()).isEqualTo(0L);
     }
+
+    @Test
+    @DisplayName("채용공고 목록 조회 - 캐시에 있는 통계는 HTTP 호출 없이 사용")
+    void readAll_usesCachedCounts() {
+        // given
+        JobpostingClient.JobpostingPageResponse pageResponse = new JobpostingClient.JobpostingPageResponse();
+        pageResponse.setJobpostings(List.of(mockJobposting));
+        pageResponse.setJobpostingCount(1L);
+
+        given(jobpostingClient.readAll(1L, 1L, 10L)).willReturn(pageResponse);
+        given(readCache.getCounts(List.of(1L))).willReturn(Map.of(1L, new JobpostingCounts(7L, 3L, 2L)));
+        given(userProfileCache.getNicknames(Set.of(100L))).willReturn(Map.of(100L, "테스터"));
+
+        // when
+        JobpostingReadDto.PageResponse response = jobpostingReadService.readAll(1L, 1L, 10L);
+
+        // then
+        JobpostingReadDto.Response item = response.getJobpostings().get(0);
+        assertThat(item.getViewCount()).isEqualTo(7L);
+        assertThat(item.getLikeCount()).isEqualTo(3L);
+        assertThat(item.getCommentCount()).isEqualTo(2L);
+        verifyNoInteractions(viewClient, likeClient, commentClient);
+    }
+
+    @Test
+    @DisplayName("채용공고 목록 조회 - deadline을 넘긴 조회는 기본값으로 대체")
+    void readAll_slowDependency_fallsBackToDefault() {
+        // given
+        JobpostingClient.JobpostingPageResponse pageResponse = new JobpostingClient.JobpostingPageResponse();
+        pageResponse.setJobpostings(List.of(mockJobposting));
+        pageResponse.setJobpostingCount(1L);
+
+        given(jobpostingClient.readAll(1L, 1L, 10L)).willReturn(pageResponse);
+        given(viewClient.counts(List.of(1L))).willAnswer(invocation -> {
+            Thread.sleep(2000);
+            return Map.of(1L, 100L);
+        });
+        given(likeClient.counts(List.of(1L))).willReturn(Map.of(1L, 50L));
+        given(commentClient.counts(List.of(1L))).willReturn(Map.of(1L, 10L));
+        given(userProfileCache.getNicknames(Set.of(100L))).willReturn(Map.of(100L, "테스터"));
+
+        // when
+        long start = System.currentTimeMillis();
+        JobpostingReadDto.PageResponse response = jobpostingReadService.readAll(1L, 1L, 10L);
+        long elapsed = System.currentTimeMillis() - start;
+
+        // then
+        JobpostingReadDto.Response item = response.getJobpostings().get(0);
+        assertThat(elapsed).isLessThan(1500L);
+        assertThat(item.getViewCount()).isEqualTo(0L);
+        assertThat(item.getLikeCount()).isEqualTo(50L);
+        assertThat(item.getCommentCount()).isEqualTo(10L);
+        assertThat(item.getNickname()).isEqualTo("테스터");
+    }
+
+    @Test
+    @DisplayName("단일 채용공고 조회 - 읽기 모델에 모두 있으면 원격 호출 없이 응답")
+    void read_localDocument_noRemoteCalls() {
+        // given
+        documentStore.put(JobpostingDocument.from(mockJobposting));
+        documentStore.updateNickname(100L, "테스터");
+        given(readCache.getCounts(List.of(1L))).willReturn(Map.of(1L, new JobpostingCounts(7L, 3L, 2L)));
+
+        // when
+        JobpostingReadDto.Response response = jobpostingReadService.read(1L);
+
+        // then
+        assertThat(response.getTitle()).isEqualTo("테스트 채용공고");
+        assertThat(response.getNickname()).isEqualTo("테스터");
+        assertThat(response.getViewCount()).isEqualTo(7L);
+        verifyNoInteractions(jobpostingClient, viewClient, likeClient, commentClient, userProfileCache);
+    }
+
+    @Test
+    @DisplayName("채용공고 목록 조회 - 게시판 인덱스가 준비되면 로컬에서 최신순으로 조회")
+    void readAll_readyIndex_servedLocally() {
+        // given
+        documentStore.put(document(1L, 2L));
+        documentStore.put(document(2L, 2L));
+        documentStore.put(document(3L, 3L));
+        documentStore.updateNickname(100L, "테스터");
+        documentStore.markReady();
+        JobpostingCounts zero = new JobpostingCounts(0L, 0L, 0L);
+        given(readCache.getCounts(List.of(2L, 1L))).willReturn(Map.of(2L, zero, 1L, zero));
+        given(readCache.getCounts(List.of(3L, 2L))).willReturn(Map.of(3L, zero, 2L, zero));
+
+        // when
+        JobpostingReadDto.PageResponse board = jobpostingReadService.readAll(2L, 1L, 10L);
+        JobpostingReadDto.PageResponse all = jobpostingReadService.readAll(1L, 1L, 2L);
+
+        // then
+        assertThat(board.getJobpostings()).extracting(JobpostingReadDto.Response::getJobpostingId)
+                .containsExactly(2L, 1L);
+        assertThat(board.getJobpostingCount()).isEqualTo(2L);
+        assertThat(all.getJobpostings()).extracting(JobpostingReadDto.Response::getJobpostingId)
+                .containsExactly(3L, 2L);
+        verifyNoInteractions(jobpostingClient, viewClient, likeClient, commentClient, userProfileCache);
+    }
+
+    @Test
+    @DisplayName("조건부 GET 버전 - 읽기 모델에 모두 있을 때만 계산하고, 닉네임이 바뀌면 버전이 올라간다")
+    void version_localOnly_changesWithNickname() {
+        // given
+        documentStore.put(JobpostingDocument.from(mockJobposting));
+        documentStore.updateNickname(100L, "테스터");
+        given(readCache.peek(1L)).willReturn(new JobpostingCounts(7L, 3L, 2L));
+        Long before = jobpostingReadService.version(1L);
+
+        // when
+        documentStore.updateNickname(100L, "새닉네임");
+        Long after = jobpostingReadService.version(1L);
+        given(readCache.peek(1L)).willReturn(new JobpostingCounts(7L, null, 2L));
+
+        // then
+        assertThat(before).isNotNull();
+        assertThat(after).isGreaterThan(before);
+        assertThat(jobpostingReadService.version(1L)).isNull();
+        assertThat(jobpostingReadService.version(999L)).isNull();
+    }
+
+    private JobpostingDocument document(Long jobpostingId, Long boardId) {
+        return new JobpostingDocument(jobpostingId, "공고 " + jobpostingId, "내용", boardId, 100L,
+                null, null, LocalDateTime.now(), LocalDateTime.now());
+    }
 }
@@ -6,6 +6,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
+
 @RestController
 @RequiredArgsConstructor
 @RequestMapping("/api/v1/jobposting-views")
@@ -31,4 +34,12 @@ public class JobpostingViewController {
     public BaseResponse<Long> count(@PathVariable("jobpostingId") Long jobpostingId) {
         return BaseResponse.success(jobpostingViewService.count(jobpostingId));
     }
+
+    /**
+     * 조회수 일괄 조회 (인증 불필요, 최대 100개)
+     */
+    @GetMapping("/jobpostings/counts")
+    public BaseResponse<Map<Long, Long>> counts(@RequestParam("jobpostingIds") List<Long> jobpostingIds) {
+        return BaseResponse.success(jobpostingViewService.counts(jobpostingIds));
+    }
 }
@@ -8,9 +8,15 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
 @Service
 @RequiredArgsConstructor
 public class JobpostingViewService {
+
+    private static final int MAX_BULK_COUNT_SIZE = 100;
     
     private final JobpostingViewCountRepository jobpostingViewCountRepository;
     private final OutboxEventPublisher outboxEventPublisher;
@@ -55,4 +61,21 @@ public class JobpostingViewService {
                 .map(JobpostingViewCount::getViewCount)
                 .orElse(0L);
     }
+
+    /**
+     * 조회수 일괄 조회 (WHERE jobposting_id IN 단일 쿼리)
+     * - 레코드가 없는 채용공고는 0으로 채움
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Long> counts(List<Long> jobpostingIds) {
+        if (jobpostingIds.size() > MAX_BULK_COUNT_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 채용공고는 최대 " + MAX_BULK_COUNT_SIZE + "개입니다.");
+        }
+
+        Map<Long, Long> counts = new LinkedHashMap<>();
+        jobpostingIds.forEach(jobpostingId -> counts.put(jobpostingId, 0L));
+        jobpostingViewCountRepository.findAllById(counts.keySet())
+                .forEach(count -> counts.put(count.getJobpostingId(), count.getViewCount()));
+        return counts;
+    }
 }
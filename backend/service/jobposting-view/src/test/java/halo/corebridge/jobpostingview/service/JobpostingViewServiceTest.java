@@ -9,9 +9,13 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -96,4 +100,34 @@ class JobpostingViewServiceTest {
         // then
         assertThat(result).isEqualTo(0L);
     }
+
+    @Test
+    @DisplayName("성공: 조회수 일괄 조회 - 레코드 없는 채용공고는 0")
+    void counts_fillsMissingWithZero() {
+        // given
+        given(jobpostingViewCountRepository.findAllById(any()))
+                .willReturn(List.of(JobpostingViewCount.init(1L, 10L), JobpostingViewCount.init(3L, 30L)));
+
+        // when
+        Map<Long, Long> result = jobpostingViewService.counts(List.of(1L, 2L, 3L));
+
+        // then
+        assertThat(result).containsExactly(
+                Map.entry(1L, 10L),
+                Map.entry(2L, 0L),
+                Map.entry(3L, 30L)
+        );
+    }
+
+    @Test
+    @DisplayName("실패: 조회수 일괄 조회 - 최대 개수를 넘으면 예외 발생")
+    void counts_tooManyIds_throws() {
+        // given
+        List<Long> jobpostingIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+        // when & then
+        assertThatThrownBy(() -> jobpostingViewService.counts(jobpostingIds))
+                .isInstanceOf(IllegalArgumentException.class);
+        verify(jobpostingViewCountRepository, never()).findAllById(any());
+    }
 }
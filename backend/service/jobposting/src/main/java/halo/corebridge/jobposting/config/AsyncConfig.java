@@ -1,9 +1,9 @@
 package halo.corebridge.jobposting.config;
 
+import halo.corebridge.common.concurrent.TaskExecutorFactory;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
-import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.util.concurrent.Executor;
 
@@ -12,13 +12,7 @@ import java.util.concurrent.Executor;
 public class AsyncConfig {
 
     @Bean(name = "aiServiceExecutor")
-    public Executor aiServiceExecutor() {
-        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(3);
-        executor.setMaxPoolSize(5);
-        executor.setQueueCapacity(30);
-        executor.setThreadNamePrefix("ai-service-");
-        executor.initialize();
-        return executor;
+    public Executor aiServiceExecutor(TaskExecutorFactory taskExecutorFactory) {
+        return taskExecutorFactory.create("ai-service-", 3, 5, 30);
     }
 }
@@ -0,0 +1,66 @@
+package halo.corebridge.jobposting.consumer;
+
+import halo.corebridge.common.dataserializer.DataSerializer;
+import halo.corebridge.common.event.Event;
+import halo.corebridge.common.event.EventPayload;
+import halo.corebridge.common.event.EventType;
+import halo.corebridge.common.event.JobpostingDeletedEventPayload;
+import halo.corebridge.common.event.JobpostingUpdatedEventPayload;
+import halo.corebridge.jobposting.service.JobpostingVersions;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.TopicPartition;
+import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.ConsumerSeekAware;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 채용공고 버전 Consumer
+ *
+ * 자기 서비스가 발행한 JOBPOSTING_UPDATED/DELETED를 받아 버전 스탬프(JobpostingVersions)를 갱신합니다.
+ * 자기 인스턴스의 변경은 커밋 직후 이미 반영되므로, 다른 인스턴스에서 일어난 변경을 따라가기 위한 경로입니다.
+ * (자기 변경의 이벤트로 버전이 한 번 더 올라가도 조건부 GET이 한 번 더 200이 될 뿐입니다.)
+ * 버전은 인스턴스마다 있으므로 인스턴스마다 별도 consumer group으로 모든 이벤트를 받고,
+ * 시작 이전 이벤트는 재생하지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class JobpostingVersionConsumer implements ConsumerSeekAware {
+
+    private final JobpostingVersions jobpostingVersions;
+
+    @KafkaListener(
+            topics = "corebridge-jobposting",
+            groupId = "jobposting-version-${random.uuid}",
+            properties = "auto.offset.reset=latest"
+    )
+    public void consume(String message) {
+        Event<EventPayload> event = DataSerializer.deserialize(message, Event.class);
+        if (event == null) {
+            return;
+        }
+
+        if (event.getType() == EventType.JOBPOSTING_UPDATED) {
+            JobpostingUpdatedEventPayload payload =
+                    DataSerializer.deserialize(event.getPayload(), JobpostingUpdatedEventPayload.class);
+            if (payload != null) {
+                jobpostingVersions.touch(payload.getJobpostingId());
+            }
+        } else if (event.getType() == EventType.JOBPOSTING_DELETED) {
+            JobpostingDeletedEventPayload payload =
+                    DataSerializer.deserialize(event.getPayload(), JobpostingDeletedEventPayload.class);
+            if (payload != null) {
+                jobpostingVersions.remove(payload.getJobpostingId());
+            }
+        }
+    }
+
+    @Override
+    public void onPartitionsAssigned(Map<TopicPartition, Long> assignments, ConsumerSeekCallback callback) {
+        jobpostingVersions.subscribed();
+        log.info("[JobpostingVersionConsumer] 버전 스탬프 구독 시작: {}", assignments.keySet());
+    }
+}
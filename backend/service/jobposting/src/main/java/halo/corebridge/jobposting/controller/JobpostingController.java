@@ -1,12 +1,14 @@
 package halo.corebridge.jobposting.controller;
 
 import halo.corebridge.common.response.BaseResponse;
+import halo.corebridge.common.web.VersionStamps;
 import halo.corebridge.jobposting.model.dto.JobpostingDto;
 import halo.corebridge.jobposting.service.JobpostingService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequiredArgsConstructor
@@ -21,9 +23,14 @@ public class JobpostingController {
 
     /**
      * 채용공고 단건 조회
+     * ETag/Last-Modified를 붙이고, 변경이 없으면 DB 조회 없이 304
      */
     @GetMapping("/{jobpostingId}")
-    public BaseResponse<JobpostingDto.JobpostingResponse> read(@PathVariable Long jobpostingId) {
+    public BaseResponse<JobpostingDto.JobpostingResponse> read(@PathVariable Long jobpostingId, WebRequest webRequest) {
+        Long version = jobpostingService.version(jobpostingId);
+        if (version != null && VersionStamps.checkNotModified(webRequest, version)) {
+            return null;
+        }
         return BaseResponse.success(jobpostingService.read(jobpostingId));
     }
 
@@ -39,6 +46,17 @@ public class JobpostingController {
         return BaseResponse.success(jobpostingService.readAll(boardId, page, pageSize));
     }
 
+    /**
+     * 전체 채용공고 스크롤 조회 (모든 게시판, lastJobpostingId 이후 pageSize개)
+     */
+    @GetMapping("/scroll")
+    public BaseResponse<JobpostingDto.JobpostingListResponse> readAllScroll(
+            @RequestParam(value = "lastJobpostingId", required = false) Long lastJobpostingId,
+            @RequestParam("pageSize") Long pageSize
+    ) {
+        return BaseResponse.success(jobpostingService.readAllScroll(lastJobpostingId, pageSize));
+    }
+
     /**
      * 작성자별 채용공고 조회
      */
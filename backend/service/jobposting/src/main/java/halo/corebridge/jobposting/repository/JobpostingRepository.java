@@ -62,5 +62,32 @@ public interface JobpostingRepository extends JpaRepository<Jobposting, Long> {
     )
     Long countAll(@Param("limit") Long limit);
 
+    /**
+     * 전체 공고 keyset 스크롤 (jobposting_id 내림차순, OFFSET 없이 PK 범위 탐색)
+     */
+    @Query(
+            value = "SELECT jobposting.jobposting_id, jobposting.title, jobposting.content, " +
+                    "jobposting.board_id, jobposting.user_id, " +
+                    "jobposting.required_skills, jobposting.preferred_skills, " +
+                    "jobposting.created_at, jobposting.updated_at " +
+                    "FROM jobposting " +
+                    "ORDER BY jobposting_id DESC LIMIT :limit",
+            nativeQuery = true
+    )
+    List<Jobposting> findAllInfiniteScroll(@Param("limit") Long limit);
+
+    @Query(
+            value = "SELECT jobposting.jobposting_id, jobposting.title, jobposting.content, " +
+                    "jobposting.board_id, jobposting.user_id, " +
+                    "jobposting.required_skills, jobposting.preferred_skills, " +
+                    "jobposting.created_at, jobposting.updated_at " +
+                    "FROM jobposting " +
+                    "WHERE jobposting_id < :lastJobpostingId " +
+                    "ORDER BY jobposting_id DESC LIMIT :limit",
+            nativeQuery = true
+    )
+    List<Jobposting> findAllInfiniteScroll(@Param("lastJobpostingId") Long lastJobpostingId,
+                                           @Param("limit") Long limit);
+
     List<Jobposting> findByUserIdOrderByCreatedAtDesc(Long userId);
 }
\ No newline at end of file
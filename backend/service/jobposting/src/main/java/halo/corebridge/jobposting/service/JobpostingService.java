@@ -19,10 +19,13 @@ import java.util.List;
 @RequiredArgsConstructor
 public class JobpostingService {
 
+    private static final long MAX_SCROLL_PAGE_SIZE = 1000L;
+
     private final Snowflake snowflake = new Snowflake();
     private final JobpostingRepository jobpostingRepository;
     private final AiServiceClient aiServiceClient;
     private final OutboxEventPublisher outboxEventPublisher;
+    private final JobpostingVersions jobpostingVersions;
 
     // ============================================
     // 생성
@@ -115,6 +118,8 @@ public class JobpostingService {
                         .build(),
                 jobposting.getBoardId()
         );
+        // 이 인스턴스의 버전은 커밋 직후 갱신 (이벤트 소비를 기다리지 않음)
+        jobpostingVersions.touchAfterCommit(jobpostingId);
 
         // AI 서비스에 채용공고 벡터 재저장 (비동기)
         String fullText = buildJobpostingText(request.getTitle(), request.getContent(),
@@ -152,6 +157,7 @@ public class JobpostingService {
                         .build(),
                 jobposting.getBoardId()
         );
+        jobpostingVersions.removeAfterCommit(jobpostingId);
 
         log.info("채용공고 삭제: jobpostingId={}, userId={}", jobpostingId, userId);
     }
@@ -171,6 +177,14 @@ public class JobpostingService {
         );
     }
 
+    /**
+     * 단건 버전 (조건부 GET용, DB 조회 없음)
+     * @return 버전 (이벤트 구독 전이면 null → 조건부 처리 없이 조회)
+     */
+    public Long version(Long jobpostingId) {
+        return jobpostingVersions.get(jobpostingId);
+    }
+
     /**
      * 게시판별 목록 조회 (페이징)
      */
@@ -197,6 +211,25 @@ public class JobpostingService {
         );
     }
 
+    /**
+     * 전체 공고 스크롤 조회 (모든 게시판, 최신순)
+     * lastJobpostingId 이후(더 오래된) 공고를 pageSize개씩 - 전체 순회(인기 공고 재구성 등)용
+     */
+    @Transactional(readOnly = true)
+    public JobpostingDto.JobpostingListResponse readAllScroll(Long lastJobpostingId, Long pageSize) {
+        if (pageSize == null || pageSize <= 0 || pageSize > MAX_SCROLL_PAGE_SIZE) {
+            throw new IllegalArgumentException("pageSize는 1 이상 " + MAX_SCROLL_PAGE_SIZE + " 이하여야 합니다: " + pageSize);
+        }
+        List<Jobposting> jobpostings = lastJobpostingId == null
+                ? jobpostingRepository.findAllInfiniteScroll(pageSize)
+                : jobpostingRepository.findAllInfiniteScroll(lastJobpostingId, pageSize);
+        return JobpostingDto.JobpostingListResponse.of(
+                jobpostings.stream()
+                        .map(JobpostingDto.JobpostingResponse::from)
+                        .toList()
+        );
+    }
+
     /**
      * 작성자별 목록 조회
      */
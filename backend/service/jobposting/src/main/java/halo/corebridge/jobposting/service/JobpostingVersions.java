@@ -0,0 +1,75 @@
+package halo.corebridge.jobposting.service;
+
+import halo.corebridge.common.web.VersionStamps;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 채용공고 버전 스탬프 (조건부 GET용)
+ *
+ * 수정/삭제가 커밋된 뒤 버전을 올립니다.
+ * 트랜잭션 안에서 올리면 커밋 전 조회가 이전 내용에 새 ETag를 붙일 수 있으므로 커밋 이후에만 갱신합니다.
+ * - 자기 인스턴스의 변경은 커밋 직후 바로 반영합니다. (작성자가 수정 직후 이전 내용으로 304를 받지 않도록)
+ * - 다른 인스턴스의 변경은 수정/삭제 이벤트를 소비해 반영합니다. (JobpostingVersionConsumer)
+ * - 이벤트 구독이 시작되기 전에는 버전을 제공하지 않습니다. (놓친 변경으로 잘못된 304가 나가지 않도록)
+ * - 파티션을 (재)할당받으면 그 사이 이벤트를 놓쳤을 수 있으므로 모든 버전을 새로 발급합니다.
+ * - 다른 인스턴스의 변경은 이벤트 반영 지연(Outbox relay) 동안 이전 버전으로 304가 나갈 수 있습니다.
+ */
+@Component
+public class JobpostingVersions {
+
+    private final VersionStamps stamps = new VersionStamps();
+    private volatile boolean subscribed;
+
+    /**
+     * 현재 버전
+     * @return 버전 (이벤트 구독 전이면 null)
+     */
+    public Long get(Long jobpostingId) {
+        return subscribed ? stamps.get(jobpostingId) : null;
+    }
+
+    public void touch(Long jobpostingId) {
+        stamps.touch(jobpostingId);
+    }
+
+    public void remove(Long jobpostingId) {
+        stamps.remove(jobpostingId);
+    }
+
+    /**
+     * 수정 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void touchAfterCommit(Long jobpostingId) {
+        afterCommit(() -> touch(jobpostingId));
+    }
+
+    /**
+     * 삭제 반영 (트랜잭션 안이면 커밋 후)
+     */
+    public void removeAfterCommit(Long jobpostingId) {
+        afterCommit(() -> remove(jobpostingId));
+    }
+
+    /**
+     * 파티션 할당 시점: 이전 버전을 버리고 버전 제공 시작
+     */
+    public void subscribed() {
+        stamps.clear();
+        subscribed = true;
+    }
+
+    private static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
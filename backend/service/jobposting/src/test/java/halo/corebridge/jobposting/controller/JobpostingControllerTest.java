@@ -3,6 +3,7 @@ package halo.corebridge.jobposting.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import halo.corebridge.common.audit.filter.AuditLoggingFilter;
 import halo.corebridge.common.security.GatewayAuthenticationFilter;
+import halo.corebridge.common.web.VersionStamps;
 import halo.corebridge.jobposting.config.SecurityConfig;
 import halo.corebridge.jobposting.model.dto.JobpostingDto;
 import halo.corebridge.jobposting.service.JobpostingService;
@@ -15,6 +16,7 @@ import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMock
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
@@ -25,6 +27,8 @@ import java.util.List;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -82,6 +86,20 @@ class JobpostingControllerTest {
                     .andExpect(jsonPath("$.result.jobpostingId").value(1))
                     .andExpect(jsonPath("$.result.title").value("백엔드 개발자 채용"));
         }
+
+        @Test
+        @DisplayName("성공: ETag가 현재 버전과 같으면 조회 없이 304를 반환한다")
+        void read_notModified() throws Exception {
+            // given
+            given(jobpostingService.version(1L)).willReturn(1000L);
+
+            // when & then
+            mockMvc.perform(get("/api/v1/jobpostings/1")
+                            .header(HttpHeaders.IF_NONE_MATCH, VersionStamps.etag(1000L)))
+                    .andExpect(status().isNotModified())
+                    .andExpect(header().string(HttpHeaders.ETAG, VersionStamps.etag(1000L)));
+            verify(jobpostingService, never()).read(1L);
+        }
     }
 
     @Nested
@@ -120,6 +138,27 @@ class JobpostingControllerTest {
         }
     }
 
+    @Nested
+    @DisplayName("GET /api/v1/jobpostings/scroll - 전체 스크롤 조회")
+    class ReadAllScrollTest {
+
+        @Test
+        @DisplayName("성공: lastJobpostingId 이후 공고를 조회한다")
+        void readAllScroll_success() throws Exception {
+            // given
+            given(jobpostingService.readAllScroll(5L, 100L))
+                    .willReturn(JobpostingDto.JobpostingListResponse.of(List.of(createTestResponse())));
+
+            // when & then
+            mockMvc.perform(get("/api/v1/jobpostings/scroll")
+                            .param("lastJobpostingId", "5")
+                            .param("pageSize", "100"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.success").value(true))
+                    .andExpect(jsonPath("$.result.jobpostings").isArray());
+        }
+    }
+
     @Nested
     @DisplayName("POST /api/v1/jobpostings - 채용공고 생성")
     class CreateTest {
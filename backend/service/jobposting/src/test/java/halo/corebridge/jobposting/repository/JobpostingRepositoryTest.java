@@ -55,4 +55,14 @@ class JobpostingRepositoryTest {
         List<Jobposting> result = jobpostingRepository.findAll(999L, 0L, 10L);
         assertThat(result).isEmpty();
     }
+
+    @Test
+    @DisplayName("성공: 전체 공고를 jobpostingId 내림차순으로 keyset 스크롤 조회")
+    void findAllInfiniteScroll() {
+        List<Jobposting> first = jobpostingRepository.findAllInfiniteScroll(3L);
+        List<Jobposting> next = jobpostingRepository.findAllInfiniteScroll(first.get(2).getJobpostingId(), 3L);
+
+        assertThat(first).extracting(Jobposting::getJobpostingId).containsExactly(5L, 4L, 3L);
+        assertThat(next).extracting(Jobposting::getJobpostingId).containsExactly(2L, 1L);
+    }
 }
@@ -12,7 +12,10 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.List;
 import java.util.Optional;
@@ -40,6 +43,9 @@ class JobpostingServiceTest {
     @Mock
     private OutboxEventPublisher outboxEventPublisher;
 
+    @Spy
+    private JobpostingVersions jobpostingVersions = new JobpostingVersions();
+
     private static final Long USER_ID = 100L;
     private Jobposting testJobposting;
 
@@ -124,6 +130,22 @@ class JobpostingServiceTest {
             assertThat(result.getJobpostings()).hasSize(1);
             assertThat(result.getJobpostingCount()).isEqualTo(1L);
         }
+
+        @Test
+        @DisplayName("성공: 버전은 이벤트 구독 후에만 제공되고, 수정 이벤트가 반영되면 올라간다")
+        void version_subscribedAndTouched() {
+            Long beforeSubscribe = jobpostingService.version(1L);
+            jobpostingVersions.subscribed();
+            Long before = jobpostingService.version(1L);
+            Long again = jobpostingService.version(1L);
+
+            jobpostingVersions.touch(1L);
+
+            assertThat(beforeSubscribe).isNull();
+            assertThat(again).isEqualTo(before);
+            assertThat(jobpostingService.version(1L)).isGreaterThan(before);
+            verifyNoInteractions(jobpostingRepository);
+        }
     }
 
     @Nested
@@ -146,6 +168,29 @@ class JobpostingServiceTest {
             verify(outboxEventPublisher).publish(any(), any(), anyLong());
         }
 
+        @Test
+        @DisplayName("성공: 수정이 커밋되면 이벤트를 기다리지 않고 이 인스턴스의 버전을 올린다 (커밋 전에는 그대로)")
+        void update_touchesVersionAfterCommit() {
+            given(jobpostingRepository.findById(1L)).willReturn(Optional.of(testJobposting));
+            jobpostingVersions.subscribed();
+            Long before = jobpostingService.version(1L);
+            JobpostingDto.JobpostingUpdateRequest request = JobpostingDto.JobpostingUpdateRequest.builder()
+                    .title("수정된 제목").content("수정된 내용").build();
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                jobpostingService.update(USER_ID, 1L, request);
+                assertThat(jobpostingService.version(1L)).isEqualTo(before);
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+
+            assertThat(jobpostingService.version(1L)).isGreaterThan(before);
+        }
+
         @Test
         @DisplayName("실패: 타인 공고 수정 시 예외")
         void update_notOwner_throws() {
@@ -173,6 +218,7 @@ class JobpostingServiceTest {
 
             verify(jobpostingRepository).deleteById(1L);
             verify(outboxEventPublisher).publish(any(), any(), anyLong());
+            verify(jobpostingVersions).removeAfterCommit(1L);
         }
 
         @Test
@@ -0,0 +1,21 @@
+package halo.corebridge.user.config;
+
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+
+/**
+ * JPA 스캔 범위 (User + Outbox)
+ * - 애플리케이션 클래스에 두면 @WebMvcTest 등 슬라이스 테스트도 JPA를 띄우므로 별도 설정으로 분리
+ */
+@Configuration
+@EnableJpaRepositories(basePackages = {
+        "halo.corebridge.user",
+        "halo.corebridge.common.outboxmessagerelay"
+})
+@EntityScan(basePackages = {
+        "halo.corebridge.user",
+        "halo.corebridge.common.outboxmessagerelay"
+})
+public class JpaConfig {
+}
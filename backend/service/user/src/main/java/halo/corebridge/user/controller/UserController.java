@@ -16,6 +16,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.Arrays;
+import java.util.List;
 
 @RestController
 @RequiredArgsConstructor
@@ -193,6 +194,15 @@ public class UserController {
         return BaseResponse.success();
     }
 
+    /**
+     * 프로필 일괄 조회 (최대 100명)
+     * GET /api/v1/users/profiles?userIds=1,2,3
+     */
+    @GetMapping("/profiles")
+    public BaseResponse<List<UserDto.ProfileResponse>> getProfiles(@RequestParam List<Long> userIds) {
+        return BaseResponse.success(userService.getProfiles(userIds));
+    }
+
     /**
      * 특정 회원 조회
      * GET /api/v1/users/{userId}
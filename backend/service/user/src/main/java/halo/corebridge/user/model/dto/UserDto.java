@@ -109,6 +109,23 @@ public class UserDto {
         }
     }
 
+    /**
+     * 공개 프로필 (서비스 간 일괄 조회용, 이메일 제외)
+     */
+    @Getter
+    @Builder
+    public static class ProfileResponse {
+        private Long userId;
+        private String nickname;
+
+        public static ProfileResponse from(User user) {
+            return ProfileResponse.builder()
+                    .userId(user.getUserId())
+                    .nickname(user.getNickname())
+                    .build();
+        }
+    }
+
     @Getter
     @Builder
     public static class LoginResponse {
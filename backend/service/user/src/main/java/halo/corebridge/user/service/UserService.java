@@ -1,5 +1,8 @@
 package halo.corebridge.user.service;
 
+import halo.corebridge.common.event.EventType;
+import halo.corebridge.common.event.UserUpdatedEventPayload;
+import halo.corebridge.common.outboxmessagerelay.OutboxEventPublisher;
 import halo.corebridge.common.snowflake.Snowflake;
 import halo.corebridge.user.exception.UserNotFoundException;
 import halo.corebridge.user.model.dto.UserDto;
@@ -18,6 +21,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Slf4j
@@ -25,11 +29,14 @@ import java.util.List;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final int MAX_PROFILE_BATCH_SIZE = 100;
+
     private final Snowflake snowflake;
     private final UserRepository userRepository;
     private final RefreshTokenRepository refreshTokenRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtProvider jwtProvider;
+    private final OutboxEventPublisher outboxEventPublisher;
 
     // ============================================
     // 인증 API
@@ -180,6 +187,21 @@ public class UserService {
         return UserDto.UserResponse.from(user);
     }
 
+    /**
+     * 프로필 일괄 조회 (서비스 간 닉네임 조회용)
+     * 존재하지 않는 사용자는 결과에서 빠집니다.
+     */
+    @Transactional(readOnly = true)
+    public List<UserDto.ProfileResponse> getProfiles(List<Long> userIds) {
+        if (userIds.size() > MAX_PROFILE_BATCH_SIZE) {
+            throw new IllegalArgumentException("한 번에 조회할 수 있는 사용자는 최대 " + MAX_PROFILE_BATCH_SIZE + "명입니다");
+        }
+        return userRepository.findAllById(userIds)
+                .stream()
+                .map(UserDto.ProfileResponse::from)
+                .toList();
+    }
+
     /**
      * 회원 정보 수정
      */
@@ -190,6 +212,17 @@ public class UserService {
 
         if (request.getNickname() != null) {
             user.updateProfile(request.getNickname());
+
+            // Outbox 이벤트 발행 (읽기 모델의 작성자 닉네임 갱신)
+            outboxEventPublisher.publish(
+                    EventType.USER_UPDATED,
+                    UserUpdatedEventPayload.builder()
+                            .userId(userId)
+                            .nickname(user.getNickname())
+                            .updatedAt(LocalDateTime.now())
+                            .build(),
+                    userId
+            );
         }
 
         if (request.getPassword() != null) {
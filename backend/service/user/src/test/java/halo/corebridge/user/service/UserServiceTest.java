@@ -1,5 +1,7 @@
 package halo.corebridge.user.service;
 
+import halo.corebridge.common.event.EventType;
+import halo.corebridge.common.outboxmessagerelay.OutboxEventPublisher;
 import halo.corebridge.common.snowflake.Snowflake;
 import halo.corebridge.user.exception.UserNotFoundException;
 import halo.corebridge.user.model.dto.UserDto;
@@ -30,6 +32,7 @@ import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
@@ -53,6 +56,9 @@ class UserServiceTest {
     @Mock
     private JwtProvider jwtProvider;
 
+    @Mock
+    private OutboxEventPublisher outboxEventPublisher;
+
     @InjectMocks
     private UserService userService;
 
@@ -288,6 +294,21 @@ class UserServiceTest {
             assertThatThrownBy(() -> userService.getMe(999L))
                     .isInstanceOf(UserNotFoundException.class);
         }
+
+        @Test
+        @DisplayName("여러 사용자의 프로필을 한 번에 조회할 수 있다")
+        void getProfiles_WithUserIds_ReturnsProfiles() {
+            // given
+            given(userRepository.findAllById(List.of(1L, 999L))).willReturn(List.of(testUser));
+
+            // when
+            List<UserDto.ProfileResponse> profiles = userService.getProfiles(List.of(1L, 999L));
+
+            // then
+            assertThat(profiles).hasSize(1);
+            assertThat(profiles.get(0).getUserId()).isEqualTo(1L);
+            assertThat(profiles.get(0).getNickname()).isEqualTo("테스터");
+        }
     }
 
     @Nested
@@ -307,6 +328,7 @@ class UserServiceTest {
 
             // then
             assertThat(response.getNickname()).isEqualTo("새닉네임");
+            verify(outboxEventPublisher).publish(eq(EventType.USER_UPDATED), any(), eq(1L));
         }
 
         @Test
@@ -323,6 +345,7 @@ class UserServiceTest {
 
             // then
             assertThat(testUser.getPassword()).isEqualTo("newEncodedPassword");
+            verify(outboxEventPublisher, never()).publish(any(), any(), anyLong());
         }
     }
 
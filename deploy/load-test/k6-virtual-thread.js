@@ -0,0 +1,140 @@
+/**
+ * ============================================================
+ * CoreBridge Virtual Thread - Platform vs Virtual 처리량 한계 비교 (k6)
+ * ============================================================
+ *
+ * jobposting-read 목록 조회는 항목마다 view/like/comment/user 서비스를
+ * 블로킹 RestTemplate으로 호출하므로 Tomcat 스레드 수가 처리량 상한이 됩니다.
+ * 도착률(RPS)을 단계적으로 올리며 실패/지연이 급증하는 지점을 측정합니다.
+ *
+ * 흐름:
+ *   Phase 1 (0~10s)  : 워밍업 (10 RPS)
+ *   Phase 2 (10~130s): 도착률 50 → 400 RPS 단계 증가 (30초씩)
+ *   → 결과를 vt-result-<MODE>.json 으로 저장
+ *
+ * 실행 (같은 조건에서 두 번 실행 후 비교):
+ *   1) VIRTUAL_THREADS_ENABLED=false 로 서비스 기동
+ *      k6 run --env MODE=platform k6-virtual-thread.js
+ *   2) VIRTUAL_THREADS_ENABLED=true 로 서비스 재기동
+ *      k6 run --env MODE=virtual k6-virtual-thread.js
+ *   3) ./test_virtual_thread_compare.sh 로 두 결과 비교
+ * ============================================================
+ */
+
+import http from "k6/http";
+import { check } from "k6";
+import { Counter, Rate, Trend } from "k6/metrics";
+
+// ============================================================
+// Custom Metrics
+// ============================================================
+
+const listDuration = new Trend("vt_list_duration", true);
+const successRate = new Rate("vt_success_rate");
+const completed = new Counter("vt_completed_requests");
+const dropped = new Counter("vt_failed_requests");
+
+// ============================================================
+// Configuration
+// ============================================================
+
+const BASE_URL = __ENV.BASE_URL || "http://localhost:8007";
+const MODE = __ENV.MODE || "platform";
+const BOARD_ID = __ENV.BOARD_ID || "1";
+const PAGE_SIZE = __ENV.PAGE_SIZE || "10";
+
+export const options = {
+  scenarios: {
+    warmup: {
+      executor: "constant-arrival-rate",
+      rate: 10,
+      timeUnit: "1s",
+      duration: "10s",
+      preAllocatedVUs: 10,
+      exec: "readList",
+    },
+    ceiling: {
+      executor: "ramping-arrival-rate",
+      startRate: 50,
+      timeUnit: "1s",
+      startTime: "10s",
+      preAllocatedVUs: 200,
+      maxVUs: 1000,
+      stages: [
+        { duration: "30s", target: 100 },
+        { duration: "30s", target: 200 },
+        { duration: "30s", target: 300 },
+        { duration: "30s", target: 400 },
+      ],
+      exec: "readList",
+    },
+  },
+  thresholds: {
+    vt_success_rate: ["rate>0.95"],
+  },
+};
+
+// ============================================================
+// Scenario
+// ============================================================
+
+export function readList() {
+  const page = Math.floor(Math.random() * 5) + 1;
+  const res = http.get(
+    `${BASE_URL}/api/v1/jobposting-read?boardId=${BOARD_ID}&page=${page}&pageSize=${PAGE_SIZE}`,
+    { timeout: "5s", tags: { mode: MODE } }
+  );
+
+  const ok = check(res, { "status 200": (r) => r.status === 200 });
+  successRate.add(ok);
+  if (ok) {
+    completed.add(1);
+    listDuration.add(res.timings.duration);
+  } else {
+    dropped.add(1);
+  }
+}
+
+// ============================================================
+// Summary
+// ============================================================
+
+export function handleSummary(data) {
+  const g = (name, stat) => {
+    const m = data.metrics[name];
+    if (!m || !m.values || m.values[stat] === undefined) return "N/A";
+    return m.values[stat].toFixed(1);
+  };
+
+  const result = {
+    mode: MODE,
+    throughput_rps: data.metrics.vt_completed_requests
+      ? data.metrics.vt_completed_requests.values.rate
+      : 0,
+    success_rate: data.metrics.vt_success_rate
+      ? data.metrics.vt_success_rate.values.rate
+      : 0,
+    avg_ms: g("vt_list_duration", "avg"),
+    p95_ms: g("vt_list_duration", "p(95)"),
+    p99_ms: g("vt_list_duration", "p(99)"),
+    failed: data.metrics.vt_failed_requests
+      ? data.metrics.vt_failed_requests.values.count
+      : 0,
+  };
+
+  const summary = `
+╔══════════════════════════════════════════════════════╗
+║   CoreBridge Virtual Thread 처리량 측정 (${MODE.padEnd(8)})    ║
+╠══════════════════════════════════════════════════════╣
+║  처리량(성공)   : ${result.throughput_rps.toFixed(1).padStart(8)} req/s                   ║
+║  성공률         : ${(result.success_rate * 100).toFixed(1).padStart(8)} %                       ║
+║  Avg / P95 / P99: ${result.avg_ms} / ${result.p95_ms} / ${result.p99_ms} ms
+║  실패 요청      : ${String(result.failed).padStart(8)}                         ║
+╚══════════════════════════════════════════════════════╝
+`;
+
+  return {
+    stdout: summary,
+    [`vt-result-${MODE}.json`]: JSON.stringify(result, null, 2),
+  };
+}
@@ -0,0 +1,31 @@
+#!/bin/bash
+# ============================================
+# CoreBridge Virtual Thread - Platform vs Virtual 결과 비교
+# k6-virtual-thread.js를 MODE=platform / MODE=virtual 로 각각 실행한 뒤 사용
+# ============================================
+
+DIR="${1:-.}"
+PLATFORM="$DIR/vt-result-platform.json"
+VIRTUAL="$DIR/vt-result-virtual.json"
+
+for f in "$PLATFORM" "$VIRTUAL"; do
+    if [ ! -f "$f" ]; then
+        echo "결과 파일이 없습니다: $f"
+        echo "먼저 k6 run --env MODE=platform|virtual k6-virtual-thread.js 를 실행하세요"
+        exit 1
+    fi
+done
+
+value() {
+    # jq 없이 단순 추출 (key: value 한 줄 형식)
+    grep "\"$2\"" "$1" | head -1 | sed 's/.*: *"\{0,1\}\([^",]*\)"\{0,1\},\{0,1\}/\1/'
+}
+
+echo "=========================================="
+echo "  Virtual Thread 처리량 비교"
+echo "=========================================="
+printf "%-16s %14s %14s\n" "항목" "platform" "virtual"
+for key in throughput_rps success_rate avg_ms p95_ms p99_ms failed; do
+    printf "%-16s %14s %14s\n" "$key" "$(value "$PLATFORM" $key)" "$(value "$VIRTUAL" $key)"
+done
+echo "=========================================="